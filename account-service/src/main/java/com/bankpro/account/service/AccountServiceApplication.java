@@ -1,9 +1,14 @@
 package com.bankpro.account.service;
 
+import com.bankpro.account.service.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
+@EnableScheduling
 public class AccountServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,69 @@
+package com.bankpro.account.service.config;
+
+import com.bankpro.account.service.constant.ApiPaths;
+import com.bankpro.account.service.util.JwtVerifier;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Requires a valid bearer token on endpoints that act for a customer and exposes the
+ * verified {@link JwtVerifier.Caller} as the {@value #CALLER_ATTRIBUTE} request attribute.
+ * The token is checked here even behind the gateway, so calling the service directly
+ * gains nothing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CallerAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String CALLER_ATTRIBUTE = "com.bankpro.account.caller";
+
+    /**
+     * Endpoints that need an authenticated caller.
+     */
+    static final List<String> PROTECTED_PATHS = List.of(
+            ApiPaths.BASE_TRANSFER + "/**",
+            ApiPaths.BASE_ACCOUNT + "/customer/*/stream");
+
+    private static final String BEARER = "Bearer ";
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    private final JwtVerifier jwtVerifier;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PROTECTED_PATHS.stream().noneMatch(pattern -> MATCHER.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        Optional<JwtVerifier.Caller> caller = authorization != null && authorization.startsWith(BEARER)
+                ? jwtVerifier.verify(authorization.substring(BEARER.length()))
+                : Optional.empty();
+        if (caller.isEmpty()) {
+            log.debug("Rejected unauthenticated call on URI [{}]", request.getRequestURI());
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        request.setAttribute(CALLER_ATTRIBUTE, caller.get());
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bankpro.account.service.config;
+
+import com.bankpro.account.service.constant.ApiPaths;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Rejects calls to the internal endpoints that do not carry the shared service token
+ * in the {@value #HEADER} header.
+ */
+@Slf4j
+@Component
+public class InternalTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Token";
+
+    private final byte[] token;
+
+    /**
+     * Placeholder value that used to ship in application.properties; it is public and never accepted.
+     */
+    private static final String PUBLISHED_DEFAULT = "change-me-internal-token";
+
+    public InternalTokenFilter(@Value("${app.internal.token}") String token) {
+        if (token.isBlank() || PUBLISHED_DEFAULT.equals(token)) {
+            throw new IllegalStateException("app.internal.token must be set through INTERNAL_TOKEN");
+        }
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(ApiPaths.BASE_INTERNAL + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(HEADER);
+        if (presented == null || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Rejected internal call without valid token on URI [{}]", request.getRequestURI());
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,42 @@
+package com.bankpro.account.service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Live balance/transaction push settings bound from {@code app.live.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.live")
+public class LiveUpdateProperties {
+
+    /**
+     * Maximum open streams across all customers; further subscriptions are refused.
+     */
+    private int maxSubscribers = 100_000;
+
+    /**
+     * Maximum open streams per customer; the oldest is closed when a new one exceeds it.
+     */
+    private int maxSubscribersPerCustomer = 5;
+
+    /**
+     * Events buffered per stream. A client that falls this far behind loses its backlog
+     * and receives a single {@code resync} event instead.
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * Lifetime of a stream; clients are expected to reconnect afterwards.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * A stream whose current write has been blocked this long is closed.
+     */
+    private Duration stallTimeout = Duration.ofSeconds(30);
+}
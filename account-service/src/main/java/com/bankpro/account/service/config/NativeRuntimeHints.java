@@ -0,0 +1,74 @@
+package com.bankpro.account.service.config;
+
+import com.bankpro.account.service.controller.AccountControllerApi;
+import com.bankpro.account.service.controller.InternalControllerApi;
+import com.bankpro.account.service.controller.TransferControllerApi;
+import com.bankpro.account.service.dto.AccountDTO;
+import com.bankpro.account.service.dto.ApiError;
+import com.bankpro.account.service.dto.BalanceDTO;
+import com.bankpro.account.service.dto.OutboxEventDTO;
+import com.bankpro.account.service.dto.TransactionDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.entity.ActivitySummary;
+import com.bankpro.account.service.entity.BalanceShard;
+import com.bankpro.account.service.entity.OutboxEvent;
+import com.bankpro.account.service.entity.OutboxOffset;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Hints for the GraalVM native image ({@code -Pnative}) that Spring AOT cannot infer.
+ * <ul>
+ *     <li>JJWT 0.11 loads its implementation and the Jackson deserializer by class name
+ *     and through {@link java.util.ServiceLoader}.</li>
+ *     <li>Entities are registered explicitly so Hibernate can reach fields and
+ *     constructors even where entity scanning is not traced.</li>
+ *     <li>DTOs written with the {@code ObjectMapper} outside controller signatures (outbox
+ *     payloads, live-update events, error bodies) are registered for Jackson binding.
+ *     Lombok builders are plain generated code and need nothing.</li>
+ *     <li>springdoc brings its own hints but reads our {@code @Operation} annotations
+ *     from the API interfaces.</li>
+ *     <li>The h2 profile's seed script is not at a default SQL init location.</li>
+ * </ul>
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> JJWT_REFLECTIVE_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        JJWT_REFLECTIVE_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        for (Class<?> entity : List.of(Account.class, AccountTransaction.class, ActivitySummary.class,
+                BalanceShard.class, OutboxEvent.class, OutboxOffset.class)) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+        binding.registerReflectionHints(hints.reflection(),
+                AccountDTO.class, TransactionDTO.class, BalanceDTO.class, OutboxEventDTO.class, ApiError.class);
+
+        for (Class<?> api : List.of(AccountControllerApi.class, TransferControllerApi.class, InternalControllerApi.class)) {
+            hints.reflection().registerType(api, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+        }
+
+        hints.resources().registerPattern("db/*.sql");
+    }
+}
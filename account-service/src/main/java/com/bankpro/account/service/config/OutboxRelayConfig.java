@@ -0,0 +1,33 @@
+package com.bankpro.account.service.config;
+
+import com.bankpro.account.service.service.OutboxSink;
+import com.bankpro.account.service.service.sink.FileOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Sink for the outbox relay. Until a broker is wired in, events go to a local
+ * JSON-lines file; declaring another {@link OutboxSink} bean replaces it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true")
+public class OutboxRelayConfig {
+
+    /**
+     * @param file         file the events are appended to
+     * @param objectMapper mapper used to write each event
+     * @return the file sink
+     */
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink fileOutboxSink(@Value("${app.outbox.relay.file:outbox/account-events.jsonl}") Path file,
+                                     ObjectMapper objectMapper) {
+        return new FileOutboxSink(file, objectMapper);
+    }
+}
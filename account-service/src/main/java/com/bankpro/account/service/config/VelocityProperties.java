@@ -0,0 +1,76 @@
+package com.bankpro.account.service.config;
+
+import com.bankpro.account.service.enums.VelocityScope;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Velocity-limit rules bound from {@code app.velocity.*}.
+ * <p>
+ * Example:
+ * <pre>
+ * app.velocity.rules[0].name=account-hourly
+ * app.velocity.rules[0].scope=ACCOUNT
+ * app.velocity.rules[0].window=1h
+ * app.velocity.rules[0].max-count=20
+ * app.velocity.rules[0].max-amount=200000
+ * </pre>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.velocity")
+public class VelocityProperties {
+
+    /**
+     * Master switch; when false no debit is checked or counted.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Configured rules; every debit must satisfy all of them.
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * A rolling-window limit on debits.
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * Name reported when the rule rejects a debit.
+         */
+        private String name;
+
+        /**
+         * Whether debits are counted per account or per customer.
+         */
+        private VelocityScope scope = VelocityScope.ACCOUNT;
+
+        /**
+         * Length of the rolling window.
+         */
+        private Duration window = Duration.ofHours(1);
+
+        /**
+         * Number of ring-buffer buckets the window is divided into (its time resolution).
+         */
+        private int buckets = 60;
+
+        /**
+         * Maximum number of debits in the window, or {@code null} for no count limit.
+         */
+        private Integer maxCount;
+
+        /**
+         * Maximum debited amount in the window, or {@code null} for no amount limit.
+         */
+        private BigDecimal maxAmount;
+    }
+}
@@ -0,0 +1,19 @@
+package com.bankpro.account.service.constant;
+
+/**
+ * Centralized class for API base paths to avoid hardcoding.
+ * Promotes maintainability and consistent route management.
+ */
+public final class ApiPaths {
+
+    public static final String BASE_ACCOUNT = "/api/v1/accounts";
+
+    public static final String BASE_TRANSFER = "/api/v1/transfers";
+
+    /** Service-to-service endpoints, guarded by the internal token. */
+    public static final String BASE_INTERNAL = "/api/v1/internal";
+
+    private ApiPaths() {
+        // prevent instantiation
+    }
+}
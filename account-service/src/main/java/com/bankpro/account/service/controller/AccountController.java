@@ -1,15 +1,238 @@
 package com.bankpro.account.service.controller;
 
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
+import com.bankpro.account.service.dto.AccountDTO;
+import com.bankpro.account.service.dto.ActivitySummaryDTO;
+import com.bankpro.account.service.dto.ArchiveResultDTO;
+import com.bankpro.account.service.dto.BalanceDTO;
+import com.bankpro.account.service.dto.RequestResponse;
+import com.bankpro.account.service.dto.SummaryRebuildResultDTO;
+import com.bankpro.account.service.dto.TransactionDTO;
+import com.bankpro.account.service.enums.SummaryPeriod;
+import com.bankpro.account.service.service.AccountService;
+import com.bankpro.account.service.service.ActivitySummaryService;
+import com.bankpro.account.service.service.LiveUpdateHub;
+import com.bankpro.account.service.service.TransactionArchiver;
+import com.bankpro.account.service.service.TransactionHistoryService;
+import com.bankpro.account.service.util.JwtVerifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST controller for account-related operations.
+ * Implements the {@link AccountControllerApi} interface.
+ */
 @RestController
-@RequestMapping("api/v1/account")
-public class AccountController {
+@RequiredArgsConstructor
+public class AccountController implements AccountControllerApi {
+
+    private static final int MAX_HISTORY_LIMIT = 1000;
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final AccountService accountService;
+    private final ActivitySummaryService summaryService;
+    private final TransactionHistoryService historyService;
+    private final TransactionArchiver transactionArchiver;
+    private final LiveUpdateHub liveUpdates;
+
+    /**
+     * Lists the accounts of a customer, or answers 304 from row versions alone
+     * when the client's copy is current.
+     *
+     * @param customerId owning customer id
+     * @param request    current request
+     * @return a {@link ResponseEntity} containing the accounts, or {@code null} after a 304
+     */
+    @Override
+    public ResponseEntity<RequestResponse<List<AccountDTO>>> getAccountsByCustomer(Long customerId,
+                                                                                  WebRequest request) {
+        String etag = accountService.getAccountsETag(customerId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        List<AccountDTO> accounts = accountService.getAccountsByCustomer(customerId);
+
+        RequestResponse<List<AccountDTO>> response = RequestResponse.<List<AccountDTO>>builder()
+                .success(true)
+                .message("Accounts fetched successfully")
+                .data(accounts)
+                .build();
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(response);
+    }
+
+    /**
+     * Returns the newest transactions across a customer's accounts.
+     *
+     * @param customerId owning customer id
+     * @param limit      maximum number of entries, clamped to 1-1000
+     * @return a {@link ResponseEntity} containing the transactions
+     */
+    @Override
+    public ResponseEntity<RequestResponse<List<TransactionDTO>>> getRecentCustomerTransactions(Long customerId,
+                                                                                               int limit) {
+        List<TransactionDTO> transactions = historyService.getRecentForCustomer(customerId,
+                Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT)));
+
+        RequestResponse<List<TransactionDTO>> response = RequestResponse.<List<TransactionDTO>>builder()
+                .success(true)
+                .message("Recent transactions fetched successfully")
+                .data(transactions)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Opens a live update stream for a customer.
+     *
+     * @param customerId owning customer id
+     * @param caller     the authenticated caller
+     * @return the SSE emitter
+     */
+    @Override
+    public SseEmitter streamCustomerUpdates(Long customerId, JwtVerifier.Caller caller) {
+        return liveUpdates.subscribe(customerId, caller);
+    }
+
+    /**
+     * Returns the activity summary for the requested period.
+     *
+     * @param accountNumber account to summarize
+     * @param period        DAY or MONTH
+     * @param date          date inside the period, or {@code null} for today
+     * @return a {@link ResponseEntity} containing the summary
+     */
+    @Override
+    public ResponseEntity<RequestResponse<ActivitySummaryDTO>> getActivitySummary(String accountNumber,
+                                                                                  SummaryPeriod period,
+                                                                                  LocalDate date) {
+        ActivitySummaryDTO summary = summaryService.getSummary(accountNumber, period,
+                date != null ? date : LocalDate.now());
+
+        RequestResponse<ActivitySummaryDTO> response = RequestResponse.<ActivitySummaryDTO>builder()
+                .success(true)
+                .message("Activity summary fetched successfully")
+                .data(summary)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Rebuilds all activity summaries.
+     *
+     * @return a {@link ResponseEntity} containing rebuild statistics
+     */
+    @Override
+    public ResponseEntity<RequestResponse<SummaryRebuildResultDTO>> rebuildActivitySummaries() {
+        SummaryRebuildResultDTO result = summaryService.rebuild();
+
+        RequestResponse<SummaryRebuildResultDTO> response = RequestResponse.<SummaryRebuildResultDTO>builder()
+                .success(true)
+                .message("Activity summaries rebuilt")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns the transaction history of an account.
+     *
+     * @param accountNumber account to read
+     * @param from          lower bound, or {@code null} for no lower bound
+     * @param to            upper bound, or {@code null} for now
+     * @param limit         maximum number of entries, clamped to 1-1000
+     * @return a {@link ResponseEntity} containing the transactions
+     */
+    @Override
+    public ResponseEntity<RequestResponse<List<TransactionDTO>>> getTransactionHistory(String accountNumber,
+                                                                                       LocalDateTime from,
+                                                                                       LocalDateTime to,
+                                                                                       int limit) {
+        List<TransactionDTO> history = historyService.getHistory(accountNumber,
+                from != null ? from : HISTORY_START,
+                to != null ? to : LocalDateTime.now(),
+                Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT)));
+
+        RequestResponse<List<TransactionDTO>> response = RequestResponse.<List<TransactionDTO>>builder()
+                .success(true)
+                .message("Transaction history fetched successfully")
+                .data(history)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Runs the transaction archiver immediately.
+     *
+     * @return a {@link ResponseEntity} containing archive statistics
+     */
+    @Override
+    public ResponseEntity<RequestResponse<ArchiveResultDTO>> archiveTransactions() {
+        ArchiveResultDTO result = transactionArchiver.archive();
+
+        RequestResponse<ArchiveResultDTO> response = RequestResponse.<ArchiveResultDTO>builder()
+                .success(true)
+                .message("Archive run finished")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns the current balance of an account, or answers 304 from row versions alone
+     * when the client's copy is current.
+     *
+     * @param accountNumber account to read
+     * @param request       current request
+     * @return a {@link ResponseEntity} containing the balance, or {@code null} after a 304
+     */
+    @Override
+    public ResponseEntity<RequestResponse<BalanceDTO>> getBalance(String accountNumber, WebRequest request) {
+        String etag = accountService.getBalanceETag(accountNumber);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        BalanceDTO balance = accountService.getBalance(accountNumber);
+
+        RequestResponse<BalanceDTO> response = RequestResponse.<BalanceDTO>builder()
+                .success(true)
+                .message("Balance fetched successfully")
+                .data(balance)
+                .build();
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(response);
+    }
+
+    /**
+     * Switches an account to split-balance mode.
+     *
+     * @param accountNumber account to switch
+     * @param shards        number of sub-balances
+     * @return a {@link ResponseEntity} containing the balance
+     */
+    @Override
+    public ResponseEntity<RequestResponse<BalanceDTO>> enableSplitBalance(String accountNumber, int shards) {
+        BalanceDTO balance = accountService.enableSplitBalance(accountNumber, shards);
+
+        RequestResponse<BalanceDTO> response = RequestResponse.<BalanceDTO>builder()
+                .success(true)
+                .message("Split-balance mode enabled")
+                .data(balance)
+                .build();
 
-    @GetMapping("/account")
-    public String account(){
-        return "Account";
+        return ResponseEntity.ok(response);
     }
 }
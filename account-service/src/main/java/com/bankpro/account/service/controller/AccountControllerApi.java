@@ -0,0 +1,223 @@
+package com.bankpro.account.service.controller;
+
+import com.bankpro.account.service.config.CallerAuthenticationFilter;
+import com.bankpro.account.service.constant.ApiPaths;
+import com.bankpro.account.service.dto.AccountDTO;
+import com.bankpro.account.service.dto.ActivitySummaryDTO;
+import com.bankpro.account.service.dto.ArchiveResultDTO;
+import com.bankpro.account.service.dto.BalanceDTO;
+import com.bankpro.account.service.dto.RequestResponse;
+import com.bankpro.account.service.dto.SummaryRebuildResultDTO;
+import com.bankpro.account.service.dto.TransactionDTO;
+import com.bankpro.account.service.enums.SummaryPeriod;
+import com.bankpro.account.service.util.JwtVerifier;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Public API interface for account reads and account maintenance operations.
+ */
+@Tag(name = "Account Controller", description = "Endpoints for account data and activity summaries")
+@RequestMapping(ApiPaths.BASE_ACCOUNT)
+public interface AccountControllerApi {
+
+    /**
+     * List all accounts of a customer.
+     *
+     * @param customerId owning customer id
+     * @param request    current request, checked for {@code If-None-Match}
+     * @return the customer's accounts
+     */
+    @Operation(
+            summary = "List customer accounts",
+            description = "Returns all accounts owned by the given customer with their balances. "
+                    + "Supports If-None-Match against the returned ETag."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Accounts returned"),
+            @ApiResponse(responseCode = "304", description = "Accounts unchanged since the given ETag")
+    })
+    @GetMapping
+    ResponseEntity<RequestResponse<List<AccountDTO>>> getAccountsByCustomer(@RequestParam Long customerId,
+                                                                           WebRequest request);
+
+    /**
+     * Get the most recent transactions across all accounts of a customer.
+     *
+     * @param customerId owning customer id
+     * @param limit      maximum number of entries (1-1000)
+     * @return transactions, newest first
+     */
+    @Operation(
+            summary = "Get recent customer transactions",
+            description = "Returns the newest transactions across all of the customer's accounts."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions returned")
+    })
+    @GetMapping("/customer/{customerId}/transactions")
+    ResponseEntity<RequestResponse<List<TransactionDTO>>> getRecentCustomerTransactions(
+            @PathVariable Long customerId,
+            @RequestParam(defaultValue = "20") int limit
+    );
+
+    /**
+     * Subscribe to live balance changes and new transactions of a customer.
+     *
+     * @param customerId owning customer id
+     * @param caller     the authenticated caller, who must be that customer
+     * @return an event stream of {@code transaction}, {@code balance} and {@code resync} events
+     */
+    @Operation(
+            summary = "Stream live account updates",
+            description = "Server-sent events pushed when transfers touching the customer's accounts commit. "
+                    + "A resync event means updates were dropped and the client should re-read its state. "
+                    + "Only the customer of the bearer token may subscribe; the stream ends when the token expires."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "Missing or invalid bearer token"),
+            @ApiResponse(responseCode = "403", description = "The stream belongs to another customer"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams")
+    })
+    @GetMapping(value = "/customer/{customerId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamCustomerUpdates(
+            @PathVariable Long customerId,
+            @Parameter(hidden = true) @RequestAttribute(CallerAuthenticationFilter.CALLER_ATTRIBUTE)
+            JwtVerifier.Caller caller
+    );
+
+    /**
+     * Get the money in/out totals of an account for a day or month.
+     *
+     * @param accountNumber account to summarize
+     * @param period        DAY or MONTH
+     * @param date          any date inside the period; defaults to today
+     * @return the aggregated activity
+     */
+    @Operation(
+            summary = "Get account activity summary",
+            description = "Returns pre-aggregated totals in/out for the day or month containing the given date."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Summary returned"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    @GetMapping("/{accountNumber}/summary")
+    ResponseEntity<RequestResponse<ActivitySummaryDTO>> getActivitySummary(
+            @PathVariable String accountNumber,
+            @Parameter(description = "DAY or MONTH") @RequestParam(defaultValue = "MONTH") SummaryPeriod period,
+            @Parameter(description = "Date inside the period (ISO, defaults to today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    );
+
+    /**
+     * Rebuild all activity summaries from the transaction journal.
+     *
+     * @return rebuild statistics
+     */
+    @Operation(
+            summary = "Rebuild activity summaries",
+            description = "Recomputes all daily and monthly summaries from the journal, in parallel across account ranges."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rebuild finished")
+    })
+    @PostMapping("/admin/summaries/rebuild")
+    ResponseEntity<RequestResponse<SummaryRebuildResultDTO>> rebuildActivitySummaries();
+
+    /**
+     * Get the transaction history of an account, including archived transactions.
+     *
+     * @param accountNumber account to read
+     * @param from          lower bound (inclusive); defaults to the beginning of time
+     * @param to            upper bound (inclusive); defaults to now
+     * @param limit         maximum number of entries (1-1000)
+     * @return transactions, newest first
+     */
+    @Operation(
+            summary = "Get transaction history",
+            description = "Returns transactions newest first. Old statements are served transparently from the archive."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "History returned"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    @GetMapping("/{accountNumber}/transactions")
+    ResponseEntity<RequestResponse<List<TransactionDTO>>> getTransactionHistory(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit
+    );
+
+    /**
+     * Move transactions older than the configured age into archive segments now.
+     *
+     * @return archive statistics
+     */
+    @Operation(
+            summary = "Archive old transactions",
+            description = "Moves transactions older than app.archive.max-age-days into compressed segment files."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Archive run finished")
+    })
+    @PostMapping("/admin/archive")
+    ResponseEntity<RequestResponse<ArchiveResultDTO>> archiveTransactions();
+
+    /**
+     * Get the current balance of an account.
+     *
+     * @param accountNumber account to read
+     * @param request       current request, checked for {@code If-None-Match}
+     * @return the balance
+     */
+    @Operation(
+            summary = "Get account balance",
+            description = "Returns the total balance; for split-balance accounts the sub-balances are summed. "
+                    + "Supports If-None-Match against the returned ETag."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Balance returned"),
+            @ApiResponse(responseCode = "304", description = "Balance unchanged since the given ETag"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    @GetMapping("/{accountNumber}/balance")
+    ResponseEntity<RequestResponse<BalanceDTO>> getBalance(@PathVariable String accountNumber, WebRequest request);
+
+    /**
+     * Switch a high fan-in account (merchant settlement, fee collection) to split-balance mode.
+     *
+     * @param accountNumber account to switch
+     * @param shards        number of sub-balances
+     * @return the balance after the switch
+     */
+    @Operation(
+            summary = "Enable split-balance mode",
+            description = "Spreads future credits over N sub-balances so they no longer serialize on the account row."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Split-balance mode enabled"),
+            @ApiResponse(responseCode = "404", description = "Account not found"),
+            @ApiResponse(responseCode = "422", description = "Invalid shard count or already enabled")
+    })
+    @PostMapping("/admin/{accountNumber}/split-balance")
+    ResponseEntity<RequestResponse<BalanceDTO>> enableSplitBalance(
+            @PathVariable String accountNumber,
+            @RequestParam(defaultValue = "16") int shards
+    );
+}
@@ -0,0 +1,41 @@
+package com.bankpro.account.service.controller;
+
+import com.bankpro.account.service.dto.EventFeedDTO;
+import com.bankpro.account.service.dto.RequestResponse;
+import com.bankpro.account.service.service.EventFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for service-to-service calls.
+ * Implements the {@link InternalControllerApi} interface.
+ */
+@RestController
+@RequiredArgsConstructor
+public class InternalController implements InternalControllerApi {
+
+    private static final int MAX_FEED_LIMIT = 1000;
+
+    private final EventFeedService eventFeedService;
+
+    /**
+     * Reads a page of the event feed.
+     *
+     * @param after last position already consumed
+     * @param limit maximum number of events, clamped to 1-1000
+     * @return a {@link ResponseEntity} containing the events
+     */
+    @Override
+    public ResponseEntity<RequestResponse<EventFeedDTO>> getEvents(long after, int limit) {
+        EventFeedDTO feed = eventFeedService.getEvents(after, Math.max(1, Math.min(limit, MAX_FEED_LIMIT)));
+
+        RequestResponse<EventFeedDTO> response = RequestResponse.<EventFeedDTO>builder()
+                .success(true)
+                .message("Events fetched successfully")
+                .data(feed)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
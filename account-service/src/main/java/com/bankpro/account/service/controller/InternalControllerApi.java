@@ -0,0 +1,42 @@
+package com.bankpro.account.service.controller;
+
+import com.bankpro.account.service.constant.ApiPaths;
+import com.bankpro.account.service.dto.EventFeedDTO;
+import com.bankpro.account.service.dto.RequestResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Service-to-service API. Every call must carry the internal token header.
+ */
+@Tag(name = "Internal Controller", description = "Endpoints for other BankPro services")
+@RequestMapping(ApiPaths.BASE_INTERNAL)
+public interface InternalControllerApi {
+
+    /**
+     * Read the change event feed.
+     *
+     * @param after last position already consumed
+     * @param limit maximum number of events (1-1000)
+     * @return events after the position, in order
+     */
+    @Operation(
+            summary = "Read change events",
+            description = "Returns outbox events after the given position together with the current head position."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Events returned"),
+            @ApiResponse(responseCode = "401", description = "Missing or wrong internal token")
+    })
+    @GetMapping("/events")
+    ResponseEntity<RequestResponse<EventFeedDTO>> getEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit
+    );
+}
@@ -0,0 +1,44 @@
+package com.bankpro.account.service.controller;
+
+import com.bankpro.account.service.dto.BatchTransferRequestDTO;
+import com.bankpro.account.service.dto.BatchTransferResponseDTO;
+import com.bankpro.account.service.dto.RequestResponse;
+import com.bankpro.account.service.service.TransferService;
+import com.bankpro.account.service.util.JwtVerifier;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for fund transfers.
+ * Implements the {@link TransferControllerApi} interface.
+ */
+@RestController
+@RequiredArgsConstructor
+public class TransferController implements TransferControllerApi {
+
+    private final TransferService transferService;
+
+    /**
+     * Posts a batch of transfers.
+     *
+     * @param request the batch payload
+     * @param caller  the authenticated caller
+     * @return a {@link ResponseEntity} containing the batch summary
+     */
+    @Override
+    public ResponseEntity<RequestResponse<BatchTransferResponseDTO>> batchTransfer(@Valid BatchTransferRequestDTO request,
+                                                                                   JwtVerifier.Caller caller) {
+        BatchTransferResponseDTO response = transferService.batchTransfer(request, caller.customerId());
+
+        RequestResponse<BatchTransferResponseDTO> apiResponse = RequestResponse.<BatchTransferResponseDTO>builder()
+                .success(true)
+                .message("Batch posted successfully")
+                .data(response)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
+    }
+}
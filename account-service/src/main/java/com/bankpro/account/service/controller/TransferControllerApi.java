@@ -0,0 +1,54 @@
+package com.bankpro.account.service.controller;
+
+import com.bankpro.account.service.config.CallerAuthenticationFilter;
+import com.bankpro.account.service.constant.ApiPaths;
+import com.bankpro.account.service.dto.BatchTransferRequestDTO;
+import com.bankpro.account.service.dto.BatchTransferResponseDTO;
+import com.bankpro.account.service.dto.RequestResponse;
+import com.bankpro.account.service.util.JwtVerifier;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Public API interface for fund transfers.
+ */
+@Tag(name = "Transfer Controller", description = "Endpoints for moving funds between accounts")
+@RequestMapping(ApiPaths.BASE_TRANSFER)
+public interface TransferControllerApi {
+
+    /**
+     * Post a batch of transfers (e.g. payroll) atomically.
+     *
+     * @param request batch payload
+     * @param caller  the authenticated caller, who must own every source account
+     * @return summary of the posted batch
+     */
+    @Operation(
+            summary = "Post a batch transfer",
+            description = "Validates all legs concurrently and posts them in a single transaction. "
+                    + "If any leg fails validation nothing is posted. Every source account must "
+                    + "belong to the customer of the bearer token."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Batch posted"),
+            @ApiResponse(responseCode = "401", description = "Missing or invalid bearer token"),
+            @ApiResponse(responseCode = "403", description = "A source account belongs to another customer"),
+            @ApiResponse(responseCode = "404", description = "Account not found"),
+            @ApiResponse(responseCode = "422", description = "A leg failed a balance, limit or status check")
+    })
+    @PostMapping("/batch")
+    ResponseEntity<RequestResponse<BatchTransferResponseDTO>> batchTransfer(
+            @Valid @RequestBody BatchTransferRequestDTO request,
+            @Parameter(hidden = true) @RequestAttribute(CallerAuthenticationFilter.CALLER_ATTRIBUTE)
+            JwtVerifier.Caller caller
+    );
+}
@@ -0,0 +1,34 @@
+package com.bankpro.account.service.dto;
+
+import com.bankpro.account.service.enums.AccountStatus;
+import com.bankpro.account.service.enums.AccountType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO used to return account details in API responses.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Account details")
+public class AccountDTO {
+
+    @Schema(description = "Account number", example = "1000000001")
+    private String accountNumber;
+
+    @Schema(description = "Owning customer id", example = "101")
+    private Long customerId;
+
+    @Schema(description = "Account product type", example = "SAVINGS")
+    private AccountType type;
+
+    @Schema(description = "Lifecycle state", example = "ACTIVE")
+    private AccountStatus status;
+
+    @Schema(description = "Total balance", example = "14820.50")
+    private BigDecimal balance;
+}
@@ -0,0 +1,40 @@
+package com.bankpro.account.service.dto;
+
+import com.bankpro.account.service.enums.SummaryPeriod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Money in/out totals of one account for one day or month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Aggregated account activity for a period")
+public class ActivitySummaryDTO {
+
+    @Schema(description = "Account number", example = "1000000001")
+    private String accountNumber;
+
+    @Schema(description = "Period granularity", example = "MONTH")
+    private SummaryPeriod period;
+
+    @Schema(description = "First day of the period", example = "2025-07-01")
+    private LocalDate periodStart;
+
+    @Schema(description = "Total credited in the period", example = "85000.00")
+    private BigDecimal totalIn;
+
+    @Schema(description = "Total debited in the period", example = "42150.75")
+    private BigDecimal totalOut;
+
+    @Schema(description = "Number of credits", example = "4")
+    private long creditCount;
+
+    @Schema(description = "Number of debits", example = "37")
+    private long debitCount;
+}
@@ -0,0 +1,44 @@
+package com.bankpro.account.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a standard error response returned by the API
+ * for failed HTTP operations.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiError {
+
+    /**
+     * The exact timestamp when the error occurred.
+     */
+    private LocalDateTime timestamp;
+
+    /**
+     * The HTTP status code (e.g. 400, 404, 500).
+     */
+    private int status;
+
+    /**
+     * Machine-readable error code.
+     */
+    private String error;
+
+    /**
+     * The human-readable message describing the cause of the error.
+     */
+    private String message;
+
+    /**
+     * The URI path of the request that caused the error.
+     */
+    private String path;
+}
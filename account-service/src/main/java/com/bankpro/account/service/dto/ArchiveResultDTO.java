@@ -0,0 +1,26 @@
+package com.bankpro.account.service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of an archive run that moved old transactions into segment files.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of archiving old transactions")
+public class ArchiveResultDTO {
+
+    @Schema(description = "Rows older than this were archived", example = "2024-07-06T02:30:00")
+    private LocalDateTime cutoff;
+
+    @Schema(description = "Number of segment files written", example = "3")
+    private int segmentsWritten;
+
+    @Schema(description = "Number of rows moved out of the database", example = "600000")
+    private long rowsArchived;
+}
@@ -0,0 +1,26 @@
+package com.bankpro.account.service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Current balance of an account.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Account balance")
+public class BalanceDTO {
+
+    @Schema(description = "Account number", example = "1000000001")
+    private String accountNumber;
+
+    @Schema(description = "Total balance", example = "14820.50")
+    private BigDecimal balance;
+
+    @Schema(description = "Whether the account is in split-balance mode", example = "false")
+    private boolean splitBalance;
+}
@@ -0,0 +1,27 @@
+package com.bankpro.account.service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Payload for posting many transfers (e.g. a payroll run) as one atomic batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Batch of transfer legs posted atomically")
+public class BatchTransferRequestDTO {
+
+    /**
+     * Legs to post; either all succeed or none do.
+     */
+    @Valid
+    @NotEmpty(message = "At least one leg is required")
+    @Schema(description = "Transfer legs", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<TransferLegDTO> legs;
+}
@@ -0,0 +1,35 @@
+package com.bankpro.account.service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Summary of a successfully posted batch transfer.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a posted batch transfer")
+public class BatchTransferResponseDTO {
+
+    /**
+     * Identifier stamped on every journal entry of the batch.
+     */
+    @Schema(description = "Batch identifier", example = "5f0c6f5e-3c1b-4d8e-9d5b-8a1d2f3e4c5b")
+    private String batchId;
+
+    /**
+     * Number of legs posted.
+     */
+    @Schema(description = "Number of legs posted", example = "1200")
+    private int legCount;
+
+    /**
+     * Sum of all leg amounts.
+     */
+    @Schema(description = "Total amount moved", example = "3450000.00")
+    private BigDecimal totalAmount;
+}
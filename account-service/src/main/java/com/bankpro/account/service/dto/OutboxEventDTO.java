@@ -0,0 +1,36 @@
+package com.bankpro.account.service.dto;
+
+import com.bankpro.account.service.enums.ChangeEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change event in the internal event feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Change event")
+public class OutboxEventDTO {
+
+    @Schema(description = "Feed position", example = "5123")
+    private Long id;
+
+    @Schema(description = "Kind of change", example = "TRANSACTION_POSTED")
+    private ChangeEventType type;
+
+    @Schema(description = "Account number of the changed account", example = "1000000001")
+    private String aggregateId;
+
+    @Schema(description = "Owning customer id", example = "101")
+    private Long customerId;
+
+    @Schema(description = "JSON body: an AccountDTO or TransactionDTO depending on the type")
+    private String payload;
+
+    @Schema(description = "Time the event was written", example = "2025-07-06T21:12:34")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package com.bankpro.account.service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Outcome of a full activity summary rebuild.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of rebuilding activity summaries from the journal")
+public class SummaryRebuildResultDTO {
+
+    @Schema(description = "Number of account id ranges processed", example = "12")
+    private int ranges;
+
+    @Schema(description = "Number of summary rows written", example = "48211")
+    private long rowsWritten;
+
+    @Schema(description = "Wall-clock duration of the rebuild in milliseconds", example = "5321")
+    private long elapsedMillis;
+}
@@ -0,0 +1,42 @@
+package com.bankpro.account.service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * A single debit/credit pair inside a batch transfer.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One leg of a batch transfer")
+public class TransferLegDTO {
+
+    /**
+     * Account to debit.
+     */
+    @NotBlank(message = "Source account is required")
+    @Schema(description = "Account number to debit", example = "1000000001", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String sourceAccount;
+
+    /**
+     * Account to credit.
+     */
+    @NotBlank(message = "Target account is required")
+    @Schema(description = "Account number to credit", example = "1000000002", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String targetAccount;
+
+    /**
+     * Amount to move; must be positive.
+     */
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Schema(description = "Amount to transfer", example = "2500.00", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal amount;
+}
@@ -0,0 +1,90 @@
+package com.bankpro.account.service.entity;
+
+import com.bankpro.account.service.enums.AccountStatus;
+import com.bankpro.account.service.enums.AccountType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Entity representing a bank account owned by a customer.
+ */
+@Entity
+@Table(name = "accounts", indexes = {
+        @Index(name = "idx_account_number", columnList = "accountNumber", unique = true),
+        @Index(name = "idx_account_customer", columnList = "customerId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Account {
+
+    /**
+     * Unique identifier for the account.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Public account number (must be unique).
+     */
+    @Column(nullable = false, unique = true, length = 20)
+    private String accountNumber;
+
+    /**
+     * Identifier of the owning customer in customer-service.
+     */
+    @Column(nullable = false)
+    private Long customerId;
+
+    /**
+     * Account product type.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AccountType type;
+
+    /**
+     * Current lifecycle state.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AccountStatus status;
+
+    /**
+     * Current ledger balance. For split-balance accounts this is only the part
+     * not held on shards.
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    /**
+     * Maximum amount of a single debit, or {@code null} for no limit.
+     */
+    @Column(precision = 19, scale = 2)
+    private BigDecimal transactionLimit;
+
+    /**
+     * Whether credits are spread over {@link BalanceShard} rows instead of this row.
+     * Used for high fan-in accounts such as merchant settlement or fee collection.
+     */
+    @Column(nullable = false)
+    private boolean splitBalance;
+
+    /**
+     * Number of balance shards when {@link #splitBalance} is set.
+     */
+    private Integer balanceShards;
+
+    /**
+     * Row version, incremented by every update of this row. Together with the shard
+     * versions of split-balance accounts it identifies the balance state for ETags.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+}
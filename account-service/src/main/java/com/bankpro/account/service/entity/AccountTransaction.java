@@ -0,0 +1,76 @@
+package com.bankpro.account.service.entity;
+
+import com.bankpro.account.service.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable journal entry recording a single balance movement on an account.
+ */
+@Entity
+@Table(name = "account_transactions", indexes = {
+        @Index(name = "idx_txn_account_created", columnList = "accountId, createdAt"),
+        @Index(name = "idx_txn_batch", columnList = "batchId"),
+        @Index(name = "idx_txn_created", columnList = "createdAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountTransaction {
+
+    /**
+     * Unique identifier for the journal entry.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Identifier of the account this entry belongs to.
+     */
+    @Column(nullable = false)
+    private Long accountId;
+
+    /**
+     * Direction of the movement.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    /**
+     * Absolute amount moved (always positive).
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    /**
+     * Account balance immediately after this entry was applied.
+     * {@code null} for credits to split-balance accounts, whose total is not serialized per credit.
+     */
+    @Column(precision = 19, scale = 2)
+    private BigDecimal balanceAfter;
+
+    /**
+     * Account number of the other side of the transfer.
+     */
+    @Column(length = 20)
+    private String counterparty;
+
+    /**
+     * Batch this entry was posted in, if any.
+     */
+    @Column(length = 36)
+    private String batchId;
+
+    /**
+     * Posting timestamp.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
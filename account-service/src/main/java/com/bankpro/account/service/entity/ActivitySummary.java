@@ -0,0 +1,75 @@
+package com.bankpro.account.service.entity;
+
+import com.bankpro.account.service.enums.SummaryPeriod;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated money in/out totals for one account over one day or month.
+ * <p>
+ * Rows are maintained incrementally by the posting path and can be rebuilt from the journal.
+ */
+@Entity
+@Table(name = "account_activity_summaries", indexes = {
+        @Index(name = "idx_summary_account_period", columnList = "accountId, periodType, periodStart", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivitySummary {
+
+    /**
+     * Unique identifier for the summary row.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Identifier of the summarized account.
+     */
+    @Column(nullable = false)
+    private Long accountId;
+
+    /**
+     * Granularity of this row.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 5)
+    private SummaryPeriod periodType;
+
+    /**
+     * First day of the summarized period.
+     */
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    /**
+     * Sum of all credits in the period.
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalIn;
+
+    /**
+     * Sum of all debits in the period.
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalOut;
+
+    /**
+     * Number of credits in the period.
+     */
+    @Column(nullable = false)
+    private long creditCount;
+
+    /**
+     * Number of debits in the period.
+     */
+    @Column(nullable = false)
+    private long debitCount;
+}
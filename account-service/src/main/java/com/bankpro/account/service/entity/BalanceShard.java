@@ -0,0 +1,56 @@
+package com.bankpro.account.service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * One sub-balance of an account in split-balance mode.
+ * <p>
+ * Credits to a split account land on a single shard, so concurrent credits only contend
+ * when they pick the same shard. The account's total balance is its own balance plus all shards.
+ */
+@Entity
+@Table(name = "balance_shards", indexes = {
+        @Index(name = "idx_shard_account_index", columnList = "accountId, shardIndex", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceShard {
+
+    /**
+     * Unique identifier for the shard row.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Identifier of the owning account.
+     */
+    @Column(nullable = false)
+    private Long accountId;
+
+    /**
+     * Position of this shard, from 0 to the account's shard count minus one.
+     */
+    @Column(nullable = false)
+    private int shardIndex;
+
+    /**
+     * Amount currently held on this shard.
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    /**
+     * Row version, incremented by every change to the shard balance.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+}
@@ -0,0 +1,23 @@
+package com.bankpro.account.service.enums;
+
+/**
+ * Lifecycle states of a bank account.
+ * Only {@link #ACTIVE} accounts may be debited or credited.
+ */
+public enum AccountStatus {
+
+    /**
+     * Account is open and can take part in money movements.
+     */
+    ACTIVE,
+
+    /**
+     * Account is temporarily blocked (e.g. compliance hold).
+     */
+    FROZEN,
+
+    /**
+     * Account has been closed permanently.
+     */
+    CLOSED
+}
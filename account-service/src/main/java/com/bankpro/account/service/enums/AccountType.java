@@ -0,0 +1,17 @@
+package com.bankpro.account.service.enums;
+
+/**
+ * Supported account products.
+ */
+public enum AccountType {
+
+    /**
+     * Interest-bearing personal savings account.
+     */
+    SAVINGS,
+
+    /**
+     * Transactional current account.
+     */
+    CURRENT
+}
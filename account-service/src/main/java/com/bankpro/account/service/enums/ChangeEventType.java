@@ -0,0 +1,11 @@
+package com.bankpro.account.service.enums;
+
+/**
+ * Kinds of change events written to the outbox.
+ */
+public enum ChangeEventType {
+    /** Full state of an account, including its total balance. */
+    ACCOUNT_SNAPSHOT,
+    /** One posted journal entry; consumers apply its amount to the last snapshot. */
+    TRANSACTION_POSTED
+}
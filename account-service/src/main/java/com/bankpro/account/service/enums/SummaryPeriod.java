@@ -0,0 +1,29 @@
+package com.bankpro.account.service.enums;
+
+import java.time.LocalDate;
+
+/**
+ * Granularity of a pre-aggregated account activity summary.
+ */
+public enum SummaryPeriod {
+
+    /**
+     * One row per account per calendar day.
+     */
+    DAY,
+
+    /**
+     * One row per account per calendar month.
+     */
+    MONTH;
+
+    /**
+     * Returns the first day of the period that contains the given date.
+     *
+     * @param date any date inside the period
+     * @return the period start date
+     */
+    public LocalDate startOf(LocalDate date) {
+        return this == MONTH ? date.withDayOfMonth(1) : date;
+    }
+}
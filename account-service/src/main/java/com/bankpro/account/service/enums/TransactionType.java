@@ -0,0 +1,17 @@
+package com.bankpro.account.service.enums;
+
+/**
+ * Direction of a posted transaction relative to the owning account.
+ */
+public enum TransactionType {
+
+    /**
+     * Money entering the account.
+     */
+    CREDIT,
+
+    /**
+     * Money leaving the account.
+     */
+    DEBIT
+}
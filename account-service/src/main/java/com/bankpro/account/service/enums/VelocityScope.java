@@ -0,0 +1,17 @@
+package com.bankpro.account.service.enums;
+
+/**
+ * Key a velocity rule is counted against.
+ */
+public enum VelocityScope {
+
+    /**
+     * Counted per debited account.
+     */
+    ACCOUNT,
+
+    /**
+     * Counted per customer across all of their accounts.
+     */
+    CUSTOMER
+}
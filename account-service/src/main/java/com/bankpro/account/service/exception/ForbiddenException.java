@@ -0,0 +1,24 @@
+package com.bankpro.account.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when the authenticated caller acts on an account or stream
+ * of another customer.
+ *
+ * <p>This results in an HTTP 403 Forbidden response.</p>
+ */
+public class ForbiddenException extends BaseException {
+
+    private static final String DEFAULT_CODE = "FORBIDDEN";
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.FORBIDDEN;
+
+    /**
+     * Constructs a new {@code ForbiddenException} with the reason access was denied.
+     *
+     * @param message what the caller may not access
+     */
+    public ForbiddenException(String message) {
+        super(message, DEFAULT_CODE, DEFAULT_STATUS);
+    }
+}
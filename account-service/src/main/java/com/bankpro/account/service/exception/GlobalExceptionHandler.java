@@ -0,0 +1,76 @@
+package com.bankpro.account.service.exception;
+
+import com.bankpro.account.service.dto.ApiError;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Global exception handler for all controllers.
+ * Centralized handling of exceptions with structured error responses.
+ */
+@Slf4j
+@ControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Handles validation failures on input payloads (e.g., @Valid annotated DTOs).
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiError> handleValidationErrors(MethodArgumentNotValidException ex, HttpServletRequest request) {
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(field -> field.getField() + ": " + field.getDefaultMessage())
+                .collect(Collectors.toList());
+
+        String combinedMessage = String.join(", ", errors);
+        return buildResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", combinedMessage, request);
+    }
+
+    /**
+     * Handles custom exceptions extending from {@link BaseException}.
+     */
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<ApiError> handleBaseException(BaseException ex, HttpServletRequest request) {
+        return buildResponse(ex.getStatus(), ex.getCode(), ex.getMessage(), request);
+    }
+
+    /**
+     * Catch-all handler for unexpected or uncaught exceptions.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiError> handleUnhandled(Exception ex, HttpServletRequest request) {
+        log.error("Unhandled exception in [{} {}]", request.getMethod(), request.getRequestURI(), ex);
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "An unexpected error occurred", request);
+    }
+
+    /**
+     * Builds a standard {@link ApiError} response structure.
+     *
+     * @param status  HTTP status code
+     * @param code    Application-specific error code
+     * @param message Human-readable message
+     * @param request Current request object
+     * @return Structured error response entity
+     */
+    private ResponseEntity<ApiError> buildResponse(HttpStatus status, String code, String message, HttpServletRequest request) {
+        ApiError error = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(code)
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(status).body(error);
+    }
+}
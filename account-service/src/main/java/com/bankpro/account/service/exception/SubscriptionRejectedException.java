@@ -0,0 +1,24 @@
+package com.bankpro.account.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a live update stream cannot be opened because the
+ * service already holds its maximum number of streams.
+ *
+ * <p>This results in an HTTP 503 Service Unavailable response.</p>
+ */
+public class SubscriptionRejectedException extends BaseException {
+
+    private static final String DEFAULT_CODE = "SUBSCRIPTION_REJECTED";
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    /**
+     * Constructs a new {@code SubscriptionRejectedException} with the reason for rejection.
+     *
+     * @param message description of the exhausted limit
+     */
+    public SubscriptionRejectedException(String message) {
+        super(message, DEFAULT_CODE, DEFAULT_STATUS);
+    }
+}
@@ -0,0 +1,24 @@
+package com.bankpro.account.service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a transfer (or any leg of a batch) fails a hard business check
+ * such as insufficient funds, an exceeded limit, or an inactive account.
+ *
+ * <p>This results in an HTTP 422 Unprocessable Entity response.</p>
+ */
+public class TransferRejectedException extends BaseException {
+
+    private static final String DEFAULT_CODE = "TRANSFER_REJECTED";
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.UNPROCESSABLE_ENTITY;
+
+    /**
+     * Constructs a new {@code TransferRejectedException} with the reason for rejection.
+     *
+     * @param message description of the failed check
+     */
+    public TransferRejectedException(String message) {
+        super(message, DEFAULT_CODE, DEFAULT_STATUS);
+    }
+}
@@ -0,0 +1,116 @@
+package com.bankpro.account.service.repository;
+
+import com.bankpro.account.service.entity.Account;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repository interface for managing {@link Account} entities.
+ */
+@Repository
+public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    /**
+     * Retrieves an account by its public account number.
+     *
+     * @param accountNumber the unique account number
+     * @return an {@link Optional} containing the {@link Account} if found, or empty otherwise
+     */
+    Optional<Account> findByAccountNumber(String accountNumber);
+
+    /**
+     * Reads only the id, version and split-balance flag of an account.
+     *
+     * @param accountNumber the unique account number
+     * @return the version columns, or empty if the account does not exist
+     */
+    @Query("select a.id as id, a.version as version, a.splitBalance as splitBalance "
+            + "from Account a where a.accountNumber = :accountNumber")
+    Optional<AccountVersionView> findVersionByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Reads only the id, version and split-balance flag of a customer's accounts.
+     *
+     * @param customerId owning customer id
+     * @return the version columns ordered by id
+     */
+    @Query("select a.id as id, a.version as version, a.splitBalance as splitBalance "
+            + "from Account a where a.customerId = :customerId order by a.id")
+    List<AccountVersionView> findVersionsByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Loads and write-locks the given accounts.
+     * <p>
+     * Rows are locked in primary-key order so that concurrent batches touching
+     * overlapping accounts cannot deadlock each other.
+     *
+     * @param accountNumbers account numbers to lock
+     * @return the locked accounts ordered by id
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountNumber in :accountNumbers order by a.id")
+    List<Account> findAllForUpdate(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Retrieves all accounts of a customer.
+     *
+     * @param customerId the owning customer id
+     * @return the customer's accounts ordered by id
+     */
+    List<Account> findByCustomerIdOrderById(Long customerId);
+
+    /**
+     * Loads the given accounts without locking them.
+     *
+     * @param accountNumbers account numbers to load
+     * @return the accounts that exist
+     */
+    List<Account> findAllByAccountNumberIn(Collection<String> accountNumbers);
+
+    /**
+     * Returns which of the given accounts are in split-balance mode.
+     *
+     * @param accountNumbers account numbers to check
+     * @return numbers of the split-balance accounts among them
+     */
+    @Query("select a.accountNumber from Account a where a.splitBalance = true and a.accountNumber in :accountNumbers")
+    Set<String> findSplitBalanceNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Returns the highest account id, or 0 when there are no accounts.
+     *
+     * @return the maximum account id
+     */
+    @Query("select coalesce(max(a.id), 0) from Account a")
+    long findMaxId();
+
+    /**
+     * Write-locks all accounts in an id range, blocking postings to them until the
+     * current transaction ends.
+     *
+     * @param fromId first id of the range (inclusive)
+     * @param toId   last id of the range (inclusive)
+     * @return ids of the locked accounts
+     */
+    @Query(value = "select id from accounts where id between :fromId and :toId order by id for update",
+            nativeQuery = true)
+    List<Long> lockIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Write-locks the given accounts in id order.
+     *
+     * @param ids account ids
+     * @return ids of the locked accounts
+     */
+    @Query(value = "select id from accounts where id in (:ids) order by id for update", nativeQuery = true)
+    List<Long> lockIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,75 @@
+package com.bankpro.account.service.repository;
+
+import com.bankpro.account.service.entity.AccountTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link AccountTransaction} journal entries
+ * still held in the database ("hot" rows).
+ */
+@Repository
+public interface AccountTransactionRepository extends JpaRepository<AccountTransaction, Long> {
+
+    /**
+     * Retrieves journal entries of an account within a time range.
+     *
+     * @param accountId the account id
+     * @param from      lower bound, inclusive
+     * @param to        upper bound, inclusive
+     * @param pageable  page size and sort order
+     * @return the matching entries
+     */
+    List<AccountTransaction> findByAccountIdAndCreatedAtBetween(Long accountId,
+                                                                LocalDateTime from,
+                                                                LocalDateTime to,
+                                                                Pageable pageable);
+
+    /**
+     * Retrieves journal entries across several accounts.
+     *
+     * @param accountIds the account ids
+     * @param pageable   page size and sort order
+     * @return the matching entries
+     */
+    List<AccountTransaction> findByAccountIdIn(Collection<Long> accountIds, Pageable pageable);
+
+    /**
+     * Retrieves entries older than the given cutoff, used for archiving.
+     *
+     * @param cutoff   exclusive upper bound on the posting time
+     * @param pageable page size and sort order
+     * @return the matching entries
+     */
+    List<AccountTransaction> findByCreatedAtBefore(LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Retrieves all debits posted since the given time along with the owning customer.
+     *
+     * @param since lower bound, inclusive
+     * @return recent debits
+     */
+    @Query("""
+            select t.accountId as accountId, a.customerId as customerId, t.amount as amount, t.createdAt as createdAt
+            from AccountTransaction t, Account a
+            where a.id = t.accountId
+              and t.type = com.bankpro.account.service.enums.TransactionType.DEBIT
+              and t.createdAt >= :since
+            """)
+    List<RecentDebitView> findDebitsSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Returns the highest journal id, or 0 when the journal is empty.
+     *
+     * @return the maximum journal id
+     */
+    @Query("select coalesce(max(t.id), 0) from AccountTransaction t")
+    long findMaxId();
+}
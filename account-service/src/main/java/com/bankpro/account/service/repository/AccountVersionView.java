@@ -0,0 +1,14 @@
+package com.bankpro.account.service.repository;
+
+/**
+ * Projection of the columns that identify an account's state, used to answer
+ * conditional reads without loading the account.
+ */
+public interface AccountVersionView {
+
+    Long getId();
+
+    Long getVersion();
+
+    boolean isSplitBalance();
+}
@@ -0,0 +1,104 @@
+package com.bankpro.account.service.repository;
+
+import com.bankpro.account.service.entity.ActivitySummary;
+import com.bankpro.account.service.enums.SummaryPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Repository interface for {@link ActivitySummary} rows.
+ * <p>
+ * Write paths use native MySQL statements so that an increment or a range rebuild
+ * is a single round trip.
+ */
+@Repository
+public interface ActivitySummaryRepository extends JpaRepository<ActivitySummary, Long> {
+
+    /**
+     * Reads the summary of one account for one period.
+     *
+     * @param accountId   the account id
+     * @param periodType  day or month
+     * @param periodStart first day of the period
+     * @return the summary row if any activity was recorded
+     */
+    Optional<ActivitySummary> findByAccountIdAndPeriodTypeAndPeriodStart(Long accountId,
+                                                                         SummaryPeriod periodType,
+                                                                         LocalDate periodStart);
+
+    /**
+     * Adds the given deltas to a summary row, creating it if it does not exist yet.
+     */
+    @Modifying
+    @Query(value = """
+            insert into account_activity_summaries
+                (account_id, period_type, period_start, total_in, total_out, credit_count, debit_count)
+            values (:accountId, :periodType, :periodStart, :totalIn, :totalOut, :creditCount, :debitCount)
+            on duplicate key update
+                total_in = total_in + values(total_in),
+                total_out = total_out + values(total_out),
+                credit_count = credit_count + values(credit_count),
+                debit_count = debit_count + values(debit_count)
+            """, nativeQuery = true)
+    void increment(@Param("accountId") Long accountId,
+                   @Param("periodType") String periodType,
+                   @Param("periodStart") LocalDate periodStart,
+                   @Param("totalIn") BigDecimal totalIn,
+                   @Param("totalOut") BigDecimal totalOut,
+                   @Param("creditCount") long creditCount,
+                   @Param("debitCount") long debitCount);
+
+    /**
+     * Removes summary rows of accounts in the given id range for periods starting on or after {@code since}.
+     */
+    @Modifying
+    @Query(value = """
+            delete from account_activity_summaries
+            where account_id between :fromId and :toId and period_start >= :since
+            """, nativeQuery = true)
+    int deleteByAccountRange(@Param("fromId") long fromId, @Param("toId") long toId,
+                             @Param("since") LocalDate since);
+
+    /**
+     * Recomputes daily rows for an account id range from the transaction journal,
+     * for days on or after {@code since}.
+     */
+    @Modifying
+    @Query(value = """
+            insert into account_activity_summaries
+                (account_id, period_type, period_start, total_in, total_out, credit_count, debit_count)
+            select account_id, 'DAY', date(created_at),
+                   coalesce(sum(case when type = 'CREDIT' then amount end), 0),
+                   coalesce(sum(case when type = 'DEBIT' then amount end), 0),
+                   sum(case when type = 'CREDIT' then 1 else 0 end),
+                   sum(case when type = 'DEBIT' then 1 else 0 end)
+            from account_transactions
+            where account_id between :fromId and :toId and created_at >= :since
+            group by account_id, date(created_at)
+            """, nativeQuery = true)
+    int rebuildDaily(@Param("fromId") long fromId, @Param("toId") long toId, @Param("since") LocalDate since);
+
+    /**
+     * Rolls the daily rows of an account id range up into monthly rows.
+     * Must run after {@link #rebuildDaily(long, long, LocalDate)} for the same range;
+     * {@code since} must be the first day of a month.
+     */
+    @Modifying
+    @Query(value = """
+            insert into account_activity_summaries
+                (account_id, period_type, period_start, total_in, total_out, credit_count, debit_count)
+            select account_id, 'MONTH', date_format(period_start, '%Y-%m-01'),
+                   sum(total_in), sum(total_out), sum(credit_count), sum(debit_count)
+            from account_activity_summaries
+            where period_type = 'DAY' and account_id between :fromId and :toId and period_start >= :since
+            group by account_id, date_format(period_start, '%Y-%m-01')
+            """, nativeQuery = true)
+    int rebuildMonthly(@Param("fromId") long fromId, @Param("toId") long toId, @Param("since") LocalDate since);
+}
@@ -0,0 +1,72 @@
+package com.bankpro.account.service.repository;
+
+import com.bankpro.account.service.entity.BalanceShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Repository interface for {@link BalanceShard} rows of split-balance accounts.
+ */
+@Repository
+public interface BalanceShardRepository extends JpaRepository<BalanceShard, Long> {
+
+    /**
+     * Sums all shards of an account without locking them.
+     *
+     * @param accountId the account id
+     * @return the shard total, zero if the account has no shards
+     */
+    @Query("select coalesce(sum(s.balance), 0) from BalanceShard s where s.accountId = :accountId")
+    BigDecimal sumBalance(@Param("accountId") Long accountId);
+
+    /**
+     * Sums the versions of all shards of an account. Shard versions only grow,
+     * so the sum changes whenever any shard balance does.
+     *
+     * @param accountId the account id
+     * @return the version total, zero if the account has no shards
+     */
+    @Query("select coalesce(sum(s.version), 0) from BalanceShard s where s.accountId = :accountId")
+    long sumVersions(@Param("accountId") Long accountId);
+
+    /**
+     * Adds an amount to one shard and bumps its version; only that shard row is locked.
+     *
+     * @return number of rows updated (1 if the shard exists)
+     */
+    @Modifying
+    @Query("update BalanceShard s set s.balance = s.balance + :amount, s.version = s.version + 1 "
+            + "where s.accountId = :accountId and s.shardIndex = :shardIndex")
+    int addToShard(@Param("accountId") Long accountId,
+                   @Param("shardIndex") int shardIndex,
+                   @Param("amount") BigDecimal amount);
+
+    /**
+     * Loads and write-locks all shards of an account, in shard order.
+     *
+     * @param accountId the account id
+     * @return the locked shards
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<BalanceShard> findByAccountIdOrderByShardIndex(Long accountId);
+
+    /**
+     * Write-locks the shards of all split-balance accounts in an id range, blocking
+     * credits to them until the current transaction ends.
+     *
+     * @param fromId first account id of the range (inclusive)
+     * @param toId   last account id of the range (inclusive)
+     * @return the account id of each locked shard
+     */
+    @Query(value = "select account_id from balance_shards where account_id between :fromId and :toId "
+            + "order by id for update", nativeQuery = true)
+    List<Long> lockAccountRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,131 @@
+package com.bankpro.account.service.repository;
+
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.repository.segment.SegmentReader;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Storage for archived ("cold") transactions kept in immutable segment files on local disk.
+ * <p>
+ * All segments in the archive directory are opened and memory-mapped at startup;
+ * newly written segments are registered by the archiver. Reads consult every segment's
+ * per-account min/max index and decode only the blocks that can contain matching rows.
+ */
+@Slf4j
+@Component
+public class ColdTransactionStore {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final List<SegmentReader> segments = new CopyOnWriteArrayList<>();
+
+    public ColdTransactionStore(@Value("${app.archive.directory:./data/segments}") String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Opens all existing segments and removes temp files left behind by an interrupted archive run.
+     */
+    @PostConstruct
+    void load() throws IOException {
+        Files.createDirectories(directory);
+
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX + ".tmp")) {
+            for (Path leftover : leftovers) {
+                log.warn("Deleting incomplete segment {}", leftover);
+                Files.delete(leftover);
+            }
+        }
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        for (Path file : files) {
+            segments.add(SegmentReader.open(file));
+        }
+        log.info("Loaded {} transaction segments from {}", segments.size(), directory);
+    }
+
+    /**
+     * Allocates a unique file name for a new segment; segment names sort by creation time.
+     *
+     * @return path inside the archive directory
+     */
+    public Path nextSegmentPath() {
+        return directory.resolve(String.format("txn-%013d-%s%s", System.currentTimeMillis(),
+                UUID.randomUUID().toString().substring(0, 8), SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Makes a completely written segment visible to readers.
+     *
+     * @param segment path of the segment file
+     * @throws IOException if the segment cannot be opened
+     */
+    public void register(Path segment) throws IOException {
+        segments.add(SegmentReader.open(segment));
+    }
+
+    /**
+     * Reads archived rows of an account in a time range.
+     *
+     * @param accountId account id
+     * @param from      lower bound, inclusive
+     * @param to        upper bound, inclusive
+     * @return matching rows from all segments, unordered, each transaction id once
+     */
+    public List<AccountTransaction> read(long accountId, LocalDateTime from, LocalDateTime to) {
+        long fromMillis = from.toInstant(ZoneOffset.UTC).toEpochMilli();
+        long toMillis = to.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        // A run that crashed after registering a segment archives the same rows again next time
+        Set<Long> seen = new HashSet<>();
+        List<AccountTransaction> rows = new ArrayList<>();
+        for (SegmentReader segment : segments) {
+            if (segment.getMaxCreatedAt() >= fromMillis && segment.getMinCreatedAt() <= toMillis) {
+                for (AccountTransaction row : segment.read(accountId, fromMillis, toMillis)) {
+                    if (seen.add(row.getId())) {
+                        rows.add(row);
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the timestamp of the newest archived row, if anything has been archived.
+     *
+     * @return newest archived timestamp
+     */
+    public Optional<LocalDateTime> getNewestArchived() {
+        return segments.stream()
+                .map(SegmentReader::getMaxCreatedAt)
+                .max(Long::compare)
+                .map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+    }
+
+    /**
+     * @return number of open segments
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+}
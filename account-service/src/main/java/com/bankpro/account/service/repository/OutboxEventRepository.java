@@ -0,0 +1,33 @@
+package com.bankpro.account.service.repository;
+
+import com.bankpro.account.service.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for {@link OutboxEvent} rows.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Reads events after a feed position in id order.
+     *
+     * @param afterId  last position already consumed
+     * @param pageable page size
+     * @return the next events
+     */
+    List<OutboxEvent> findByIdGreaterThanOrderById(long afterId, Pageable pageable);
+
+    /**
+     * Returns the newest feed position, or 0 when the outbox is empty.
+     *
+     * @return the maximum event id
+     */
+    @Query("select coalesce(max(e.id), 0) from OutboxEvent e")
+    long findMaxId();
+}
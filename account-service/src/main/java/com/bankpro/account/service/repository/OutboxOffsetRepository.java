@@ -0,0 +1,28 @@
+package com.bankpro.account.service.repository;
+
+import com.bankpro.account.service.entity.OutboxOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for {@link OutboxOffset} rows.
+ */
+@Repository
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffset, String> {
+
+    /**
+     * Loads a relay position and locks it until the transaction ends.
+     *
+     * @param name name of the relay
+     * @return the position, if the relay has run before
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from OutboxOffset o where o.name = :name")
+    Optional<OutboxOffset> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,18 @@
+package com.bankpro.account.service.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a recent debit together with the owning customer, used to warm velocity counters.
+ */
+public interface RecentDebitView {
+
+    Long getAccountId();
+
+    Long getCustomerId();
+
+    BigDecimal getAmount();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,99 @@
+package com.bankpro.account.service.repository.segment;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Constants and primitive encodings shared by {@link SegmentWriter} and {@link SegmentReader}.
+ * <p>
+ * File layout (all multi-byte integers big-endian):
+ * <pre>
+ * header : magic(int) version(int)
+ * blocks : deflated column blocks, back to back
+ * footer : blockCount(int)
+ *          per block   : offset(long) compressedLength(int) rawLength(int) rows(int)
+ *                        firstAccountId(long) lastAccountId(long)
+ *          accountCount(int)
+ *          per account : accountId(long) minCreatedAt(long) maxCreatedAt(long)
+ *                        firstBlock(int) lastBlock(int)
+ *          minCreatedAt(long) maxCreatedAt(long)
+ * trailer: footerOffset(long) magic(int)
+ * </pre>
+ * Rows are sorted by (accountId, createdAt, id). Inside a block every column is stored
+ * contiguously; numeric columns are zig-zag varints, with account id, timestamp and id delta-encoded.
+ */
+final class SegmentFormat {
+
+    static final int MAGIC = 0x42505347; // "BPSG"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int TRAILER_BYTES = 12;
+
+    static final byte CREDIT = 0;
+    static final byte DEBIT = 1;
+
+    /**
+     * Stored in place of a missing amount (e.g. no running balance on split-balance credits).
+     */
+    static final long NULL_AMOUNT = Long.MIN_VALUE;
+
+    private SegmentFormat() {
+        // prevent instantiation
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long v = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            v |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * Writes a nullable string as varint(length + 1) followed by UTF-8 bytes; 0 encodes {@code null}.
+     */
+    static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static long toEpochMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static LocalDateTime fromEpochMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,243 @@
+package com.bankpro.account.service.repository.segment;
+
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.enums.TransactionType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.bankpro.account.service.repository.segment.SegmentFormat.*;
+
+/**
+ * Read-only view of one segment file written by {@link SegmentWriter}.
+ * <p>
+ * The file is memory-mapped once; only the footer (block directory and per-account
+ * min/max index) is decoded eagerly into primitive arrays. A lookup binary-searches the
+ * account index, skips the segment entirely when the time range does not overlap, and
+ * inflates only the blocks that hold rows of that account. Instances are thread-safe.
+ */
+public final class SegmentReader {
+
+    private final Path path;
+    private final MappedByteBuffer data;
+
+    private final long[] blockOffsets;
+    private final int[] blockCompressedLengths;
+    private final int[] blockRawLengths;
+    private final int[] blockRows;
+
+    private final long[] accountIds;
+    private final long[] accountMinCreatedAt;
+    private final long[] accountMaxCreatedAt;
+    private final int[] accountFirstBlock;
+    private final int[] accountLastBlock;
+
+    private final long minCreatedAt;
+    private final long maxCreatedAt;
+
+    private SegmentReader(Path path, MappedByteBuffer data) throws IOException {
+        this.path = path;
+        this.data = data;
+
+        int size = data.capacity();
+        if (size < HEADER_BYTES + TRAILER_BYTES
+                || data.getInt(0) != MAGIC
+                || data.getInt(size - 4) != MAGIC
+                || data.getInt(4) != VERSION) {
+            throw new IOException("Not a valid segment file: " + path);
+        }
+
+        int footerOffset = (int) data.getLong(size - TRAILER_BYTES);
+        ByteBuffer footer = data.slice(footerOffset, size - TRAILER_BYTES - footerOffset);
+
+        int blockCount = footer.getInt();
+        blockOffsets = new long[blockCount];
+        blockCompressedLengths = new int[blockCount];
+        blockRawLengths = new int[blockCount];
+        blockRows = new int[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blockOffsets[i] = footer.getLong();
+            blockCompressedLengths[i] = footer.getInt();
+            blockRawLengths[i] = footer.getInt();
+            blockRows[i] = footer.getInt();
+            footer.getLong(); // first account id, informational
+            footer.getLong(); // last account id, informational
+        }
+
+        int accountCount = footer.getInt();
+        accountIds = new long[accountCount];
+        accountMinCreatedAt = new long[accountCount];
+        accountMaxCreatedAt = new long[accountCount];
+        accountFirstBlock = new int[accountCount];
+        accountLastBlock = new int[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accountIds[i] = footer.getLong();
+            accountMinCreatedAt[i] = footer.getLong();
+            accountMaxCreatedAt[i] = footer.getLong();
+            accountFirstBlock[i] = footer.getInt();
+            accountLastBlock[i] = footer.getInt();
+        }
+
+        minCreatedAt = footer.getLong();
+        maxCreatedAt = footer.getLong();
+    }
+
+    /**
+     * Memory-maps and indexes a segment file.
+     *
+     * @param path segment file
+     * @return an open reader
+     * @throws IOException if the file cannot be read or is not a segment
+     */
+    public static SegmentReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new SegmentReader(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns all rows of an account whose timestamp lies in {@code [fromMillis, toMillis]}.
+     *
+     * @param accountId  account id
+     * @param fromMillis lower bound, epoch millis UTC, inclusive
+     * @param toMillis   upper bound, epoch millis UTC, inclusive
+     * @return matching rows in (createdAt, id) order; empty if none
+     */
+    public List<AccountTransaction> read(long accountId, long fromMillis, long toMillis) {
+        int slot = Arrays.binarySearch(accountIds, accountId);
+        if (slot < 0 || accountMaxCreatedAt[slot] < fromMillis || accountMinCreatedAt[slot] > toMillis) {
+            return List.of();
+        }
+
+        List<AccountTransaction> result = new ArrayList<>();
+        for (int block = accountFirstBlock[slot]; block <= accountLastBlock[slot]; block++) {
+            decodeBlock(block, accountId, fromMillis, toMillis, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return path of the underlying file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return oldest row timestamp in this segment, epoch millis UTC
+     */
+    public long getMinCreatedAt() {
+        return minCreatedAt;
+    }
+
+    /**
+     * @return newest row timestamp in this segment, epoch millis UTC
+     */
+    public long getMaxCreatedAt() {
+        return maxCreatedAt;
+    }
+
+    /**
+     * @return total number of rows in this segment
+     */
+    public long getRowCount() {
+        long rows = 0;
+        for (int count : blockRows) {
+            rows += count;
+        }
+        return rows;
+    }
+
+    private void decodeBlock(int block, long accountId, long fromMillis, long toMillis,
+                             List<AccountTransaction> out) {
+        ByteBuffer in = ByteBuffer.wrap(inflate(block));
+        int rows = blockRows[block];
+
+        long[] accounts = new long[rows];
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            previous += readVarLong(in);
+            accounts[i] = previous;
+        }
+        long[] timestamps = new long[rows];
+        previous = 0;
+        for (int i = 0; i < rows; i++) {
+            previous += readVarLong(in);
+            timestamps[i] = previous;
+        }
+        long[] ids = new long[rows];
+        previous = 0;
+        for (int i = 0; i < rows; i++) {
+            previous += readVarLong(in);
+            ids[i] = previous;
+        }
+        byte[] types = new byte[rows];
+        in.get(types);
+        long[] amounts = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            amounts[i] = readVarLong(in);
+        }
+        long[] balances = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            balances[i] = readVarLong(in);
+        }
+        String[] counterparties = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            counterparties[i] = readString(in);
+        }
+        String[] batchIds = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            batchIds[i] = readString(in);
+        }
+
+        for (int i = 0; i < rows; i++) {
+            if (accounts[i] != accountId || timestamps[i] < fromMillis || timestamps[i] > toMillis) {
+                continue;
+            }
+            out.add(AccountTransaction.builder()
+                    .id(ids[i])
+                    .accountId(accounts[i])
+                    .type(types[i] == CREDIT ? TransactionType.CREDIT : TransactionType.DEBIT)
+                    .amount(BigDecimal.valueOf(amounts[i], 2))
+                    .balanceAfter(balances[i] == NULL_AMOUNT ? null : BigDecimal.valueOf(balances[i], 2))
+                    .counterparty(counterparties[i])
+                    .batchId(batchIds[i])
+                    .createdAt(fromEpochMillis(timestamps[i]))
+                    .build());
+        }
+    }
+
+    private byte[] inflate(int block) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data.slice((int) blockOffsets[block], blockCompressedLengths[block]));
+            byte[] raw = new byte[blockRawLengths[block]];
+            int filled = 0;
+            while (filled < raw.length) {
+                int n = inflater.inflate(raw, filled, raw.length - filled);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                filled += n;
+            }
+            if (filled != raw.length) {
+                throw new IllegalStateException("Truncated block " + block + " in segment " + path);
+            }
+            return raw;
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Corrupt block " + block + " in segment " + path, ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.bankpro.account.service.repository.segment;
+
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.enums.TransactionType;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static com.bankpro.account.service.repository.segment.SegmentFormat.*;
+
+/**
+ * Writes immutable, compressed, column-oriented transaction segment files.
+ * The format is described in {@link SegmentFormat}.
+ */
+public final class SegmentWriter {
+
+    /**
+     * Sort order required inside a segment.
+     */
+    public static final Comparator<AccountTransaction> SEGMENT_ORDER = Comparator
+            .comparing(AccountTransaction::getAccountId)
+            .thenComparing(AccountTransaction::getCreatedAt)
+            .thenComparing(AccountTransaction::getId);
+
+    private SegmentWriter() {
+        // prevent instantiation
+    }
+
+    /**
+     * Writes the rows to {@code target}. The file is first written under a temporary name,
+     * synced and then atomically renamed, so a visible segment is always complete.
+     *
+     * @param target    final path of the segment
+     * @param rows      rows to store; sorted in place into {@link #SEGMENT_ORDER}
+     * @param blockRows maximum rows per compressed block (granularity of the sparse index)
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path target, List<AccountTransaction> rows, int blockRows) throws IOException {
+        rows.sort(SEGMENT_ORDER);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        List<long[]> blocks = new ArrayList<>();
+        List<long[]> accounts = new ArrayList<>();
+        long segmentMin = Long.MAX_VALUE;
+        long segmentMax = Long.MIN_VALUE;
+
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            long offset = HEADER_BYTES;
+
+            for (int from = 0; from < rows.size(); from += blockRows) {
+                int to = Math.min(from + blockRows, rows.size());
+                byte[] raw = encodeBlock(rows, from, to);
+                byte[] compressed = deflate(raw);
+                out.write(compressed);
+
+                int blockIndex = blocks.size();
+                blocks.add(new long[]{offset, compressed.length, raw.length, to - from,
+                        rows.get(from).getAccountId(), rows.get(to - 1).getAccountId()});
+                offset += compressed.length;
+
+                for (int i = from; i < to; i++) {
+                    AccountTransaction row = rows.get(i);
+                    long ts = toEpochMillis(row.getCreatedAt());
+                    segmentMin = Math.min(segmentMin, ts);
+                    segmentMax = Math.max(segmentMax, ts);
+
+                    long[] last = accounts.isEmpty() ? null : accounts.get(accounts.size() - 1);
+                    if (last == null || last[0] != row.getAccountId()) {
+                        accounts.add(new long[]{row.getAccountId(), ts, ts, blockIndex, blockIndex});
+                    } else {
+                        last[1] = Math.min(last[1], ts);
+                        last[2] = Math.max(last[2], ts);
+                        last[4] = blockIndex;
+                    }
+                }
+            }
+
+            long footerOffset = offset;
+            out.writeInt(blocks.size());
+            for (long[] block : blocks) {
+                out.writeLong(block[0]);
+                out.writeInt((int) block[1]);
+                out.writeInt((int) block[2]);
+                out.writeInt((int) block[3]);
+                out.writeLong(block[4]);
+                out.writeLong(block[5]);
+            }
+            out.writeInt(accounts.size());
+            for (long[] account : accounts) {
+                out.writeLong(account[0]);
+                out.writeLong(account[1]);
+                out.writeLong(account[2]);
+                out.writeInt((int) account[3]);
+                out.writeInt((int) account[4]);
+            }
+            out.writeLong(segmentMin);
+            out.writeLong(segmentMax);
+            out.writeLong(footerOffset);
+            out.writeInt(MAGIC);
+            out.flush();
+        }
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] encodeBlock(List<AccountTransaction> rows, int from, int to) {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream((to - from) * 48);
+
+        long previous = 0;
+        for (int i = from; i < to; i++) {
+            long accountId = rows.get(i).getAccountId();
+            writeVarLong(raw, accountId - previous);
+            previous = accountId;
+        }
+        previous = 0;
+        for (int i = from; i < to; i++) {
+            long ts = toEpochMillis(rows.get(i).getCreatedAt());
+            writeVarLong(raw, ts - previous);
+            previous = ts;
+        }
+        previous = 0;
+        for (int i = from; i < to; i++) {
+            long id = rows.get(i).getId();
+            writeVarLong(raw, id - previous);
+            previous = id;
+        }
+        for (int i = from; i < to; i++) {
+            raw.write(rows.get(i).getType() == TransactionType.CREDIT ? CREDIT : DEBIT);
+        }
+        for (int i = from; i < to; i++) {
+            writeVarLong(raw, unscaled(rows.get(i).getAmount()));
+        }
+        for (int i = from; i < to; i++) {
+            writeVarLong(raw, unscaled(rows.get(i).getBalanceAfter()));
+        }
+        for (int i = from; i < to; i++) {
+            writeString(raw, rows.get(i).getCounterparty());
+        }
+        for (int i = from; i < to; i++) {
+            writeString(raw, rows.get(i).getBatchId());
+        }
+        return raw.toByteArray();
+    }
+
+    private static long unscaled(BigDecimal amount) {
+        return amount == null ? NULL_AMOUNT : amount.setScale(2).unscaledValue().longValueExact();
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
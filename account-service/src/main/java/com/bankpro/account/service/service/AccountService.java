@@ -0,0 +1,54 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.AccountDTO;
+import com.bankpro.account.service.dto.BalanceDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for account reads and account maintenance.
+ */
+public interface AccountService {
+
+    /**
+     * Lists all accounts owned by a customer.
+     *
+     * @param customerId the owning customer id
+     * @return the customer's accounts
+     */
+    List<AccountDTO> getAccountsByCustomer(Long customerId);
+
+    /**
+     * Returns the total balance of an account.
+     *
+     * @param accountNumber the account number
+     * @return balance details
+     */
+    BalanceDTO getBalance(String accountNumber);
+
+    /**
+     * Computes the ETag of a customer's account list from row versions only.
+     *
+     * @param customerId owning customer id
+     * @return an opaque tag that changes whenever the account list would
+     */
+    String getAccountsETag(Long customerId);
+
+    /**
+     * Computes the ETag of an account balance from row versions only.
+     *
+     * @param accountNumber account to read
+     * @return an opaque tag that changes whenever the balance would
+     * @throws com.bankpro.account.service.exception.ResourceNotFoundException if the account does not exist
+     */
+    String getBalanceETag(String accountNumber);
+
+    /**
+     * Switches a high fan-in account to split-balance mode.
+     *
+     * @param accountNumber the account number
+     * @param shards        number of sub-balances to spread credits over
+     * @return balance details after the switch
+     */
+    BalanceDTO enableSplitBalance(String accountNumber, int shards);
+}
@@ -0,0 +1,252 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.enums.SummaryPeriod;
+import com.bankpro.account.service.enums.TransactionType;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.ActivitySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Folds freshly posted journal entries into the daily and monthly activity summaries.
+ * <p>
+ * Entries are first collapsed in memory per (account, period) so that a batch touching
+ * the same account many times costs one upsert per summary row, not one per entry.
+ * Normally the upserts run inside the posting transaction, whose account row locks serialize
+ * updates to the same rows. Entries of split-balance accounts are credited without that lock,
+ * so their deltas are queued after commit and flushed in micro-batches instead; otherwise the
+ * summary row would become the new single-row hotspot. Queued deltas lost on a crash are
+ * restored by a summary rebuild.
+ * <p>
+ * A rebuild re-aggregates the journal, which already contains the entries behind any delta
+ * still queued, so it reports the newest journal id it counted per split-balance account
+ * through {@link #markRebuilt}. Until the rebuild's transaction completes, deltas whose entries
+ * are all at or below that id are held back, whether they are queued at that moment, arrive
+ * late from an earlier commit, or are in a flush that was waiting for the rebuild's locks.
+ * Once the rebuild commits they are dropped, as are later arrivals at or below the id; if it
+ * rolls back they are queued again.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivitySummaryRecorder {
+
+    private final ActivitySummaryRepository summaryRepo;
+    private final AccountRepository accountRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Key, Delta> deferred = new ConcurrentHashMap<>();
+
+    /**
+     * Newest journal id included by the last summary rebuild, per split-balance account.
+     */
+    private final ConcurrentHashMap<Long, Long> rebuiltThrough = new ConcurrentHashMap<>();
+
+    /**
+     * Rebuild still in its transaction, per split-balance account.
+     */
+    private final ConcurrentHashMap<Long, PendingRebuild> pendingRebuilds = new ConcurrentHashMap<>();
+
+    /**
+     * Applies the given entries to the summaries.
+     *
+     * @param entries           journal entries posted in the current transaction
+     * @param deferredAccountIds accounts whose entries are queued for the next flush instead
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(List<AccountTransaction> entries, Set<Long> deferredAccountIds) {
+        Map<Key, Delta> immediate = new LinkedHashMap<>();
+        Map<Key, Delta> later = new HashMap<>();
+
+        for (AccountTransaction entry : entries) {
+            Map<Key, Delta> target = deferredAccountIds.contains(entry.getAccountId()) ? later : immediate;
+            LocalDate day = entry.getCreatedAt().toLocalDate();
+            for (SummaryPeriod period : SummaryPeriod.values()) {
+                target.merge(new Key(entry.getAccountId(), period, period.startOf(day)),
+                        Delta.of(entry), Delta::plus);
+            }
+        }
+
+        immediate.forEach(this::apply);
+
+        if (!later.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    later.forEach(ActivitySummaryRecorder.this::defer);
+                }
+            });
+        }
+    }
+
+    /**
+     * Records that a summary rebuild has counted the journal of the given accounts up to
+     * {@code lastEntryId}. Their queued deltas are held back until the rebuild's transaction
+     * completes, then dropped after commit or queued again after a rollback. Must be called
+     * inside that transaction while it holds the write locks on the accounts and their balance
+     * shards, so no posting to them can commit until the rebuilt rows do.
+     *
+     * @param accountIds  split-balance accounts of the rebuilt range
+     * @param lastEntryId newest journal id visible to the rebuild
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markRebuilt(Set<Long> accountIds, long lastEntryId) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        PendingRebuild pending = new PendingRebuild(lastEntryId);
+        accountIds.forEach(id -> pendingRebuilds.put(id, pending));
+        for (Key key : deferred.keySet()) {
+            if (accountIds.contains(key.accountId())) {
+                Delta delta = deferred.remove(key);
+                if (delta != null) {
+                    defer(key, delta);
+                }
+            }
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accountIds.forEach(id -> rebuiltThrough.merge(id, lastEntryId, Math::max));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                Map<Key, Delta> held = pending.release();
+                accountIds.forEach(id -> pendingRebuilds.remove(id, pending));
+                if (status != STATUS_COMMITTED) {
+                    held.forEach(ActivitySummaryRecorder.this::defer);
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes all queued deltas in one transaction. The accounts are locked first, so a flush
+     * that overlaps a rebuild of them waits for it and then skips, or holds back until the
+     * rebuild's outcome is known, what it has counted.
+     */
+    @Scheduled(fixedDelayString = "${app.summary.deferred-flush-ms:1000}")
+    public void flushDeferred() {
+        if (deferred.isEmpty()) {
+            return;
+        }
+        Map<Key, Delta> batch = new TreeMap<>(Comparator.comparing(Key::accountId)
+                .thenComparing(Key::period)
+                .thenComparing(Key::periodStart));
+        for (Key key : deferred.keySet()) {
+            Delta delta = deferred.remove(key);
+            if (delta != null) {
+                batch.put(key, delta);
+            }
+        }
+        Set<Long> accountIds = new TreeSet<>();
+        batch.keySet().forEach(key -> accountIds.add(key.accountId()));
+        transactionTemplate.executeWithoutResult(status -> {
+            accountRepo.lockIds(accountIds);
+            batch.forEach((key, delta) -> {
+                if (!isRebuilt(key, delta) && !holdForRebuild(key, delta)) {
+                    apply(key, delta);
+                }
+            });
+        });
+    }
+
+    private void defer(Key key, Delta delta) {
+        if (holdForRebuild(key, delta)) {
+            return;
+        }
+        deferred.compute(key, (k, queued) -> {
+            if (isRebuilt(k, delta)) {
+                return queued;
+            }
+            return queued == null ? delta : queued.plus(delta);
+        });
+    }
+
+    private boolean isRebuilt(Key key, Delta delta) {
+        Long through = rebuiltThrough.get(key.accountId());
+        return through != null && delta.lastEntryId() <= through;
+    }
+
+    /**
+     * Hands the delta to a rebuild still in its transaction that has counted it.
+     *
+     * @return false when no such rebuild exists, or it completed meanwhile
+     */
+    private boolean holdForRebuild(Key key, Delta delta) {
+        PendingRebuild pending = pendingRebuilds.get(key.accountId());
+        return pending != null && delta.lastEntryId() <= pending.lastEntryId() && pending.hold(key, delta);
+    }
+
+    private void apply(Key key, Delta delta) {
+        summaryRepo.increment(key.accountId(), key.period().name(), key.periodStart(),
+                delta.totalIn(), delta.totalOut(), delta.creditCount(), delta.debitCount());
+    }
+
+    private record Key(Long accountId, SummaryPeriod period, LocalDate periodStart) {
+    }
+
+    /**
+     * Deltas a rebuild has counted, kept until its transaction completes.
+     */
+    private static final class PendingRebuild {
+
+        private final long lastEntryId;
+        private final Map<Key, Delta> held = new HashMap<>();
+        private boolean released;
+
+        private PendingRebuild(long lastEntryId) {
+            this.lastEntryId = lastEntryId;
+        }
+
+        long lastEntryId() {
+            return lastEntryId;
+        }
+
+        synchronized boolean hold(Key key, Delta delta) {
+            if (released) {
+                return false;
+            }
+            held.merge(key, delta, Delta::plus);
+            return true;
+        }
+
+        synchronized Map<Key, Delta> release() {
+            released = true;
+            return held;
+        }
+    }
+
+    /**
+     * Summed change to one summary row; {@code lastEntryId} is the newest journal id folded in.
+     */
+    private record Delta(BigDecimal totalIn, BigDecimal totalOut, long creditCount, long debitCount,
+                         long lastEntryId) {
+
+        private static Delta of(AccountTransaction entry) {
+            long id = entry.getId() == null ? 0 : entry.getId();
+            return entry.getType() == TransactionType.CREDIT
+                    ? new Delta(entry.getAmount(), BigDecimal.ZERO, 1, 0, id)
+                    : new Delta(BigDecimal.ZERO, entry.getAmount(), 0, 1, id);
+        }
+
+        private Delta plus(Delta other) {
+            return new Delta(totalIn.add(other.totalIn), totalOut.add(other.totalOut),
+                    creditCount + other.creditCount, debitCount + other.debitCount,
+                    Math.max(lastEntryId, other.lastEntryId));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.ActivitySummaryDTO;
+import com.bankpro.account.service.dto.SummaryRebuildResultDTO;
+import com.bankpro.account.service.enums.SummaryPeriod;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for reading and rebuilding per-account activity summaries.
+ */
+public interface ActivitySummaryService {
+
+    /**
+     * Returns the in/out totals of an account for the period containing the given date.
+     *
+     * @param accountNumber the account number
+     * @param period        day or month
+     * @param date          any date inside the requested period
+     * @return the summary, with zero totals when there was no activity
+     */
+    ActivitySummaryDTO getSummary(String accountNumber, SummaryPeriod period, LocalDate date);
+
+    /**
+     * Recomputes all summaries from the transaction journal, processing account id ranges in parallel.
+     *
+     * @return statistics about the rebuild
+     */
+    SummaryRebuildResultDTO rebuild();
+}
@@ -0,0 +1,168 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.TransferLegDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.enums.AccountStatus;
+import com.bankpro.account.service.exception.ForbiddenException;
+import com.bankpro.account.service.exception.ResourceNotFoundException;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Pre-posting validation of batch transfers.
+ * <p>
+ * Every distinct source and target account is checked in its own virtual thread
+ * (ownership, account status, per-transaction limit and available balance for the sum of its debits).
+ * The checks run as one scope: the first hard failure cancels the remaining checks
+ * and is rethrown to the caller, and no check outlives the call.
+ * </p>
+ * Validation runs without locks; {@link LedgerPoster} re-verifies ownership, limits, balances
+ * and statuses under row locks before anything is written.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceValidator {
+
+    private final AccountRepository accountRepo;
+    private final SplitBalanceManager splitBalances;
+
+    /**
+     * Upper bound on checks hitting the database at the same time,
+     * so a large batch cannot drain the connection pool.
+     */
+    @Value("${app.transfer.validation.max-concurrency:32}")
+    private int maxConcurrency;
+
+    /**
+     * Validates all legs concurrently, failing fast on the first violation.
+     *
+     * @param legs       legs of the batch
+     * @param customerId the caller, who must own every source account
+     * @throws ResourceNotFoundException if an account does not exist
+     * @throws ForbiddenException        if a source account belongs to another customer
+     * @throws TransferRejectedException if a status, limit or balance check fails
+     */
+    public void validate(List<TransferLegDTO> legs, Long customerId) {
+        Map<String, List<TransferLegDTO>> debitsBySource = new LinkedHashMap<>();
+        Set<String> targets = new LinkedHashSet<>();
+
+        for (TransferLegDTO leg : legs) {
+            if (leg.getSourceAccount().equals(leg.getTargetAccount())) {
+                throw new TransferRejectedException("Source and target account must differ: " + leg.getSourceAccount());
+            }
+            debitsBySource.computeIfAbsent(leg.getSourceAccount(), k -> new ArrayList<>()).add(leg);
+            targets.add(leg.getTargetAccount());
+        }
+
+        List<Callable<Void>> checks = new ArrayList<>(debitsBySource.size() + targets.size());
+        debitsBySource.forEach((source, debits) -> checks.add(() -> {
+            checkSource(source, debits, customerId);
+            return null;
+        }));
+        targets.forEach(target -> checks.add(() -> {
+            checkTarget(target);
+            return null;
+        }));
+
+        log.debug("Validating {} legs with {} concurrent checks", legs.size(), checks.size());
+        runFailFast(checks);
+    }
+
+    /**
+     * Runs all checks on virtual threads and waits for them.
+     * On the first failure the remaining checks are interrupted, awaited and the failure is rethrown.
+     */
+    private void runFailFast(List<Callable<Void>> checks) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+
+            for (Callable<Void> check : checks) {
+                completion.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return check.call();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+
+            for (int i = 0; i < checks.size(); i++) {
+                try {
+                    completion.take().get();
+                } catch (ExecutionException ex) {
+                    executor.shutdownNow();
+                    if (ex.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw new IllegalStateException("Balance validation failed", ex.getCause());
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Balance validation interrupted", ex);
+        }
+    }
+
+    /**
+     * Verifies that a source account belongs to the caller, is active, that no debit
+     * exceeds its limit and that the balance covers the sum of all its debits in the batch.
+     * Ownership is checked first so the other checks reveal nothing about foreign accounts.
+     */
+    private void checkSource(String accountNumber, List<TransferLegDTO> debits, Long customerId) {
+        Account account = accountRepo.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Source account not found: " + accountNumber));
+        requireOwner(account, customerId);
+        requireActive(account);
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (TransferLegDTO debit : debits) {
+            if (account.getTransactionLimit() != null
+                    && debit.getAmount().compareTo(account.getTransactionLimit()) > 0) {
+                throw new TransferRejectedException(
+                        "Amount " + debit.getAmount() + " exceeds transaction limit of account " + accountNumber);
+            }
+            total = total.add(debit.getAmount());
+        }
+
+        if (splitBalances.availableBalance(account).compareTo(total) < 0) {
+            throw new TransferRejectedException("Insufficient funds in account " + accountNumber);
+        }
+    }
+
+    /**
+     * Verifies that a target account exists and can receive credits.
+     */
+    private void checkTarget(String accountNumber) {
+        Account account = accountRepo.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Target account not found: " + accountNumber));
+        requireActive(account);
+    }
+
+    /**
+     * @throws ForbiddenException if the account belongs to another customer
+     */
+    static void requireOwner(Account account, Long customerId) {
+        if (!account.getCustomerId().equals(customerId)) {
+            throw new ForbiddenException("Account " + account.getAccountNumber() + " does not belong to the caller");
+        }
+    }
+
+    private static void requireActive(Account account) {
+        if (account.getStatus() != AccountStatus.ACTIVE) {
+            throw new TransferRejectedException(
+                    "Account " + account.getAccountNumber() + " is " + account.getStatus());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.EventFeedDTO;
+
+/**
+ * Service interface for reading the outbox as an event feed.
+ */
+public interface EventFeedService {
+
+    /**
+     * Returns events after a feed position.
+     *
+     * @param afterId last position the consumer has applied
+     * @param limit   maximum number of events
+     * @return the next events and the current head position
+     */
+    EventFeedDTO getEvents(long afterId, int limit);
+}
@@ -0,0 +1,175 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.BatchTransferResponseDTO;
+import com.bankpro.account.service.dto.TransferLegDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.enums.AccountStatus;
+import com.bankpro.account.service.enums.TransactionType;
+import com.bankpro.account.service.exception.ResourceNotFoundException;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Applies transfer legs to account balances and writes the matching journal entries,
+ * outbox events and activity summary increments in a single database transaction.
+ * Connected clients are notified once that transaction commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerPoster {
+
+    private final AccountRepository accountRepo;
+    private final AccountTransactionRepository transactionRepo;
+    private final ActivitySummaryRecorder summaryRecorder;
+    private final VelocityLimiter velocityLimiter;
+    private final SplitBalanceManager splitBalances;
+    private final OutboxPublisher outboxPublisher;
+    private final LiveUpdateHub liveUpdates;
+
+    /**
+     * Posts all legs atomically. Every involved account is write-locked up front,
+     * then ownership, limits, balances and statuses are re-checked because they may have
+     * changed since validation, and every debit is counted against the velocity limits.
+     * <p>
+     * Split-balance accounts that are only credited in this batch are not locked; their credits
+     * are summed per account and applied to a single shard each at the end.
+     *
+     * @param legs       legs to post
+     * @param customerId the caller, who must own every source account
+     * @return summary of the posted batch
+     */
+    @Transactional
+    public BatchTransferResponseDTO post(List<TransferLegDTO> legs, Long customerId) {
+        String batchId = UUID.randomUUID().toString();
+
+        Set<String> sources = new HashSet<>();
+        Set<String> targets = new HashSet<>();
+        for (TransferLegDTO leg : legs) {
+            sources.add(leg.getSourceAccount());
+            targets.add(leg.getTargetAccount());
+        }
+
+        Set<String> shardCredited = new HashSet<>(accountRepo.findSplitBalanceNumbers(targets));
+        shardCredited.removeAll(sources);
+
+        Set<String> toLock = new HashSet<>(sources);
+        toLock.addAll(targets);
+        toLock.removeAll(shardCredited);
+
+        Map<String, Account> accounts = new HashMap<>();
+        accountRepo.findAllForUpdate(toLock).forEach(a -> accounts.put(a.getAccountNumber(), a));
+        if (!shardCredited.isEmpty()) {
+            accountRepo.findAllByAccountNumberIn(shardCredited).forEach(a -> accounts.put(a.getAccountNumber(), a));
+        }
+
+        List<VelocityLimiter.Reservation> reservations = new ArrayList<>(legs.size());
+        cancelOnRollback(reservations);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AccountTransaction> journal = new ArrayList<>(legs.size() * 2);
+        Map<Account, BigDecimal> shardCredits = new TreeMap<>(Comparator.comparing(Account::getId));
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (TransferLegDTO leg : legs) {
+            Account source = activeAccount(accounts, leg.getSourceAccount());
+            Account target = activeAccount(accounts, leg.getTargetAccount());
+            BigDecimal amount = leg.getAmount();
+            BalanceValidator.requireOwner(source, customerId);
+            if (source.getTransactionLimit() != null && amount.compareTo(source.getTransactionLimit()) > 0) {
+                throw new TransferRejectedException(
+                        "Amount " + amount + " exceeds transaction limit of account " + source.getAccountNumber());
+            }
+
+            if (source.isSplitBalance()) {
+                splitBalances.debit(source, amount);
+            } else if (source.getBalance().compareTo(amount) < 0) {
+                throw new TransferRejectedException("Insufficient funds in account " + source.getAccountNumber());
+            } else {
+                source.setBalance(source.getBalance().subtract(amount));
+            }
+            reservations.add(velocityLimiter.reserve(source, amount));
+            journal.add(entry(source, TransactionType.DEBIT, amount, source.getBalance(),
+                    target.getAccountNumber(), batchId, now));
+
+            if (shardCredited.contains(target.getAccountNumber())) {
+                shardCredits.merge(target, amount, BigDecimal::add);
+                journal.add(entry(target, TransactionType.CREDIT, amount, null,
+                        source.getAccountNumber(), batchId, now));
+            } else {
+                target.setBalance(target.getBalance().add(amount));
+                journal.add(entry(target, TransactionType.CREDIT, amount, target.getBalance(),
+                        source.getAccountNumber(), batchId, now));
+            }
+            total = total.add(amount);
+        }
+
+        splitBalances.credit(shardCredits);
+        transactionRepo.saveAll(journal);
+        Map<Long, Account> accountsById = accounts.values().stream()
+                .collect(Collectors.toMap(Account::getId, a -> a));
+        outboxPublisher.transactionsPosted(journal, accountsById);
+        liveUpdates.publishAfterCommit(journal, accountsById);
+        summaryRecorder.record(journal, shardCredits.keySet().stream().map(Account::getId).collect(Collectors.toSet()));
+        log.info("Posted batch {} with {} legs", batchId, legs.size());
+
+        return BatchTransferResponseDTO.builder()
+                .batchId(batchId)
+                .legCount(legs.size())
+                .totalAmount(total)
+                .build();
+    }
+
+    /**
+     * Velocity counters are updated as legs are applied; if the transaction does not commit,
+     * every debit counted so far is taken back.
+     */
+    private static void cancelOnRollback(List<VelocityLimiter.Reservation> reservations) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    reservations.forEach(VelocityLimiter.Reservation::cancel);
+                }
+            }
+        });
+    }
+
+    private static Account activeAccount(Map<String, Account> accounts, String accountNumber) {
+        Account account = accounts.get(accountNumber);
+        if (account == null) {
+            throw new ResourceNotFoundException("Account not found: " + accountNumber);
+        }
+        if (account.getStatus() != AccountStatus.ACTIVE) {
+            throw new TransferRejectedException("Account " + accountNumber + " is " + account.getStatus());
+        }
+        return account;
+    }
+
+    private static AccountTransaction entry(Account account, TransactionType type, BigDecimal amount,
+                                            BigDecimal balanceAfter, String counterparty, String batchId,
+                                            LocalDateTime createdAt) {
+        return AccountTransaction.builder()
+                .accountId(account.getId())
+                .type(type)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .counterparty(counterparty)
+                .batchId(batchId)
+                .createdAt(createdAt)
+                .build();
+    }
+}
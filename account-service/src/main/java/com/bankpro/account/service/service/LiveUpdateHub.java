@@ -0,0 +1,311 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.config.LiveUpdateProperties;
+import com.bankpro.account.service.dto.BalanceDTO;
+import com.bankpro.account.service.dto.TransactionDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.exception.ForbiddenException;
+import com.bankpro.account.service.exception.SubscriptionRejectedException;
+import com.bankpro.account.service.util.JwtVerifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes balance changes and new transactions to connected customers over server-sent events.
+ * <p>
+ * An idle stream costs an async servlet request plus one parked virtual thread, so a large
+ * number of them can be held open. Each stream has a bounded queue drained by its own thread:
+ * posting never waits on a client, and a client that falls behind has its backlog dropped and
+ * is sent {@code resync}, after which it should re-read its state through the REST endpoints.
+ * <p>
+ * Events are offered after the posting transaction commits. Streams of the same customer see
+ * events in commit order only per posting; entries carry ids and balances for reconciliation.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveUpdateHub {
+
+    static final String TRANSACTION_EVENT = "transaction";
+    static final String BALANCE_EVENT = "balance";
+    static final String RESYNC_EVENT = "resync";
+
+    private static final LiveEvent HEARTBEAT = new LiveEvent(null, "heartbeat");
+
+    private final LiveUpdateProperties properties;
+
+    private final Map<Long, Deque<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    /**
+     * Opens a stream for a customer. Only the customer may subscribe, so the per-customer
+     * limit can evict nobody's streams but the caller's own. The stream is closed no later
+     * than the caller's token expires.
+     *
+     * @param customerId customer to stream updates for
+     * @param caller     the authenticated caller
+     * @return the emitter to hand back to Spring MVC
+     * @throws ForbiddenException            if the caller is not that customer
+     * @throws SubscriptionRejectedException if the service holds its maximum number of streams
+     */
+    public SseEmitter subscribe(Long customerId, JwtVerifier.Caller caller) {
+        if (!customerId.equals(caller.customerId())) {
+            throw new ForbiddenException("Live updates of customer " + customerId + " belong to another customer");
+        }
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new SubscriptionRejectedException("Too many open live update streams, retry later.");
+        }
+
+        Subscriber subscriber = new Subscriber(customerId, newEmitter(streamTimeout(caller.expiresAt())));
+        Deque<Subscriber> streams = subscribers.compute(customerId, (id, existing) -> {
+            Deque<Subscriber> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(subscriber);
+            return deque;
+        });
+        while (streams.size() > properties.getMaxSubscribersPerCustomer()) {
+            Subscriber oldest = streams.pollFirst();
+            if (oldest != null) {
+                oldest.close();
+            }
+        }
+
+        subscriber.start();
+        subscriber.offer(new LiveEvent(null, "connected"));
+        return subscriber.emitter;
+    }
+
+    /**
+     * Queues events for the given journal entries once the current transaction commits.
+     * Does nothing when none of the affected customers has an open stream.
+     *
+     * @param entries  saved journal entries
+     * @param accounts the involved accounts by id, with their balances after posting
+     */
+    public void publishAfterCommit(List<AccountTransaction> entries, Map<Long, Account> accounts) {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+
+        Map<Long, List<LiveEvent>> events = new HashMap<>();
+        Set<Long> balancesSent = new HashSet<>();
+        for (AccountTransaction entry : entries) {
+            Account account = accounts.get(entry.getAccountId());
+            if (account == null || !subscribers.containsKey(account.getCustomerId())) {
+                continue;
+            }
+            List<LiveEvent> forCustomer = events.computeIfAbsent(account.getCustomerId(), id -> new ArrayList<>());
+            forCustomer.add(new LiveEvent(TRANSACTION_EVENT, toDTO(entry, account)));
+        }
+        // Balances go after the entries; split-balance totals live in shards and are not known here
+        for (Account account : accounts.values()) {
+            List<LiveEvent> forCustomer = events.get(account.getCustomerId());
+            if (forCustomer != null && !account.isSplitBalance() && balancesSent.add(account.getId())) {
+                forCustomer.add(new LiveEvent(BALANCE_EVENT, BalanceDTO.builder()
+                        .accountNumber(account.getAccountNumber())
+                        .balance(account.getBalance())
+                        .splitBalance(false)
+                        .build()));
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(this::deliver);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(LiveUpdateHub.this::deliver);
+            }
+        });
+    }
+
+    /**
+     * Keeps idle streams alive through proxies, detects dead connections and
+     * closes streams whose writes have stalled.
+     */
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long stallNanos = properties.getStallTimeout().toNanos();
+        long now = System.nanoTime();
+        for (Deque<Subscriber> streams : subscribers.values()) {
+            for (Subscriber subscriber : streams) {
+                long started = subscriber.sendStartedNanos;
+                if (started != 0 && now - started > stallNanos) {
+                    log.info("Closing stalled live update stream of customer {}", subscriber.customerId);
+                    subscriber.close();
+                } else {
+                    subscriber.offer(HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of open streams
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Creates the emitter for a new stream; tests override it to observe writes.
+     *
+     * @param timeout how long the stream may stay open
+     */
+    SseEmitter newEmitter(Duration timeout) {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    /**
+     * The configured timeout, shortened so the stream does not outlive the token that opened it.
+     */
+    Duration streamTimeout(Instant tokenExpiry) {
+        Duration timeout = properties.getTimeout();
+        if (tokenExpiry == null) {
+            return timeout;
+        }
+        Duration remaining = Duration.between(Instant.now(), tokenExpiry);
+        if (remaining.compareTo(timeout) >= 0) {
+            return timeout;
+        }
+        return remaining.isNegative() || remaining.isZero() ? Duration.ofMillis(1) : remaining;
+    }
+
+    private void deliver(Long customerId, List<LiveEvent> events) {
+        Deque<Subscriber> streams = subscribers.get(customerId);
+        if (streams == null) {
+            return;
+        }
+        for (Subscriber subscriber : streams) {
+            for (LiveEvent event : events) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private static TransactionDTO toDTO(AccountTransaction entry, Account account) {
+        return TransactionDTO.builder()
+                .id(entry.getId())
+                .accountNumber(account.getAccountNumber())
+                .type(entry.getType())
+                .amount(entry.getAmount())
+                .balanceAfter(entry.getBalanceAfter())
+                .counterparty(entry.getCounterparty())
+                .batchId(entry.getBatchId())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * An event waiting to be written; a {@code null} name marks an SSE comment.
+     */
+    record LiveEvent(String name, Object data) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            return name == null
+                    ? SseEmitter.event().comment(String.valueOf(data))
+                    : SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * One open stream with its bounded queue and writer thread.
+     */
+    private final class Subscriber {
+
+        private final Long customerId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<LiveEvent> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private volatile long sendStartedNanos;
+        private Thread writer;
+
+        Subscriber(Long customerId, SseEmitter emitter) {
+            this.customerId = customerId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(e -> close());
+        }
+
+        void start() {
+            writer = Thread.ofVirtual().name("live-" + customerId).start(this::drain);
+        }
+
+        /**
+         * Never blocks. When the queue is full the backlog is replaced by a single resync event.
+         */
+        synchronized void offer(LiveEvent event) {
+            if (closed.get() || queue.offer(event)) {
+                return;
+            }
+            if (event == HEARTBEAT) {
+                return;
+            }
+            queue.clear();
+            queue.offer(new LiveEvent(RESYNC_EVENT, Map.of("reason", "slow consumer")));
+            log.debug("Live update stream of customer {} fell behind, backlog dropped", customerId);
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    LiveEvent event = queue.take();
+                    sendStartedNanos = System.nanoTime();
+                    emitter.send(event.toSse());
+                    sendStartedNanos = 0;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Live update stream of customer {} closed: {}", customerId, e.getMessage());
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(customerId, (id, streams) -> {
+                streams.remove(this);
+                return streams.isEmpty() ? null : streams;
+            });
+            if (writer != null && writer != Thread.currentThread()) {
+                writer.interrupt();
+            }
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // already completed by the container
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.AccountDTO;
+import com.bankpro.account.service.dto.TransactionDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.entity.OutboxEvent;
+import com.bankpro.account.service.enums.ChangeEventType;
+import com.bankpro.account.service.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes change events to the outbox as part of the caller's transaction, so an
+ * event exists if and only if the change it describes was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxRepo;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records the full state of an account. The caller must hold the locks that
+     * postings to the account take (the account row, plus its shards in split-balance
+     * mode), so the snapshot is ordered consistently with the posting events around it.
+     *
+     * @param account      the locked account
+     * @param totalBalance its total balance
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void accountSnapshot(Account account, BigDecimal totalBalance) {
+        AccountDTO payload = AccountDTO.builder()
+                .accountNumber(account.getAccountNumber())
+                .customerId(account.getCustomerId())
+                .type(account.getType())
+                .status(account.getStatus())
+                .balance(totalBalance)
+                .build();
+        outboxRepo.save(event(ChangeEventType.ACCOUNT_SNAPSHOT, account, payload, LocalDateTime.now()));
+    }
+
+    /**
+     * Records one event per saved journal entry.
+     *
+     * @param entries  journal entries with their ids assigned
+     * @param accounts the involved accounts by id
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transactionsPosted(List<AccountTransaction> entries, Map<Long, Account> accounts) {
+        List<OutboxEvent> events = new ArrayList<>(entries.size());
+        for (AccountTransaction entry : entries) {
+            Account account = accounts.get(entry.getAccountId());
+            TransactionDTO payload = TransactionDTO.builder()
+                    .id(entry.getId())
+                    .accountNumber(account.getAccountNumber())
+                    .type(entry.getType())
+                    .amount(entry.getAmount())
+                    .balanceAfter(entry.getBalanceAfter())
+                    .counterparty(entry.getCounterparty())
+                    .batchId(entry.getBatchId())
+                    .createdAt(entry.getCreatedAt())
+                    .build();
+            events.add(event(ChangeEventType.TRANSACTION_POSTED, account, payload, entry.getCreatedAt()));
+        }
+        outboxRepo.saveAll(events);
+    }
+
+    private OutboxEvent event(ChangeEventType type, Account account, Object payload, LocalDateTime createdAt) {
+        try {
+            return OutboxEvent.builder()
+                    .eventType(type)
+                    .aggregateId(account.getAccountNumber())
+                    .customerId(account.getCustomerId())
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(createdAt)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + type + " event", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.BalanceShard;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.BalanceShardRepository;
+import com.bankpro.account.service.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Seeds an empty outbox with a snapshot of every account, so consumers replaying
+ * the feed from the start know balances that predate the outbox.
+ * <p>
+ * Accounts are snapshotted range by range; each range is locked like the summary
+ * rebuild does, which orders the snapshots correctly against concurrent postings.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxSeeder {
+
+    private final AccountRepository accountRepo;
+    private final BalanceShardRepository shardRepo;
+    private final OutboxEventRepository outboxRepo;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.outbox.seed.range-size:1000}")
+    private int rangeSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        if (outboxRepo.findMaxId() > 0) {
+            return;
+        }
+        long maxId = accountRepo.findMaxId();
+        long seeded = 0;
+        for (long from = 1; from <= maxId; from += rangeSize) {
+            long fromId = from;
+            long toId = Math.min(maxId, from + rangeSize - 1);
+            Integer count = transactionTemplate.execute(status -> snapshotRange(fromId, toId));
+            seeded += count == null ? 0 : count;
+        }
+        log.info("Seeded outbox with {} account snapshots", seeded);
+    }
+
+    private int snapshotRange(long fromId, long toId) {
+        List<Long> ids = accountRepo.lockIdRange(fromId, toId);
+        for (Account account : accountRepo.findAllById(ids)) {
+            BigDecimal balance = account.getBalance();
+            if (account.isSplitBalance()) {
+                for (BalanceShard shard : shardRepo.findByAccountIdOrderByShardIndex(account.getId())) {
+                    balance = balance.add(shard.getBalance());
+                }
+            }
+            outboxPublisher.accountSnapshot(account, balance);
+        }
+        return ids.size();
+    }
+}
@@ -0,0 +1,23 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.OutboxEventDTO;
+
+import java.util.List;
+
+/**
+ * Destination the {@link OutboxRelay} delivers change events to.
+ * <p>
+ * Delivery is at least once: a batch is redelivered if the relay fails before
+ * recording it, so consumers must tolerate duplicates (the event id is a stable key).
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers a batch of events. Events arrive in feed order, which keeps the events
+     * of each account in order; sinks that partition should key by aggregate id.
+     *
+     * @param events the events, in feed order
+     * @throws RuntimeException if the batch was not (fully) delivered
+     */
+    void publish(List<OutboxEventDTO> events);
+}
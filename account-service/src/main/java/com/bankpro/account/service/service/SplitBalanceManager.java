@@ -0,0 +1,113 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.BalanceShard;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.BalanceShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Balance operations for accounts in split-balance mode.
+ * <p>
+ * Credits go to one shard picked from the posting thread, without locking the account row,
+ * so credit throughput to a hot account scales with the number of shards. A debit first uses
+ * the account row's own balance; only when that is not enough does it lock every shard and
+ * sweep them into the account row (the rare, coordinated path).
+ */
+@Component
+@RequiredArgsConstructor
+public class SplitBalanceManager {
+
+    private final BalanceShardRepository shardRepo;
+
+    /**
+     * Returns the full balance of an account, summing shards for split-balance accounts.
+     *
+     * @param account the account
+     * @return total balance
+     */
+    public BigDecimal availableBalance(Account account) {
+        if (!account.isSplitBalance()) {
+            return account.getBalance();
+        }
+        return account.getBalance().add(shardRepo.sumBalance(account.getId()));
+    }
+
+    /**
+     * Credits split-balance accounts, one shard per account.
+     *
+     * @param credits amounts per account, iterated in account id order to keep lock order stable
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(Map<Account, BigDecimal> credits) {
+        credits.forEach((account, amount) -> {
+            int shard = pickShard(account.getBalanceShards());
+            if (shardRepo.addToShard(account.getId(), shard, amount) != 1) {
+                throw new IllegalStateException("Missing balance shard " + shard + " of account "
+                        + account.getAccountNumber());
+            }
+        });
+    }
+
+    /**
+     * Debits a write-locked split-balance account, borrowing from its shards if needed.
+     *
+     * @param account the locked account
+     * @param amount  amount to debit
+     * @throws TransferRejectedException if the account and all shards together cannot cover the debit
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void debit(Account account, BigDecimal amount) {
+        BigDecimal balance = account.getBalance();
+
+        if (balance.compareTo(amount) < 0) {
+            // total the locked shards first so a rejected debit leaves every row as it was
+            List<BalanceShard> shards = shardRepo.findByAccountIdOrderByShardIndex(account.getId());
+            for (BalanceShard shard : shards) {
+                balance = balance.add(shard.getBalance());
+            }
+            if (balance.compareTo(amount) < 0) {
+                throw new TransferRejectedException("Insufficient funds in account " + account.getAccountNumber());
+            }
+            shards.forEach(shard -> shard.setBalance(BigDecimal.ZERO));
+        }
+        account.setBalance(balance.subtract(amount));
+    }
+
+    /**
+     * Switches a write-locked account to split-balance mode with the given number of empty shards.
+     *
+     * @param account the locked account
+     * @param shards  number of shards to create
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enable(Account account, int shards) {
+        List<BalanceShard> rows = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            rows.add(BalanceShard.builder()
+                    .accountId(account.getId())
+                    .shardIndex(i)
+                    .balance(BigDecimal.ZERO)
+                    .build());
+        }
+        shardRepo.saveAll(rows);
+        account.setSplitBalance(true);
+        account.setBalanceShards(shards);
+    }
+
+    /**
+     * Maps the current thread to a shard so that each worker thread tends to reuse the same row.
+     */
+    private static int pickShard(int shards) {
+        long h = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(h ^ (h >>> 32), (long) shards);
+    }
+}
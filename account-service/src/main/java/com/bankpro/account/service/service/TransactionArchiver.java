@@ -0,0 +1,118 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.ArchiveResultDTO;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import com.bankpro.account.service.repository.ColdTransactionStore;
+import com.bankpro.account.service.repository.segment.SegmentWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves journal entries older than a configurable age out of the database
+ * into segment files managed by {@link ColdTransactionStore}.
+ * <p>
+ * Each round writes and registers one segment before deleting its rows, so a row is always
+ * readable from at least one tier. A crash between the two steps leaves the rows in the
+ * database, and the next run archives them into another segment. Both copies are
+ * tolerated: {@link ColdTransactionStore#read} returns each transaction id once and the
+ * history read path drops cold rows that are still hot.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionArchiver {
+
+    private static final int DELETE_CHUNK = 1000;
+
+    private final AccountTransactionRepository transactionRepo;
+    private final ColdTransactionStore coldStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    @Value("${app.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.archive.max-age-days:365}")
+    private int maxAgeDays;
+
+    @Value("${app.archive.segment-rows:200000}")
+    private int segmentRows;
+
+    @Value("${app.archive.block-rows:1024}")
+    private int blockRows;
+
+    /**
+     * Periodic archive run; does nothing unless {@code app.archive.enabled=true}.
+     */
+    @Scheduled(cron = "${app.archive.cron:0 30 2 * * *}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    /**
+     * Archives all rows older than the configured age. Concurrent calls are serialized.
+     *
+     * @return statistics about the run
+     */
+    public ArchiveResultDTO archive() {
+        runLock.lock();
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+            int segments = 0;
+            long archived = 0;
+
+            while (true) {
+                List<AccountTransaction> rows = new ArrayList<>(transactionRepo.findByCreatedAtBefore(
+                        cutoff, PageRequest.of(0, segmentRows, Sort.by("id"))));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                Path segment = coldStore.nextSegmentPath();
+                SegmentWriter.write(segment, rows, blockRows);
+                coldStore.register(segment);
+                deleteArchived(rows);
+
+                segments++;
+                archived += rows.size();
+                log.info("Archived {} transactions into {}", rows.size(), segment.getFileName());
+            }
+
+            return ArchiveResultDTO.builder()
+                    .cutoff(cutoff)
+                    .segmentsWritten(segments)
+                    .rowsArchived(archived)
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Transaction archive run failed", ex);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private void deleteArchived(List<AccountTransaction> rows) {
+        List<Long> ids = rows.stream().map(AccountTransaction::getId).toList();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK, ids.size()));
+            transactionTemplate.executeWithoutResult(status -> transactionRepo.deleteAllByIdInBatch(chunk));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.TransactionDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for reading the transaction history of an account.
+ */
+public interface TransactionHistoryService {
+
+    /**
+     * Returns the newest transactions of an account in a time range, across database and archive.
+     *
+     * @param accountNumber the account number
+     * @param from          lower bound, inclusive
+     * @param to            upper bound, inclusive
+     * @param limit         maximum number of entries
+     * @return entries ordered newest first
+     */
+    List<TransactionDTO> getHistory(String accountNumber, LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Returns the newest transactions across all accounts of a customer.
+     *
+     * @param customerId the owning customer id
+     * @param limit      maximum number of entries
+     * @return entries ordered newest first
+     */
+    List<TransactionDTO> getRecentForCustomer(Long customerId, int limit);
+}
@@ -0,0 +1,19 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.BatchTransferRequestDTO;
+import com.bankpro.account.service.dto.BatchTransferResponseDTO;
+
+/**
+ * Service interface for moving money between accounts.
+ */
+public interface TransferService {
+
+    /**
+     * Validates and posts a batch of transfers. Either every leg is posted or none is.
+     *
+     * @param request    the batch to post
+     * @param customerId the authenticated caller, who must own every source account
+     * @return summary of the posted batch
+     */
+    BatchTransferResponseDTO batchTransfer(BatchTransferRequestDTO request, Long customerId);
+}
@@ -0,0 +1,173 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.config.VelocityProperties;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.enums.VelocityScope;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import com.bankpro.account.service.repository.RecentDebitView;
+import com.bankpro.account.service.util.SlidingWindowCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process rolling-window velocity limits on debits (e.g. at most N withdrawals or
+ * X amount per hour), counted per account or per customer.
+ * <p>
+ * Each configured rule keeps one {@link SlidingWindowCounter} per key, so checking and
+ * recording a debit is a map lookup plus a few array operations. Counters live in memory
+ * only and are replayed from the recent journal when the application starts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VelocityLimiter {
+
+    private final VelocityProperties properties;
+    private final AccountTransactionRepository transactionRepo;
+
+    private volatile List<ActiveRule> rules = List.of();
+
+    /**
+     * Builds the rule set and replays debits of the longest window from the journal.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ActiveRule> active = new ArrayList<>();
+        for (VelocityProperties.Rule rule : properties.getRules()) {
+            active.add(new ActiveRule(rule));
+        }
+
+        if (properties.isEnabled() && !active.isEmpty()) {
+            Duration longest = active.stream().map(r -> r.window).max(Duration::compareTo).orElseThrow();
+            List<RecentDebitView> debits = transactionRepo.findDebitsSince(LocalDateTime.now().minus(longest));
+            for (RecentDebitView debit : debits) {
+                long at = toMillis(debit.getCreatedAt());
+                long amount = toMinorUnits(debit.getAmount());
+                for (ActiveRule rule : active) {
+                    rule.counter(rule.key(debit.getAccountId(), debit.getCustomerId())).add(at, amount);
+                }
+            }
+            log.info("Velocity limiter loaded {} rules and replayed {} debits", active.size(), debits.size());
+        }
+
+        rules = List.copyOf(active);
+    }
+
+    /**
+     * Checks a debit against every rule and counts it if all of them allow it.
+     *
+     * @param account debited account
+     * @param amount  debit amount
+     * @return a reservation that must be cancelled if the debit is not committed
+     * @throws TransferRejectedException if any rule would be exceeded
+     */
+    public Reservation reserve(Account account, BigDecimal amount) {
+        if (!properties.isEnabled() || rules.isEmpty()) {
+            return Reservation.NONE;
+        }
+
+        long now = System.currentTimeMillis();
+        long minor = toMinorUnits(amount);
+        List<SlidingWindowCounter> taken = new ArrayList<>(rules.size());
+
+        for (ActiveRule rule : rules) {
+            SlidingWindowCounter counter = rule.counter(rule.key(account.getId(), account.getCustomerId()));
+            if (!counter.tryAdd(now, minor, rule.maxCount, rule.maxAmount)) {
+                taken.forEach(c -> c.remove(now, minor));
+                throw new TransferRejectedException("Velocity limit '" + rule.name + "' exceeded for account "
+                        + account.getAccountNumber());
+            }
+            taken.add(counter);
+        }
+        return new Reservation(taken, now, minor);
+    }
+
+    /**
+     * Drops counters with nothing left in their window so idle keys do not accumulate.
+     */
+    @Scheduled(fixedDelayString = "${app.velocity.sweep-interval-ms:300000}")
+    public void sweepIdle() {
+        long now = System.currentTimeMillis();
+        for (ActiveRule rule : rules) {
+            rule.counters.values().removeIf(counter -> counter.isIdle(now));
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).longValue();
+    }
+
+    /**
+     * Debits counted by {@link #reserve}; {@link #cancel()} takes them back.
+     */
+    public static final class Reservation {
+
+        static final Reservation NONE = new Reservation(List.of(), 0, 0);
+
+        private final List<SlidingWindowCounter> counters;
+        private final long timestamp;
+        private final long amount;
+
+        private Reservation(List<SlidingWindowCounter> counters, long timestamp, long amount) {
+            this.counters = counters;
+            this.timestamp = timestamp;
+            this.amount = amount;
+        }
+
+        /**
+         * Removes the reserved debit from all counters it was added to.
+         */
+        public void cancel() {
+            counters.forEach(counter -> counter.remove(timestamp, amount));
+        }
+    }
+
+    /**
+     * A configured rule with its per-key counters.
+     */
+    private static final class ActiveRule {
+
+        private final String name;
+        private final VelocityScope scope;
+        private final Duration window;
+        private final int buckets;
+        private final long maxCount;
+        private final long maxAmount;
+        private final Map<Long, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+
+        private ActiveRule(VelocityProperties.Rule rule) {
+            this.name = rule.getName();
+            this.scope = rule.getScope();
+            this.window = rule.getWindow();
+            this.buckets = rule.getBuckets();
+            this.maxCount = rule.getMaxCount() != null ? rule.getMaxCount() : Long.MAX_VALUE;
+            this.maxAmount = rule.getMaxAmount() != null ? toMinorUnits(rule.getMaxAmount()) : Long.MAX_VALUE;
+        }
+
+        private long key(Long accountId, Long customerId) {
+            return scope == VelocityScope.CUSTOMER ? customerId : accountId;
+        }
+
+        private SlidingWindowCounter counter(long key) {
+            return counters.computeIfAbsent(key, k -> new SlidingWindowCounter(window.toMillis(), buckets));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.bankpro.account.service.service.impl;
+
+import com.bankpro.account.service.dto.AccountDTO;
+import com.bankpro.account.service.dto.BalanceDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.exception.ResourceNotFoundException;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.AccountVersionView;
+import com.bankpro.account.service.repository.BalanceShardRepository;
+import com.bankpro.account.service.service.AccountService;
+import com.bankpro.account.service.service.SplitBalanceManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Implementation of the {@link AccountService} interface.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountServiceImpl implements AccountService {
+
+    private static final int MAX_SHARDS = 256;
+
+    private final AccountRepository accountRepo;
+    private final SplitBalanceManager splitBalances;
+    private final BalanceShardRepository shardRepo;
+
+    /**
+     * Lists a customer's accounts with their total balances.
+     */
+    @Override
+    public List<AccountDTO> getAccountsByCustomer(Long customerId) {
+        return accountRepo.findByCustomerIdOrderById(customerId)
+                .stream()
+                .map(this::mapToDTO)
+                .toList();
+    }
+
+    /**
+     * Reads the balance, summing sub-balances of split-balance accounts.
+     */
+    @Override
+    public BalanceDTO getBalance(String accountNumber) {
+        Account account = accountRepo.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + accountNumber));
+        return mapToBalanceDTO(account);
+    }
+
+    /**
+     * Hashes the version tags of all of the customer's accounts, so adding an account
+     * or changing any balance changes the ETag.
+     */
+    @Override
+    public String getAccountsETag(Long customerId) {
+        StringBuilder versions = new StringBuilder();
+        for (AccountVersionView account : accountRepo.findVersionsByCustomerId(customerId)) {
+            versions.append(versionTag(account)).append(';');
+        }
+        return DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the account's version columns, plus the shard versions in split-balance mode.
+     */
+    @Override
+    public String getBalanceETag(String accountNumber) {
+        return accountRepo.findVersionByAccountNumber(accountNumber)
+                .map(this::versionTag)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + accountNumber));
+    }
+
+    /**
+     * Locks the account and creates its shards.
+     */
+    @Override
+    @Transactional
+    public BalanceDTO enableSplitBalance(String accountNumber, int shards) {
+        if (shards < 2 || shards > MAX_SHARDS) {
+            throw new TransferRejectedException("Shard count must be between 2 and " + MAX_SHARDS);
+        }
+
+        List<Account> locked = accountRepo.findAllForUpdate(List.of(accountNumber));
+        if (locked.isEmpty()) {
+            throw new ResourceNotFoundException("Account not found: " + accountNumber);
+        }
+        Account account = locked.get(0);
+        if (account.isSplitBalance()) {
+            throw new TransferRejectedException("Account " + accountNumber + " is already in split-balance mode");
+        }
+
+        splitBalances.enable(account, shards);
+        log.info("Account {} switched to split-balance mode with {} shards", accountNumber, shards);
+        return mapToBalanceDTO(account);
+    }
+
+    /**
+     * Credits to split-balance accounts only touch shard rows, so their shard versions are part of the tag.
+     */
+    private String versionTag(AccountVersionView account) {
+        String tag = account.getId() + "-" + account.getVersion();
+        return account.isSplitBalance() ? tag + "-" + shardRepo.sumVersions(account.getId()) : tag;
+    }
+
+    /**
+     * Converts an {@link Account} to {@link AccountDTO}.
+     */
+    private AccountDTO mapToDTO(Account account) {
+        return AccountDTO.builder()
+                .accountNumber(account.getAccountNumber())
+                .customerId(account.getCustomerId())
+                .type(account.getType())
+                .status(account.getStatus())
+                .balance(splitBalances.availableBalance(account))
+                .build();
+    }
+
+    /**
+     * Converts an {@link Account} to {@link BalanceDTO}.
+     */
+    private BalanceDTO mapToBalanceDTO(Account account) {
+        return BalanceDTO.builder()
+                .accountNumber(account.getAccountNumber())
+                .balance(splitBalances.availableBalance(account))
+                .splitBalance(account.isSplitBalance())
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.bankpro.account.service.service.impl;
+
+import com.bankpro.account.service.dto.ActivitySummaryDTO;
+import com.bankpro.account.service.dto.SummaryRebuildResultDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.enums.SummaryPeriod;
+import com.bankpro.account.service.exception.ResourceNotFoundException;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import com.bankpro.account.service.repository.ActivitySummaryRepository;
+import com.bankpro.account.service.repository.BalanceShardRepository;
+import com.bankpro.account.service.repository.ColdTransactionStore;
+import com.bankpro.account.service.service.ActivitySummaryRecorder;
+import com.bankpro.account.service.service.ActivitySummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Implementation of the {@link ActivitySummaryService} interface.
+ * <p>
+ * Reads are a single lookup on the (account, period, start) unique index.
+ * The rebuild splits the account id space into fixed-size ranges; each range is
+ * locked, cleared and re-aggregated in its own transaction on a worker pool.
+ * Balance shards are locked along with the accounts, because credits to split-balance
+ * accounts take only a shard lock; the recorder is then told how far the journal was
+ * counted so deltas it still holds for those accounts are not added a second time.
+ * Months that are partly or fully archived to the cold store are left untouched,
+ * because their journal rows are no longer in the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivitySummaryServiceImpl implements ActivitySummaryService {
+
+    private final AccountRepository accountRepo;
+    private final ActivitySummaryRepository summaryRepo;
+    private final AccountTransactionRepository transactionRepo;
+    private final BalanceShardRepository shardRepo;
+    private final ActivitySummaryRecorder summaryRecorder;
+    private final ColdTransactionStore coldStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.summary.rebuild.range-size:1000}")
+    private int rangeSize;
+
+    @Value("${app.summary.rebuild.parallelism:4}")
+    private int parallelism;
+
+    /**
+     * Looks up one pre-aggregated row.
+     */
+    @Override
+    public ActivitySummaryDTO getSummary(String accountNumber, SummaryPeriod period, LocalDate date) {
+        Account account = accountRepo.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + accountNumber));
+        LocalDate periodStart = period.startOf(date);
+
+        ActivitySummaryDTO.ActivitySummaryDTOBuilder summary = ActivitySummaryDTO.builder()
+                .accountNumber(accountNumber)
+                .period(period)
+                .periodStart(periodStart);
+
+        return summaryRepo.findByAccountIdAndPeriodTypeAndPeriodStart(account.getId(), period, periodStart)
+                .map(row -> summary
+                        .totalIn(row.getTotalIn())
+                        .totalOut(row.getTotalOut())
+                        .creditCount(row.getCreditCount())
+                        .debitCount(row.getDebitCount())
+                        .build())
+                .orElseGet(() -> summary
+                        .totalIn(BigDecimal.ZERO)
+                        .totalOut(BigDecimal.ZERO)
+                        .build());
+    }
+
+    /**
+     * Rebuilds all ranges in parallel and waits for completion.
+     */
+    @Override
+    public SummaryRebuildResultDTO rebuild() {
+        long start = System.currentTimeMillis();
+        long maxId = accountRepo.findMaxId();
+        LocalDate since = coldStore.getNewestArchived()
+                .map(newest -> newest.toLocalDate().withDayOfMonth(1).plusMonths(1))
+                .orElse(LocalDate.EPOCH);
+        log.info("Rebuilding activity summaries since {} for account ids 1..{} in ranges of {}",
+                since, maxId, rangeSize);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            for (long from = 1; from <= maxId; from += rangeSize) {
+                long fromId = from;
+                long toId = Math.min(from + rangeSize - 1, maxId);
+                results.add(executor.submit(() -> rebuildRange(fromId, toId, since)));
+            }
+        }
+
+        long rows = 0;
+        for (Future<Integer> result : results) {
+            rows += join(result);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Activity summary rebuild finished: {} ranges, {} rows in {} ms", results.size(), rows, elapsed);
+
+        return SummaryRebuildResultDTO.builder()
+                .ranges(results.size())
+                .rowsWritten(rows)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    /**
+     * Rebuilds one account id range. The account rows and balance shards are locked
+     * first so postings to these accounts wait until the range is consistent again.
+     */
+    private int rebuildRange(long fromId, long toId, LocalDate since) {
+        Integer rows = transactionTemplate.execute(status -> {
+            accountRepo.lockIdRange(fromId, toId);
+            Set<Long> splitAccounts = new HashSet<>(shardRepo.lockAccountRange(fromId, toId));
+            long lastEntryId = transactionRepo.findMaxId();
+            summaryRepo.deleteByAccountRange(fromId, toId, since);
+            int written = summaryRepo.rebuildDaily(fromId, toId, since) + summaryRepo.rebuildMonthly(fromId, toId, since);
+            summaryRecorder.markRebuilt(splitAccounts, lastEntryId);
+            return written;
+        });
+        log.debug("Rebuilt activity summaries for accounts {}..{}: {} rows", fromId, toId, rows);
+        return rows == null ? 0 : rows;
+    }
+
+    private static int join(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Activity summary rebuild failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Activity summary rebuild interrupted", ex);
+        }
+    }
+}
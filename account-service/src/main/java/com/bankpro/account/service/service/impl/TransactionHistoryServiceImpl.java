@@ -0,0 +1,109 @@
+package com.bankpro.account.service.service.impl;
+
+import com.bankpro.account.service.dto.TransactionDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.exception.ResourceNotFoundException;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import com.bankpro.account.service.repository.ColdTransactionStore;
+import com.bankpro.account.service.service.TransactionHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Implementation of the {@link TransactionHistoryService} interface.
+ * <p>
+ * Hot rows come from the database; when the requested range reaches back into archived
+ * time, matching cold rows are read from the segment store and merged in.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionHistoryServiceImpl implements TransactionHistoryService {
+
+    private static final Comparator<AccountTransaction> NEWEST_FIRST = Comparator
+            .comparing(AccountTransaction::getCreatedAt)
+            .thenComparing(AccountTransaction::getId)
+            .reversed();
+
+    private final AccountRepository accountRepo;
+    private final AccountTransactionRepository transactionRepo;
+    private final ColdTransactionStore coldStore;
+
+    /**
+     * Merges hot and cold rows, newest first.
+     */
+    @Override
+    public List<TransactionDTO> getHistory(String accountNumber, LocalDateTime from, LocalDateTime to, int limit) {
+        Account account = accountRepo.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + accountNumber));
+
+        List<AccountTransaction> rows = new ArrayList<>(transactionRepo.findByAccountIdAndCreatedAtBetween(
+                account.getId(), from, to,
+                PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt", "id"))));
+
+        boolean reachesArchive = coldStore.getNewestArchived()
+                .map(newest -> !newest.isBefore(from))
+                .orElse(false);
+
+        if (reachesArchive) {
+            Set<Long> hotIds = new HashSet<>();
+            rows.forEach(row -> hotIds.add(row.getId()));
+
+            for (AccountTransaction cold : coldStore.read(account.getId(), from, to)) {
+                if (!hotIds.contains(cold.getId())) {
+                    rows.add(cold);
+                }
+            }
+            rows.sort(NEWEST_FIRST);
+            log.debug("History for {} merged {} rows from hot and cold tiers", accountNumber, rows.size());
+        }
+
+        return rows.stream()
+                .limit(limit)
+                .map(row -> mapToDTO(row, accountNumber))
+                .toList();
+    }
+
+    /**
+     * Reads recent hot rows of all the customer's accounts in one query.
+     */
+    @Override
+    public List<TransactionDTO> getRecentForCustomer(Long customerId, int limit) {
+        Map<Long, String> numbers = new HashMap<>();
+        accountRepo.findByCustomerIdOrderById(customerId)
+                .forEach(account -> numbers.put(account.getId(), account.getAccountNumber()));
+        if (numbers.isEmpty()) {
+            return List.of();
+        }
+
+        return transactionRepo.findByAccountIdIn(numbers.keySet(),
+                        PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt", "id")))
+                .stream()
+                .map(row -> mapToDTO(row, numbers.get(row.getAccountId())))
+                .toList();
+    }
+
+    /**
+     * Converts an {@link AccountTransaction} to {@link TransactionDTO}.
+     */
+    private TransactionDTO mapToDTO(AccountTransaction row, String accountNumber) {
+        return TransactionDTO.builder()
+                .id(row.getId())
+                .accountNumber(accountNumber)
+                .type(row.getType())
+                .amount(row.getAmount())
+                .balanceAfter(row.getBalanceAfter())
+                .counterparty(row.getCounterparty())
+                .batchId(row.getBatchId())
+                .createdAt(row.getCreatedAt())
+                .build();
+    }
+}
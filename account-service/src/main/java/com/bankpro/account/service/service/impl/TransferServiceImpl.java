@@ -0,0 +1,46 @@
+package com.bankpro.account.service.service.impl;
+
+import com.bankpro.account.service.dto.BatchTransferRequestDTO;
+import com.bankpro.account.service.dto.BatchTransferResponseDTO;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.service.BalanceValidator;
+import com.bankpro.account.service.service.LedgerPoster;
+import com.bankpro.account.service.service.TransferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the {@link TransferService} interface.
+ * <p>
+ * A batch goes through two phases: concurrent validation of all involved accounts
+ * by {@link BalanceValidator}, then a single atomic posting by {@link LedgerPoster}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransferServiceImpl implements TransferService {
+
+    private final BalanceValidator balanceValidator;
+    private final LedgerPoster ledgerPoster;
+
+    @Value("${app.transfer.batch.max-legs:5000}")
+    private int maxLegs;
+
+    /**
+     * Validates all legs concurrently, then posts them in one transaction.
+     */
+    @Override
+    public BatchTransferResponseDTO batchTransfer(BatchTransferRequestDTO request, Long customerId) {
+        int legCount = request.getLegs().size();
+        log.info("Received batch transfer with {} legs", legCount);
+
+        if (legCount > maxLegs) {
+            throw new TransferRejectedException("Batch exceeds maximum of " + maxLegs + " legs");
+        }
+
+        balanceValidator.validate(request.getLegs(), customerId);
+        return ledgerPoster.post(request.getLegs(), customerId);
+    }
+}
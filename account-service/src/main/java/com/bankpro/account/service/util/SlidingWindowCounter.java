@@ -0,0 +1,132 @@
+package com.bankpro.account.service.util;
+
+/**
+ * Rolling-window event counter and amount accumulator backed by primitive ring buffers.
+ * <p>
+ * The window is split into fixed-width buckets; running totals are kept so a check is O(1),
+ * and moving the head forward clears at most one full ring of buckets.
+ * Amounts are in minor units (cents). All methods are synchronized on the instance,
+ * which is uncontended unless the same key is debited concurrently.
+ */
+public final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final long[] counts;
+    private final long[] amounts;
+
+    private long headBucket;
+    private long totalCount;
+    private long totalAmount;
+
+    /**
+     * @param windowMillis length of the rolling window
+     * @param buckets      number of buckets the window is divided into
+     */
+    public SlidingWindowCounter(long windowMillis, int buckets) {
+        if (windowMillis <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("Window and bucket count must be positive");
+        }
+        this.buckets = buckets;
+        this.bucketMillis = Math.max(1, windowMillis / buckets);
+        this.counts = new long[buckets];
+        this.amounts = new long[buckets];
+    }
+
+    /**
+     * Records one event if doing so keeps the window within both limits.
+     *
+     * @param nowMillis current time
+     * @param amount    amount of the event in minor units
+     * @param maxCount  count limit, or {@code Long.MAX_VALUE} for none
+     * @param maxAmount amount limit in minor units, or {@code Long.MAX_VALUE} for none
+     * @return true if recorded, false if a limit would be exceeded
+     */
+    public synchronized boolean tryAdd(long nowMillis, long amount, long maxCount, long maxAmount) {
+        long bucket = Math.max(nowMillis / bucketMillis, headBucket);
+        advance(bucket);
+        if (totalCount + 1 > maxCount || totalAmount + amount > maxAmount) {
+            return false;
+        }
+        put(bucket, 1, amount);
+        return true;
+    }
+
+    /**
+     * Records an event unconditionally at its original time; used when replaying the journal.
+     * Events that already fell out of the window are ignored.
+     *
+     * @param timestampMillis time of the event
+     * @param amount          amount in minor units
+     */
+    public synchronized void add(long timestampMillis, long amount) {
+        long bucket = timestampMillis / bucketMillis;
+        advance(bucket);
+        if (bucket > headBucket - buckets) {
+            put(bucket, 1, amount);
+        }
+    }
+
+    /**
+     * Takes back an event recorded by {@link #tryAdd}; a no-op once it has left the window.
+     *
+     * @param timestampMillis time the event was recorded at
+     * @param amount          amount that was recorded
+     */
+    public synchronized void remove(long timestampMillis, long amount) {
+        long bucket = Math.max(timestampMillis / bucketMillis, 0);
+        if (bucket <= headBucket && bucket > headBucket - buckets) {
+            put(bucket, -1, -amount);
+        }
+    }
+
+    /**
+     * @param nowMillis current time
+     * @return true if nothing is left in the window, so the counter can be discarded
+     */
+    public synchronized boolean isIdle(long nowMillis) {
+        advance(nowMillis / bucketMillis);
+        return totalCount == 0;
+    }
+
+    /**
+     * @param nowMillis current time
+     * @return number of events in the window
+     */
+    public synchronized long count(long nowMillis) {
+        advance(nowMillis / bucketMillis);
+        return totalCount;
+    }
+
+    /**
+     * @param nowMillis current time
+     * @return sum of amounts in the window, minor units
+     */
+    public synchronized long amount(long nowMillis) {
+        advance(nowMillis / bucketMillis);
+        return totalAmount;
+    }
+
+    private void put(long bucket, long count, long amount) {
+        int slot = (int) (bucket % buckets);
+        counts[slot] += count;
+        amounts[slot] += amount;
+        totalCount += count;
+        totalAmount += amount;
+    }
+
+    private void advance(long bucket) {
+        if (bucket <= headBucket) {
+            return;
+        }
+        long steps = Math.min(bucket - headBucket, buckets);
+        for (long i = 1; i <= steps; i++) {
+            int slot = (int) ((headBucket + i) % buckets);
+            totalCount -= counts[slot];
+            totalAmount -= amounts[slot];
+            counts[slot] = 0;
+            amounts[slot] = 0;
+        }
+        headBucket = bucket;
+    }
+}
@@ -0,0 +1,6 @@
+-- Accounts for load tests: two per customer, so transfers can stay within a customer.
+-- SYSTEM_RANGE names its column "X" regardless of DATABASE_TO_LOWER, hence the quotes.
+insert into accounts (account_number, customer_id, type, status, balance, split_balance, version)
+select 'LT' || lpad(cast("X" as varchar), 8, '0'), ("X" + 1) / 2,
+       case when mod("X", 2) = 1 then 'SAVINGS' else 'CURRENT' end, 'ACTIVE', 1000000.00, false, 0
+from system_range(1, 2000);
@@ -0,0 +1,135 @@
+package com.bankpro.account.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the native executable built by {@code -Pnative} on the in-memory h2 profile (with the
+ * seeded LT accounts) and exercises reads, a transfer as the accounts' owner and the OpenAPI document. Only runs when
+ * failsafe passes the image path in {@code native.image}.
+ */
+@EnabledIfSystemProperty(named = "native.image", matches = ".+")
+class NativeImageSmokeIT {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private static Process process;
+    private static String baseUrl;
+    private static String ownerToken;
+
+    @BeforeAll
+    static void boot() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://localhost:" + port;
+        long start = System.nanoTime();
+        ProcessBuilder builder = new ProcessBuilder(System.getProperty("native.image"),
+                "--spring.profiles.active=dev,h2", "--server.port=" + port)
+                .redirectErrorStream(true)
+                .redirectOutput(Path.of(System.getProperty("native.image") + ".log").toFile());
+        // Throwaway secrets; the service refuses to start without them
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        builder.environment().put("JWT_SECRET", Base64.getEncoder().encodeToString(secret));
+        ownerToken = Jwts.builder()
+                .setSubject("native-it@example.com")
+                .claim("cid", 1L)
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10)))
+                .signWith(Keys.hmacShaKeyFor(secret))
+                .compact();
+        builder.environment().put("INTERNAL_TOKEN", UUID.randomUUID().toString());
+        process = builder.start();
+        while (true) {
+            assertTrue(process.isAlive(), "native image exited with " + (process.isAlive() ? 0 : process.exitValue()));
+            assertTrue(System.nanoTime() - start < TimeUnit.MINUTES.toNanos(1), "native image did not start within a minute");
+            try {
+                if (get("/api/v1/accounts?customerId=1").statusCode() == 200) {
+                    break;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        System.out.printf("native account-service: ready in %d ms, RSS %d MiB%n",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), residentKb(process.pid()) / 1024);
+    }
+
+    @AfterAll
+    static void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void transfersBetweenSeededAccounts() throws Exception {
+        JsonNode before = data(get("/api/v1/accounts/LT00000002/balance"));
+
+        var transfer = MAPPER.createObjectNode();
+        transfer.putArray("legs").addObject()
+                .put("sourceAccount", "LT00000001")
+                .put("targetAccount", "LT00000002")
+                .put("amount", "1.00");
+        HttpResponse<String> posted = HTTP.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/transfers/batch"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + ownerToken)
+                .POST(HttpRequest.BodyPublishers.ofString(transfer.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(201, posted.statusCode(), posted.body());
+
+        JsonNode after = data(get("/api/v1/accounts/LT00000002/balance"));
+        assertEquals(0, before.path("balance").decimalValue().add(BigDecimal.ONE)
+                .compareTo(after.path("balance").decimalValue()));
+    }
+
+    @Test
+    void servesOpenApiDocument() throws Exception {
+        JsonNode paths = MAPPER.readTree(get("/v3/api-docs").body()).path("paths");
+        assertTrue(paths.has("/api/v1/transfers/batch"));
+    }
+
+    private static HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return HTTP.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode data(HttpResponse<String> response) throws IOException {
+        assertEquals(200, response.statusCode(), response.body());
+        return MAPPER.readTree(response.body()).path("data");
+    }
+
+    private static long residentKb(long pid) throws IOException {
+        return Files.readAllLines(Path.of("/proc", Long.toString(pid), "status")).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .mapToLong(line -> Long.parseLong(line.substring(6).replace("kB", "").trim()))
+                .findFirst().orElse(-1);
+    }
+}
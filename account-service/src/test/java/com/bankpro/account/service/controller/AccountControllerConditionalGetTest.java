@@ -0,0 +1,67 @@
+package com.bankpro.account.service.controller;
+
+import com.bankpro.account.service.dto.BalanceDTO;
+import com.bankpro.account.service.service.AccountService;
+import com.bankpro.account.service.service.ActivitySummaryService;
+import com.bankpro.account.service.service.LiveUpdateHub;
+import com.bankpro.account.service.service.TransactionArchiver;
+import com.bankpro.account.service.service.TransactionHistoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AccountControllerConditionalGetTest {
+
+    private final AccountService accountService = mock(AccountService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AccountController controller = new AccountController(accountService, mock(ActivitySummaryService.class),
+                mock(TransactionHistoryService.class), mock(TransactionArchiver.class), mock(LiveUpdateHub.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(accountService.getBalanceETag("1000000001")).thenReturn("7-42");
+        when(accountService.getBalance("1000000001")).thenReturn(BalanceDTO.builder()
+                .accountNumber("1000000001")
+                .balance(new BigDecimal("150.00"))
+                .build());
+    }
+
+    @Test
+    void firstReadReturnsBodyWithETag() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts/1000000001/balance"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-42\""))
+                .andExpect(jsonPath("$.data.balance").value(150.00));
+    }
+
+    @Test
+    void matchingETagAnswers304WithoutLoadingTheAccount() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts/1000000001/balance").header(HttpHeaders.IF_NONE_MATCH, "\"7-42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(accountService, never()).getBalance(any());
+    }
+
+    @Test
+    void staleETagReturnsFreshBody() throws Exception {
+        when(accountService.getAccountsETag(5L)).thenReturn("abc");
+        when(accountService.getAccountsByCustomer(5L)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/accounts").param("customerId", "5").header(HttpHeaders.IF_NONE_MATCH, "\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
+    }
+}
@@ -0,0 +1,80 @@
+package com.bankpro.account.service.repository.segment;
+
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentRoundTripTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 1, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackRowsOfOneAccountWithinRange() throws Exception {
+        List<AccountTransaction> rows = new ArrayList<>();
+        long id = 1;
+        for (int day = 0; day < 300; day++) {
+            for (long account = 1; account <= 20; account++) {
+                rows.add(AccountTransaction.builder()
+                        .id(id++)
+                        .accountId(account)
+                        .type(day % 2 == 0 ? TransactionType.CREDIT : TransactionType.DEBIT)
+                        .amount(new BigDecimal("12.34").add(BigDecimal.valueOf(day)))
+                        .balanceAfter(new BigDecimal("-5.01").add(BigDecimal.valueOf(account)))
+                        .counterparty(day % 3 == 0 ? null : "ACC" + account)
+                        .batchId(day % 5 == 0 ? "batch-" + day : null)
+                        .createdAt(BASE.plusDays(day).plusMinutes(account))
+                        .build());
+            }
+        }
+
+        Path file = dir.resolve("test.seg");
+        SegmentWriter.write(file, new ArrayList<>(rows), 128);
+        assertThat(Files.exists(dir.resolve("test.seg.tmp"))).isFalse();
+
+        SegmentReader reader = SegmentReader.open(file);
+        assertThat(reader.getRowCount()).isEqualTo(rows.size());
+
+        LocalDateTime from = BASE.plusDays(100);
+        LocalDateTime to = BASE.plusDays(110);
+        List<AccountTransaction> result = reader.read(7, millis(from), millis(to));
+
+        List<AccountTransaction> expected = rows.stream()
+                .filter(r -> r.getAccountId() == 7)
+                .filter(r -> !r.getCreatedAt().isBefore(from) && !r.getCreatedAt().isAfter(to))
+                .toList();
+
+        assertThat(result).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            AccountTransaction want = expected.get(i);
+            AccountTransaction got = result.get(i);
+            assertThat(got.getId()).isEqualTo(want.getId());
+            assertThat(got.getType()).isEqualTo(want.getType());
+            assertThat(got.getAmount()).isEqualByComparingTo(want.getAmount());
+            assertThat(got.getBalanceAfter()).isEqualByComparingTo(want.getBalanceAfter());
+            assertThat(got.getCounterparty()).isEqualTo(want.getCounterparty());
+            assertThat(got.getBatchId()).isEqualTo(want.getBatchId());
+            assertThat(got.getCreatedAt()).isEqualTo(want.getCreatedAt());
+        }
+
+        assertThat(reader.read(99, Long.MIN_VALUE, Long.MAX_VALUE)).isEmpty();
+        assertThat(reader.read(7, millis(BASE.minusDays(10)), millis(BASE.minusDays(1)))).isEmpty();
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
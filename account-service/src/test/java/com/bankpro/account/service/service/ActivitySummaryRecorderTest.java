@@ -0,0 +1,227 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.enums.TransactionType;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.ActivitySummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Summary upserts of a posting, and deferred deltas of split-balance credits against a
+ * summary rebuild that has already counted their journal entries.
+ */
+class ActivitySummaryRecorderTest {
+
+    private static final long ACCOUNT = 4L;
+    private static final long SPLIT_ACCOUNT = 5L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 6, 12, 0);
+
+    private final ActivitySummaryRepository summaryRepo = mock(ActivitySummaryRepository.class);
+    private final AccountRepository accountRepo = mock(AccountRepository.class);
+    private ActivitySummaryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(call -> {
+            call.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        recorder = new ActivitySummaryRecorder(summaryRepo, accountRepo, transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void postingUpsertsOneRowPerAccountAndPeriodInsideItsTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.record(List.of(
+                entry(1L, ACCOUNT, TransactionType.CREDIT, "10.00", NOW),
+                entry(2L, ACCOUNT, TransactionType.DEBIT, "4.00", NOW),
+                entry(3L, ACCOUNT, TransactionType.CREDIT, "5.00", NOW.plusDays(1)),
+                entry(4L, 6L, TransactionType.DEBIT, "7.00", NOW)), Set.of());
+
+        LocalDate day = NOW.toLocalDate();
+        verify(summaryRepo).increment(ACCOUNT, "DAY", day,
+                new BigDecimal("10.00"), new BigDecimal("4.00"), 1L, 1L);
+        verify(summaryRepo).increment(ACCOUNT, "DAY", day.plusDays(1),
+                new BigDecimal("5.00"), BigDecimal.ZERO, 1L, 0L);
+        verify(summaryRepo).increment(ACCOUNT, "MONTH", day.withDayOfMonth(1),
+                new BigDecimal("15.00"), new BigDecimal("4.00"), 2L, 1L);
+        verify(summaryRepo).increment(6L, "DAY", day, BigDecimal.ZERO, new BigDecimal("7.00"), 0L, 1L);
+        verify(summaryRepo).increment(6L, "MONTH", day.withDayOfMonth(1),
+                BigDecimal.ZERO, new BigDecimal("7.00"), 0L, 1L);
+        verifyNoMoreInteractions(summaryRepo);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    void rebuildDropsQueuedDeltasItAlreadyCountedOnceItCommits() {
+        commit(credit(100L, "40.00"));
+
+        List<TransactionSynchronization> rebuild = markRebuilt(100L);
+        recorder.flushDeferred();
+        verifyNoInteractions(summaryRepo);
+
+        complete(rebuild, TransactionSynchronization.STATUS_COMMITTED);
+        recorder.flushDeferred();
+        verifyNoInteractions(summaryRepo);
+    }
+
+    @Test
+    void rolledBackRebuildGivesItsDeltasBack() {
+        commit(credit(100L, "40.00"));
+
+        List<TransactionSynchronization> rebuild = markRebuilt(100L);
+        complete(rebuild, TransactionSynchronization.STATUS_ROLLED_BACK);
+        recorder.flushDeferred();
+
+        verifyCredited("40.00");
+    }
+
+    @Test
+    void deltaCommittedBeforeTheRebuildButQueuedAfterIsDropped() {
+        List<TransactionSynchronization> posting = post(credit(100L, "40.00"));
+
+        List<TransactionSynchronization> rebuild = markRebuilt(100L);
+        complete(posting, TransactionSynchronization.STATUS_COMMITTED);
+        complete(rebuild, TransactionSynchronization.STATUS_COMMITTED);
+        recorder.flushDeferred();
+
+        verifyNoInteractions(summaryRepo);
+    }
+
+    @Test
+    void deltaArrivingWhileTheRebuildIsOpenSurvivesItsRollback() {
+        List<TransactionSynchronization> posting = post(credit(100L, "40.00"));
+
+        List<TransactionSynchronization> rebuild = markRebuilt(100L);
+        complete(posting, TransactionSynchronization.STATUS_COMMITTED);
+        complete(rebuild, TransactionSynchronization.STATUS_ROLLED_BACK);
+        recorder.flushDeferred();
+
+        verifyCredited("40.00");
+    }
+
+    @Test
+    void flushWaitingForTheRebuildHoldsWhatItCountedUntilTheOutcome() {
+        commit(credit(100L, "40.00"));
+        List<List<TransactionSynchronization>> rebuild = new ArrayList<>();
+        // the rebuild commits while the flush waits for the account locks, but the
+        // flush gets them before the rebuild's after-commit work has run
+        when(accountRepo.lockIds(any())).thenAnswer(call -> {
+            if (rebuild.isEmpty()) {
+                rebuild.add(markRebuilt(100L));
+            }
+            return List.of(SPLIT_ACCOUNT);
+        });
+
+        recorder.flushDeferred();
+        verify(accountRepo).lockIds(Set.of(SPLIT_ACCOUNT));
+        verifyNoInteractions(summaryRepo);
+
+        complete(rebuild.get(0), TransactionSynchronization.STATUS_COMMITTED);
+        recorder.flushDeferred();
+        verifyNoInteractions(summaryRepo);
+    }
+
+    @Test
+    void creditsPostedAfterTheRebuildAreStillApplied() {
+        complete(markRebuilt(100L), TransactionSynchronization.STATUS_COMMITTED);
+        commit(credit(101L, "25.00"));
+
+        recorder.flushDeferred();
+
+        verifyCredited("25.00");
+        verify(summaryRepo, never()).increment(anyLong(), anyString(), any(),
+                eq(new BigDecimal("40.00")), any(), anyLong(), anyLong());
+    }
+
+    /**
+     * Runs {@code markRebuilt} in a transaction of its own and returns that
+     * transaction's synchronizations, to be completed by the caller.
+     */
+    private List<TransactionSynchronization> markRebuilt(long lastEntryId) {
+        return suspended(() -> recorder.markRebuilt(Set.of(SPLIT_ACCOUNT), lastEntryId));
+    }
+
+    private List<TransactionSynchronization> post(AccountTransaction entry) {
+        return suspended(() -> recorder.record(List.of(entry), Set.of(SPLIT_ACCOUNT)));
+    }
+
+    private void commit(AccountTransaction entry) {
+        complete(post(entry), TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static List<TransactionSynchronization> suspended(Runnable work) {
+        List<TransactionSynchronization> outer = TransactionSynchronizationManager.isSynchronizationActive()
+                ? TransactionSynchronizationManager.getSynchronizations() : null;
+        if (outer != null) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            if (outer != null) {
+                TransactionSynchronizationManager.initSynchronization();
+                outer.forEach(TransactionSynchronizationManager::registerSynchronization);
+            }
+        }
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        }
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+
+    private void verifyCredited(String amount) {
+        verify(summaryRepo, times(2)).increment(eq(SPLIT_ACCOUNT), anyString(), any(),
+                eq(new BigDecimal(amount)), eq(BigDecimal.ZERO), eq(1L), eq(0L));
+    }
+
+    private static AccountTransaction credit(long id, String amount) {
+        return entry(id, SPLIT_ACCOUNT, TransactionType.CREDIT, amount, NOW);
+    }
+
+    private static AccountTransaction entry(long id, long accountId, TransactionType type, String amount,
+                                            LocalDateTime createdAt) {
+        return AccountTransaction.builder()
+                .id(id)
+                .accountId(accountId)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.TransferLegDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.enums.AccountStatus;
+import com.bankpro.account.service.enums.AccountType;
+import com.bankpro.account.service.exception.ForbiddenException;
+import com.bankpro.account.service.exception.ResourceNotFoundException;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BalanceValidatorTest {
+
+    private AccountRepository accountRepo;
+    private BalanceValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        accountRepo = mock(AccountRepository.class);
+        SplitBalanceManager splitBalances = mock(SplitBalanceManager.class);
+        when(splitBalances.availableBalance(any(Account.class)))
+                .thenAnswer(call -> call.getArgument(0, Account.class).getBalance());
+        validator = new BalanceValidator(accountRepo, splitBalances);
+        ReflectionTestUtils.setField(validator, "maxConcurrency", 4);
+
+        when(accountRepo.findByAccountNumber(anyString())).thenReturn(Optional.empty());
+        stub("A1", "1000.00", null, AccountStatus.ACTIVE);
+        stub("A2", "50.00", null, AccountStatus.ACTIVE);
+        stub("A3", "1000.00", "100.00", AccountStatus.ACTIVE);
+        stub("F1", "1000.00", null, AccountStatus.FROZEN);
+    }
+
+    @Test
+    void acceptsBatchWithinBalancesAndLimits() {
+        List<TransferLegDTO> legs = List.of(
+                leg("A1", "A2", "600.00"),
+                leg("A1", "A3", "400.00"),
+                leg("A3", "A1", "100.00"));
+
+        assertThatCode(() -> validator.validate(legs, 1L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsWhenSumOfDebitsExceedsBalance() {
+        List<TransferLegDTO> legs = List.of(
+                leg("A2", "A1", "30.00"),
+                leg("A2", "A3", "30.00"));
+
+        assertThatThrownBy(() -> validator.validate(legs, 1L))
+                .isInstanceOf(TransferRejectedException.class)
+                .hasMessageContaining("Insufficient funds in account A2");
+    }
+
+    @Test
+    void rejectsDebitAboveTransactionLimit() {
+        assertThatThrownBy(() -> validator.validate(List.of(leg("A3", "A1", "100.01")), 1L))
+                .isInstanceOf(TransferRejectedException.class)
+                .hasMessageContaining("transaction limit");
+    }
+
+    @Test
+    void rejectsInactiveTargetAndUnknownAccount() {
+        assertThatThrownBy(() -> validator.validate(List.of(leg("A1", "F1", "1.00")), 1L))
+                .isInstanceOf(TransferRejectedException.class)
+                .hasMessageContaining("FROZEN");
+
+        assertThatThrownBy(() -> validator.validate(List.of(leg("A1", "X9", "1.00")), 1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void rejectsSourceOfAnotherCustomerBeforeLookingAtItsBalance() {
+        assertThatThrownBy(() -> validator.validate(List.of(leg("A2", "A1", "1000.00")), 2L))
+                .isInstanceOf(ForbiddenException.class)
+                .hasMessageContaining("A2");
+    }
+
+    private void stub(String number, String balance, String limit, AccountStatus status) {
+        Account account = Account.builder()
+                .accountNumber(number)
+                .customerId(1L)
+                .type(AccountType.CURRENT)
+                .status(status)
+                .balance(new BigDecimal(balance))
+                .transactionLimit(limit == null ? null : new BigDecimal(limit))
+                .build();
+        when(accountRepo.findByAccountNumber(number)).thenReturn(Optional.of(account));
+    }
+
+    private static TransferLegDTO leg(String source, String target, String amount) {
+        return new TransferLegDTO(source, target, new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,92 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.TransferLegDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.enums.AccountStatus;
+import com.bankpro.account.service.enums.AccountType;
+import com.bankpro.account.service.exception.ForbiddenException;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * The checks {@link LedgerPoster} repeats under row locks, for accounts that changed
+ * after {@link BalanceValidator} passed them.
+ */
+class LedgerPosterTest {
+
+    private final AccountRepository accountRepo = mock(AccountRepository.class);
+    private final AccountTransactionRepository transactionRepo = mock(AccountTransactionRepository.class);
+    private LedgerPoster poster;
+
+    private Account source;
+    private Account target;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        poster = new LedgerPoster(accountRepo, transactionRepo, mock(ActivitySummaryRecorder.class),
+                mock(VelocityLimiter.class), mock(SplitBalanceManager.class), mock(OutboxPublisher.class),
+                mock(LiveUpdateHub.class));
+
+        source = account(1L, "A1", 1L);
+        target = account(2L, "A2", 2L);
+        when(accountRepo.findSplitBalanceNumbers(anyCollection())).thenReturn(Set.of());
+        when(accountRepo.findAllForUpdate(anyCollection())).thenReturn(List.of(source, target));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void rechecksTransactionLimitUnderLock() {
+        source.setTransactionLimit(new BigDecimal("50.00"));
+
+        assertThatThrownBy(() -> poster.post(List.of(leg("A1", "A2", "60.00")), 1L))
+                .isInstanceOf(TransferRejectedException.class)
+                .hasMessageContaining("transaction limit");
+        assertThat(source.getBalance()).isEqualByComparingTo("1000.00");
+        verify(transactionRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void rechecksSourceOwnerUnderLock() {
+        source.setCustomerId(3L);
+
+        assertThatThrownBy(() -> poster.post(List.of(leg("A1", "A2", "10.00")), 1L))
+                .isInstanceOf(ForbiddenException.class);
+        assertThat(source.getBalance()).isEqualByComparingTo("1000.00");
+        verify(transactionRepo, never()).saveAll(any());
+    }
+
+    private static Account account(long id, String number, long customerId) {
+        return Account.builder()
+                .id(id)
+                .accountNumber(number)
+                .customerId(customerId)
+                .type(AccountType.CURRENT)
+                .status(AccountStatus.ACTIVE)
+                .balance(new BigDecimal("1000.00"))
+                .build();
+    }
+
+    private static TransferLegDTO leg(String source, String target, String amount) {
+        return new TransferLegDTO(source, target, new BigDecimal(amount));
+    }
+}
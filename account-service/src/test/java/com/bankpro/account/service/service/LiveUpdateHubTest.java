@@ -0,0 +1,178 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.config.LiveUpdateProperties;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.enums.TransactionType;
+import com.bankpro.account.service.exception.ForbiddenException;
+import com.bankpro.account.service.exception.SubscriptionRejectedException;
+import com.bankpro.account.service.util.JwtVerifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LiveUpdateHubTest {
+
+    private final LiveUpdateProperties properties = new LiveUpdateProperties();
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final List<Duration> timeouts = new CopyOnWriteArrayList<>();
+
+    private final LiveUpdateHub hub = new LiveUpdateHub(properties) {
+        @Override
+        SseEmitter newEmitter(Duration timeout) {
+            timeouts.add(timeout);
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+
+    @Test
+    void pushesTransactionsAndBalancesToTheOwningCustomerOnly() throws InterruptedException {
+        hub.subscribe(1L, caller(1L));
+        hub.subscribe(2L, caller(2L));
+        Account source = account(10L, 1L, "1000000001", "900.00");
+        Account target = account(20L, 3L, "1000000002", "100.00");
+
+        hub.publishAfterCommit(List.of(entry(source, TransactionType.DEBIT), entry(target, TransactionType.CREDIT)),
+                Map.of(10L, source, 20L, target));
+
+        RecordingEmitter owner = emitters.get(0);
+        await(() -> owner.events.size() >= 3);
+        assertThat(owner.events.get(1)).contains("event:transaction").contains("1000000001");
+        assertThat(owner.events.get(2)).contains("event:balance").contains("900.00");
+        assertThat(owner.events).noneMatch(e -> e.contains("1000000002\",\"type"));
+        assertThat(emitters.get(1).events).allMatch(e -> e.startsWith(":"));
+    }
+
+    @Test
+    void slowConsumerLosesBacklogAndIsToldToResync() throws InterruptedException {
+        properties.setQueueCapacity(4);
+        gate = new CountDownLatch(1);
+        hub.subscribe(1L, caller(1L));
+        Account account = account(10L, 1L, "1000000001", "500.00");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            hub.publishAfterCommit(List.of(entry(account, TransactionType.CREDIT)), Map.of(10L, account));
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        gate.countDown();
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.events.stream().anyMatch(e -> e.contains("event:resync")));
+        assertThat(emitter.events.size()).isLessThan(20);
+    }
+
+    @Test
+    void enforcesPerCustomerAndGlobalLimits() throws InterruptedException {
+        properties.setMaxSubscribersPerCustomer(2);
+        properties.setMaxSubscribers(3);
+
+        hub.subscribe(1L, caller(1L));
+        hub.subscribe(1L, caller(1L));
+        hub.subscribe(1L, caller(1L));
+        await(() -> emitters.get(0).completed);
+        assertThat(hub.getSubscriberCount()).isEqualTo(2);
+
+        hub.subscribe(2L, caller(2L));
+        assertThatThrownBy(() -> hub.subscribe(3L, caller(3L))).isInstanceOf(SubscriptionRejectedException.class);
+        assertThat(hub.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsStreamsOfAnotherCustomer() {
+        properties.setMaxSubscribersPerCustomer(1);
+        hub.subscribe(1L, caller(1L));
+
+        assertThatThrownBy(() -> hub.subscribe(1L, caller(2L))).isInstanceOf(ForbiddenException.class);
+        assertThat(emitters.get(0).completed).isFalse();
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void streamDoesNotOutliveTheToken() {
+        properties.setTimeout(Duration.ofHours(1));
+
+        hub.subscribe(1L, new JwtVerifier.Caller("a@b.c", 1L, "ROLE_USER", Instant.now().plus(Duration.ofMinutes(5))));
+        hub.subscribe(1L, new JwtVerifier.Caller("a@b.c", 1L, "ROLE_USER", Instant.now().plus(Duration.ofDays(1))));
+
+        assertThat(timeouts.get(0)).isBetween(Duration.ofMinutes(4), Duration.ofMinutes(5));
+        assertThat(timeouts.get(1)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private static JwtVerifier.Caller caller(Long customerId) {
+        return new JwtVerifier.Caller("customer" + customerId + "@example.com", customerId, "ROLE_USER", null);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static Account account(Long id, Long customerId, String number, String balance) {
+        Account account = new Account();
+        account.setId(id);
+        account.setCustomerId(customerId);
+        account.setAccountNumber(number);
+        account.setBalance(new BigDecimal(balance));
+        return account;
+    }
+
+    private static AccountTransaction entry(Account account, TransactionType type) {
+        return AccountTransaction.builder()
+                .id(1L)
+                .accountId(account.getId())
+                .type(type)
+                .amount(new BigDecimal("100.00"))
+                .balanceAfter(account.getBalance())
+                .build();
+    }
+
+    /**
+     * Records each written event as text; writes wait on the test's gate to simulate a slow client.
+     */
+    private class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            events.add(builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.entity.OutboxEvent;
+import com.bankpro.account.service.entity.OutboxOffset;
+import com.bankpro.account.service.enums.ChangeEventType;
+import com.bankpro.account.service.repository.OutboxEventRepository;
+import com.bankpro.account.service.repository.OutboxOffsetRepository;
+import com.bankpro.account.service.service.sink.FileOutboxSink;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * The relay draining the outbox into a {@link FileOutboxSink}, with its position kept in
+ * an in-memory {@link OutboxOffset} row that outlives each relay instance.
+ */
+class OutboxRelayTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<OutboxEvent> outbox = new ArrayList<>();
+    private final AtomicReference<OutboxOffset> position = new AtomicReference<>();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OutboxEventRepository outboxRepo;
+    private OutboxOffsetRepository offsetRepo;
+    private Path file;
+    private boolean sinkDown;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("outbox/account-events.jsonl");
+
+        outboxRepo = mock(OutboxEventRepository.class);
+        when(outboxRepo.findMaxId()).thenAnswer(inv -> outbox.stream().mapToLong(OutboxEvent::getId).max().orElse(0));
+        when(outboxRepo.findByIdGreaterThanOrderById(anyLong(), any(Pageable.class))).thenAnswer(inv -> {
+            long after = inv.getArgument(0);
+            Pageable page = inv.getArgument(1);
+            return outbox.stream().filter(e -> e.getId() > after).limit(page.getPageSize()).toList();
+        });
+
+        offsetRepo = mock(OutboxOffsetRepository.class);
+        when(offsetRepo.findForUpdate(OutboxRelay.NAME)).thenAnswer(inv -> Optional.ofNullable(copy(position.get())));
+        when(offsetRepo.saveAndFlush(any())).thenAnswer(inv -> store(inv.getArgument(0)));
+        when(offsetRepo.save(any())).thenAnswer(inv -> store(inv.getArgument(0)));
+    }
+
+    @Test
+    void writesEventsToTheFileInFeedOrderAcrossBatches() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OutboxRelay relay = relay(2, registry);
+        addEvents(1, 2, 3, 4, 5);
+
+        relay.poll();
+
+        assertThat(fileIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        JsonNode first = objectMapper.readTree(Files.readAllLines(file).get(0));
+        assertThat(first.get("type").asText()).isEqualTo("TRANSACTION_POSTED");
+        assertThat(first.get("aggregateId").asText()).isEqualTo("A1");
+        assertThat(registry.get("outbox.relay.events").counter().count()).isEqualTo(5);
+        assertThat(registry.get("outbox.relay.lag.events").gauge().value()).isZero();
+    }
+
+    @Test
+    void offsetIsPersistedOnlyForBatchesTheSinkAccepted() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OutboxRelay relay = relay(10, registry);
+        addEvents(1, 2, 3);
+
+        sinkDown = true;
+        relay.poll();
+        assertThat(position.get().getLastId()).isZero();
+        assertThat(Files.exists(file)).isFalse();
+        assertThat(registry.get("outbox.relay.failures").counter().count()).isEqualTo(1);
+        assertThat(registry.get("outbox.relay.lag.events").gauge().value()).isEqualTo(3);
+
+        sinkDown = false;
+        LocalDateTime before = LocalDateTime.now();
+        relay.poll();
+        assertThat(position.get().getName()).isEqualTo(OutboxRelay.NAME);
+        assertThat(position.get().getLastId()).isEqualTo(3);
+        assertThat(position.get().getUpdatedAt()).isAfterOrEqualTo(before);
+        assertThat(fileIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void restartedRelayResumesAfterTheStoredOffset() throws IOException {
+        addEvents(1, 2, 3);
+        relay(10, new SimpleMeterRegistry()).poll();
+        assertThat(position.get().getLastId()).isEqualTo(3);
+
+        // events written while the service was down, picked up by a fresh relay and sink
+        addEvents(4, 5);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        relay(10, registry).poll();
+
+        assertThat(fileIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(position.get().getLastId()).isEqualTo(5);
+        assertThat(registry.get("outbox.relay.events").counter().count()).isEqualTo(2);
+        verify(offsetRepo, times(1)).saveAndFlush(any());
+    }
+
+    private OutboxRelay relay(int batchSize, SimpleMeterRegistry registry) {
+        FileOutboxSink fileSink = new FileOutboxSink(file, objectMapper);
+        OutboxSink sink = events -> {
+            if (sinkDown) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            fileSink.publish(events);
+        };
+        return new OutboxRelay(outboxRepo, offsetRepo, sink,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), registry, batchSize,
+                Duration.ofMinutes(1));
+    }
+
+    private void addEvents(long... ids) {
+        for (long id : ids) {
+            outbox.add(OutboxEvent.builder()
+                    .id(id)
+                    .eventType(ChangeEventType.TRANSACTION_POSTED)
+                    .aggregateId("A" + id)
+                    .customerId(id % 2)
+                    .payload("{}")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    private List<Long> fileIds() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            ids.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        return ids;
+    }
+
+    private OutboxOffset store(OutboxOffset offset) {
+        position.set(copy(offset));
+        return offset;
+    }
+
+    private static OutboxOffset copy(OutboxOffset offset) {
+        return offset == null ? null : new OutboxOffset(offset.getName(), offset.getLastId(), offset.getUpdatedAt());
+    }
+}
@@ -0,0 +1,170 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.BalanceShard;
+import com.bankpro.account.service.enums.AccountStatus;
+import com.bankpro.account.service.enums.AccountType;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.BalanceShardRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Debits that sweep the shards of a split-balance account, against shard rows kept in memory
+ * with a lock per row standing in for the database row locks.
+ */
+class SplitBalanceManagerTest {
+
+    private final List<BalanceShard> shards = new ArrayList<>();
+    private final List<ReentrantLock> rowLocks = new ArrayList<>();
+    private final ThreadLocal<List<ReentrantLock>> heldLocks = ThreadLocal.withInitial(ArrayList::new);
+    private final BalanceShardRepository shardRepo = mock(BalanceShardRepository.class);
+    private final SplitBalanceManager manager = new SplitBalanceManager(shardRepo);
+
+    private final Account account = Account.builder()
+            .id(9L)
+            .accountNumber("A9")
+            .customerId(1L)
+            .type(AccountType.CURRENT)
+            .status(AccountStatus.ACTIVE)
+            .balance(new BigDecimal("10.00"))
+            .splitBalance(true)
+            .balanceShards(3)
+            .build();
+
+    SplitBalanceManagerTest() {
+        for (int i = 0; i < account.getBalanceShards(); i++) {
+            shards.add(BalanceShard.builder().accountId(account.getId()).shardIndex(i).balance(BigDecimal.ZERO).build());
+            rowLocks.add(new ReentrantLock());
+        }
+        when(shardRepo.findByAccountIdOrderByShardIndex(account.getId())).thenAnswer(call -> {
+            rowLocks.forEach(lock -> {
+                lock.lock();
+                heldLocks.get().add(lock);
+            });
+            return shards;
+        });
+        when(shardRepo.addToShard(anyLong(), anyInt(), any())).thenAnswer(call -> {
+            int index = call.getArgument(1);
+            ReentrantLock lock = rowLocks.get(index);
+            lock.lock();
+            try {
+                BalanceShard shard = shards.get(index);
+                shard.setBalance(shard.getBalance().add(call.getArgument(2)));
+                shard.setVersion(shard.getVersion() + 1);
+                return 1;
+            } finally {
+                lock.unlock();
+            }
+        });
+        when(shardRepo.sumBalance(account.getId())).thenAnswer(call -> shards.stream()
+                .map(BalanceShard::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    @Test
+    void debitCoveredByTheAccountRowLeavesTheShardsAlone() {
+        setShards("20.00", "30.00", "5.00");
+
+        manager.debit(account, new BigDecimal("10.00"));
+
+        assertThat(account.getBalance()).isEqualByComparingTo("0.00");
+        verify(shardRepo, never()).findByAccountIdOrderByShardIndex(anyLong());
+        assertShards("20.00", "30.00", "5.00");
+    }
+
+    @Test
+    void debitSpanningSeveralShardsSweepsThemIntoTheAccountRow() {
+        setShards("20.00", "30.00", "5.00");
+
+        manager.debit(account, new BigDecimal("50.00"));
+
+        assertThat(account.getBalance()).isEqualByComparingTo("15.00");
+        assertShards("0", "0", "0");
+        assertThat(manager.availableBalance(account)).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    void debitOverTheTotalIsRejectedWithoutTouchingAnyRow() {
+        setShards("20.00", "30.00", "5.00");
+
+        assertThatThrownBy(() -> manager.debit(account, new BigDecimal("65.01")))
+                .isInstanceOf(TransferRejectedException.class)
+                .hasMessageContaining("A9");
+
+        assertThat(account.getBalance()).isEqualByComparingTo("10.00");
+        assertShards("20.00", "30.00", "5.00");
+        assertThat(manager.availableBalance(account)).isEqualByComparingTo("65.00");
+    }
+
+    @Test
+    void totalStaysExactUnderConcurrentCreditsAndDebits() throws Exception {
+        ReentrantLock accountRow = new ReentrantLock();
+        List<Future<Boolean>> debits = new ArrayList<>();
+        try (ExecutorService workers = Executors.newFixedThreadPool(6)) {
+            for (int i = 0; i < 600; i++) {
+                workers.submit(() -> manager.credit(Map.of(account, BigDecimal.ONE)));
+                if (i % 3 == 0) {
+                    debits.add(workers.submit(() -> debitUnderLock(accountRow, new BigDecimal("4.00"))));
+                }
+            }
+        }
+
+        long succeeded = 0;
+        for (Future<Boolean> debit : debits) {
+            if (debit.get()) {
+                succeeded++;
+            }
+        }
+        assertThat(succeeded).isPositive();
+        assertThat(manager.availableBalance(account))
+                .isEqualByComparingTo(new BigDecimal("610.00").subtract(new BigDecimal(4 * succeeded)));
+        assertThat(shards).allSatisfy(shard -> assertThat(shard.getBalance().signum()).isNotNegative());
+        assertThat(account.getBalance().signum()).isNotNegative();
+    }
+
+    /**
+     * One debit transaction: the account row is locked by the caller, the shard rows by the
+     * sweep, and both are released when it ends.
+     */
+    private boolean debitUnderLock(ReentrantLock accountRow, BigDecimal amount) {
+        accountRow.lock();
+        try {
+            manager.debit(account, amount);
+            return true;
+        } catch (TransferRejectedException e) {
+            return false;
+        } finally {
+            heldLocks.get().forEach(ReentrantLock::unlock);
+            heldLocks.get().clear();
+            accountRow.unlock();
+        }
+    }
+
+    private void setShards(String... balances) {
+        for (int i = 0; i < balances.length; i++) {
+            shards.get(i).setBalance(new BigDecimal(balances[i]));
+        }
+    }
+
+    private void assertShards(String... balances) {
+        for (int i = 0; i < balances.length; i++) {
+            assertThat(shards.get(i).getBalance()).isEqualByComparingTo(balances[i]);
+        }
+    }
+}
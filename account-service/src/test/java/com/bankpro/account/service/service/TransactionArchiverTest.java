@@ -0,0 +1,110 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.dto.TransactionDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.enums.TransactionType;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import com.bankpro.account.service.repository.ColdTransactionStore;
+import com.bankpro.account.service.service.impl.TransactionHistoryServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransactionArchiverTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.of(2020, 3, 1, 10, 0);
+
+    @TempDir
+    Path dir;
+
+    private final List<AccountTransaction> hot = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean crashOnDelete = new AtomicBoolean();
+    private final AccountTransactionRepository transactionRepo = mock(AccountTransactionRepository.class);
+    private final AccountRepository accountRepo = mock(AccountRepository.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void crashBetweenRegisterAndDeleteDoesNotDuplicateHistory() {
+        for (long id = 1; id <= 10; id++) {
+            hot.add(AccountTransaction.builder()
+                    .id(id)
+                    .accountId(5L)
+                    .type(TransactionType.CREDIT)
+                    .amount(BigDecimal.TEN)
+                    .balanceAfter(BigDecimal.valueOf(id * 10))
+                    .createdAt(OLD.plusHours(id))
+                    .build());
+        }
+        when(transactionRepo.findByCreatedAtBefore(any(), any())).thenAnswer(call -> {
+            LocalDateTime cutoff = call.getArgument(0);
+            Pageable page = call.getArgument(1);
+            return hot.stream().filter(row -> row.getCreatedAt().isBefore(cutoff)).limit(page.getPageSize()).toList();
+        });
+        doAnswer(call -> {
+            if (crashOnDelete.get()) {
+                throw new IllegalStateException("process killed");
+            }
+            Collection<Long> ids = call.getArgument(0);
+            hot.removeIf(row -> ids.contains(row.getId()));
+            return null;
+        }).when(transactionRepo).deleteAllByIdInBatch(anyCollection());
+        when(transactionRepo.findByAccountIdAndCreatedAtBetween(anyLong(), any(), any(), any()))
+                .thenAnswer(call -> new ArrayList<>(hot));
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(call -> {
+            call.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        ColdTransactionStore coldStore = new ColdTransactionStore(dir.toString());
+        TransactionArchiver archiver = new TransactionArchiver(transactionRepo, coldStore, transactionTemplate);
+        ReflectionTestUtils.setField(archiver, "maxAgeDays", 30);
+        ReflectionTestUtils.setField(archiver, "segmentRows", 100);
+        ReflectionTestUtils.setField(archiver, "blockRows", 4);
+
+        crashOnDelete.set(true);
+        assertThatThrownBy(archiver::archive).hasMessageContaining("process killed");
+        assertThat(coldStore.getSegmentCount()).isEqualTo(1);
+        assertThat(hot).hasSize(10);
+
+        crashOnDelete.set(false);
+        archiver.archive();
+        assertThat(coldStore.getSegmentCount()).isEqualTo(2);
+        assertThat(hot).isEmpty();
+
+        Account account = new Account();
+        account.setId(5L);
+        account.setAccountNumber("1000000005");
+        when(accountRepo.findByAccountNumber("1000000005")).thenReturn(Optional.of(account));
+        TransactionHistoryService history = new TransactionHistoryServiceImpl(accountRepo, transactionRepo, coldStore);
+
+        List<TransactionDTO> rows = history.getHistory("1000000005", OLD, OLD.plusDays(1), 50);
+        assertThat(rows).extracting(TransactionDTO::getId)
+                .containsExactly(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+}
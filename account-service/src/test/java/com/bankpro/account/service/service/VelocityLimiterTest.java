@@ -0,0 +1,226 @@
+package com.bankpro.account.service.service;
+
+import com.bankpro.account.service.config.VelocityProperties;
+import com.bankpro.account.service.dto.TransferLegDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.enums.AccountStatus;
+import com.bankpro.account.service.enums.AccountType;
+import com.bankpro.account.service.enums.VelocityScope;
+import com.bankpro.account.service.exception.ResourceNotFoundException;
+import com.bankpro.account.service.exception.TransferRejectedException;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import com.bankpro.account.service.repository.RecentDebitView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Velocity rules as bound from {@code app.velocity.*}, checked against live debits and
+ * debits replayed from the journal.
+ */
+class VelocityLimiterTest {
+
+    private final AccountTransactionRepository transactionRepo = mock(AccountTransactionRepository.class);
+
+    private final Account first = account(1L, "A1", 7L);
+    private final Account second = account(2L, "A2", 7L);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rulesAreBoundFromConfiguration() {
+        VelocityProperties properties = bind(Map.of(
+                "app.velocity.rules[0].name", "account-hourly",
+                "app.velocity.rules[0].scope", "ACCOUNT",
+                "app.velocity.rules[0].window", "1h",
+                "app.velocity.rules[0].max-count", "2",
+                "app.velocity.rules[1].name", "customer-daily-amount",
+                "app.velocity.rules[1].scope", "CUSTOMER",
+                "app.velocity.rules[1].window", "24h",
+                "app.velocity.rules[1].buckets", "96",
+                "app.velocity.rules[1].max-amount", "500.00"));
+
+        assertThat(properties.isEnabled()).isTrue();
+        assertThat(properties.getRules()).hasSize(2);
+        VelocityProperties.Rule hourly = properties.getRules().get(0);
+        assertThat(hourly.getScope()).isEqualTo(VelocityScope.ACCOUNT);
+        assertThat(hourly.getWindow()).isEqualTo(Duration.ofHours(1));
+        assertThat(hourly.getMaxCount()).isEqualTo(2);
+        assertThat(hourly.getMaxAmount()).isNull();
+        VelocityProperties.Rule daily = properties.getRules().get(1);
+        assertThat(daily.getWindow()).isEqualTo(Duration.ofDays(1));
+        assertThat(daily.getBuckets()).isEqualTo(96);
+        assertThat(daily.getMaxAmount()).isEqualByComparingTo("500.00");
+
+        VelocityLimiter limiter = started(properties);
+        limiter.reserve(first, new BigDecimal("10.00"));
+        limiter.reserve(first, new BigDecimal("10.00"));
+        assertThatThrownBy(() -> limiter.reserve(first, new BigDecimal("10.00")))
+                .isInstanceOf(TransferRejectedException.class)
+                .hasMessageContaining("account-hourly");
+        limiter.reserve(second, new BigDecimal("10.00"));
+    }
+
+    @Test
+    void disabledLimiterAllowsEverything() {
+        VelocityProperties properties = properties(rule("account-hourly", VelocityScope.ACCOUNT, 1, null));
+        properties.setEnabled(false);
+        VelocityLimiter limiter = started(properties);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve(first, new BigDecimal("10.00"));
+        }
+        verifyNoInteractions(transactionRepo);
+    }
+
+    @Test
+    void debitOverTheAmountLimitIsRejectedAndCountsNothing() {
+        VelocityLimiter limiter = started(properties(
+                rule("account-hourly", VelocityScope.ACCOUNT, 3, null),
+                rule("customer-daily-amount", VelocityScope.CUSTOMER, null, "100.00")));
+
+        limiter.reserve(first, new BigDecimal("60.00"));
+        assertThatThrownBy(() -> limiter.reserve(second, new BigDecimal("40.01")))
+                .isInstanceOf(TransferRejectedException.class)
+                .hasMessage("Velocity limit 'customer-daily-amount' exceeded for account A2");
+
+        // the rejected debit passed the account rule first; it must not keep a slot there
+        limiter.reserve(second, new BigDecimal("1.00"));
+        limiter.reserve(second, new BigDecimal("1.00"));
+        limiter.reserve(second, new BigDecimal("1.00"));
+        assertThatThrownBy(() -> limiter.reserve(second, new BigDecimal("1.00")))
+                .hasMessageContaining("account-hourly");
+    }
+
+    @Test
+    void restartReplaysRecentDebitsFromTheJournal() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RecentDebitView> journal = List.of(
+                debit(first, "30.00", now.minusMinutes(50)),
+                debit(first, "30.00", now.minusMinutes(10)),
+                debit(second, "30.00", now.minusHours(5)));
+        when(transactionRepo.findDebitsSince(any())).thenReturn(journal);
+        VelocityLimiter limiter = started(properties(
+                rule("account-hourly", VelocityScope.ACCOUNT, 2, null),
+                rule("customer-daily-amount", VelocityScope.CUSTOMER, null, "100.00")));
+
+        verify(transactionRepo).findDebitsSince(
+                argThat(since -> since.isBefore(now.minusHours(23)) && since.isAfter(now.minusHours(25))));
+        assertThatThrownBy(() -> limiter.reserve(first, new BigDecimal("1.00")))
+                .hasMessageContaining("account-hourly");
+        // the second account's debit is older than the hour, but still within the customer's day
+        assertThatThrownBy(() -> limiter.reserve(second, new BigDecimal("10.01")))
+                .hasMessageContaining("customer-daily-amount");
+        limiter.reserve(second, new BigDecimal("10.00"));
+    }
+
+    @Test
+    void cancelledReservationFreesItsSlot() {
+        VelocityLimiter limiter = started(properties(rule("account-hourly", VelocityScope.ACCOUNT, 1, "50.00")));
+
+        VelocityLimiter.Reservation reservation = limiter.reserve(first, new BigDecimal("50.00"));
+        assertThatThrownBy(() -> limiter.reserve(first, new BigDecimal("1.00")))
+                .isInstanceOf(TransferRejectedException.class);
+
+        reservation.cancel();
+        limiter.reserve(first, new BigDecimal("50.00"));
+    }
+
+    @Test
+    void rolledBackBatchGivesBackTheDebitsItReserved() {
+        VelocityLimiter limiter = started(properties(rule("account-hourly", VelocityScope.ACCOUNT, 1, null)));
+        AccountRepository accountRepo = mock(AccountRepository.class);
+        when(accountRepo.findSplitBalanceNumbers(anyCollection())).thenReturn(Set.of());
+        when(accountRepo.findAllForUpdate(anyCollection())).thenReturn(List.of(first, second));
+        LedgerPoster poster = new LedgerPoster(accountRepo, transactionRepo, mock(ActivitySummaryRecorder.class),
+                limiter, mock(SplitBalanceManager.class), mock(OutboxPublisher.class), mock(LiveUpdateHub.class));
+
+        TransactionSynchronizationManager.initSynchronization();
+        // the first leg is reserved before the second fails on its unknown target
+        assertThatThrownBy(() -> poster.post(List.of(
+                new TransferLegDTO("A1", "A2", new BigDecimal("10.00")),
+                new TransferLegDTO("A2", "A9", new BigDecimal("10.00"))), 7L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> limiter.reserve(first, new BigDecimal("10.00")))
+                .isInstanceOf(TransferRejectedException.class);
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        limiter.reserve(first, new BigDecimal("10.00"));
+    }
+
+    private VelocityLimiter started(VelocityProperties properties) {
+        VelocityLimiter limiter = new VelocityLimiter(properties, transactionRepo);
+        limiter.rebuild();
+        return limiter;
+    }
+
+    private static VelocityProperties bind(Map<String, String> config) {
+        return new Binder(new MapConfigurationPropertySource(config))
+                .bind("app.velocity", VelocityProperties.class)
+                .get();
+    }
+
+    private static VelocityProperties properties(VelocityProperties.Rule... rules) {
+        VelocityProperties properties = new VelocityProperties();
+        properties.setEnabled(true);
+        properties.setRules(List.of(rules));
+        return properties;
+    }
+
+    private static VelocityProperties.Rule rule(String name, VelocityScope scope, Integer maxCount, String maxAmount) {
+        VelocityProperties.Rule rule = new VelocityProperties.Rule();
+        rule.setName(name);
+        rule.setScope(scope);
+        rule.setWindow(scope == VelocityScope.CUSTOMER ? Duration.ofDays(1) : Duration.ofHours(1));
+        rule.setBuckets(60);
+        rule.setMaxCount(maxCount);
+        rule.setMaxAmount(maxAmount != null ? new BigDecimal(maxAmount) : null);
+        return rule;
+    }
+
+    private static RecentDebitView debit(Account account, String amount, LocalDateTime createdAt) {
+        RecentDebitView debit = mock(RecentDebitView.class);
+        when(debit.getAccountId()).thenReturn(account.getId());
+        when(debit.getCustomerId()).thenReturn(account.getCustomerId());
+        when(debit.getAmount()).thenReturn(new BigDecimal(amount));
+        when(debit.getCreatedAt()).thenReturn(createdAt);
+        return debit;
+    }
+
+    private static Account account(long id, String number, long customerId) {
+        return Account.builder()
+                .id(id)
+                .accountNumber(number)
+                .customerId(customerId)
+                .type(AccountType.CURRENT)
+                .status(AccountStatus.ACTIVE)
+                .balance(new BigDecimal("1000.00"))
+                .build();
+    }
+}
@@ -0,0 +1,314 @@
+package com.bankpro.account.service.service.impl;
+
+import com.bankpro.account.service.dto.ActivitySummaryDTO;
+import com.bankpro.account.service.dto.SummaryRebuildResultDTO;
+import com.bankpro.account.service.entity.Account;
+import com.bankpro.account.service.entity.AccountTransaction;
+import com.bankpro.account.service.entity.ActivitySummary;
+import com.bankpro.account.service.enums.SummaryPeriod;
+import com.bankpro.account.service.enums.TransactionType;
+import com.bankpro.account.service.repository.AccountRepository;
+import com.bankpro.account.service.repository.AccountTransactionRepository;
+import com.bankpro.account.service.repository.ActivitySummaryRepository;
+import com.bankpro.account.service.repository.BalanceShardRepository;
+import com.bankpro.account.service.repository.ColdTransactionStore;
+import com.bankpro.account.service.service.ActivitySummaryRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Summaries kept up by postings and recomputed by the parallel range rebuild, against
+ * an in-memory stand-in for the summary table's native statements, which are MySQL only.
+ */
+class ActivitySummaryServiceImplTest {
+
+    private static final long ACCOUNTS = 5;
+    private static final long SPLIT_ACCOUNT = 3L;
+    private static final LocalDateTime JUNE = LocalDateTime.of(2025, 6, 30, 18, 0);
+    private static final LocalDateTime JULY = LocalDateTime.of(2025, 7, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    private final List<AccountTransaction> journal = new CopyOnWriteArrayList<>();
+    private final SummaryTable table = new SummaryTable();
+    private final Set<Long> rebuiltRanges = ConcurrentHashMap.newKeySet();
+
+    private final AccountRepository accountRepo = mock(AccountRepository.class);
+    private final ActivitySummaryRepository summaryRepo = mock(ActivitySummaryRepository.class);
+    private final AccountTransactionRepository transactionRepo = mock(AccountTransactionRepository.class);
+    private final BalanceShardRepository shardRepo = mock(BalanceShardRepository.class);
+
+    private ActivitySummaryRecorder recorder;
+    private ActivitySummaryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = committingTemplate();
+        recorder = new ActivitySummaryRecorder(summaryRepo, accountRepo, transactionTemplate);
+        service = new ActivitySummaryServiceImpl(accountRepo, summaryRepo, transactionRepo, shardRepo, recorder,
+                new ColdTransactionStore(dir.toString()), transactionTemplate);
+        ReflectionTestUtils.setField(service, "rangeSize", 2);
+        ReflectionTestUtils.setField(service, "parallelism", 3);
+
+        when(accountRepo.findMaxId()).thenReturn(ACCOUNTS);
+        when(accountRepo.findByAccountNumber(anyString())).thenAnswer(call -> {
+            Account account = new Account();
+            account.setId(Long.parseLong(call.<String>getArgument(0).substring(1)));
+            return Optional.of(account);
+        });
+        when(accountRepo.lockIdRange(anyLong(), anyLong())).thenAnswer(call -> {
+            rebuiltRanges.add(call.getArgument(0));
+            return List.of();
+        });
+        when(shardRepo.lockAccountRange(anyLong(), anyLong())).thenAnswer(call -> {
+            long from = call.getArgument(0);
+            long to = call.getArgument(1);
+            // one row per shard
+            return SPLIT_ACCOUNT >= from && SPLIT_ACCOUNT <= to ? List.of(SPLIT_ACCOUNT, SPLIT_ACCOUNT) : List.of();
+        });
+        when(transactionRepo.findMaxId()).thenAnswer(call -> (long) journal.size());
+
+        doAnswer(call -> {
+            table.increment(call.getArgument(0), SummaryPeriod.valueOf(call.getArgument(1)), call.getArgument(2),
+                    new Row(call.getArgument(3), call.getArgument(4), call.getArgument(5), call.getArgument(6)));
+            return null;
+        }).when(summaryRepo).increment(anyLong(), anyString(), any(), any(), any(), anyLong(), anyLong());
+        when(summaryRepo.deleteByAccountRange(anyLong(), anyLong(), any()))
+                .thenAnswer(call -> table.delete(call.getArgument(0), call.getArgument(1), call.getArgument(2)));
+        when(summaryRepo.rebuildDaily(anyLong(), anyLong(), any()))
+                .thenAnswer(call -> table.rebuildDaily(journal, call.getArgument(0), call.getArgument(1),
+                        call.getArgument(2)));
+        when(summaryRepo.rebuildMonthly(anyLong(), anyLong(), any()))
+                .thenAnswer(call -> table.rebuildMonthly(call.getArgument(0), call.getArgument(1)));
+        when(summaryRepo.findByAccountIdAndPeriodTypeAndPeriodStart(anyLong(), any(), any()))
+                .thenAnswer(call -> table.find(call.getArgument(0), call.getArgument(1), call.getArgument(2)));
+    }
+
+    @Test
+    void postingsAndARebuildAgreeWithTheJournal() {
+        post(entry(1, TransactionType.CREDIT, "100.00", JUNE), entry(2, TransactionType.DEBIT, "30.00", JUNE));
+        post(entry(1, TransactionType.DEBIT, "20.00", JULY), entry(SPLIT_ACCOUNT, TransactionType.CREDIT, "20.00", JULY));
+        post(entry(SPLIT_ACCOUNT, TransactionType.CREDIT, "15.00", JULY.plusHours(1)),
+                entry(5, TransactionType.DEBIT, "15.00", JULY.plusHours(1)));
+        recorder.flushDeferred();
+
+        assertSummariesMatchJournal();
+
+        SummaryRebuildResultDTO result = service.rebuild();
+
+        assertThat(result.getRanges()).isEqualTo(3);
+        assertThat(rebuiltRanges).containsExactlyInAnyOrder(1L, 3L, 5L);
+        // per account: one day row per active day and one month row per active month
+        assertThat(result.getRowsWritten()).isEqualTo(4 + 2 + 2 + 0 + 2);
+        assertSummariesMatchJournal();
+    }
+
+    @Test
+    void rebuildIsNotAddedToByCreditsItAlreadyCounted() {
+        post(entry(SPLIT_ACCOUNT, TransactionType.CREDIT, "20.00", JULY));
+        // queued for the next flush when the rebuild runs
+        service.rebuild();
+        recorder.flushDeferred();
+        assertSummariesMatchJournal();
+
+        post(entry(SPLIT_ACCOUNT, TransactionType.CREDIT, "5.00", JULY.plusHours(2)));
+        recorder.flushDeferred();
+        assertSummariesMatchJournal();
+        assertThat(service.getSummary("A3", SummaryPeriod.MONTH, JULY.toLocalDate()).getTotalIn())
+                .isEqualByComparingTo("25.00");
+    }
+
+    /**
+     * Appends the entries to the journal and records them in one committed posting.
+     */
+    private void post(AccountTransaction... entries) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (AccountTransaction entry : entries) {
+                entry.setId((long) journal.size() + 1);
+                journal.add(entry);
+            }
+            recorder.record(List.of(entries), Set.of(SPLIT_ACCOUNT));
+            commit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void assertSummariesMatchJournal() {
+        for (long accountId = 1; accountId <= ACCOUNTS; accountId++) {
+            for (LocalDateTime at : List.of(JUNE, JULY)) {
+                for (SummaryPeriod period : SummaryPeriod.values()) {
+                    ActivitySummaryDTO summary = service.getSummary("A" + accountId, period, at.toLocalDate());
+                    Row expected = fromJournal(accountId, period, period.startOf(at.toLocalDate()));
+                    assertThat(summary.getTotalIn()).as("%s in of %d on %s", period, accountId, at)
+                            .isEqualByComparingTo(expected.totalIn());
+                    assertThat(summary.getTotalOut()).as("%s out of %d on %s", period, accountId, at)
+                            .isEqualByComparingTo(expected.totalOut());
+                    assertThat(summary.getCreditCount()).isEqualTo(expected.creditCount());
+                    assertThat(summary.getDebitCount()).isEqualTo(expected.debitCount());
+                }
+            }
+        }
+    }
+
+    private Row fromJournal(long accountId, SummaryPeriod period, LocalDate periodStart) {
+        Row sum = Row.ZERO;
+        for (AccountTransaction entry : journal) {
+            if (entry.getAccountId() == accountId
+                    && period.startOf(entry.getCreatedAt().toLocalDate()).equals(periodStart)) {
+                sum = sum.plus(Row.of(entry));
+            }
+        }
+        return sum;
+    }
+
+    private static AccountTransaction entry(long accountId, TransactionType type, String amount, LocalDateTime at) {
+        return AccountTransaction.builder()
+                .accountId(accountId)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .createdAt(at)
+                .build();
+    }
+
+    /**
+     * Runs callbacks the way a real template does: with synchronization active, then
+     * commit and completion callbacks, on the calling thread.
+     */
+    private static TransactionTemplate committingTemplate() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(call -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                Object result = call.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+                commit();
+                return result;
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+        doAnswer(call -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                call.<Consumer<Object>>getArgument(0).accept(null);
+                commit();
+                return null;
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }).when(transactionTemplate).executeWithoutResult(any());
+        return transactionTemplate;
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private record Key(long accountId, SummaryPeriod period, LocalDate periodStart) {
+    }
+
+    private record Row(BigDecimal totalIn, BigDecimal totalOut, long creditCount, long debitCount) {
+
+        static final Row ZERO = new Row(BigDecimal.ZERO, BigDecimal.ZERO, 0, 0);
+
+        static Row of(AccountTransaction entry) {
+            return entry.getType() == TransactionType.CREDIT
+                    ? new Row(entry.getAmount(), BigDecimal.ZERO, 1, 0)
+                    : new Row(BigDecimal.ZERO, entry.getAmount(), 0, 1);
+        }
+
+        Row plus(Row other) {
+            return new Row(totalIn.add(other.totalIn), totalOut.add(other.totalOut),
+                    creditCount + other.creditCount, debitCount + other.debitCount);
+        }
+    }
+
+    /**
+     * What the native upsert, range delete and range rebuild statements do to the table.
+     */
+    private static final class SummaryTable {
+
+        private final Map<Key, Row> rows = new HashMap<>();
+
+        synchronized void increment(long accountId, SummaryPeriod period, LocalDate periodStart, Row delta) {
+            rows.merge(new Key(accountId, period, periodStart), delta, Row::plus);
+        }
+
+        synchronized int delete(long fromId, long toId, LocalDate since) {
+            int before = rows.size();
+            rows.keySet().removeIf(key -> inRange(key.accountId(), fromId, toId) && !key.periodStart().isBefore(since));
+            return before - rows.size();
+        }
+
+        synchronized int rebuildDaily(List<AccountTransaction> journal, long fromId, long toId, LocalDate since) {
+            Map<Key, Row> days = new HashMap<>();
+            for (AccountTransaction entry : journal) {
+                LocalDate day = entry.getCreatedAt().toLocalDate();
+                if (inRange(entry.getAccountId(), fromId, toId) && !day.isBefore(since)) {
+                    days.merge(new Key(entry.getAccountId(), SummaryPeriod.DAY, day), Row.of(entry), Row::plus);
+                }
+            }
+            rows.putAll(days);
+            return days.size();
+        }
+
+        synchronized int rebuildMonthly(long fromId, long toId) {
+            Map<Key, Row> months = new HashMap<>();
+            rows.forEach((key, row) -> {
+                if (key.period() == SummaryPeriod.DAY && inRange(key.accountId(), fromId, toId)) {
+                    months.merge(new Key(key.accountId(), SummaryPeriod.MONTH,
+                            SummaryPeriod.MONTH.startOf(key.periodStart())), row, Row::plus);
+                }
+            });
+            rows.putAll(months);
+            return months.size();
+        }
+
+        synchronized Optional<ActivitySummary> find(long accountId, SummaryPeriod period, LocalDate periodStart) {
+            return Optional.ofNullable(rows.get(new Key(accountId, period, periodStart)))
+                    .map(row -> ActivitySummary.builder()
+                            .accountId(accountId)
+                            .periodType(period)
+                            .periodStart(periodStart)
+                            .totalIn(row.totalIn())
+                            .totalOut(row.totalOut())
+                            .creditCount(row.creditCount())
+                            .debitCount(row.debitCount())
+                            .build());
+        }
+
+        private static boolean inRange(long accountId, long fromId, long toId) {
+            return accountId >= fromId && accountId <= toId;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.bankpro.account.service.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    private static final long MINUTE = 60_000;
+    private static final long HOUR = 60 * MINUTE;
+
+    @Test
+    void enforcesCountAndAmountWithinWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR, 60);
+        long t0 = 1_000 * HOUR;
+
+        assertThat(counter.tryAdd(t0, 400, 3, 1_000)).isTrue();
+        assertThat(counter.tryAdd(t0 + MINUTE, 400, 3, 1_000)).isTrue();
+        assertThat(counter.tryAdd(t0 + 2 * MINUTE, 300, 3, 1_000)).isFalse();
+        assertThat(counter.tryAdd(t0 + 2 * MINUTE, 200, 3, 1_000)).isTrue();
+        assertThat(counter.tryAdd(t0 + 3 * MINUTE, 1, 3, 1_000)).isFalse();
+
+        assertThat(counter.count(t0 + 3 * MINUTE)).isEqualTo(3);
+        assertThat(counter.amount(t0 + 3 * MINUTE)).isEqualTo(1_000);
+    }
+
+    @Test
+    void oldEventsSlideOutOfTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR, 60);
+        long t0 = 1_000 * HOUR;
+
+        counter.tryAdd(t0, 100, Long.MAX_VALUE, Long.MAX_VALUE);
+        counter.tryAdd(t0 + 30 * MINUTE, 100, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        assertThat(counter.count(t0 + 59 * MINUTE)).isEqualTo(2);
+        assertThat(counter.count(t0 + 61 * MINUTE)).isEqualTo(1);
+        assertThat(counter.isIdle(t0 + 3 * HOUR)).isTrue();
+    }
+
+    @Test
+    void removeAndReplayAdjustTotals() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR, 60);
+        long t0 = 1_000 * HOUR;
+
+        counter.add(t0 - 2 * HOUR, 999);
+        counter.add(t0 - 10 * MINUTE, 50);
+        counter.tryAdd(t0, 70, Long.MAX_VALUE, Long.MAX_VALUE);
+        counter.remove(t0, 70);
+
+        assertThat(counter.count(t0)).isEqualTo(1);
+        assertThat(counter.amount(t0)).isEqualTo(50);
+    }
+}
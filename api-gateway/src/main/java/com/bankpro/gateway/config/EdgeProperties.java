@@ -0,0 +1,81 @@
+package com.bankpro.gateway.config;
+
+import com.bankpro.gateway.enums.RateLimitKey;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Edge authentication and rate-limit settings bound from {@code app.gateway.*}.
+ * Routes themselves are configured under {@code spring.cloud.gateway.routes}.
+ * <p>
+ * Example:
+ * <pre>
+ * app.gateway.rate-limits[0].name=auth
+ * app.gateway.rate-limits[0].paths=/api/v1/customers/login,/api/v1/customers/register
+ * app.gateway.rate-limits[0].key=CLIENT_IP
+ * app.gateway.rate-limits[0].capacity=5
+ * app.gateway.rate-limits[0].refill-per-second=0.2
+ * </pre>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.gateway")
+public class EdgeProperties {
+
+    /**
+     * Path patterns reachable without a token.
+     */
+    private List<String> publicPaths = new ArrayList<>();
+
+    /**
+     * Path patterns that additionally require the {@code ROLE_ADMIN} role.
+     */
+    private List<String> adminPaths = new ArrayList<>();
+
+    /**
+     * Whether to take the client address from the first {@code X-Forwarded-For} entry.
+     * Enable only behind a load balancer that overwrites the header.
+     */
+    private boolean trustForwardedFor = false;
+
+    /**
+     * Rate-limit rules; a request must pass every rule whose paths match it.
+     */
+    private List<Rule> rateLimits = new ArrayList<>();
+
+    /**
+     * A token bucket per client for a set of paths.
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * Name used in metrics and in the rejection message.
+         */
+        private String name;
+
+        /**
+         * Path patterns the rule applies to.
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * What each bucket is keyed by.
+         */
+        private RateLimitKey key = RateLimitKey.PRINCIPAL;
+
+        /**
+         * Largest burst a client may send at once.
+         */
+        private int capacity = 100;
+
+        /**
+         * Tokens added back per second.
+         */
+        private double refillPerSecond = 50;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bankpro.gateway.constant;
+
+/**
+ * Headers the gateway sets on requests it forwards. Any client-supplied value is
+ * removed first, so downstream services can rely on them.
+ */
+public final class GatewayHeaders {
+
+    /** Subject (email) of the verified JWT. */
+    public static final String AUTHENTICATED_USER = "X-Authenticated-User";
+
+    /** Role claim of the verified JWT. */
+    public static final String AUTHENTICATED_ROLE = "X-Authenticated-Role";
+
+    private GatewayHeaders() {
+        // prevent instantiation
+    }
+}
@@ -0,0 +1,13 @@
+package com.bankpro.gateway.enums;
+
+/**
+ * What a rate-limit bucket is keyed by.
+ */
+public enum RateLimitKey {
+
+    /** Remote address of the client. */
+    CLIENT_IP,
+
+    /** Verified JWT subject; anonymous requests fall back to the client address. */
+    PRINCIPAL
+}
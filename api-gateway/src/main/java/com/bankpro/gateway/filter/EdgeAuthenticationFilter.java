@@ -0,0 +1,108 @@
+package com.bankpro.gateway.filter;
+
+import com.bankpro.gateway.config.EdgeProperties;
+import com.bankpro.gateway.constant.GatewayHeaders;
+import com.bankpro.gateway.security.JwtVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Verifies the bearer token once at the edge and forwards the verified identity in
+ * {@link GatewayHeaders}. Client-supplied identity headers are always stripped.
+ * <p>
+ * Public paths pass without a token; everything else needs a valid one, and admin
+ * paths also need {@code ROLE_ADMIN}. The {@code Authorization} header is forwarded
+ * unchanged so services that verify tokens themselves keep working.
+ */
+@Slf4j
+@Component
+public class EdgeAuthenticationFilter implements GlobalFilter, Ordered {
+
+    /** Exchange attribute holding the verified {@link JwtVerifier.Identity}. */
+    public static final String IDENTITY_ATTRIBUTE = EdgeAuthenticationFilter.class.getName() + ".identity";
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    private static final String BEARER = "Bearer ";
+    private static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final JwtVerifier jwtVerifier;
+    private final GatewayErrorWriter errorWriter;
+    private final List<PathPattern> publicPaths;
+    private final List<PathPattern> adminPaths;
+
+    public EdgeAuthenticationFilter(JwtVerifier jwtVerifier, GatewayErrorWriter errorWriter,
+                                    EdgeProperties properties) {
+        this.jwtVerifier = jwtVerifier;
+        this.errorWriter = errorWriter;
+        this.publicPaths = parse(properties.getPublicPaths());
+        this.adminPaths = parse(properties.getAdminPaths());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        Optional<JwtVerifier.Identity> identity = Optional.empty();
+        if (authorization != null && authorization.startsWith(BEARER)) {
+            identity = jwtVerifier.verify(authorization.substring(BEARER.length()));
+            if (identity.isEmpty()) {
+                log.debug("Rejected invalid or expired token on {}", request.getPath());
+                return errorWriter.write(exchange, HttpStatus.UNAUTHORIZED, "INVALID_TOKEN",
+                        "Token is invalid or expired");
+            }
+        }
+
+        if (identity.isEmpty() && !matches(publicPaths, request)) {
+            return errorWriter.write(exchange, HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "Authentication required");
+        }
+        if (matches(adminPaths, request) && identity.map(i -> !ADMIN_ROLE.equals(i.role())).orElse(true)) {
+            return errorWriter.write(exchange, HttpStatus.FORBIDDEN, "FORBIDDEN", "Admin role required");
+        }
+
+        ServerHttpRequest.Builder forwarded = request.mutate().headers(headers -> {
+            headers.remove(GatewayHeaders.AUTHENTICATED_USER);
+            headers.remove(GatewayHeaders.AUTHENTICATED_ROLE);
+        });
+        identity.ifPresent(verified -> {
+            exchange.getAttributes().put(IDENTITY_ATTRIBUTE, verified);
+            forwarded.header(GatewayHeaders.AUTHENTICATED_USER, verified.subject());
+            if (verified.role() != null) {
+                forwarded.header(GatewayHeaders.AUTHENTICATED_ROLE, verified.role());
+            }
+        });
+        return chain.filter(exchange.mutate().request(forwarded.build()).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    static List<PathPattern> parse(List<String> patterns) {
+        return patterns.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    static boolean matches(List<PathPattern> patterns, ServerHttpRequest request) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bankpro.gateway.filter;
+
+import com.bankpro.gateway.dto.ApiError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes {@link ApiError} bodies for requests the gateway rejects before routing.
+ */
+@Component
+@RequiredArgsConstructor
+public class GatewayErrorWriter {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Completes the exchange with an error response.
+     *
+     * @param exchange current exchange
+     * @param status   HTTP status
+     * @param code     machine-readable error code
+     * @param message  human-readable reason
+     * @return completion of the write
+     */
+    public Mono<Void> write(ServerWebExchange exchange, HttpStatus status, String code, String message) {
+        ApiError error = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(code)
+                .message(message)
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            DataBuffer body = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(error));
+            return response.writeWith(Mono.just(body));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+}
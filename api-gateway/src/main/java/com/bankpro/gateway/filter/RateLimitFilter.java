@@ -0,0 +1,137 @@
+package com.bankpro.gateway.filter;
+
+import com.bankpro.gateway.config.EdgeProperties;
+import com.bankpro.gateway.enums.RateLimitKey;
+import com.bankpro.gateway.security.JwtVerifier;
+import com.bankpro.gateway.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies per-client token-bucket limits per route group before a request is forwarded.
+ * <p>
+ * Buckets live in a {@link ConcurrentHashMap} per rule and are taken with a single CAS
+ * (see {@link TokenBucket}), so the check adds no locking on the event loop. Bursts against
+ * {@code /login} and {@code /register} are refused here, before they reach BCrypt in
+ * customer-service. Buckets that have refilled completely are dropped periodically,
+ * which keeps memory proportional to the number of recently active clients.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final GatewayErrorWriter errorWriter;
+    private final boolean trustForwardedFor;
+    private final List<ActiveRule> rules;
+
+    public RateLimitFilter(EdgeProperties properties, GatewayErrorWriter errorWriter, MeterRegistry meterRegistry) {
+        this.errorWriter = errorWriter;
+        this.trustForwardedFor = properties.isTrustForwardedFor();
+        this.rules = properties.getRateLimits().stream()
+                .map(rule -> new ActiveRule(rule, meterRegistry))
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        long now = System.nanoTime();
+
+        for (ActiveRule rule : rules) {
+            if (!EdgeAuthenticationFilter.matches(rule.paths, request)) {
+                continue;
+            }
+            String key = clientKey(rule.settings.getKey(), exchange);
+            TokenBucket bucket = rule.buckets.computeIfAbsent(key, k ->
+                    new TokenBucket(rule.settings.getCapacity(), rule.settings.getRefillPerSecond(), now));
+            long waitNanos = bucket.tryAcquire(now);
+            if (waitNanos > 0) {
+                rule.rejected.increment();
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+                exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+                return errorWriter.write(exchange, HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED",
+                        "Too many requests (" + rule.settings.getName() + "), retry in " + retryAfter + "s");
+            }
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return EdgeAuthenticationFilter.ORDER + 1;
+    }
+
+    /**
+     * Drops buckets that have refilled completely; a new bucket starts full, so nothing is lost.
+     */
+    @Scheduled(fixedDelayString = "${app.gateway.bucket-sweep-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        for (ActiveRule rule : rules) {
+            rule.buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    /**
+     * @return number of live buckets across all rules
+     */
+    public int getBucketCount() {
+        return rules.stream().mapToInt(rule -> rule.buckets.size()).sum();
+    }
+
+    private String clientKey(RateLimitKey keyType, ServerWebExchange exchange) {
+        if (keyType == RateLimitKey.PRINCIPAL) {
+            JwtVerifier.Identity identity = exchange.getAttribute(EdgeAuthenticationFilter.IDENTITY_ATTRIBUTE);
+            if (identity != null) {
+                return "user:" + identity.subject();
+            }
+        }
+        return "ip:" + clientAddress(exchange.getRequest());
+    }
+
+    private String clientAddress(ServerHttpRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeaders().getFirst(FORWARDED_FOR);
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote == null || remote.getAddress() == null ? "unknown" : remote.getAddress().getHostAddress();
+    }
+
+    private static final class ActiveRule {
+
+        private final EdgeProperties.Rule settings;
+        private final List<PathPattern> paths;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter rejected;
+
+        ActiveRule(EdgeProperties.Rule settings, MeterRegistry meterRegistry) {
+            this.settings = settings;
+            this.paths = EdgeAuthenticationFilter.parse(settings.getPaths());
+            this.rejected = Counter.builder("gateway.ratelimit.rejected")
+                    .tag("rule", settings.getName())
+                    .register(meterRegistry);
+        }
+    }
+}
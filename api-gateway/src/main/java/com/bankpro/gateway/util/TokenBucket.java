@@ -0,0 +1,61 @@
+package com.bankpro.gateway.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket held in a single {@link AtomicLong}.
+ * <p>
+ * Instead of a token count plus a refill timestamp, the bucket stores the time at which
+ * it will be full again (the generic cell rate algorithm). Taking a token pushes that time
+ * forward by one refill interval; the request is refused if the time would end up more than
+ * {@code capacity} intervals ahead of now. One CAS per call, no allocation, and no background
+ * refill.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity        largest burst
+     * @param refillPerSecond tokens added back per second
+     * @param nowNanos        current {@link System#nanoTime()}; the bucket starts full
+     */
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be >= 1 and refillPerSecond > 0");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return {@code 0} if a token was taken, otherwise nanoseconds until one will be
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return whether the bucket has refilled completely, so dropping it loses nothing
+     */
+    public boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
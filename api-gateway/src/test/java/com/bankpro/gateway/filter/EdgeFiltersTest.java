@@ -0,0 +1,154 @@
+package com.bankpro.gateway.filter;
+
+import com.bankpro.gateway.constant.GatewayHeaders;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the gateway against an in-process stub standing in for all downstream services.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // An indexed list here replaces the whole configured list
+        "app.gateway.rate-limits[0].name=auth",
+        "app.gateway.rate-limits[0].paths=/api/v1/customers/login",
+        "app.gateway.rate-limits[0].key=CLIENT_IP",
+        "app.gateway.rate-limits[0].capacity=3",
+        "app.gateway.rate-limits[0].refill-per-second=0.01"
+})
+class EdgeFiltersTest {
+
+    private static final HttpServer STUB = startStub();
+    private static final Map<String, AtomicInteger> HITS = new ConcurrentHashMap<>();
+    private static final Map<String, String> LAST_USER = new ConcurrentHashMap<>();
+
+    @Autowired
+    private WebTestClient client;
+
+    @Value("${app.jwt.secret}")
+    private String secret;
+
+    @DynamicPropertySource
+    static void routeToStub(DynamicPropertyRegistry registry) {
+        String uri = "http://127.0.0.1:" + STUB.getAddress().getPort();
+        registry.add("app.routes.customer-uri", () -> uri);
+        registry.add("app.routes.account-uri", () -> uri);
+        registry.add("app.routes.dashboard-uri", () -> uri);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @Test
+    void loginBurstIsCutOffBeforeReachingTheService() {
+        for (int i = 0; i < 3; i++) {
+            client.post().uri("/api/v1/customers/login").exchange().expectStatus().isOk();
+        }
+        client.post().uri("/api/v1/customers/login").exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER)
+                .expectBody().jsonPath("$.error").isEqualTo("RATE_LIMITED");
+
+        assertEquals(3, hits("/api/v1/customers/login"));
+    }
+
+    @Test
+    void protectedRoutesNeedAValidToken() {
+        client.get().uri("/api/v1/accounts?customerId=1").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/api/v1/accounts?customerId=1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer not.a.token")
+                .exchange().expectStatus().isUnauthorized();
+
+        assertEquals(0, hits("/api/v1/accounts"));
+    }
+
+    @Test
+    void verifiedIdentityIsForwardedAndSpoofedHeadersAreReplaced() {
+        client.get().uri("/api/v1/customers/profile")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("ravi@example.com", "ROLE_USER"))
+                .header(GatewayHeaders.AUTHENTICATED_USER, "admin@example.com")
+                .exchange().expectStatus().isOk();
+
+        assertEquals("ravi@example.com", LAST_USER.get("/api/v1/customers/profile"));
+    }
+
+    @Test
+    void adminPathsNeedAdminRole() {
+        client.post().uri("/api/v1/accounts/admin/archive")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("ravi@example.com", "ROLE_USER"))
+                .exchange().expectStatus().isForbidden();
+        client.post().uri("/api/v1/accounts/admin/archive")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("root@example.com", "ROLE_ADMIN"))
+                .exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void internalEndpointsAreNotExposed() {
+        client.get().uri("/api/v1/internal/events")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("ravi@example.com", "ROLE_ADMIN"))
+                .exchange().expectStatus().isNotFound();
+
+        assertEquals(0, hits("/api/v1/internal/events"));
+    }
+
+    private String token(String subject, String role) {
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("role", role)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .compact();
+    }
+
+    private static int hits(String path) {
+        return HITS.getOrDefault(path, new AtomicInteger()).get();
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                HITS.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+                String user = exchange.getRequestHeaders().getFirst(GatewayHeaders.AUTHENTICATED_USER);
+                if (user != null) {
+                    LAST_USER.put(path, user);
+                }
+                byte[] body = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                try (OutputStream out = exchange.getResponseBody()) {
+                    exchange.sendResponseHeaders(200, body.length);
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
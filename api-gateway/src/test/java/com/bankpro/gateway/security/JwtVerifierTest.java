@@ -0,0 +1,18 @@
+package com.bankpro.gateway.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtVerifierTest {
+
+    @Test
+    void refusesMissingShortOrRevokedSecrets() {
+        assertThrows(IllegalStateException.class, () -> new JwtVerifier(""));
+        assertThrows(IllegalStateException.class, () -> new JwtVerifier(Base64.getEncoder().encodeToString(new byte[31])));
+        assertThrows(IllegalStateException.class, () -> new JwtVerifier("Z2T26C7oJI1EjY91ukCVU7KuBQnhd7UfYaClrwI1HvU="));
+        assertDoesNotThrow(() -> new JwtVerifier(Base64.getEncoder().encodeToString(new byte[32])));
+    }
+}
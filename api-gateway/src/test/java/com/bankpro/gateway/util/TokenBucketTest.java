@@ -0,0 +1,70 @@
+package com.bankpro.gateway.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacityThenRefusesWithWaitTime() {
+        long t0 = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(3, 1, t0);
+
+        assertEquals(0, bucket.tryAcquire(t0));
+        assertEquals(0, bucket.tryAcquire(t0));
+        assertEquals(0, bucket.tryAcquire(t0));
+        assertEquals(SECOND, bucket.tryAcquire(t0));
+        assertFalse(bucket.isFull(t0));
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        long t0 = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, 2, t0);
+        bucket.tryAcquire(t0);
+        bucket.tryAcquire(t0);
+
+        assertTrue(bucket.tryAcquire(t0 + SECOND / 4) > 0);
+        assertEquals(0, bucket.tryAcquire(t0 + SECOND / 2));
+        assertTrue(bucket.tryAcquire(t0 + SECOND / 2) > 0);
+
+        assertTrue(bucket.isFull(t0 + 10 * SECOND));
+        assertEquals(0, bucket.tryAcquire(t0 + 10 * SECOND));
+        assertEquals(0, bucket.tryAcquire(t0 + 10 * SECOND));
+        assertTrue(bucket.tryAcquire(t0 + 10 * SECOND) > 0, "refill never exceeds capacity");
+    }
+
+    @Test
+    void concurrentCallersNeverTakeMoreThanCapacity() throws InterruptedException {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(1_000, 0.001, now);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        if (bucket.tryAcquire(now) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(1_000, granted.get());
+    }
+}
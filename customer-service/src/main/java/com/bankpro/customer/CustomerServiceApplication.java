@@ -1,7 +1,10 @@
 package com.bankpro.customer;
 
+import com.bankpro.customer.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Entry point for the Customer Service application.
@@ -14,6 +17,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author Aniket Kamlesh
  */
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
+@EnableScheduling
 public class CustomerServiceApplication {
 
 	/**
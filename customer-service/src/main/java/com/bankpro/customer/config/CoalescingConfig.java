@@ -0,0 +1,26 @@
+package com.bankpro.customer.config;
+
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Single-flight groups used to coalesce concurrent identical reads.
+ */
+@Configuration
+public class CoalescingConfig {
+
+    /**
+     * Profile fetches keyed by customer email; the counters are published as
+     * {@code singleflight.calls{resource=profile}}.
+     *
+     * @param meterRegistry registry the counters are published to
+     * @return the profile single-flight group
+     */
+    @Bean
+    public SingleFlight<String, CustomerResponseDTO> profileFlights(MeterRegistry meterRegistry) {
+        return new SingleFlight<String, CustomerResponseDTO>().register(meterRegistry, "profile");
+    }
+}
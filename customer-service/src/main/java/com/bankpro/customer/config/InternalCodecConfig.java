@@ -0,0 +1,33 @@
+package com.bankpro.customer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Lets internal callers exchange payloads as Smile by sending
+ * {@code Accept}/{@code Content-Type: application/x-jackson-smile}; everyone else gets JSON.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class InternalCodecConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Spring MVC registers an unrestricted Smile converter whenever Smile is on the classpath;
+     * it is replaced by one scoped to the internal endpoints. The converter goes last so that
+     * JSON still wins for {@code Accept: *}{@code /*}.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter.getClass() == MappingJackson2SmileHttpMessageConverter.class);
+        converters.add(new InternalSmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+    }
+}
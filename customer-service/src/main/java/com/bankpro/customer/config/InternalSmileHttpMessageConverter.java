@@ -0,0 +1,37 @@
+package com.bankpro.customer.config;
+
+import com.bankpro.customer.constant.ApiPaths;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Smile (binary JSON) converter that only takes part in content negotiation for the
+ * internal service-to-service endpoints. Public endpoints keep answering JSON even
+ * when a client asks for {@value #SMILE_VALUE}.
+ */
+public class InternalSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    public InternalSmileHttpMessageConverter(ObjectMapper smileMapper) {
+        super(smileMapper);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return isInternalRequest() && super.canRead(mediaType);
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return isInternalRequest() && super.canWrite(mediaType);
+    }
+
+    private static boolean isInternalRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getRequest().getRequestURI().startsWith(ApiPaths.BASE_INTERNAL + "/");
+    }
+}
@@ -1,7 +1,10 @@
 package com.bankpro.customer.config;
 
+import com.bankpro.customer.service.TokenRevocationList;
 import com.bankpro.customer.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +24,7 @@ import java.util.List;
 /**
  * JWT authentication filter responsible for validating the token in each HTTP request.
  * Extracts user identity and role from token and sets authentication context accordingly.
+ * Revoked tokens are ignored; the token's claims are kept as the authentication details.
  */
 @Slf4j
 @Component
@@ -28,6 +32,7 @@ import java.util.List;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList revocationList;
 
     /**
      * Intercepts requests and applies JWT validation.
@@ -52,26 +57,30 @@ public class JwtFilter extends OncePerRequestFilter {
             try {
                 String token = authHeader.substring(7); // Strip "Bearer "
 
-                if (jwtUtil.validateToken(token)) {
-                    String username = jwtUtil.extractUsername(token);
-                    String role = jwtUtil.extractRole(token);
+                Claims claims = jwtUtil.parseToken(token);
+                String username = claims.getSubject();
+                String role = claims.get("role", String.class);
 
+                if (revocationList.isRevoked(claims.getId())) {
+                    log.warn("Revoked JWT token for URI: {}", requestURI);
+                } else {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
                                     username,
                                     null,
                                     List.of(new SimpleGrantedAuthority(role))
                             );
+                    authentication.setDetails(claims);
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
 
                     log.debug("JWT validated for user [{}] with role [{}] on URI [{}]", username, role, requestURI);
-                } else {
-                    log.warn("Invalid JWT token for URI: {}", requestURI);
                 }
 
             } catch (ExpiredJwtException ex) {
                 log.warn("Expired JWT token encountered on URI [{}]: {}", requestURI, ex.getMessage());
+            } catch (JwtException | IllegalArgumentException ex) {
+                log.warn("Invalid JWT token for URI: {}", requestURI);
             } catch (Exception ex) {
                 log.error("Error occurred while parsing JWT on URI [{}]: {}", requestURI, ex.getMessage(), ex);
             }
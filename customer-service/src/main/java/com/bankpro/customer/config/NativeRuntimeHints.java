@@ -0,0 +1,72 @@
+package com.bankpro.customer.config;
+
+import com.bankpro.customer.controller.CustomerControllerApi;
+import com.bankpro.customer.controller.InternalControllerApi;
+import com.bankpro.customer.dto.ApiError;
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.dto.CustomerRoleChangeDTO;
+import com.bankpro.customer.dto.OutboxEventDTO;
+import com.bankpro.customer.entity.Customer;
+import com.bankpro.customer.entity.CustomerPhone;
+import com.bankpro.customer.entity.OutboxEvent;
+import com.bankpro.customer.entity.OutboxOffset;
+import com.bankpro.customer.entity.RefreshToken;
+import com.bankpro.customer.entity.RevokedToken;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Hints for the GraalVM native image ({@code -Pnative}) that Spring AOT cannot infer.
+ * <ul>
+ *     <li>JJWT 0.11 loads its implementation and the Jackson serializer by class name
+ *     and through {@link java.util.ServiceLoader}.</li>
+ *     <li>Entities are registered explicitly so Hibernate can reach fields and
+ *     constructors even where entity scanning is not traced.</li>
+ *     <li>DTOs written with the {@code ObjectMapper} outside controller signatures (outbox
+ *     payloads, error bodies) are registered for Jackson binding. Lombok builders are
+ *     plain generated code and need nothing.</li>
+ *     <li>springdoc brings its own hints but reads our {@code @Operation} annotations
+ *     from the API interfaces.</li>
+ * </ul>
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<String> JJWT_REFLECTIVE_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.impl.crypto.MacProvider",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        JJWT_REFLECTIVE_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        for (Class<?> entity : List.of(Customer.class, CustomerPhone.class, OutboxEvent.class, OutboxOffset.class,
+                RefreshToken.class, RevokedToken.class)) {
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+        binding.registerReflectionHints(hints.reflection(),
+                CustomerResponseDTO.class, CustomerRoleChangeDTO.class, OutboxEventDTO.class, ApiError.class);
+
+        for (Class<?> api : List.of(CustomerControllerApi.class, InternalControllerApi.class)) {
+            hints.reflection().registerType(api, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+        }
+    }
+}
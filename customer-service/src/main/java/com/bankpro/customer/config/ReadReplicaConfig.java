@@ -0,0 +1,80 @@
+package com.bankpro.customer.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions
+ * to read replicas when {@code app.datasource.read-replicas.enabled=true}.
+ * <p>
+ * The primary pool is still built from {@code spring.datasource.*}; JPA and everything
+ * else use the {@link Primary} lazy proxy in front of the router.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * @param properties {@code spring.datasource.*}
+     * @return the primary pool, tuned by {@code spring.datasource.hikari.*}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * @param primaryDataSource primary pool
+     * @param properties        replica settings
+     * @return the router over the primary and one pool per replica
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                            ReadReplicaProperties properties) {
+        List<ReadReplicaProperties.Replica> replicas = properties.getReplicas();
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("app.datasource.read-replicas.enabled is set but no replicas are configured");
+        }
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplicaProperties.Replica replica = replicas.get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            // start even while a replica is down; the health check keeps it out of rotation
+            pool.setInitializationFailTimeout(-1);
+            pools.put(pool.getPoolName(), pool);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, pools, properties.getHealthCheckTimeout());
+    }
+
+    /**
+     * Defers fetching a connection until the first statement, when the transaction's
+     * read-only flag is known.
+     *
+     * @param replicaRoutingDataSource router
+     * @return the data source used by JPA
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
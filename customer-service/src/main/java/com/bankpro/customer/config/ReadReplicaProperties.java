@@ -0,0 +1,61 @@
+package com.bankpro.customer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing settings bound from {@code app.datasource.read-replicas.*}.
+ * <p>
+ * The primary stays configured through {@code spring.datasource.*}; when routing is
+ * enabled, read-only transactions are spread over {@link #replicas}.
+ * </p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replicas at all.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Replica connection settings; used round-robin while healthy.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How long {@code Connection.isValid} may take before a replica counts as down.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    /**
+     * How long after a customer's own write their reads stay on the primary,
+     * covering replication lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Connection settings of one replica.
+     */
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * Pool size for this replica.
+         */
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bankpro.customer.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Lets a caller force the current thread's reads onto the primary, e.g. right after the
+ * same customer wrote and the replicas may not have caught up yet.
+ * <p>
+ * The choice is made when a transaction first touches the database, so the pin must be
+ * in place before the first query of that transaction.
+ * </p>
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadRouting() {
+        // prevent instantiation
+    }
+
+    /**
+     * Runs {@code work} with every connection it opens taken from the primary.
+     *
+     * @param work the reads to run
+     * @return the result of {@code work}
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return whether the current thread must read from the primary
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.bankpro.customer.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the healthy replicas in turn and everything else,
+ * including reads pinned with {@link ReadRouting#onPrimary}, to the primary.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this must sit
+ * behind a {@code LazyConnectionDataSourceProxy} that defers fetching the connection to
+ * the first statement. {@link #checkReplicas()} takes replicas that fail
+ * {@code Connection.isValid} out of rotation until they pass again; with none left,
+ * reads fall back to the primary.
+ * </p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> healthy;
+
+    /**
+     * @param primary           target of writes and pinned reads
+     * @param replicas          replicas by name, in rotation order
+     * @param validationTimeout time allowed for one replica health check
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration validationTimeout) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+        this.healthy = List.copyOf(replicas.keySet());
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadRouting.isPrimaryRequired() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Validates every replica and updates the rotation.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.read-replicas.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        List<String> up = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            boolean valid = isValid(replica.getValue());
+            boolean wasUp = healthy.contains(replica.getKey());
+            if (valid) {
+                up.add(replica.getKey());
+                if (!wasUp) {
+                    log.info("Read replica [{}] is back in rotation", replica.getKey());
+                }
+            } else if (wasUp) {
+                log.warn("Read replica [{}] failed its health check; reads go elsewhere", replica.getKey());
+            }
+        }
+        healthy = List.copyOf(up);
+    }
+
+    /**
+     * @return names of the replicas currently in rotation
+     */
+    public List<String> getHealthyReplicas() {
+        return healthy;
+    }
+
+    private boolean isValid(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes the replica pools; the primary is a bean of its own and closed by the context.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.bankpro.customer.config;
 
+import com.bankpro.customer.constant.ApiPaths;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +25,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
+    private final InternalTokenFilter internalTokenFilter;
 
     /**
      * Public endpoints that are excluded from security filter chain.
@@ -31,6 +33,7 @@ public class SecurityConfig {
     private static final String[] PUBLIC_URLS = {
             "/api/v1/customers/register",
             "/api/v1/customers/login",
+            "/api/v1/customers/refresh",
             "/v3/api-docs/**",
             "/swagger-ui/**",
             "/swagger-ui.html",
@@ -53,6 +56,7 @@ public class SecurityConfig {
      * - Disables CSRF for stateless API.
      * - Uses stateless session management.
      * - Allows public URLs without authentication.
+     * - Restricts internal URLs to callers presenting the service token.
      * - Secures all other endpoints.
      * - Adds JWT filter before username/password filter.
      *
@@ -68,9 +72,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(req -> req
                         .requestMatchers(PUBLIC_URLS).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // For preflight CORS requests
+                        .requestMatchers(ApiPaths.BASE_INTERNAL + "/**").hasAuthority(InternalTokenFilter.SERVICE_AUTHORITY)
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(internalTokenFilter, JwtFilter.class);
 
         return http.build();
     }
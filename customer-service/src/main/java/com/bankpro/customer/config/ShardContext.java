@@ -0,0 +1,48 @@
+package com.bankpro.customer.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Selects the customer shard the current thread's connections come from; without one
+ * they come from the global database.
+ * <p>
+ * Like {@link ReadRouting}, the choice is made when a transaction first touches the
+ * database, so the shard must be selected before the first query of that transaction.
+ * </p>
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+        // prevent instantiation
+    }
+
+    /**
+     * Runs {@code work} with every connection it opens taken from {@code shard}.
+     *
+     * @param shard shard number
+     * @param work  the work to run
+     * @return the result of {@code work}
+     */
+    public static <T> T on(int shard, Supplier<T> work) {
+        Integer previous = SHARD.get();
+        SHARD.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                SHARD.remove();
+            } else {
+                SHARD.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return the selected shard, or null for the global database
+     */
+    public static Integer current() {
+        return SHARD.get();
+    }
+}
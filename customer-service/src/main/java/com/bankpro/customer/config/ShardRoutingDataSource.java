@@ -0,0 +1,72 @@
+package com.bankpro.customer.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out connections of the shard selected with {@link ShardContext}, or of the
+ * global database when none is selected.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy} so a transaction's connection
+ * is fetched at its first statement, after the caller has selected the shard.
+ * </p>
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String GLOBAL = "global";
+
+    private final List<DataSource> shards;
+
+    /**
+     * @param global database of the phone directory and the outbox
+     * @param shards customer shards, indexed by shard number
+     */
+    public ShardRoutingDataSource(DataSource global, List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        targets.put(GLOBAL, global);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(global);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard != null ? shard : GLOBAL;
+    }
+
+    /**
+     * @param shard shard number
+     * @return the shard's own pool, bypassing the routing
+     */
+    public DataSource getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    /**
+     * @return number of shards
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Closes the shard pools; the global pool is a bean of its own and closed by the context.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
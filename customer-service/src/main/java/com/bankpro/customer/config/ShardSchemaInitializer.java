@@ -0,0 +1,88 @@
+package com.bankpro.customer.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.Action;
+import org.hibernate.tool.schema.spi.DelayedDropRegistryNotAvailableImpl;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Applies the {@code spring.jpa.hibernate.ddl-auto} action to every shard, which
+ * Hibernate on its own only runs against the global database, and gives each shard
+ * its own customer id range.
+ * <p>
+ * Shard {@code k} numbers customers from {@code k * ID_STRIDE + 1}, so an id alone
+ * tells which shard holds the row. {@code create-drop} creates the shard schemas but
+ * leaves them in place on shutdown.
+ * </p>
+ */
+@Slf4j
+public class ShardSchemaInitializer implements Integrator, SmartInitializingSingleton {
+
+    /**
+     * Size of each shard's customer id range.
+     */
+    public static final long ID_STRIDE = 1L << 40;
+
+    private final ShardRoutingDataSource router;
+
+    private Metadata metadata;
+    private SessionFactoryImplementor sessionFactory;
+
+    public ShardSchemaInitializer(ShardRoutingDataSource router) {
+        this.router = router;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        this.metadata = null;
+        this.sessionFactory = null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (metadata == null) {
+            throw new IllegalStateException("Hibernate did not register the shard schema integrator");
+        }
+        Map<String, Object> settings = new HashMap<>(sessionFactory.getProperties());
+        if (Action.ACTION_CREATE_THEN_DROP.equals(settings.get(AvailableSettings.HBM2DDL_AUTO))) {
+            settings.put(AvailableSettings.HBM2DDL_AUTO, Action.ACTION_CREATE);
+        }
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            ShardContext.on(shard, () -> {
+                SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(), settings,
+                        DelayedDropRegistryNotAvailableImpl.INSTANCE);
+                return null;
+            });
+            if (shard > 0) {
+                reserveIdRange(shard);
+            }
+        }
+        log.info("Schema applied to {} customer shards", router.getShardCount());
+    }
+
+    private void reserveIdRange(int shard) {
+        JdbcTemplate jdbc = new JdbcTemplate(router.getShard(shard));
+        long start = shard * ID_STRIDE + 1;
+        Long maxId = jdbc.queryForObject("SELECT MAX(id) FROM customers", Long.class);
+        if (maxId == null || maxId < start) {
+            jdbc.execute("ALTER TABLE customers AUTO_INCREMENT = " + start);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.bankpro.customer.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with one that routes customer queries to
+ * the shard selected with {@link ShardContext} when {@code app.sharding.enabled=true}.
+ * <p>
+ * The global pool is still built from {@code spring.datasource.*}; JPA and everything
+ * else use the {@link Primary} lazy proxy in front of the router. Cannot be combined
+ * with read-replica routing, which replaces the same data source.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    /**
+     * @param properties {@code spring.datasource.*}
+     * @return the global pool, tuned by {@code spring.datasource.hikari.*}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * @param primaryDataSource global pool
+     * @param properties        shard settings
+     * @param replicas          replica settings, which must be off
+     * @return the router over the global pool and one pool per shard
+     */
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(HikariDataSource primaryDataSource,
+                                                        ShardingProperties properties,
+                                                        ReadReplicaProperties replicas) {
+        if (replicas.isEnabled()) {
+            throw new IllegalStateException("app.sharding.enabled and app.datasource.read-replicas.enabled cannot both be set");
+        }
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("app.sharding.enabled is set but no shards are configured");
+        }
+        List<DataSource> pools = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            ShardingProperties.Shard shard = shards.get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("shard-" + i);
+            pool.setJdbcUrl(shard.getUrl());
+            pool.setUsername(shard.getUsername());
+            pool.setPassword(shard.getPassword());
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            pools.add(pool);
+        }
+        return new ShardRoutingDataSource(primaryDataSource, pools);
+    }
+
+    /**
+     * Defers fetching a connection until the first statement, after the caller has
+     * selected the shard.
+     *
+     * @param shardRoutingDataSource router
+     * @return the data source used by JPA
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * @param shardRoutingDataSource router
+     * @return the initializer applying the JPA schema to every shard
+     */
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardRoutingDataSource shardRoutingDataSource) {
+        return new ShardSchemaInitializer(shardRoutingDataSource);
+    }
+
+    /**
+     * Hands Hibernate's mapping metadata to the {@link ShardSchemaInitializer}.
+     *
+     * @param shardSchemaInitializer initializer
+     * @return the customizer registering it as an integrator
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaIntegrator(ShardSchemaInitializer shardSchemaInitializer) {
+        return settings -> settings.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> List.of(shardSchemaInitializer));
+    }
+}
@@ -0,0 +1,54 @@
+package com.bankpro.customer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Customer sharding settings bound from {@code app.sharding.*}.
+ * <p>
+ * {@code spring.datasource.*} stays the global database (phone directory, outbox);
+ * customer rows are spread over {@link #shards} by a consistent hash of the email.
+ * </p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    /**
+     * Whether customers are sharded at all.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Shard connection settings; the list index is the shard number and must not be reordered.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Points per shard on the hash ring; more points even out the distribution.
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Connection settings of one shard.
+     */
+    @Data
+    public static class Shard {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * Pool size for this shard.
+         */
+        private int maximumPoolSize = 10;
+    }
+}
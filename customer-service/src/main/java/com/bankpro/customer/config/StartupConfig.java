@@ -0,0 +1,45 @@
+package com.bankpro.customer.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.sql.init.AbstractScriptDatabaseInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup tuning used when {@code spring.main.lazy-initialization} is on (the
+ * {@code fast-startup} profile).
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Keeps beans eager that must not wait for the first request: the connection pool
+     * and entity manager factory (so the first request does not pay for them, and a bad
+     * schema fails the start), SQL init scripts, and beans with {@link Scheduled}
+     * methods, which are only scheduled once created.
+     *
+     * @return the exclude filter
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerInfrastructure() {
+        return (beanName, beanDefinition, beanType) -> DataSource.class.isAssignableFrom(beanType)
+                || EntityManagerFactory.class.isAssignableFrom(beanType)
+                || AbstractScriptDatabaseInitializer.class.isAssignableFrom(beanType)
+                || hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> type) {
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(type,
+                method -> found.set(true),
+                method -> !found.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return found.get();
+    }
+}
@@ -8,6 +8,9 @@ public final class ApiPaths {
 
     public static final String BASE_CUSTOMER = "/api/v1/customers";
 
+    /** Service-to-service endpoints, guarded by the internal token. */
+    public static final String BASE_INTERNAL = "/api/v1/internal";
+
     private ApiPaths() {
         // prevent instantiation
     }
@@ -2,13 +2,18 @@ package com.bankpro.customer.controller;
 
 import com.bankpro.customer.dto.*;
 import com.bankpro.customer.service.CustomerService;
+import com.bankpro.customer.util.JwtUtil;
 import jakarta.validation.Valid;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,6 +28,9 @@ public class CustomerController implements CustomerControllerApi {
 
     private final CustomerService customerService;
 
+    @Value("${app.customer.page.default-size:100}")
+    private int defaultPageSize;
+
     /**
      * Registers a new customer using the provided request payload.
      *
@@ -50,26 +58,73 @@ public class CustomerController implements CustomerControllerApi {
      */
     @Override
     public ResponseEntity<RequestResponse<TokenResponse>> login(@Valid AuthRequestDTO request) {
-        String token = customerService.login(request);
+        TokenResponse tokens = customerService.login(request);
 
         RequestResponse<TokenResponse> apiResponse = RequestResponse.<TokenResponse>builder()
                 .success(true)
                 .message("Login successful")
-                .data(new TokenResponse(token))
+                .data(tokens)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair.
+     *
+     * @param request the refresh token
+     * @return a {@link ResponseEntity} containing the new tokens
+     */
+    @Override
+    public ResponseEntity<RequestResponse<TokenResponse>> refresh(@Valid RefreshRequestDTO request) {
+        TokenResponse tokens = customerService.refresh(request.getRefreshToken());
+
+        RequestResponse<TokenResponse> apiResponse = RequestResponse.<TokenResponse>builder()
+                .success(true)
+                .message("Token refreshed")
+                .data(tokens)
                 .build();
 
         return ResponseEntity.ok(apiResponse);
     }
 
     /**
-     * Retrieves the profile of the currently authenticated customer.
+     * Revokes the token the customer authenticated this request with.
+     *
+     * @param authentication the Spring Security authentication object, holding the token claims
+     * @return a {@link ResponseEntity} confirming the logout
+     */
+    @Override
+    public ResponseEntity<RequestResponse<String>> logout(Authentication authentication) {
+        Claims claims = (Claims) authentication.getDetails();
+        customerService.logout(claims.getId(), claims.getExpiration().toInstant(),
+                claims.get(JwtUtil.SESSION_CLAIM, String.class));
+
+        RequestResponse<String> response = RequestResponse.<String>builder()
+                .success(true)
+                .message("Logged out successfully")
+                .data(authentication.getName())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retrieves the profile of the currently authenticated customer, or answers 304
+     * from the row version alone when the client's copy is current.
      *
      * @param authentication the Spring Security authentication object
-     * @return a {@link ResponseEntity} with the customer's profile
+     * @param request        the current request
+     * @return a {@link ResponseEntity} with the customer's profile, or {@code null} after a 304
      */
     @Override
-    public ResponseEntity<RequestResponse<CustomerResponseDTO>> getCustomerProfile(Authentication authentication) {
+    public ResponseEntity<RequestResponse<CustomerResponseDTO>> getCustomerProfile(Authentication authentication,
+                                                                                  WebRequest request) {
         String email = authentication.getName();
+        String etag = customerService.getProfileETag(email);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         CustomerResponseDTO response = customerService.getProfile(email);
 
         RequestResponse<CustomerResponseDTO> apiResponse = RequestResponse.<CustomerResponseDTO>builder()
@@ -78,17 +133,27 @@ public class CustomerController implements CustomerControllerApi {
                 .data(response)
                 .build();
 
-        return ResponseEntity.ok(apiResponse);
+        // The URL is the same for every user, so only the user's own cache may keep it
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(apiResponse);
     }
 
     /**
-     * Retrieves a list of all registered customers. Admin access required.
+     * Retrieves all registered customers, or one keyset page when {@code afterId} or
+     * {@code limit} is given. Admin access required.
      *
+     * @param afterId last id of the previous page, optional
+     * @param limit   page size, optional
      * @return a {@link ResponseEntity} containing the list of customers
      */
     @Override
-    public ResponseEntity<RequestResponse<List<CustomerResponseDTO>>> getAllCustomers() {
-        List<CustomerResponseDTO> customers = customerService.getAllCustomers();
+    public ResponseEntity<RequestResponse<List<CustomerResponseDTO>>> getAllCustomers(Long afterId, Integer limit) {
+        List<CustomerResponseDTO> customers = afterId == null && limit == null
+                ? customerService.getAllCustomers()
+                : customerService.getCustomersPage(afterId != null ? afterId : 0,
+                        limit != null ? limit : defaultPageSize);
 
         RequestResponse<List<CustomerResponseDTO>> response = RequestResponse.<List<CustomerResponseDTO>>builder()
                 .success(true)
@@ -99,6 +164,45 @@ public class CustomerController implements CustomerControllerApi {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Searches customers by partial name, email or phone. Admin access required.
+     *
+     * @param q     the typed text
+     * @param limit the maximum number of results
+     * @return a {@link ResponseEntity} containing the matches, best first
+     */
+    @Override
+    public ResponseEntity<RequestResponse<List<CustomerResponseDTO>>> searchCustomers(String q, int limit) {
+        List<CustomerResponseDTO> customers = customerService.searchCustomers(q, limit);
+
+        RequestResponse<List<CustomerResponseDTO>> response = RequestResponse.<List<CustomerResponseDTO>>builder()
+                .success(true)
+                .message("Search completed")
+                .data(customers)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Revokes a token by id. Admin access required.
+     *
+     * @param jti the id of the token to revoke
+     * @return a {@link ResponseEntity} confirming the revocation
+     */
+    @Override
+    public ResponseEntity<RequestResponse<String>> revokeToken(String jti) {
+        customerService.revokeToken(jti);
+
+        RequestResponse<String> response = RequestResponse.<String>builder()
+                .success(true)
+                .message("Token revoked")
+                .data(jti)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Promotes a user to the admin role. Admin access required.
      *
@@ -13,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -100,40 +101,140 @@ public interface CustomerControllerApi {
             @Valid @org.springframework.web.bind.annotation.RequestBody AuthRequestDTO request
     );
 
+    /**
+     * Revoke the token used for this request.
+     *
+     * @param authentication Spring Security context
+     * @return success message
+     */
+    @Operation(
+            summary = "Logout",
+            description = "Revokes the bearer token of this request on every instance until it expires, "
+                    + "and the refresh tokens of its session."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Token revoked"),
+            @ApiResponse(responseCode = "403", description = "Access denied or token missing")
+    })
+    @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    @PostMapping("/logout")
+    ResponseEntity<RequestResponse<String>> logout(Authentication authentication);
+
+    /**
+     * Exchange a refresh token for a new access token and refresh token.
+     *
+     * @param request the refresh token from the last login or refresh
+     * @return the new token pair
+     */
+    @Operation(
+            summary = "Refresh tokens",
+            description = "Returns a new access token and the next refresh token without the password. "
+                    + "Each refresh token works once; presenting a used one ends its session.",
+            requestBody = @RequestBody(
+                    required = true,
+                    content = @Content(
+                            schema = @Schema(implementation = RefreshRequestDTO.class),
+                            mediaType = "application/json"
+                    )
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tokens refreshed"),
+            @ApiResponse(responseCode = "401", description = "Refresh token invalid, expired or already used")
+    })
+    @PostMapping("/refresh")
+    ResponseEntity<RequestResponse<TokenResponse>> refresh(
+            @Valid @org.springframework.web.bind.annotation.RequestBody RefreshRequestDTO request
+    );
+
     /**
      * Get the profile details of the currently authenticated user.
      *
      * @param authentication Spring Security context
+     * @param request        current request, checked for {@code If-None-Match}
      * @return authenticated user's profile data
      */
     @Operation(
             summary = "Fetch current user profile",
-            description = "Returns details of the authenticated user"
+            description = "Returns details of the authenticated user. Supports If-None-Match against the returned ETag."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Profile retrieved"),
+            @ApiResponse(responseCode = "304", description = "Profile unchanged since the given ETag"),
             @ApiResponse(responseCode = "403", description = "Access denied or token missing")
     })
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @GetMapping("/profile")
-    ResponseEntity<RequestResponse<CustomerResponseDTO>> getCustomerProfile(Authentication authentication);
+    ResponseEntity<RequestResponse<CustomerResponseDTO>> getCustomerProfile(Authentication authentication,
+                                                                           WebRequest request);
 
     /**
-     * List all registered customers. Admin only.
+     * List registered customers, all at once or one keyset page at a time. Admin only.
      *
-     * @return list of customers
+     * @param afterId last id of the previous page; omit for the first page
+     * @param limit   page size; {@code app.customer.page.default-size} when only {@code afterId} is given
+     * @return list of customers in id order
      */
     @Operation(
             summary = "List all customers (Admin only)",
-            description = "Retrieves a list of all registered users. Accessible only to admins."
+            description = "Retrieves registered users in id order. Without parameters returns all of them; "
+                    + "with afterId and/or limit returns one page, continued by passing the last id as afterId. "
+                    + "Accessible only to admins."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size"),
             @ApiResponse(responseCode = "403", description = "Access denied")
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @GetMapping("/admin/customers")
-    ResponseEntity<RequestResponse<List<CustomerResponseDTO>>> getAllCustomers();
+    ResponseEntity<RequestResponse<List<CustomerResponseDTO>>> getAllCustomers(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit
+    );
+
+    /**
+     * Search customers by partial name, email or phone. Admin only.
+     *
+     * @param q     typed text
+     * @param limit maximum number of results
+     * @return the best matches, best first
+     */
+    @Operation(
+            summary = "Search customers (Admin only)",
+            description = "Typeahead over name, email and phone. Words of three or more characters match anywhere "
+                    + "in a word, shorter ones match the start of a word. Served from memory and may lag writes by "
+                    + "up to a second."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matches returned"),
+            @ApiResponse(responseCode = "400", description = "Missing text or invalid limit"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/admin/search")
+    ResponseEntity<RequestResponse<List<CustomerResponseDTO>>> searchCustomers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    );
+
+    /**
+     * Revoke a token by its id. Admin only.
+     *
+     * @param jti id ({@code jti} claim) of the token to revoke
+     * @return success message
+     */
+    @Operation(
+            summary = "Revoke a token (Admin only)",
+            description = "Revokes the token with the given jti on every instance until it expires."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Token revoked"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/admin/revoke/{jti}")
+    ResponseEntity<RequestResponse<String>> revokeToken(@PathVariable String jti);
 
     /**
      * Promote an existing customer to admin.
@@ -0,0 +1,64 @@
+package com.bankpro.customer.controller;
+
+import com.bankpro.customer.dto.CustomerBatchDTO;
+import com.bankpro.customer.dto.CustomerBatchRequestDTO;
+import com.bankpro.customer.dto.EventFeedDTO;
+import com.bankpro.customer.dto.RequestResponse;
+import com.bankpro.customer.service.CustomerService;
+import com.bankpro.customer.service.EventFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for service-to-service calls.
+ * Implements the {@link InternalControllerApi} interface.
+ */
+@RestController
+@RequiredArgsConstructor
+public class InternalController implements InternalControllerApi {
+
+    private static final int MAX_FEED_LIMIT = 1000;
+
+    private final EventFeedService eventFeedService;
+    private final CustomerService customerService;
+
+    /**
+     * Reads a page of the event feed.
+     *
+     * @param after last position already consumed
+     * @param limit maximum number of events, clamped to 1-1000
+     * @return a {@link ResponseEntity} containing the events
+     */
+    @Override
+    public ResponseEntity<RequestResponse<EventFeedDTO>> getEvents(long after, int limit) {
+        EventFeedDTO feed = eventFeedService.getEvents(after, Math.max(1, Math.min(limit, MAX_FEED_LIMIT)));
+
+        RequestResponse<EventFeedDTO> response = RequestResponse.<EventFeedDTO>builder()
+                .success(true)
+                .message("Events fetched successfully")
+                .data(feed)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Looks up many customers at once.
+     *
+     * @param request ids or emails to fetch
+     * @return a {@link ResponseEntity} containing the customers found and the missing keys
+     */
+    @Override
+    public ResponseEntity<RequestResponse<CustomerBatchDTO>> getCustomers(CustomerBatchRequestDTO request) {
+        CustomerBatchDTO batch = customerService.getCustomers(request);
+
+        RequestResponse<CustomerBatchDTO> response = RequestResponse.<CustomerBatchDTO>builder()
+                .success(true)
+                .message("Customers fetched successfully")
+                .data(batch)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,65 @@
+package com.bankpro.customer.controller;
+
+import com.bankpro.customer.constant.ApiPaths;
+import com.bankpro.customer.dto.CustomerBatchDTO;
+import com.bankpro.customer.dto.CustomerBatchRequestDTO;
+import com.bankpro.customer.dto.EventFeedDTO;
+import com.bankpro.customer.dto.RequestResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Service-to-service API. Every call must carry the internal token header.
+ */
+@Tag(name = "Internal Controller", description = "Endpoints for other BankPro services")
+@RequestMapping(ApiPaths.BASE_INTERNAL)
+public interface InternalControllerApi {
+
+    /**
+     * Read the change event feed.
+     *
+     * @param after last position already consumed
+     * @param limit maximum number of events (1-1000)
+     * @return events after the position, in order
+     */
+    @Operation(
+            summary = "Read change events",
+            description = "Returns outbox events after the given position together with the current head position."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Events returned"),
+            @ApiResponse(responseCode = "401", description = "Missing or wrong internal token")
+    })
+    @GetMapping("/events")
+    ResponseEntity<RequestResponse<EventFeedDTO>> getEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit
+    );
+
+    /**
+     * Look up many customers in one call.
+     *
+     * @param request ids or emails to fetch
+     * @return customers in request order plus the keys that were not found
+     */
+    @Operation(
+            summary = "Batch-get customers",
+            description = "Fetches customers by ids or by emails in a single query. "
+                    + "Results keep the request order; unknown keys are listed under missing."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lookup completed"),
+            @ApiResponse(responseCode = "400", description = "No keys, both key types, or too many keys"),
+            @ApiResponse(responseCode = "401", description = "Missing or wrong internal token")
+    })
+    @PostMapping("/customers/batch")
+    ResponseEntity<RequestResponse<CustomerBatchDTO>> getCustomers(@RequestBody CustomerBatchRequestDTO request);
+}
@@ -0,0 +1,23 @@
+package com.bankpro.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Result of a batch customer lookup.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Customers found for a batch lookup")
+public class CustomerBatchDTO {
+
+    @Schema(description = "Customers found, in request order; duplicate keys appear once")
+    private List<CustomerResponseDTO> customers;
+
+    @Schema(description = "Requested keys with no matching customer, in request order", example = "[\"104\"]")
+    private List<String> missing;
+}
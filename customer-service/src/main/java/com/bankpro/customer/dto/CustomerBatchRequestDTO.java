@@ -0,0 +1,24 @@
+package com.bankpro.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Keys for a batch customer lookup. Exactly one of {@code ids} or {@code emails} must be given.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Customer ids or emails to look up in one call")
+public class CustomerBatchRequestDTO {
+
+    @Schema(description = "Customer ids, in the order results should be returned", example = "[101, 102, 105]")
+    private List<Long> ids;
+
+    @Schema(description = "Customer emails, in the order results should be returned",
+            example = "[\"ravi.sharma@example.com\"]")
+    private List<String> emails;
+}
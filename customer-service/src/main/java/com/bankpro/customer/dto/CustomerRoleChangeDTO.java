@@ -0,0 +1,24 @@
+package com.bankpro.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Payload of a role change event.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Role change of a customer")
+public class CustomerRoleChangeDTO {
+
+    @Schema(description = "Id of the customer", example = "101")
+    private Long id;
+
+    @Schema(description = "Email of the customer", example = "ravi.sharma@example.com")
+    private String email;
+
+    @Schema(description = "Role after the change", example = "ROLE_ADMIN")
+    private String role;
+}
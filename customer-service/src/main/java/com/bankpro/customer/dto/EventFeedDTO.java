@@ -0,0 +1,23 @@
+package com.bankpro.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A page of the internal event feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Page of change events")
+public class EventFeedDTO {
+
+    @Schema(description = "Events after the requested position, in id order")
+    private List<OutboxEventDTO> events;
+
+    @Schema(description = "Newest position in the feed, used by consumers to measure lag", example = "5200")
+    private long headId;
+}
@@ -0,0 +1,33 @@
+package com.bankpro.customer.dto;
+
+import com.bankpro.customer.enums.ChangeEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change event in the internal event feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Change event")
+public class OutboxEventDTO {
+
+    @Schema(description = "Feed position", example = "5123")
+    private Long id;
+
+    @Schema(description = "Kind of change", example = "CUSTOMER_SNAPSHOT")
+    private ChangeEventType type;
+
+    @Schema(description = "Id of the changed customer", example = "101")
+    private Long customerId;
+
+    @Schema(description = "JSON body: a CustomerResponseDTO")
+    private String payload;
+
+    @Schema(description = "Time the event was written", example = "2025-07-06T21:12:34")
+    private LocalDateTime createdAt;
+}
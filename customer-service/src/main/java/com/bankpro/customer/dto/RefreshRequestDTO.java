@@ -0,0 +1,23 @@
+package com.bankpro.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for exchanging a refresh token for a new token pair.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshRequestDTO {
+
+    /**
+     * Refresh token returned by the last login or refresh. Valid for one use.
+     */
+    @Schema(description = "Refresh token from the last login or refresh", example = "q3Zk0yYd2m9...", required = true)
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
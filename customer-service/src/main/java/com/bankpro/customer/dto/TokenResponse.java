@@ -4,12 +4,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
 /**
- * Response DTO that holds the JWT token issued after successful authentication.
+ * Response DTO that holds the tokens issued after successful authentication or refresh.
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Schema(description = "JWT token response after successful login")
+@Schema(description = "JWT token response after successful login or refresh")
 public class TokenResponse {
 
     /**
@@ -17,4 +17,16 @@ public class TokenResponse {
      */
     @Schema(description = "JWT access token", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
     private String token;
-}
\ No newline at end of file
+
+    /**
+     * Single-use token for obtaining the next token pair without the password.
+     */
+    @Schema(description = "Refresh token; exchange it at /refresh before it expires", example = "q3Zk0yYd2m9...")
+    private String refreshToken;
+
+    /**
+     * Seconds until the access token expires.
+     */
+    @Schema(description = "Access token lifetime in seconds", example = "900")
+    private long expiresIn;
+}
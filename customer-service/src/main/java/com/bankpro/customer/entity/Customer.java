@@ -54,4 +54,11 @@ public class Customer {
      */
     @Column(nullable = false)
     private String role;
+
+    /**
+     * Row version, incremented by every update. Serves as the profile ETag.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
 }
\ No newline at end of file
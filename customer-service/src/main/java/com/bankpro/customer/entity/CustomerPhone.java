@@ -0,0 +1,39 @@
+package com.bankpro.customer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Global claim of a phone number, kept in the global database while customers are
+ * sharded by email, so a phone stays unique across all shards.
+ */
+@Entity
+@Table(name = "customer_phones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerPhone {
+
+    /**
+     * Phone number.
+     */
+    @Id
+    @Column(length = 20)
+    private String phone;
+
+    /**
+     * Email of the customer owning the number.
+     */
+    @Column(nullable = false)
+    private String email;
+
+    /**
+     * Time the number was claimed.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,55 @@
+package com.bankpro.customer.entity;
+
+import com.bankpro.customer.enums.ChangeEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change event written in the same transaction as the change it describes.
+ * <p>
+ * The id is the feed position; consumers read the table in id order.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    /**
+     * Feed position of the event.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Kind of change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ChangeEventType eventType;
+
+    /**
+     * Id of the changed customer.
+     */
+    @Column(nullable = false)
+    private Long customerId;
+
+    /**
+     * JSON body of the event.
+     */
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * Time the event was written.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,40 @@
+package com.bankpro.customer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position up to which a relay has delivered the outbox.
+ * <p>
+ * The row is locked while a batch is delivered, so only one instance relays at a time.
+ */
+@Entity
+@Table(name = "outbox_offsets")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxOffset {
+
+    /**
+     * Name of the relay.
+     */
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    /**
+     * Id of the last delivered event.
+     */
+    @Column(nullable = false)
+    private long lastId;
+
+    /**
+     * Time the position last moved.
+     */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,56 @@
+package com.bankpro.customer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A refresh token, stored only as the SHA-256 digest of its value.
+ * <p>
+ * Tokens issued from one login form a family. Each refresh marks the presented token
+ * used and issues the next one in the family; presenting a used token again means it
+ * leaked, and the whole family is revoked.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    /**
+     * SHA-256 of the token value, hex encoded.
+     */
+    @Id
+    @Column(length = 64)
+    private String tokenHash;
+
+    /**
+     * Id of the login session the token belongs to.
+     */
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    /**
+     * Email of the customer the token was issued to.
+     */
+    @Column(nullable = false)
+    private String email;
+
+    /**
+     * Expiry of the token.
+     */
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Time the token was exchanged; null while it is the family's current token.
+     */
+    private Instant usedAt;
+}
@@ -0,0 +1,43 @@
+package com.bankpro.customer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A revoked JWT, identified by its {@code jti}, kept until the token would have expired.
+ * <p>
+ * Every instance polls this table for rows revoked since its last poll.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt"),
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    /**
+     * Token id ({@code jti} claim).
+     */
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    /**
+     * Expiry of the token; the row is deleted after it.
+     */
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Time of the revocation.
+     */
+    @Column(nullable = false)
+    private Instant revokedAt;
+}
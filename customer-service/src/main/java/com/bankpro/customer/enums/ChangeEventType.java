@@ -0,0 +1,11 @@
+package com.bankpro.customer.enums;
+
+/**
+ * Kinds of change events written to the outbox.
+ */
+public enum ChangeEventType {
+    /** Current profile of a customer. */
+    CUSTOMER_SNAPSHOT,
+    /** A customer's role was changed; the payload is a CustomerRoleChangeDTO. */
+    CUSTOMER_ROLE_CHANGED
+}
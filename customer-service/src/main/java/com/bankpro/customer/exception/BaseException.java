@@ -1,6 +1,5 @@
 package com.bankpro.customer.exception;
 
-import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
 /**
@@ -11,22 +10,23 @@ import org.springframework.http.HttpStatus;
  * </p>
  *
  * <p>
+ * These are expected business outcomes (wrong password, duplicate email, not found), so no
+ * stack trace is captured and suppression is disabled: throwing one costs no stack walk, and
+ * an instance with a fixed message can be preallocated and thrown repeatedly
+ * (see {@link InvalidCredentialsException#INCORRECT_CREDENTIALS}).
+ * </p>
+ *
+ * <p>
  * Extend this class for domain-specific exceptions like:
  * {@code UserAlreadyExistsException}, {@code InvalidCredentialsException}, etc.
  * </p>
  */
-@Getter
 public abstract class BaseException extends RuntimeException {
 
     /**
-     * The HTTP status code to be returned with the response.
+     * Status, code and message of the error response this exception maps to.
      */
-    private final HttpStatus status;
-
-    /**
-     * A machine-readable error code used for API clients and debugging.
-     */
-    private final String code;
+    private final ErrorTemplate template;
 
     /**
      * Constructs a new BaseException with the given message, code, and status.
@@ -36,8 +36,28 @@ public abstract class BaseException extends RuntimeException {
      * @param status  the corresponding HTTP status
      */
     protected BaseException(String message, String code, HttpStatus status) {
-        super(message);
-        this.status = status;
-        this.code = code;
+        super(message, null, false, false);
+        this.template = new ErrorTemplate(status, code, message);
+    }
+
+    /**
+     * @return the HTTP status code to be returned with the response
+     */
+    public HttpStatus getStatus() {
+        return template.status();
+    }
+
+    /**
+     * @return a machine-readable error code used for API clients and debugging
+     */
+    public String getCode() {
+        return template.code();
+    }
+
+    /**
+     * @return the immutable error response template for this exception
+     */
+    public ErrorTemplate getTemplate() {
+        return template;
     }
-}
\ No newline at end of file
+}
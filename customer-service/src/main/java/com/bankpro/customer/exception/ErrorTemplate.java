@@ -0,0 +1,32 @@
+package com.bankpro.customer.exception;
+
+import com.bankpro.customer.dto.ApiError;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fixed part of an error response: status, code and message.
+ * <p>
+ * Immutable, so one template is shared by every response for the same outcome; only the
+ * timestamp and path are filled in per request.
+ * </p>
+ *
+ * @param status  HTTP status to respond with
+ * @param code    machine-readable error code (e.g. "INVALID_CREDENTIALS")
+ * @param message human-readable message
+ */
+public record ErrorTemplate(HttpStatus status, String code, String message) {
+
+    /**
+     * Builds the response for one request.
+     *
+     * @param path URI of the failed request
+     * @return response entity carrying an {@link ApiError}
+     */
+    public ResponseEntity<ApiError> toResponse(String path) {
+        return ResponseEntity.status(status)
+                .body(new ApiError(LocalDateTime.now(), status.value(), code, message, path));
+    }
+}
@@ -23,30 +23,6 @@ import java.util.stream.Collectors;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
-    /**
-     * Handles scenarios where a user attempts to register with an already used email.
-     */
-    @ExceptionHandler(UserAlreadyExistsException.class)
-    public ResponseEntity<ApiError> handleUserAlreadyExists(UserAlreadyExistsException ex, HttpServletRequest request) {
-        return buildResponse(HttpStatus.CONFLICT, "USER_ALREADY_EXISTS", ex.getMessage(), request);
-    }
-
-    /**
-     * Handles invalid login attempts due to incorrect credentials.
-     */
-    @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<ApiError> handleInvalidCredentials(InvalidCredentialsException ex, HttpServletRequest request) {
-        return buildResponse(HttpStatus.UNAUTHORIZED, "INVALID_CREDENTIALS", ex.getMessage(), request);
-    }
-
-    /**
-     * Handles resource not found exceptions (e.g., user not found).
-     */
-    @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ApiError> handleNotFound(ResourceNotFoundException ex, HttpServletRequest request) {
-        return buildResponse(HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND", ex.getMessage(), request);
-    }
-
     /**
      * Handles parameter binding type mismatches (e.g., passing string to a Long field).
      */
@@ -76,11 +52,14 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles custom exceptions extending from {@link BaseException}.
+     * Handles custom exceptions extending from {@link BaseException}, e.g. duplicate registration
+     * (409 USER_ALREADY_EXISTS), invalid credentials (401 INVALID_CREDENTIALS) and missing
+     * resources (404 RESOURCE_NOT_FOUND).
+     * The status, code and message come from the exception's shared {@link ErrorTemplate}.
      */
     @ExceptionHandler(BaseException.class)
     public ResponseEntity<ApiError> handleBaseException(BaseException ex, HttpServletRequest request) {
-        return buildResponse(ex.getStatus(), ex.getCode(), ex.getMessage(), request);
+        return ex.getTemplate().toResponse(request.getRequestURI());
     }
 
     /**
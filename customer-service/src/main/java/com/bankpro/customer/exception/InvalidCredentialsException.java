@@ -14,6 +14,18 @@ public class InvalidCredentialsException extends BaseException {
     private static final String DEFAULT_CODE = "INVALID_CREDENTIALS";
     private static final HttpStatus DEFAULT_STATUS = HttpStatus.UNAUTHORIZED;
 
+    /**
+     * Shared instance for a wrong email/password pair; stackless, so safe to rethrow.
+     */
+    public static final InvalidCredentialsException INCORRECT_CREDENTIALS =
+            new InvalidCredentialsException("Incorrect email or password.");
+
+    /**
+     * Shared instance for an unknown, expired or already used refresh token.
+     */
+    public static final InvalidCredentialsException INVALID_REFRESH_TOKEN =
+            new InvalidCredentialsException("Refresh token is invalid or expired.");
+
     /**
      * Constructs a new {@code InvalidCredentialsException} with the specified detail message.
      *
@@ -0,0 +1,24 @@
+package com.bankpro.customer.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a request is well-formed but its contents cannot be served,
+ * for example a batch lookup with no keys or too many keys.
+ *
+ * Results in a 400 Bad Request response.
+ */
+public class InvalidRequestException extends BaseException {
+
+    private static final String DEFAULT_CODE = "INVALID_REQUEST";
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.BAD_REQUEST;
+
+    /**
+     * Constructs a new {@code InvalidRequestException} with a custom message.
+     *
+     * @param message explanation of what is wrong with the request
+     */
+    public InvalidRequestException(String message) {
+        super(message, DEFAULT_CODE, DEFAULT_STATUS);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bankpro.customer.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a user attempts to register with a phone number
+ * that another customer, possibly on another shard, already holds.
+ *
+ * <p>This results in an HTTP 409 Conflict response.</p>
+ */
+public final class PhoneAlreadyExistsException extends BaseException {
+
+    /**
+     * Constructs a new {@code PhoneAlreadyExistsException}; the number is not echoed back.
+     */
+    public PhoneAlreadyExistsException() {
+        super("Phone number already registered.", "PHONE_CONFLICT", HttpStatus.CONFLICT);
+    }
+}
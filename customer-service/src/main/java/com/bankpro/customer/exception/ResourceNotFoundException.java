@@ -13,6 +13,12 @@ public class ResourceNotFoundException extends BaseException {
     private static final String DEFAULT_CODE = "RESOURCE_NOT_FOUND";
     private static final HttpStatus DEFAULT_STATUS = HttpStatus.NOT_FOUND;
 
+    /**
+     * Shared instance for lookups that do not echo the key back; stackless, so safe to rethrow.
+     */
+    public static final ResourceNotFoundException CUSTOMER_NOT_FOUND =
+            new ResourceNotFoundException("Customer not found");
+
     /**
      * Constructs a new {@code ResourceNotFoundException} with a custom message.
      *
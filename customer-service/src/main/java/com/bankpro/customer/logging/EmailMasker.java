@@ -0,0 +1,32 @@
+package com.bankpro.customer.logging;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Masks e-mail addresses in log text, keeping the first character and the domain:
+ * {@code amit.kumar@example.com} becomes {@code a***@example.com}.
+ */
+public final class EmailMasker {
+
+    private static final Pattern EMAIL = Pattern.compile("([A-Za-z0-9._%+-])[A-Za-z0-9._%+-]*@([A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)+)");
+
+    private EmailMasker() {
+        // prevent instantiation
+    }
+
+    public static String mask(String text) {
+        if (text == null || text.indexOf('@') < 0) {
+            return text;
+        }
+        Matcher matcher = EMAIL.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
+        StringBuilder masked = new StringBuilder(text.length());
+        do {
+            matcher.appendReplacement(masked, "$1***@$2");
+        } while (matcher.find());
+        return matcher.appendTail(masked).toString();
+    }
+}
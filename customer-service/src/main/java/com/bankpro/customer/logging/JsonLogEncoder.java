@@ -0,0 +1,78 @@
+package com.bankpro.customer.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Writes each event as one JSON object per line:
+ * {@code {"@timestamp":…,"level":…,"service":…,"thread":…,"logger":…,"message":…,"mdc":{…},"stack_trace":…}}.
+ * <p>
+ * E-mail addresses in the message, MDC values and stack trace are masked with {@link EmailMasker}.
+ * Behind the {@code AsyncAppender} this runs on the appender's worker thread, not the request thread.
+ * </p>
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private String service;
+
+    public void setService(String service) {
+        this.service = service;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return EMPTY;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator json = jsonFactory.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("@timestamp", DateTimeFormatter.ISO_INSTANT.format(event.getInstant()));
+            json.writeStringField("level", event.getLevel().toString());
+            if (service != null) {
+                json.writeStringField("service", service);
+            }
+            json.writeStringField("thread", event.getThreadName());
+            json.writeStringField("logger", event.getLoggerName());
+            json.writeStringField("message", EmailMasker.mask(event.getFormattedMessage()));
+            Map<String, String> mdc = event.getMDCPropertyMap();
+            if (mdc != null && !mdc.isEmpty()) {
+                json.writeObjectFieldStart("mdc");
+                for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                    json.writeStringField(entry.getKey(), EmailMasker.mask(entry.getValue()));
+                }
+                json.writeEndObject();
+            }
+            IThrowableProxy throwable = event.getThrowableProxy();
+            if (throwable != null) {
+                json.writeStringField("stack_trace", EmailMasker.mask(ThrowableProxyUtil.asString(throwable)));
+            }
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.write('\n');
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return EMPTY;
+    }
+}
@@ -0,0 +1,124 @@
+package com.bankpro.customer.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thins out high-volume events per logger before they are created, so dropped events cost
+ * neither formatting nor a slot in the async queue.
+ * <p>
+ * Each {@link Rule} applies to a logger name prefix (the longest matching prefix wins) and to
+ * events at or below its {@code level} (INFO by default, so warnings and errors always pass).
+ * It keeps one in {@code sampleRate} events and at most {@code maxPerSecond} of those per second.
+ * Configured in {@code logback-spring.xml}:
+ * <pre>
+ * &lt;turboFilter class="com.bankpro.customer.logging.SamplingTurboFilter"&gt;
+ *     &lt;rule&gt;&lt;logger&gt;com.bankpro.customer.service&lt;/logger&gt;&lt;sampleRate&gt;10&lt;/sampleRate&gt;&lt;maxPerSecond&gt;50&lt;/maxPerSecond&gt;&lt;/rule&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * </p>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Limiter UNLIMITED = new Limiter(null);
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    public void addRule(Rule rule) {
+        rules.add(rule);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks; those must not consume samples
+        if (!isStarted() || format == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Limiter limiter = limiters.computeIfAbsent(logger.getName(), this::limiterFor);
+        return limiter.admits(level) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Limiter limiterFor(String loggerName) {
+        Rule match = null;
+        for (Rule rule : rules) {
+            if (loggerName.startsWith(rule.logger)
+                    && (match == null || rule.logger.length() > match.logger.length())) {
+                match = rule;
+            }
+        }
+        return match == null ? UNLIMITED : new Limiter(match);
+    }
+
+    /**
+     * One {@code <rule>} element.
+     */
+    public static class Rule {
+
+        private String logger = "";
+        private Level level = Level.INFO;
+        private int sampleRate = 1;
+        private int maxPerSecond;
+
+        public void setLogger(String logger) {
+            this.logger = logger;
+        }
+
+        public void setLevel(String level) {
+            this.level = Level.toLevel(level, Level.INFO);
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = Math.max(1, sampleRate);
+        }
+
+        /**
+         * @param maxPerSecond events admitted per second after sampling; 0 for no limit
+         */
+        public void setMaxPerSecond(int maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+        }
+    }
+
+    /**
+     * Per-logger state: a sample counter and a fixed one-second window.
+     */
+    private static final class Limiter {
+
+        private final Rule rule;
+        private final AtomicLong seen = new AtomicLong();
+        private final AtomicLong window = new AtomicLong();
+        private final AtomicLong admittedInWindow = new AtomicLong();
+
+        private Limiter(Rule rule) {
+            this.rule = rule;
+        }
+
+        boolean admits(Level level) {
+            if (rule == null || !rule.level.isGreaterOrEqual(level)) {
+                return true;
+            }
+            if (rule.sampleRate > 1 && seen.getAndIncrement() % rule.sampleRate != 0) {
+                return false;
+            }
+            if (rule.maxPerSecond <= 0) {
+                return true;
+            }
+            long second = System.currentTimeMillis() / 1000;
+            long current = window.get();
+            if (current != second && window.compareAndSet(current, second)) {
+                admittedInWindow.set(0);
+            }
+            return admittedInWindow.incrementAndGet() <= rule.maxPerSecond;
+        }
+    }
+}
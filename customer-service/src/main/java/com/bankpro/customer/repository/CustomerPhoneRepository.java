@@ -0,0 +1,12 @@
+package com.bankpro.customer.repository;
+
+import com.bankpro.customer.entity.CustomerPhone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for {@link CustomerPhone} claims.
+ */
+@Repository
+public interface CustomerPhoneRepository extends JpaRepository<CustomerPhone, String> {
+}
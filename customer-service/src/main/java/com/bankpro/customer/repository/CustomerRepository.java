@@ -1,9 +1,14 @@
 package com.bankpro.customer.repository;
 
 import com.bankpro.customer.entity.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,4 +27,38 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
      * @return an {@link Optional} containing the {@link Customer} if found, or empty otherwise
      */
     Optional<Customer> findByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Reads only the id and row version of a customer.
+     *
+     * @param email the unique email address of the customer
+     * @return the version columns, or empty if no customer has this email
+     */
+    @Query("select c.id as id, c.version as version from Customer c where c.email = :email")
+    Optional<CustomerVersionView> findVersionByEmail(@Param("email") String email);
+
+    /**
+     * Retrieves all customers whose id is in the given collection, in one {@code IN} query.
+     *
+     * @param ids customer ids; order is not preserved
+     * @return the customers found
+     */
+    List<Customer> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Retrieves all customers whose email is in the given collection, in one {@code IN} query.
+     *
+     * @param emails customer emails; order is not preserved
+     * @return the customers found
+     */
+    List<Customer> findByEmailIn(Collection<String> emails);
+
+    /**
+     * Keyset page: customers with an id above {@code id}, in id order.
+     *
+     * @param id       last id of the previous page, or 0 for the first page
+     * @param limit    page size
+     * @return up to {@code limit} customers
+     */
+    List<Customer> findByIdGreaterThanOrderById(long id, Limit limit);
+}
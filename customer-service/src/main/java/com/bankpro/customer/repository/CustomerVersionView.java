@@ -0,0 +1,12 @@
+package com.bankpro.customer.repository;
+
+/**
+ * Projection of a customer's id and row version, used to answer conditional
+ * profile reads without loading the customer.
+ */
+public interface CustomerVersionView {
+
+    Long getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,54 @@
+package com.bankpro.customer.repository;
+
+import com.bankpro.customer.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository for {@link RefreshToken} rows, looked up by primary key on the token digest.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * Loads a token and locks it until the transaction ends, so two concurrent refreshes
+     * with the same token cannot both succeed.
+     *
+     * @param tokenHash digest of the token
+     * @return the token, if it was ever issued and not yet purged
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RefreshToken r where r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findForUpdate(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revokes a session by deleting every token of its family.
+     *
+     * @param familyId id of the session
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshToken r where r.familyId = :familyId")
+    int deleteFamily(@Param("familyId") String familyId);
+
+    /**
+     * Deletes tokens that have expired.
+     *
+     * @param now current time
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
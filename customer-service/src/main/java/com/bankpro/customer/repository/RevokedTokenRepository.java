@@ -0,0 +1,40 @@
+package com.bankpro.customer.repository;
+
+import com.bankpro.customer.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for {@link RevokedToken} rows.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Rows revoked at or after {@code since} that have not expired yet.
+     *
+     * @param since lower bound of the revocation time
+     * @param now   current time
+     * @return the matching revocations
+     */
+    @Query("select r from RevokedToken r where r.revokedAt >= :since and r.expiresAt > :now")
+    List<RevokedToken> findRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+
+    /**
+     * Deletes rows whose token has expired; such tokens fail validation anyway.
+     *
+     * @param now current time
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
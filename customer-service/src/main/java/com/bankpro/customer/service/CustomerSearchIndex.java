@@ -0,0 +1,171 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.entity.Customer;
+import com.bankpro.customer.entity.OutboxEvent;
+import com.bankpro.customer.enums.ChangeEventType;
+import com.bankpro.customer.repository.CustomerRepository;
+import com.bankpro.customer.repository.OutboxEventRepository;
+import com.bankpro.customer.util.NGramIndex;
+import com.bankpro.customer.util.SortedMerge;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Admin typeahead over customer name, email and phone, answered from an in-process
+ * {@link NGramIndex} without touching the database.
+ * <p>
+ * The index is built from all shards on a background thread once the application is
+ * ready, so startup does not wait for it, and rebuilt periodically. Between rebuilds it follows the outbox: every customer snapshot event,
+ * written by any instance, is applied within one poll interval. Events that commit out
+ * of id order behind the cursor are only picked up by the next rebuild.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CustomerSearchIndex {
+
+    private final CustomerRepository customerRepo;
+    private final OutboxEventRepository outboxRepo;
+    private final CustomerShards shards;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    private final int batchSize;
+
+    private volatile NGramIndex<CustomerResponseDTO> index = new NGramIndex<>();
+    private volatile boolean ready;
+    private long cursor;
+
+    public CustomerSearchIndex(CustomerRepository customerRepo, OutboxEventRepository outboxRepo,
+                               CustomerShards shards, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                               @Value("${app.customer.search.rebuild-page-size:1000}") int pageSize,
+                               @Value("${app.customer.search.poll-batch-size:500}") int batchSize) {
+        this.customerRepo = customerRepo;
+        this.outboxRepo = outboxRepo;
+        this.shards = shards;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        Gauge.builder("customer.search.entries", this, search -> search.index.size())
+                .description("Customers in the admin search index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param query typed text, matched against name, email and phone
+     * @param limit maximum number of results
+     * @return the best matches, best first; empty until the first build finished
+     */
+    public List<CustomerResponseDTO> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    /**
+     * @return whether the first build has finished
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Starts the first build when the application is ready, off the startup thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        // not a virtual thread: rebuild() waits on the shard fan-out while holding this monitor
+        Thread.ofPlatform().daemon().name("customer-search-build").start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Customer search index build failed, retrying at the next rebuild", e);
+            }
+        });
+    }
+
+    /**
+     * Replaces the index with one built from every shard. Searches keep using the
+     * old index until the new one is complete.
+     */
+    @Scheduled(fixedDelayString = "${app.customer.search.rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.customer.search.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        // events after this position are replayed on top of the fresh index
+        long head = outboxRepo.findMaxId();
+        NGramIndex<CustomerResponseDTO> fresh = new NGramIndex<>();
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Customer> customers = SortedMerge.merge(
+                    shards.gather(shard -> customerRepo.findByIdGreaterThanOrderById(from, Limit.of(pageSize))),
+                    Comparator.comparing(Customer::getId), pageSize);
+            customers.forEach(customer -> add(fresh, CustomerResponseDTO.builder()
+                    .id(customer.getId())
+                    .name(customer.getName())
+                    .email(customer.getEmail())
+                    .phone(customer.getPhone())
+                    .build()));
+            if (customers.size() < pageSize) {
+                break;
+            }
+            afterId = customers.get(customers.size() - 1).getId();
+        }
+        fresh.compact();
+        index = fresh;
+        cursor = head;
+        ready = true;
+        log.info("Customer search index built with {} customers in {} ms",
+                fresh.size(), (System.nanoTime() - started) / 1_000_000);
+        poll();
+    }
+
+    /**
+     * Applies customer snapshot events written since the last poll.
+     */
+    @Scheduled(fixedDelayString = "${app.customer.search.poll-interval-ms:500}")
+    public synchronized void poll() {
+        if (!ready) {
+            return;
+        }
+        try {
+            List<OutboxEvent> events;
+            do {
+                events = outboxRepo.findByIdGreaterThanOrderById(cursor, PageRequest.ofSize(batchSize));
+                for (OutboxEvent event : events) {
+                    if (event.getEventType() == ChangeEventType.CUSTOMER_SNAPSHOT) {
+                        apply(event);
+                    }
+                    cursor = event.getId();
+                }
+            } while (events.size() == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Search index update failed, retrying next poll: {}", e.getMessage());
+        }
+    }
+
+    private void apply(OutboxEvent event) {
+        try {
+            add(index, objectMapper.readValue(event.getPayload(), CustomerResponseDTO.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping unreadable outbox event {}: {}", event.getId(), e.getMessage());
+        }
+    }
+
+    private static void add(NGramIndex<CustomerResponseDTO> target, CustomerResponseDTO customer) {
+        target.put(customer.getId(), customer, customer.getName(), customer.getEmail(), customer.getPhone());
+    }
+}
@@ -1,9 +1,13 @@
 package com.bankpro.customer.service;
 
 import com.bankpro.customer.dto.AuthRequestDTO;
+import com.bankpro.customer.dto.CustomerBatchDTO;
+import com.bankpro.customer.dto.CustomerBatchRequestDTO;
 import com.bankpro.customer.dto.CustomerRequestDTO;
 import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.dto.TokenResponse;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -27,9 +31,35 @@ public interface CustomerService {
      * Authenticates the customer and returns a valid JWT token.
      *
      * @param request login credentials (email and password)
-     * @return a signed JWT token if credentials are valid
+     * @return a short-lived signed JWT and a refresh token, if credentials are valid
      */
-    String login(AuthRequestDTO request);
+    TokenResponse login(AuthRequestDTO request);
+
+    /**
+     * Exchanges a refresh token for a new access token and the next refresh token,
+     * without checking the password again.
+     *
+     * @param refreshToken refresh token from the last login or refresh
+     * @return the new token pair
+     */
+    TokenResponse refresh(String refreshToken);
+
+    /**
+     * Revokes the caller's own token so it is rejected on every instance, and ends
+     * the session it was refreshed in.
+     *
+     * @param jti       id of the token presented
+     * @param expiresAt expiry of the token presented
+     * @param sessionId session of the token presented, or null for tokens without one
+     */
+    void logout(String jti, Instant expiresAt, String sessionId);
+
+    /**
+     * Revokes any token by id. Only users with admin access can invoke this.
+     *
+     * @param jti id of the token to revoke
+     */
+    void revokeToken(String jti);
 
     /**
      * Fetches the customer profile based on the email.
@@ -39,6 +69,14 @@ public interface CustomerService {
      */
     CustomerResponseDTO getProfile(String email);
 
+    /**
+     * Computes the profile ETag from the customer's id and row version only.
+     *
+     * @param email the email of the authenticated customer
+     * @return an opaque tag that changes whenever the profile row does
+     */
+    String getProfileETag(String email);
+
     /**
      * Retrieves a list of all registered customers.
      * This operation is typically restricted to admin users.
@@ -47,6 +85,35 @@ public interface CustomerService {
      */
     List<CustomerResponseDTO> getAllCustomers();
 
+    /**
+     * Retrieves one keyset page of customers in id order.
+     * Pass the last id of the previous page to get the next one.
+     *
+     * @param afterId last id of the previous page, or 0 for the first page
+     * @param limit   page size, at most {@code app.customer.page.max-size}
+     * @return up to {@code limit} customers with an id above {@code afterId}
+     */
+    List<CustomerResponseDTO> getCustomersPage(long afterId, int limit);
+
+    /**
+     * Finds customers whose name, email or phone contains the typed text, for admin typeahead.
+     * Answered from memory; results may lag writes by a moment.
+     *
+     * @param query partial name, email or phone
+     * @param limit maximum number of results, at most {@code app.customer.search.max-limit}
+     * @return the best matches, best first
+     */
+    List<CustomerResponseDTO> searchCustomers(String query, int limit);
+
+    /**
+     * Looks up many customers by id or by email with a single query.
+     * Results follow the request order and unknown keys are reported rather than failing the call.
+     *
+     * @param request the ids or emails to look up
+     * @return the customers found and the keys that were missing
+     */
+    CustomerBatchDTO getCustomers(CustomerBatchRequestDTO request);
+
     /**
      * Promotes a customer to an administrator role.
      * Only users with admin access can invoke this.
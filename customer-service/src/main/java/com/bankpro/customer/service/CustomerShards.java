@@ -0,0 +1,197 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.config.ShardContext;
+import com.bankpro.customer.config.ShardSchemaInitializer;
+import com.bankpro.customer.config.ShardingProperties;
+import com.bankpro.customer.util.ConsistentHashRing;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Places customers on shards and runs customer queries on the right one.
+ * <p>
+ * A customer lives on the shard its normalized email (see {@link #normalizeEmail}) hashes
+ * to; its id encodes the same shard
+ * (see {@link ShardSchemaInitializer#ID_STRIDE}). Queries spanning all shards run in
+ * parallel, one virtual thread and one transaction per shard. Shard work never joins the
+ * caller's transaction, which may already hold a connection to the global database. Without sharding there is
+ * a single shard and everything runs inline, in the caller's transaction; a read without one
+ * opens a read-only transaction of its own.
+ * </p>
+ */
+@Component
+public class CustomerShards {
+
+    private final boolean enabled;
+    private final int count;
+    private final ConsistentHashRing ring;
+    private final TransactionTemplate shardTransaction;
+    private final TransactionTemplate shardReadTransaction;
+    private final TransactionTemplate readTransaction;
+
+    public CustomerShards(ShardingProperties properties, PlatformTransactionManager transactionManager) {
+        this.enabled = properties.isEnabled();
+        this.count = enabled ? properties.getShards().size() : 1;
+        this.ring = enabled ? new ConsistentHashRing(count, properties.getVirtualNodes()) : null;
+        this.shardTransaction = new TransactionTemplate(transactionManager);
+        this.shardTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardReadTransaction = new TransactionTemplate(transactionManager);
+        this.shardReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardReadTransaction.setReadOnly(true);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @return whether customers are spread over more than the global database
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Canonical form of an email, used as the shard key and stored on the customer.
+     * The database compares emails case-insensitively, so case variants must hash alike.
+     *
+     * @param email email as entered
+     * @return the email stripped and lower-cased
+     */
+    public static String normalizeEmail(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param email customer email, in any case
+     * @return the shard holding the customer
+     */
+    public int shardOf(String email) {
+        return enabled ? ring.shardOf(normalizeEmail(email)) : 0;
+    }
+
+    /**
+     * @param id customer id
+     * @return the shard whose id range contains {@code id}, or -1 if none does
+     */
+    public int shardOfId(long id) {
+        if (!enabled) {
+            return 0;
+        }
+        long shard = (id - 1) / ShardSchemaInitializer.ID_STRIDE;
+        return id > 0 && shard < count ? (int) shard : -1;
+    }
+
+    /**
+     * Runs {@code read} in a read-only transaction of its own on the customer's shard.
+     * Without sharding it joins the caller's transaction, or starts a read-only one
+     * when there is none, so callers need not open a transaction before they know
+     * they will query.
+     *
+     * @param email customer email
+     * @param read  the read to run
+     * @return the result of {@code read}
+     */
+    public <T> T read(String email, Supplier<T> read) {
+        if (!enabled) {
+            return readTransaction.execute(status -> read.get());
+        }
+        return ShardContext.on(shardOf(email), () -> shardReadTransaction.execute(status -> read.get()));
+    }
+
+    /**
+     * Runs {@code write} in a transaction of its own on the customer's shard, committed
+     * before this returns. Without sharding it joins the caller's transaction.
+     *
+     * @param email customer email
+     * @param write the write to run
+     * @return the result of {@code write}
+     */
+    public <T> T write(String email, Supplier<T> write) {
+        if (!enabled) {
+            return write.get();
+        }
+        return ShardContext.on(shardOf(email), () -> shardTransaction.execute(status -> write.get()));
+    }
+
+    /**
+     * Runs {@code query} on every shard in parallel.
+     *
+     * @param query query taking the shard number
+     * @return the results, indexed by shard
+     */
+    public <T> List<T> gather(IntFunction<T> query) {
+        if (!enabled) {
+            return List.of(query.apply(0));
+        }
+        List<Integer> shards = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            shards.add(shard);
+        }
+        return scatter(shards, query);
+    }
+
+    /**
+     * Groups {@code keys} by shard and runs {@code query} once per shard that has any,
+     * in parallel. Keys mapped to a negative shard are dropped.
+     *
+     * @param keys    keys to look up
+     * @param shardOf maps a key to its shard
+     * @param query   query taking one shard's keys
+     * @return the results of all shards, concatenated
+     */
+    public <K, T> List<T> gatherByKey(Collection<K> keys, Function<K, Integer> shardOf,
+                                      Function<List<K>, List<T>> query) {
+        if (!enabled) {
+            return query.apply(List.copyOf(keys));
+        }
+        Map<Integer, List<K>> byShard = new LinkedHashMap<>();
+        for (K key : keys) {
+            int shard = shardOf.apply(key);
+            if (shard >= 0) {
+                byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(key);
+            }
+        }
+        List<List<T>> results = scatter(new ArrayList<>(byShard.keySet()), shard -> query.apply(byShard.get(shard)));
+        List<T> all = new ArrayList<>();
+        results.forEach(all::addAll);
+        return all;
+    }
+
+    private <T> List<T> scatter(List<Integer> shards, IntFunction<T> query) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = new ArrayList<>(shards.size());
+            for (int shard : shards) {
+                futures.add(executor.submit(() -> ShardContext.on(shard,
+                        () -> shardReadTransaction.execute(status -> query.apply(shard)))));
+            }
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        }
+    }
+}
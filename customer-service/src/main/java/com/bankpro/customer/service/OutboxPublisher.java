@@ -0,0 +1,60 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.dto.CustomerRoleChangeDTO;
+import com.bankpro.customer.entity.OutboxEvent;
+import com.bankpro.customer.enums.ChangeEventType;
+import com.bankpro.customer.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes change events to the outbox as part of the caller's transaction, so an
+ * event exists if and only if the change it describes was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxRepo;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records the current profile of a customer.
+     *
+     * @param customer the saved customer profile
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void customerSnapshot(CustomerResponseDTO customer) {
+        save(ChangeEventType.CUSTOMER_SNAPSHOT, customer.getId(), customer);
+    }
+
+    /**
+     * Records a change of a customer's role.
+     *
+     * @param change the customer and its new role
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void roleChanged(CustomerRoleChangeDTO change) {
+        save(ChangeEventType.CUSTOMER_ROLE_CHANGED, change.getId(), change);
+    }
+
+    private void save(ChangeEventType type, Long customerId, Object payload) {
+        try {
+            outboxRepo.save(OutboxEvent.builder()
+                    .eventType(type)
+                    .customerId(customerId)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + type + " event", e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.dto.OutboxEventDTO;
+import com.bankpro.customer.entity.OutboxEvent;
+import com.bankpro.customer.entity.OutboxOffset;
+import com.bankpro.customer.repository.OutboxEventRepository;
+import com.bankpro.customer.repository.OutboxOffsetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox in batches to an {@link OutboxSink}.
+ * <p>
+ * Each batch is read, delivered and recorded in one transaction that holds a lock on
+ * the relay's {@link OutboxOffset} row, so at most one instance relays at a time and a
+ * batch whose position was not recorded is delivered again (at least once). Events go
+ * out strictly in feed order, which keeps every customer's events in order. Ids become
+ * visible at commit, so a missing id is waited for up to the gap timeout before it is
+ * skipped as a rolled-back insert.
+ * <p>
+ * Lag is published as {@code outbox.relay.lag.events} (ids behind the head) and
+ * {@code outbox.relay.lag.seconds} (age of the oldest undelivered event).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    static final String NAME = "relay";
+
+    private final OutboxEventRepository outboxRepo;
+    private final OutboxOffsetRepository offsetRepo;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration gapTimeout;
+
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer publishTimer;
+
+    private volatile long offset;
+    private volatile long head;
+    private volatile LocalDateTime oldestPending;
+    private long gapSince;
+
+    public OutboxRelay(OutboxEventRepository outboxRepo, OutboxOffsetRepository offsetRepo, OutboxSink sink,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                       @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${app.outbox.relay.gap-timeout:5s}") Duration gapTimeout) {
+        this.outboxRepo = outboxRepo;
+        this.offsetRepo = offsetRepo;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.delivered = Counter.builder("outbox.relay.events")
+                .description("Events delivered to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Batches that failed and will be retried")
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("outbox.relay.publish")
+                .description("Time to deliver one batch to the sink")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag.events", this, r -> Math.max(0, r.head - r.offset))
+                .description("Outbox ids not yet delivered")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag.seconds", this, OutboxRelay::lagSeconds)
+                .description("Age of the oldest event not yet delivered")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delivers batches until the relay has caught up, stalls at a gap or fails.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:500}")
+    public synchronized void poll() {
+        try {
+            while (relayBatch()) {
+                // keep draining full batches
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay batch failed, retrying from id {}: {}", offset, e.getMessage());
+        }
+    }
+
+    /**
+     * Delivers and records one batch.
+     *
+     * @return whether a full batch was delivered, i.e. more events may be waiting
+     */
+    boolean relayBatch() {
+        Delivery delivery = transactionTemplate.execute(status -> {
+            OutboxOffset position = offsetRepo.findForUpdate(NAME)
+                    .orElseGet(() -> offsetRepo.saveAndFlush(OutboxOffset.builder()
+                            .name(NAME)
+                            .lastId(0)
+                            .updatedAt(LocalDateTime.now())
+                            .build()));
+            offset = position.getLastId();
+            head = outboxRepo.findMaxId();
+            oldestPending = null;
+
+            List<OutboxEvent> events = outboxRepo.findByIdGreaterThanOrderById(offset, PageRequest.of(0, batchSize));
+            List<OutboxEventDTO> batch = new ArrayList<>(events.size());
+            long last = offset;
+            for (OutboxEvent event : events) {
+                if (!accepts(last, event.getId())) {
+                    oldestPending = event.getCreatedAt();
+                    break;
+                }
+                batch.add(mapToDTO(event));
+                last = event.getId();
+            }
+            if (batch.isEmpty()) {
+                return null;
+            }
+
+            publishTimer.record(() -> sink.publish(batch));
+            position.setLastId(last);
+            position.setUpdatedAt(LocalDateTime.now());
+            offsetRepo.save(position);
+            return new Delivery(last, batch.size());
+        });
+        if (delivery == null) {
+            return false;
+        }
+        // the position only counts once the transaction has committed
+        offset = delivery.lastId();
+        delivered.increment(delivery.count());
+        return delivery.count() == batchSize;
+    }
+
+    /**
+     * Whether {@code id} may be delivered after {@code previous}: it directly follows,
+     * or the ids in between have been missing for longer than the gap timeout.
+     */
+    private boolean accepts(long previous, long id) {
+        if (previous == 0 || id == previous + 1) {
+            gapSince = 0;
+            return true;
+        }
+        long now = System.nanoTime();
+        if (gapSince == 0) {
+            gapSince = now;
+            return false;
+        }
+        if (now - gapSince < gapTimeout.toNanos()) {
+            return false;
+        }
+        log.warn("Skipping missing outbox ids {}-{}", previous + 1, id - 1);
+        gapSince = 0;
+        return true;
+    }
+
+    private double lagSeconds() {
+        LocalDateTime pending = oldestPending;
+        if (pending == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(pending, LocalDateTime.now()).toNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private OutboxEventDTO mapToDTO(OutboxEvent event) {
+        return OutboxEventDTO.builder()
+                .id(event.getId())
+                .type(event.getEventType())
+                .customerId(event.getCustomerId())
+                .payload(event.getPayload())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
+    private record Delivery(long lastId, int count) {
+    }
+}
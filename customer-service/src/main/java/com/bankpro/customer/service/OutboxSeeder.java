@@ -0,0 +1,77 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.config.ReadRouting;
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.entity.Customer;
+import com.bankpro.customer.repository.CustomerRepository;
+import com.bankpro.customer.repository.OutboxEventRepository;
+import com.bankpro.customer.util.SortedMerge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Seeds an empty outbox with a snapshot of every customer, so consumers replaying
+ * the feed from the start know customers registered before the outbox existed.
+ * Customers are read in id-ordered keyset pages merged across all shards.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxSeeder {
+
+    private final CustomerRepository customerRepo;
+    private final OutboxEventRepository outboxRepo;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final CustomerShards shards;
+
+    @Value("${app.outbox.seed.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * Reads from the primary: a lagging replica could report an empty outbox or miss customers.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        ReadRouting.onPrimary(() -> {
+            seed();
+            return null;
+        });
+    }
+
+    private void seed() {
+        if (outboxRepo.findMaxId() > 0) {
+            return;
+        }
+        long seeded = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Customer> customers = SortedMerge.merge(
+                    shards.gather(shard -> customerRepo.findByIdGreaterThanOrderById(from, Limit.of(pageSize))),
+                    Comparator.comparing(Customer::getId), pageSize);
+            transactionTemplate.executeWithoutResult(status -> customers.forEach(customer ->
+                    outboxPublisher.customerSnapshot(CustomerResponseDTO.builder()
+                            .id(customer.getId())
+                            .name(customer.getName())
+                            .email(customer.getEmail())
+                            .phone(customer.getPhone())
+                            .build())));
+            seeded += customers.size();
+            if (customers.size() < pageSize) {
+                break;
+            }
+            afterId = customers.get(customers.size() - 1).getId();
+        }
+        log.info("Seeded outbox with {} customer snapshots", seeded);
+    }
+}
@@ -0,0 +1,53 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.entity.CustomerPhone;
+import com.bankpro.customer.exception.PhoneAlreadyExistsException;
+import com.bankpro.customer.repository.CustomerPhoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps phone numbers unique across customer shards, where the per-table unique index
+ * on {@code customers.phone} only covers one shard.
+ * <p>
+ * Claims are written to the global database in the caller's transaction, before the
+ * customer row, so a failed registration releases its claim on rollback. Without
+ * sharding the unique index is enough and nothing is recorded.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PhoneDirectory {
+
+    private final CustomerPhoneRepository phoneRepo;
+    private final CustomerShards shards;
+
+    /**
+     * Claims {@code phone} for {@code email}.
+     *
+     * @param phone phone number; nothing is claimed when null
+     * @param email customer email
+     * @throws PhoneAlreadyExistsException if another customer holds the number
+     */
+    public void reserve(String phone, String email) {
+        if (!shards.isEnabled() || phone == null) {
+            return;
+        }
+        if (phoneRepo.existsById(phone)) {
+            throw new PhoneAlreadyExistsException();
+        }
+        try {
+            phoneRepo.saveAndFlush(CustomerPhone.builder()
+                    .phone(phone)
+                    .email(email)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // a concurrent registration claimed it between the check and the insert
+            throw new PhoneAlreadyExistsException();
+        }
+    }
+}
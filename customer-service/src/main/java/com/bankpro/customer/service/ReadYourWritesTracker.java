@@ -0,0 +1,96 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.config.ReadReplicaProperties;
+import com.bankpro.customer.config.ReadRouting;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which customers wrote recently so their own reads stay on the primary
+ * until the replicas have had time to catch up, e.g. login right after register.
+ * <p>
+ * Keys are customer emails. The window starts when the writing transaction commits.
+ * Does nothing unless read-replica routing is enabled. The state is per instance.
+ * </p>
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int SWEEP_EVERY = 1024;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final ConcurrentHashMap<String, Long> deadlines = new ConcurrentHashMap<>();
+    private final LongAdder recorded = new LongAdder();
+
+    public ReadYourWritesTracker(ReadReplicaProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.windowNanos = properties.getReadYourWritesWindow().toNanos();
+    }
+
+    /**
+     * Marks {@code key} as written; inside a transaction, from its commit on.
+     *
+     * @param key customer email
+     */
+    public void recordWrite(String key) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stamp(key);
+                }
+            });
+        } else {
+            stamp(key);
+        }
+    }
+
+    /**
+     * Runs {@code read} on the primary if {@code key} wrote within the window,
+     * otherwise wherever the transaction routes it.
+     *
+     * @param key  customer email
+     * @param read the read to run
+     * @return the result of {@code read}
+     */
+    public <T> T read(String key, Supplier<T> read) {
+        return isRecent(key) ? ReadRouting.onPrimary(read) : read.get();
+    }
+
+    /**
+     * @param key customer email
+     * @return whether {@code key} wrote within the window
+     */
+    public boolean isRecent(String key) {
+        if (!enabled) {
+            return false;
+        }
+        Long deadline = deadlines.get(key);
+        if (deadline == null) {
+            return false;
+        }
+        if (System.nanoTime() - deadline < 0) {
+            return true;
+        }
+        deadlines.remove(key, deadline);
+        return false;
+    }
+
+    private void stamp(String key) {
+        deadlines.put(key, System.nanoTime() + windowNanos);
+        recorded.increment();
+        if (recorded.sum() % SWEEP_EVERY == 0) {
+            long now = System.nanoTime();
+            deadlines.values().removeIf(deadline -> now - deadline >= 0);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.entity.RefreshToken;
+import com.bankpro.customer.exception.InvalidCredentialsException;
+import com.bankpro.customer.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens, so clients renew short-lived access tokens
+ * without sending the password through BCrypt again.
+ * <p>
+ * A refresh token is 256 random bits; only its SHA-256 digest is stored, as the primary
+ * key, so a lookup is one index probe and a leaked table holds no usable tokens. A fast
+ * digest is enough because the value cannot be guessed, unlike a password. Every token
+ * is single-use: exchanging it returns the next token of the same family, and presenting
+ * an exchanged token again revokes the family.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshRepo;
+    private final Duration lifetime;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Outcome of a successful rotation.
+     *
+     * @param email    customer the family belongs to
+     * @param familyId id of the session
+     * @param token    the next refresh token
+     */
+    public record Rotation(String email, String familyId, String token) {
+    }
+
+    public RefreshTokenService(RefreshTokenRepository refreshRepo,
+                               @Value("${app.jwt.refresh-token-lifetime:14d}") Duration lifetime) {
+        this.refreshRepo = refreshRepo;
+        this.lifetime = lifetime;
+    }
+
+    /**
+     * Starts a new session for a customer who just proved their password. Runs in a
+     * transaction of its own, so a read-only login can call it.
+     *
+     * @param email customer email
+     * @return the first refresh token of the new family; its family id is the session id
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Rotation issue(String email) {
+        String familyId = UUID.randomUUID().toString();
+        return new Rotation(email, familyId, store(email, familyId));
+    }
+
+    /**
+     * Exchanges a refresh token for the next one of its family. Callers must not wrap
+     * this in a transaction that rolls back on the exception, or a reuse would not
+     * revoke the family.
+     *
+     * @param token refresh token presented by the client
+     * @return the next token and the customer it was issued to
+     * @throws InvalidCredentialsException if the token is unknown, expired or already used;
+     *                                     in the last case the family is revoked as well
+     */
+    @Transactional(noRollbackFor = InvalidCredentialsException.class)
+    public Rotation rotate(String token) {
+        RefreshToken current = refreshRepo.findForUpdate(digest(token))
+                .orElseThrow(() -> InvalidCredentialsException.INVALID_REFRESH_TOKEN);
+        Instant now = Instant.now();
+        if (current.getUsedAt() != null) {
+            int revoked = refreshRepo.deleteFamily(current.getFamilyId());
+            log.warn("Refresh token reused for {}; revoked session {} ({} tokens)",
+                    current.getEmail(), current.getFamilyId(), revoked);
+            throw InvalidCredentialsException.INVALID_REFRESH_TOKEN;
+        }
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw InvalidCredentialsException.INVALID_REFRESH_TOKEN;
+        }
+        current.setUsedAt(now);
+        return new Rotation(current.getEmail(), current.getFamilyId(), store(current.getEmail(), current.getFamilyId()));
+    }
+
+    /**
+     * Ends a session: none of its refresh tokens can be exchanged any more.
+     *
+     * @param familyId id of the session
+     */
+    public void revokeFamily(String familyId) {
+        refreshRepo.deleteFamily(familyId);
+    }
+
+    /**
+     * Deletes expired tokens.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.refresh-token-purge-interval-ms:3600000}",
+            initialDelayString = "${app.jwt.refresh-token-purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            int deleted = refreshRepo.deleteExpired(Instant.now());
+            log.debug("Purged {} expired refresh tokens", deleted);
+        } catch (DataAccessException e) {
+            log.warn("Refresh token purge failed: {}", e.getMessage());
+        }
+    }
+
+    private String store(String email, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshRepo.save(RefreshToken.builder()
+                .tokenHash(digest(token))
+                .familyId(familyId)
+                .email(email)
+                .expiresAt(Instant.now().plus(lifetime))
+                .build());
+        return token;
+    }
+
+    static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.config.ReadRouting;
+import com.bankpro.customer.entity.RevokedToken;
+import com.bankpro.customer.repository.RevokedTokenRepository;
+import com.bankpro.customer.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token ids ({@code jti}) checked on every authenticated request without a
+ * database round trip.
+ * <p>
+ * Revocations are stored in {@code revoked_tokens} and mirrored in memory as an exact
+ * map of id to expiry, fronted by a {@link BloomFilter}. A lookup for a token that was
+ * never revoked, which is almost every lookup, ends at the filter; only its positives
+ * consult the map. Each instance polls the table for rows revoked since its previous
+ * poll, re-reading an overlap to catch rows committed late or stamped by a clock running
+ * behind. Entries are dropped, and the filter rebuilt, once their tokens have expired.
+ * </p>
+ * <p>
+ * The table is first read while the context starts, before the web server accepts
+ * requests. Until a read has succeeded the list fails closed: every token counts as
+ * revoked, since a token revoked on another instance could not be told apart.
+ * </p>
+ * <p>
+ * Counters: {@code jwt.revocation.checks{result=bloom-negative|revoked|false-positive|not-loaded}}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements SmartInitializingSingleton {
+
+    private final RevokedTokenRepository revokedRepo;
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final Duration syncOverlap;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom;
+    private int bloomCapacity;
+    private volatile Instant watermark = Instant.EPOCH;
+    private volatile boolean loaded;
+
+    private final Counter bloomNegatives;
+    private final Counter confirmed;
+    private final Counter falsePositives;
+    private final Counter notLoaded;
+
+    public TokenRevocationList(RevokedTokenRepository revokedRepo, MeterRegistry meterRegistry,
+                               @Value("${app.jwt.revocation.expected-tokens:100000}") int expectedTokens,
+                               @Value("${app.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                               @Value("${app.jwt.revocation.sync-overlap:10s}") Duration syncOverlap) {
+        this.revokedRepo = revokedRepo;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlap = syncOverlap;
+        this.bloomCapacity = expectedTokens;
+        this.bloom = new BloomFilter(expectedTokens, falsePositiveRate);
+        this.bloomNegatives = checks(meterRegistry, "bloom-negative");
+        this.confirmed = checks(meterRegistry, "revoked");
+        this.falsePositives = checks(meterRegistry, "false-positive");
+        this.notLoaded = checks(meterRegistry, "not-loaded");
+        Gauge.builder("jwt.revocation.entries", revoked, Map::size)
+                .description("Unexpired revoked tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.revocation.checks")
+                .description("Revocation lookups by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the revocations of unexpired tokens before the application serves requests.
+     * If the table cannot be read, the list stays closed and the scheduled sync retries.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        sync();
+        if (loaded) {
+            log.info("Revocation list loaded with {} entries", revoked.size());
+        } else {
+            log.warn("Revocation list not loaded; rejecting all tokens until a sync succeeds");
+        }
+    }
+
+    /**
+     * @return whether the table has been read at least once
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Revokes a token on every instance: immediately on this one, on the others at
+     * their next poll.
+     *
+     * @param jti       token id
+     * @param expiresAt expiry of the token
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        revokedRepo.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(expiresAt)
+                .revokedAt(now)
+                .build());
+        remember(jti, expiresAt.toEpochMilli());
+        log.info("Token revoked: {}", jti);
+    }
+
+    /**
+     * @param jti token id; tokens without one cannot be revoked
+     * @return whether the token was revoked and has not expired yet, or the list has not loaded
+     */
+    public boolean isRevoked(String jti) {
+        if (!loaded) {
+            notLoaded.increment();
+            return true;
+        }
+        if (jti == null || !bloom.mightContain(jti)) {
+            bloomNegatives.increment();
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            confirmed.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Pulls revocations made on other instances. Reads the primary, since a lagging
+     * replica could return rows after the watermark has passed them.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval-ms:1000}")
+    public void sync() {
+        Instant now = Instant.now();
+        List<RevokedToken> rows;
+        try {
+            rows = ReadRouting.onPrimary(() -> revokedRepo.findRevokedSince(watermark.minus(syncOverlap), now));
+        } catch (DataAccessException e) {
+            log.warn("Revocation sync failed, retrying next poll: {}", e.getMessage());
+            return;
+        }
+        Instant latest = watermark;
+        for (RevokedToken row : rows) {
+            remember(row.getJti(), row.getExpiresAt().toEpochMilli());
+            if (row.getRevokedAt().isAfter(latest)) {
+                latest = row.getRevokedAt();
+            }
+        }
+        watermark = latest;
+        loaded = true;
+    }
+
+    /**
+     * Forgets expired revocations here and in the table, and rebuilds the filter
+     * without them.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval-ms:600000}",
+            initialDelayString = "${app.jwt.revocation.purge-interval-ms:600000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        rebuild();
+        try {
+            int deleted = revokedRepo.deleteExpired(Instant.ofEpochMilli(now));
+            log.debug("Purged {} expired revocations", deleted);
+        } catch (DataAccessException e) {
+            log.warn("Revocation purge failed: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void remember(String jti, long expiresAt) {
+        if (revoked.put(jti, expiresAt) == null && revoked.size() > bloomCapacity) {
+            rebuild();
+        } else {
+            bloom.add(jti);
+        }
+    }
+
+    /**
+     * Swaps in a filter holding exactly the current entries, with room for twice as many.
+     */
+    private synchronized void rebuild() {
+        int capacity = Math.max(expectedTokens, revoked.size() * 2);
+        BloomFilter fresh = new BloomFilter(capacity, falsePositiveRate);
+        revoked.keySet().forEach(fresh::add);
+        bloomCapacity = capacity;
+        bloom = fresh;
+    }
+}
@@ -1,25 +1,50 @@
 package com.bankpro.customer.service.impl;
 
 import com.bankpro.customer.dto.AuthRequestDTO;
+import com.bankpro.customer.dto.CustomerBatchDTO;
+import com.bankpro.customer.dto.CustomerBatchRequestDTO;
 import com.bankpro.customer.dto.CustomerRequestDTO;
 import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.dto.CustomerRoleChangeDTO;
+import com.bankpro.customer.dto.TokenResponse;
+import com.bankpro.customer.config.ReadRouting;
 import com.bankpro.customer.entity.Customer;
 import com.bankpro.customer.enums.UserRole;
 import com.bankpro.customer.exception.InvalidCredentialsException;
+import com.bankpro.customer.exception.InvalidRequestException;
 import com.bankpro.customer.exception.ResourceNotFoundException;
 import com.bankpro.customer.exception.UserAlreadyExistsException;
 import com.bankpro.customer.repository.CustomerRepository;
+import com.bankpro.customer.service.CustomerSearchIndex;
 import com.bankpro.customer.service.CustomerService;
+import com.bankpro.customer.service.CustomerShards;
+import com.bankpro.customer.service.OutboxPublisher;
+import com.bankpro.customer.service.PhoneDirectory;
+import com.bankpro.customer.service.RefreshTokenService;
+import com.bankpro.customer.service.ReadYourWritesTracker;
+import com.bankpro.customer.service.TokenRevocationList;
 import com.bankpro.customer.util.JwtUtil;
+import com.bankpro.customer.util.SingleFlight;
+import com.bankpro.customer.util.SortedMerge;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -27,7 +52,9 @@ import java.util.stream.Collectors;
  * Handles business logic related to customer operations like registration,
  * authentication, profile retrieval, admin promotion, etc.
  * <p>
- * Note: Token generation and password encoding are commented for future integration.
+ * Passwords are stored BCrypt-encoded and login issues a JWT.
+ * Customer rows go through {@link CustomerShards}, which places each customer on a
+ * shard by email when sharding is enabled.
  *
  * @author Aniket Kamlesh
  */
@@ -39,21 +66,43 @@ public class CustomerServiceImpl implements CustomerService {
     private final CustomerRepository customerRepo;
      private final PasswordEncoder passwordEncoder;
      private final JwtUtil jwtUtil;
+    private final SingleFlight<String, CustomerResponseDTO> profileFlights;
+    private final OutboxPublisher outboxPublisher;
+    private final ReadYourWritesTracker readYourWrites;
+    private final CustomerShards shards;
+    private final PhoneDirectory phoneDirectory;
+    private final TokenRevocationList revocationList;
+    private final RefreshTokenService refreshTokens;
+    private final CustomerSearchIndex searchIndex;
 
     private final Environment env;
 
     @Value("${app.security.default-role:ROLE_USER}")
     private String defaultRole;
 
+    @Value("${app.customer.batch.max-size:500}")
+    private int maxBatchSize;
+
+    @Value("${app.customer.page.max-size:1000}")
+    private int maxPageSize;
+
+    @Value("${app.customer.search.max-limit:50}")
+    private int maxSearchLimit;
+
     /**
      * Registers a new customer with optional admin role in dev profile.
+     * The customer row and its change event are written in one transaction; when sharded,
+     * the row is committed on its shard first and the phone claim and change event follow
+     * in the global transaction.
      */
     @Override
+    @Transactional
     public CustomerResponseDTO registerCustomer(CustomerRequestDTO request) {
-        log.info("Registering new customer with email: {}", request.getEmail());
+        String email = CustomerShards.normalizeEmail(request.getEmail());
+        log.debug("Registering new customer with email: {}", email);
 
-        if (customerRepo.findByEmail(request.getEmail()).isPresent()) {
-            log.warn("Customer already exists with email: {}", request.getEmail());
+        if (shards.read(email, () -> customerRepo.findByEmail(email)).isPresent()) {
+            log.warn("Customer already exists with email: {}", email);
             throw new UserAlreadyExistsException("Customer with this email already exists.");
         }
 
@@ -66,81 +115,258 @@ public class CustomerServiceImpl implements CustomerService {
 
         Customer customer = Customer.builder()
                 .name(request.getName())
-                .email(request.getEmail())
-                // .password(passwordEncoder.encode(request.getPassword()))
-                .password(request.getPassword()) // Replace after enabling encoder
+                .email(email)
+                .password(passwordEncoder.encode(request.getPassword()))
                 .phone(request.getPhone())
                 .role(roleToAssign)
                 .build();
 
-        Customer saved = customerRepo.save(customer);
+        phoneDirectory.reserve(customer.getPhone(), customer.getEmail());
+        Customer saved = shards.write(customer.getEmail(), () -> customerRepo.save(customer));
+        readYourWrites.recordWrite(saved.getEmail());
         log.info("Customer registered successfully: ID = {}", saved.getId());
 
-        return mapToResponseDTO(saved);
+        CustomerResponseDTO response = mapToResponseDTO(saved);
+        outboxPublisher.customerSnapshot(response);
+        return response;
     }
 
     /**
-     * Authenticates the user and returns a token.
+     * Authenticates the user and returns a token pair, starting a new refresh session.
+     * Reads from a replica unless this customer wrote within the read-your-writes window.
      */
     @Override
-    public String login(AuthRequestDTO request) {
-        log.info("Login attempt for email: {}", request.getEmail());
+    @Transactional(readOnly = true)
+    public TokenResponse login(AuthRequestDTO request) {
+        String email = CustomerShards.normalizeEmail(request.getEmail());
+        log.debug("Login attempt for email: {}", email);
 
-        Customer customer = customerRepo.findByEmail(request.getEmail())
+        Customer customer = readYourWrites.read(email, () -> shards.read(email, () -> customerRepo.findByEmail(email)))
                 .orElseThrow(() -> {
                     log.error("Login failed: Email not found");
-                    return new ResourceNotFoundException("Customer not found with email: " + request.getEmail());
+                    return new ResourceNotFoundException("Customer not found with email: " + email);
                 });
 
 
         if (!passwordEncoder.matches(request.getPassword(), customer.getPassword())) {
-            log.warn("Invalid credentials for email: {}", request.getEmail());
-            throw new InvalidCredentialsException("Incorrect email or password.");
+            log.warn("Invalid credentials for email: {}", email);
+            throw InvalidCredentialsException.INCORRECT_CREDENTIALS;
         }
 
-        String token = jwtUtil.generateToken(customer.getEmail(), customer.getRole());
+        TokenResponse tokens = issueTokens(customer, refreshTokens.issue(customer.getEmail()));
         log.info("Token generated for customer: {}", customer.getEmail());
-        return token;
+        return tokens;
+
+    }
+
+    /**
+     * Rotates the refresh token and mints an access token with the customer's current
+     * role. No password hashing is involved. Deliberately not transactional: a reused
+     * token must revoke its session even though the call fails.
+     */
+    @Override
+    public TokenResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation next = refreshTokens.rotate(refreshToken);
+        String email = CustomerShards.normalizeEmail(next.email());
+        Customer customer = readYourWrites.read(email, () -> shards.read(email, () -> customerRepo.findByEmail(email)))
+                .orElseThrow(() -> {
+                    refreshTokens.revokeFamily(next.familyId());
+                    return InvalidCredentialsException.INVALID_REFRESH_TOKEN;
+                });
+        log.debug("Token refreshed for customer: {}", customer.getEmail());
+        return issueTokens(customer, next);
+    }
+
+    private TokenResponse issueTokens(Customer customer, RefreshTokenService.Rotation session) {
+        String token = jwtUtil.generateToken(customer.getEmail(), customer.getRole(), customer.getId(),
+                session.familyId());
+        return new TokenResponse(token, session.token(), jwtUtil.getTokenLifetime().toSeconds());
+    }
+
+    /**
+     * Revokes the presented token until it expires and deletes its session's refresh tokens.
+     */
+    @Override
+    public void logout(String jti, Instant expiresAt, String sessionId) {
+        if (jti == null) {
+            throw new InvalidRequestException("This token has no id and cannot be revoked; it expires on its own.");
+        }
+        revocationList.revoke(jti, expiresAt);
+        if (sessionId != null) {
+            refreshTokens.revokeFamily(sessionId);
+        }
+    }
 
+    /**
+     * Revokes a token whose expiry is unknown here, so it is kept for the longest
+     * lifetime a token can have.
+     */
+    @Override
+    public void revokeToken(String jti) {
+        revocationList.revoke(jti, Instant.now().plus(jwtUtil.getTokenLifetime()));
     }
 
     /**
      * Retrieves customer profile by email.
+     * Concurrent requests for the same customer share one database lookup, except
+     * right after the customer's own write, when the lookup goes to the primary alone.
+     * Not transactional: the lookup opens its transaction inside {@link CustomerShards#read},
+     * so only the caller running it takes a pooled connection, not the ones waiting on it.
      */
     @Override
-    public CustomerResponseDTO getProfile(String email) {
-        log.info("Fetching profile for email: {}", email);
+    public CustomerResponseDTO getProfile(String subject) {
+        String email = CustomerShards.normalizeEmail(subject);
+        if (readYourWrites.isRecent(email)) {
+            return ReadRouting.onPrimary(() -> loadProfile(email));
+        }
+        return profileFlights.execute(email, () -> loadProfile(email));
+    }
 
-        Customer customer = customerRepo.findByEmail(email)
+    /**
+     * Reads only the id and version columns; no entity is loaded.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getProfileETag(String subject) {
+        String email = CustomerShards.normalizeEmail(subject);
+        return readYourWrites.read(email, () -> shards.read(email, () -> customerRepo.findVersionByEmail(email)))
+                .map(version -> version.getId() + "-" + version.getVersion())
+                .orElseThrow(() -> ResourceNotFoundException.CUSTOMER_NOT_FOUND);
+    }
+
+    private CustomerResponseDTO loadProfile(String email) {
+        log.debug("Fetching profile for email: {}", email);
+
+        Customer customer = shards.read(email, () -> customerRepo.findByEmail(email))
                 .orElseThrow(() -> {
                     log.error("Profile fetch failed: Customer not found for email {}", email);
-                    return new ResourceNotFoundException("Customer not found");
+                    return ResourceNotFoundException.CUSTOMER_NOT_FOUND;
                 });
 
         return mapToResponseDTO(customer);
     }
 
     /**
-     * Returns a list of all customers.
+     * Returns a list of all customers in id order, gathered from every shard in parallel.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerResponseDTO> getAllCustomers() {
-        return customerRepo.findAll()
+        List<List<Customer>> perShard = shards.gather(shard -> customerRepo.findAll(Sort.by("id")));
+        return SortedMerge.merge(perShard, Comparator.comparing(Customer::getId), Integer.MAX_VALUE)
                 .stream()
                 .map(this::mapToResponseDTO)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Promotes a user to admin role based on email.
+     * Reads one page from every shard in parallel and merges them by id; shards hold
+     * disjoint id ranges, so the first {@code limit} merged rows form the page.
      */
     @Override
-    public void promoteToAdmin(String email) {
-        Customer customer = customerRepo.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+    @Transactional(readOnly = true)
+    public List<CustomerResponseDTO> getCustomersPage(long afterId, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new InvalidRequestException("limit must be between 1 and " + maxPageSize + ".");
+        }
+        List<List<Customer>> perShard = shards.gather(shard ->
+                customerRepo.findByIdGreaterThanOrderById(afterId, Limit.of(limit)));
+        return SortedMerge.merge(perShard, Comparator.comparing(Customer::getId), limit)
+                .stream()
+                .map(this::mapToResponseDTO)
+                .collect(Collectors.toList());
+    }
 
-        customer.setRole(UserRole.ROLE_ADMIN.name());
-        customerRepo.save(customer);
+    /**
+     * Searches the in-memory index; no database access.
+     */
+    @Override
+    public List<CustomerResponseDTO> searchCustomers(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Search text is required.");
+        }
+        if (limit < 1 || limit > maxSearchLimit) {
+            throw new InvalidRequestException("limit must be between 1 and " + maxSearchLimit + ".");
+        }
+        return searchIndex.search(query, limit);
+    }
+
+    /**
+     * Looks up customers by id or email with one {@code IN} query per shard and
+     * re-orders the rows to match the request.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerBatchDTO getCustomers(CustomerBatchRequestDTO request) {
+        boolean byId = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byEmail = request.getEmails() != null && !request.getEmails().isEmpty();
+        if (byId == byEmail) {
+            throw new InvalidRequestException("Provide either ids or emails, not both or neither.");
+        }
+
+        if (byId) {
+            Set<Long> keys = new LinkedHashSet<>(request.getIds());
+            checkBatchSize(keys.size());
+            Map<Long, Customer> found = shards.gatherByKey(keys, shards::shardOfId, customerRepo::findByIdIn).stream()
+                    .collect(Collectors.toMap(Customer::getId, Function.identity()));
+            return collectInOrder(keys, found);
+        }
+
+        Set<String> keys = request.getEmails().stream()
+                .map(CustomerShards::normalizeEmail)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        checkBatchSize(keys.size());
+        Map<String, Customer> found = shards.gatherByKey(keys, shards::shardOf, customerRepo::findByEmailIn).stream()
+                .collect(Collectors.toMap(customer -> CustomerShards.normalizeEmail(customer.getEmail()),
+                        Function.identity()));
+        return collectInOrder(keys, found);
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > maxBatchSize) {
+            throw new InvalidRequestException("At most " + maxBatchSize + " keys can be requested at once.");
+        }
+    }
+
+    private <K> CustomerBatchDTO collectInOrder(Set<K> keys, Map<K, Customer> found) {
+        List<CustomerResponseDTO> customers = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>();
+        for (K key : keys) {
+            Customer customer = found.get(key);
+            if (customer != null) {
+                customers.add(mapToResponseDTO(customer));
+            } else {
+                missing.add(String.valueOf(key));
+            }
+        }
+        log.info("Batch lookup: {} requested, {} missing", keys.size(), missing.size());
+        return CustomerBatchDTO.builder()
+                .customers(customers)
+                .missing(missing)
+                .build();
+    }
+
+    /**
+     * Promotes a user to admin role based on email.
+     * The role change and its change event are written in one transaction; when sharded,
+     * the role change is committed on the customer's shard first.
+     */
+    @Override
+    @Transactional
+    public void promoteToAdmin(String requested) {
+        String email = CustomerShards.normalizeEmail(requested);
+        Customer customer = shards.write(email, () -> {
+            Customer found = customerRepo.findByEmail(email)
+                    .orElseThrow(() -> ResourceNotFoundException.CUSTOMER_NOT_FOUND);
+            found.setRole(UserRole.ROLE_ADMIN.name());
+            return customerRepo.save(found);
+        });
+        readYourWrites.recordWrite(customer.getEmail());
+        outboxPublisher.roleChanged(CustomerRoleChangeDTO.builder()
+                .id(customer.getId())
+                .email(customer.getEmail())
+                .role(customer.getRole())
+                .build());
         log.info("Customer promoted to ROLE_ADMIN: {}", email);
     }
 
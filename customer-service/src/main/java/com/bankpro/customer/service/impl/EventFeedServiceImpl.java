@@ -0,0 +1,45 @@
+package com.bankpro.customer.service.impl;
+
+import com.bankpro.customer.dto.EventFeedDTO;
+import com.bankpro.customer.dto.OutboxEventDTO;
+import com.bankpro.customer.entity.OutboxEvent;
+import com.bankpro.customer.repository.OutboxEventRepository;
+import com.bankpro.customer.service.EventFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the {@link EventFeedService} interface.
+ * <p>
+ * Ids are assigned at insert but become visible at commit, so a page may skip an id
+ * that shows up later; consumers are expected to wait briefly at such gaps.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventFeedServiceImpl implements EventFeedService {
+
+    private final OutboxEventRepository outboxRepo;
+
+    @Override
+    public EventFeedDTO getEvents(long afterId, int limit) {
+        long headId = outboxRepo.findMaxId();
+        return EventFeedDTO.builder()
+                .events(outboxRepo.findByIdGreaterThanOrderById(afterId, PageRequest.of(0, limit))
+                        .stream()
+                        .map(this::mapToDTO)
+                        .toList())
+                .headId(headId)
+                .build();
+    }
+
+    private OutboxEventDTO mapToDTO(OutboxEvent event) {
+        return OutboxEventDTO.builder()
+                .id(event.getId())
+                .type(event.getEventType())
+                .customerId(event.getCustomerId())
+                .payload(event.getPayload())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
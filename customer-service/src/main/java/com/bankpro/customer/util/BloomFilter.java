@@ -0,0 +1,74 @@
+package com.bankpro.customer.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size bloom filter over strings: {@link #mightContain} never misses an added
+ * key and wrongly reports a key it never saw with about the configured probability.
+ * <p>
+ * Adds and lookups are lock-free and may run concurrently. Keys cannot be removed;
+ * build a new filter to drop them.
+ * </p>
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    /**
+     * @param expectedKeys      number of keys the filter is sized for
+     * @param falsePositiveRate wanted false-positive probability at {@code expectedKeys}
+     */
+    public BloomFilter(int expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Need expectedKeys >= 1 and 0 < falsePositiveRate < 1");
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = wordCount * 64L;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedKeys * ln2));
+    }
+
+    /**
+     * @param key key to add
+     */
+    public void add(String key) {
+        long hash = Hashing.hash64(key);
+        long step = Hashing.mix64(hash) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash + i * step, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    /**
+     * @param key key to look up
+     * @return false if {@code key} was certainly never added
+     */
+    public boolean mightContain(String key) {
+        long hash = Hashing.hash64(key);
+        long step = Hashing.mix64(hash) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash + i * step, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return size of the bit array in bytes
+     */
+    public long sizeInBytes() {
+        return bits / 8;
+    }
+}
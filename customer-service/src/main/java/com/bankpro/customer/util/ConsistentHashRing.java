@@ -0,0 +1,61 @@
+package com.bankpro.customer.util;
+
+import java.util.Arrays;
+
+/**
+ * Maps keys onto a fixed number of shards with consistent hashing.
+ * <p>
+ * Every shard owns {@code virtualNodes} points on a 64-bit ring; a key belongs to the
+ * first point at or after its hash. Adding a shard moves only the keys that land on the
+ * new shard's points, roughly {@code 1/(n+1)} of them. The hash is fixed
+ * ({@link Hashing#hash64}), so placement is the same on every instance and across restarts.
+ * </p>
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final int[] owners;
+
+    /**
+     * @param shards       number of shards
+     * @param virtualNodes points per shard
+     */
+    public ConsistentHashRing(int shards, int virtualNodes) {
+        if (shards < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("Need at least one shard and one virtual node");
+        }
+        int size = shards * virtualNodes;
+        long[][] entries = new long[size][];
+        for (int shard = 0; shard < shards; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                entries[shard * virtualNodes + node] = new long[]{Hashing.hash64("shard-" + shard + "#" + node), shard};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compareUnsigned(a[0], b[0]));
+        points = new long[size];
+        owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = entries[i][0];
+            owners[i] = (int) entries[i][1];
+        }
+    }
+
+    /**
+     * @param key key to place, e.g. a customer email
+     * @return the shard owning {@code key}
+     */
+    public int shardOf(String key) {
+        long hash = Hashing.hash64(key);
+        int low = 0;
+        int high = points.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(points[mid], hash) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return owners[low == points.length ? 0 : low];
+    }
+}
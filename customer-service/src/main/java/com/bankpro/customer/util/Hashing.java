@@ -0,0 +1,45 @@
+package com.bankpro.customer.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed 64-bit string hash, the same on every instance and JVM, for decisions that
+ * must agree across nodes and restarts.
+ */
+public final class Hashing {
+
+    private Hashing() {
+        // prevent instantiation
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes, followed by a 64-bit finalizer so every input bit
+     * affects every output bit.
+     *
+     * @param key string to hash
+     * @return 64-bit hash
+     */
+    public static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * 64-bit finalizer (MurmurHash3 fmix64).
+     *
+     * @param hash value to mix
+     * @return mixed value
+     */
+    public static long mix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,11 +1,20 @@
 package com.bankpro.customer.util;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.DecodingException;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Utility class for generating and validating JSON Web Tokens (JWTs).
@@ -18,29 +27,97 @@ public class JwtUtil {
 
     /**
      * Secret key used to sign JWTs using HMAC-SHA-256 algorithm.
-     * This key is generated once per application instance.
-     * In production, store and retrieve this from a secure vault or environment variable.
+     * Read from {@code app.jwt.secret} (base64, supplied through the {@code JWT_SECRET}
+     * environment variable) so the API gateway and the other services can verify tokens.
+     * The application refuses to start without one.
      */
-    private final Key secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final Key secretKey;
 
     /**
-     * Token expiration time in milliseconds (10 hours).
+     * Smallest key HMAC-SHA-256 accepts.
      */
-    private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 10;
+    private static final int MIN_KEY_BITS = 256;
 
     /**
-     * Generates a JWT token with subject and custom "role" claim.
+     * SHA-256 fingerprints of keys that were published and must never sign tokens again.
+     */
+    private static final Set<String> REVOKED_KEYS = Set.of(
+            "77b5b73cca1bd5f52bb26472126f496c71b6702c0eed5c7e8cb0fde44b674b0f");
+
+    /**
+     * Name of the claim linking an access token to its refresh-token family.
+     */
+    public static final String SESSION_CLAIM = "sid";
+
+    /**
+     * Name of the claim carrying the customer id, which account- and dashboard-service
+     * compare with the accounts and dashboards a caller asks for.
+     */
+    public static final String CUSTOMER_CLAIM = "cid";
+
+    /**
+     * Access token lifetime, read from {@code app.jwt.access-token-lifetime}. Kept short;
+     * clients renew through the refresh endpoint instead of logging in again.
+     */
+    private final Duration tokenLifetime;
+
+    public JwtUtil(@Value("${app.jwt.secret}") String secret,
+                   @Value("${app.jwt.access-token-lifetime:15m}") Duration tokenLifetime) {
+        this.tokenLifetime = tokenLifetime;
+        this.secretKey = signingKey(secret);
+    }
+
+    /**
+     * Decodes and checks the configured secret, failing startup when it is unusable.
+     *
+     * @param secret base64-encoded key
+     * @return the HMAC key
+     * @throws IllegalStateException if the secret is not base64, shorter than 256 bits or revoked
+     */
+    static Key signingKey(String secret) {
+        byte[] key;
+        try {
+            key = Decoders.BASE64.decode(secret.strip());
+        } catch (DecodingException e) {
+            throw new IllegalStateException("app.jwt.secret is not valid base64", e);
+        }
+        if (key.length * 8 < MIN_KEY_BITS) {
+            throw new IllegalStateException("app.jwt.secret must be at least " + MIN_KEY_BITS
+                    + " bits, got " + key.length * 8);
+        }
+        if (REVOKED_KEYS.contains(fingerprint(key))) {
+            throw new IllegalStateException("app.jwt.secret is a revoked key; generate a new one");
+        }
+        return Keys.hmacShaKeyFor(key);
+    }
+
+    private static String fingerprint(byte[] key) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(key));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Generates a JWT token with subject, custom "role" claim, the customer id, a random id
+     * ({@code jti}) by which the token can be revoked and the session it belongs to.
      *
-     * @param email the user's email (used as subject)
-     * @param role  the user's role
+     * @param email      the user's email (used as subject)
+     * @param role       the user's role
+     * @param customerId the user's customer id
+     * @param sessionId  id of the refresh-token family that issued the token
      * @return signed JWT as a String
      */
-    public String generateToken(String email, String role) {
+    public String generateToken(String email, String role, Long customerId, String sessionId) {
         return Jwts.builder()
                 .setSubject(email)
+                .setId(UUID.randomUUID().toString())
                 .claim("role", role)
+                .claim(CUSTOMER_CLAIM, customerId)
+                .claim(SESSION_CLAIM, sessionId)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
+                .setExpiration(new Date(System.currentTimeMillis() + tokenLifetime.toMillis()))
                 .signWith(secretKey)
                 .compact();
     }
@@ -80,6 +157,26 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * @return how long a token stays valid after it is issued
+     */
+    public Duration getTokenLifetime() {
+        return tokenLifetime;
+    }
+
+    /**
+     * Verifies the token once and returns all its claims, for callers that need
+     * several of them.
+     *
+     * @param token JWT string
+     * @return Claims object containing payload
+     * @throws JwtException             if the token is expired, malformed or tampered
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public Claims parseToken(String token) {
+        return getClaims(token);
+    }
+
     /**
      * Parses the token and extracts all claims.
      *
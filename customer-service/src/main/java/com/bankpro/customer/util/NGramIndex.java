@@ -0,0 +1,454 @@
+package com.bankpro.customer.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory typeahead index over a few short text fields per document.
+ * <p>
+ * Fields are lower-cased and split into words at every character that is not a letter
+ * or digit. Each word contributes its trigrams plus word-start grams of one and two
+ * characters, each packed into a {@code long}. A gram's posting list is a sorted
+ * {@code int[]} of document ordinals, so a query intersects a few primitive arrays
+ * instead of scanning documents:
+ * </p>
+ * <ul>
+ *     <li>query words of three or more characters match anywhere inside a word;</li>
+ *     <li>shorter query words match the start of a word.</li>
+ * </ul>
+ * <p>
+ * Candidates are re-checked against the stored text, then ranked: a field equal to the
+ * query, then a field starting with it, then by how many query words start a word
+ * rather than merely occur in one; ties go to the shorter first field, then the lower id.
+ * </p>
+ * <p>
+ * {@link #compact()} renumbers the live documents in that tie-break order, so within
+ * one rank a posting list runs best first. A search walks the ranks from the top, each
+ * through the posting lists that rank requires (whole-field and field-start grams for
+ * the first two, word-start grams for the third), and leaves a rank as soon as
+ * {@code limit} hits are held that no later document in it could beat. Common short
+ * prefixes therefore read a few dozen candidates instead of every match. Documents added
+ * since the last compaction sit in an unordered tail that is always read in full;
+ * {@link #put} compacts once that tail, which also holds the slots of replaced
+ * documents, outgrows half the ordered part.
+ * </p>
+ *
+ * @param <T> value returned for a matching document
+ */
+public final class NGramIndex<T> {
+
+    private static final char WORD_START = '\u0002';
+    private static final char FIELD_START = '\u0003';
+
+    // far enough apart that no number of query words lifts a hit into the next rank
+    private static final int EXACT = 2 << 24;
+    private static final int FIELD_PREFIX = 1 << 24;
+    private static final int WORD_PREFIX = 20;
+    private static final int INFIX = 10;
+
+    private static final int MIN_COMPACT_TAIL = 1024;
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private List<Document<T>> documents = new ArrayList<>();
+    private int ordered;
+
+    private record Document<T>(long id, T value, String[] fields) {
+
+        static final Comparator<Document<?>> RANK = Comparator.<Document<?>>comparingInt(
+                document -> document.fields()[0].length()).thenComparingLong(Document::id);
+    }
+
+    /**
+     * Ordered worst first: lower score, then longer first field, then higher id.
+     */
+    private record Hit<T>(int score, int length, long id, T value) implements Comparable<Hit<T>> {
+
+        boolean isBeatenBy(int otherScore, int otherLength, long otherId) {
+            if (score != otherScore) {
+                return otherScore > score;
+            }
+            if (length != otherLength) {
+                return otherLength < length;
+            }
+            return otherId < id;
+        }
+
+        @Override
+        public int compareTo(Hit<T> other) {
+            if (this == other) {
+                return 0;
+            }
+            return isBeatenBy(other.score, other.length, other.id) ? -1 : 1;
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size + (size >> 1) + 1);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        int indexOf(int ordinal, int from) {
+            int at = Arrays.binarySearch(ordinals, from, size, ordinal);
+            return at >= 0 ? at : -at - 1;
+        }
+    }
+
+    /**
+     * The best {@code limit} hits seen so far.
+     */
+    private static final class Collector<T> {
+
+        private final String query;
+        private final List<String> queryWords;
+        private final int limit;
+        private final PriorityQueue<Hit<T>> best;
+
+        Collector(String query, List<String> queryWords, int limit) {
+            this.query = query;
+            this.queryWords = queryWords;
+            this.limit = limit;
+            this.best = new PriorityQueue<>(limit + 1, Hit::compareTo);
+        }
+
+        /**
+         * @return whether no document scoring at most {@code ceiling} and ranked after
+         * the ones seen can still get in
+         */
+        boolean isSettled(int ceiling) {
+            return best.size() == limit && best.peek().score() >= ceiling;
+        }
+
+        void offer(Document<T> document, int floor, int ceiling) {
+            int score = score(document, query, queryWords);
+            if (score < floor || score > ceiling) {
+                return;
+            }
+            int length = document.fields()[0].length();
+            if (best.size() == limit && !best.peek().isBeatenBy(score, length, document.id())) {
+                return;
+            }
+            best.add(new Hit<>(score, length, document.id(), document.value()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<T> results() {
+            List<T> results = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                results.add(best.poll().value());
+            }
+            return results.reversed();
+        }
+    }
+
+    /**
+     * Adds a document, replacing any earlier one with the same id.
+     *
+     * @param id     document id
+     * @param value  value returned when the document matches
+     * @param fields searchable text, the first one breaking ties; null fields are skipped
+     */
+    public void put(long id, T value, String... fields) {
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("A document needs at least one field");
+        }
+        String[] normalized = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            normalized[i] = fields[i] == null ? "" : fields[i].toLowerCase(Locale.ROOT);
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = ordinals.get(id);
+            if (previous != null) {
+                documents.set(previous, null);
+            }
+            add(new Document<>(id, value, normalized));
+            if (documents.size() - ordered > Math.max(MIN_COMPACT_TAIL, ordered / 2)) {
+                compactLocked();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the slots of replaced documents and renumbers the live ones in rank order.
+     * Call after a bulk load; {@link #put} compacts on its own as the tail grows.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param query typed text; matched case-insensitively
+     * @param limit maximum number of results
+     * @return the best matches, best first
+     */
+    public List<T> search(String query, int limit) {
+        String normalized = query.toLowerCase(Locale.ROOT).strip();
+        List<String> queryWords = words(normalized);
+        if (queryWords.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Postings> matching = new ArrayList<>();
+            List<Postings> wordStarts = new ArrayList<>();
+            for (String word : queryWords) {
+                for (long gram : queryGrams(word)) {
+                    matching.add(postings.get(gram));
+                }
+                if (word.length() >= 3) {
+                    wordStarts.add(postings.get(gram(WORD_START + word, 0, 3)));
+                }
+            }
+            if (matching.contains(null)) {
+                return List.of();
+            }
+
+            Collector<T> collector = new Collector<>(normalized, queryWords, limit);
+            int allWordPrefix = WORD_PREFIX * queryWords.size();
+            scan(matching, Arrays.asList(postings.get(exactKey(normalized))),
+                    EXACT, EXACT + allWordPrefix, collector);
+            scan(matching, Arrays.asList(postings.get(fieldStartGram(normalized, normalized.length()))),
+                    FIELD_PREFIX, FIELD_PREFIX + allWordPrefix, collector);
+            scan(matching, wordStarts, allWordPrefix, allWordPrefix, collector);
+            if (!wordStarts.isEmpty()) {
+                // only words of three or more characters can match inside a word
+                scan(matching, List.of(), 1, allWordPrefix - WORD_PREFIX + INFIX, collector);
+            }
+            return collector.results();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of live documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return slots in use, live or left behind by replaced documents
+     */
+    int slots() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Offers every document in all of {@code matching} and {@code required} whose score
+     * falls in {@code [floor, ceiling]}. The ordered part stops as soon as the collector
+     * is settled for {@code ceiling}; the tail is always read.
+     */
+    private void scan(List<Postings> matching, List<Postings> required, int floor, int ceiling,
+                      Collector<T> collector) {
+        if (collector.isSettled(ceiling)) {
+            return;
+        }
+        for (Postings list : required) {
+            if (list == null) {
+                return;
+            }
+        }
+        List<Postings> lists = new ArrayList<>(matching);
+        lists.addAll(required);
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        Postings smallest = lists.get(0);
+        int i = 0;
+        candidates:
+        while (i < smallest.size) {
+            int ordinal = smallest.ordinals[i];
+            if (ordinal < ordered && collector.isSettled(ceiling)) {
+                i = smallest.indexOf(ordered, i);
+                continue;
+            }
+            i++;
+            for (int j = 1; j < lists.size(); j++) {
+                if (!lists.get(j).contains(ordinal)) {
+                    continue candidates;
+                }
+            }
+            Document<T> document = documents.get(ordinal);
+            if (document != null) {
+                collector.offer(document, floor, ceiling);
+            }
+        }
+    }
+
+    /**
+     * Scores a candidate, or returns 0 when a query word is not actually in it; the
+     * grams of a word can all occur in a document without the word itself.
+     */
+    private static int score(Document<?> document, String query, List<String> queryWords) {
+        int score = 0;
+        for (String word : queryWords) {
+            int best = 0;
+            for (String field : document.fields()) {
+                int at = field.indexOf(word);
+                while (at >= 0 && best < WORD_PREFIX) {
+                    boolean wordStart = at == 0 || !Character.isLetterOrDigit(field.charAt(at - 1));
+                    if (wordStart) {
+                        best = WORD_PREFIX;
+                    } else if (word.length() >= 3) {
+                        best = INFIX;
+                    }
+                    at = field.indexOf(word, at + 1);
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        int bonus = 0;
+        for (String field : document.fields()) {
+            if (field.equals(query)) {
+                return score + EXACT;
+            }
+            if (field.startsWith(query)) {
+                bonus = FIELD_PREFIX;
+            }
+        }
+        return score + bonus;
+    }
+
+    private void add(Document<T> document) {
+        int ordinal = documents.size();
+        documents.add(document);
+        ordinals.put(document.id(), ordinal);
+        for (String field : document.fields()) {
+            if (field.isEmpty()) {
+                continue;
+            }
+            addPosting(exactKey(field), ordinal);
+            addPosting(fieldStartGram(field, 1), ordinal);
+            if (field.length() >= 2) {
+                addPosting(fieldStartGram(field, 2), ordinal);
+            }
+            for (String word : words(field)) {
+                addGrams(word, ordinal);
+            }
+        }
+    }
+
+    private void compactLocked() {
+        List<Document<T>> live = new ArrayList<>(ordinals.size());
+        for (Document<T> document : documents) {
+            if (document != null) {
+                live.add(document);
+            }
+        }
+        live.sort(Document.RANK);
+        postings.clear();
+        ordinals.clear();
+        documents = new ArrayList<>(live.size());
+        live.forEach(this::add);
+        ordered = documents.size();
+    }
+
+    private void addPosting(long key, int ordinal) {
+        postings.computeIfAbsent(key, k -> new Postings()).add(ordinal);
+    }
+
+    private void addGrams(String word, int ordinal) {
+        String padded = WORD_START + word;
+        addPosting(gram(padded, 0, 2), ordinal);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            addPosting(gram(padded, i, 3), ordinal);
+        }
+    }
+
+    /**
+     * Gram of the first one or two characters of a whole field.
+     */
+    private static long fieldStartGram(String field, int chars) {
+        return gram(FIELD_START + field, 0, Math.min(chars, 2) + 1);
+    }
+
+    /**
+     * Key of a whole field; the top bit keeps it apart from packed grams, which use 48.
+     * Collisions are harmless since candidates are re-checked.
+     */
+    private static long exactKey(String field) {
+        return Hashing.hash64(field) | Long.MIN_VALUE;
+    }
+
+    private static long[] queryGrams(String word) {
+        if (word.length() < 3) {
+            return new long[]{gram(WORD_START + word, 0, word.length() + 1)};
+        }
+        long[] grams = new long[word.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(word, i, 3);
+        }
+        return grams;
+    }
+
+    /**
+     * Packs up to three UTF-16 chars into one key; a two-char gram keeps the third slot zero.
+     */
+    private static long gram(String text, int from, int length) {
+        long key = 0;
+        for (int i = 0; i < 3; i++) {
+            key = key << 16 | (i < length ? text.charAt(from + i) : 0);
+        }
+        return key;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,113 @@
+package com.bankpro.customer.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls into one.
+ * <p>
+ * The first caller for a key runs the supplier on its own thread; callers that
+ * arrive while it is running wait for and receive the same result or exception.
+ * Nothing is cached: once the call completes the key is released and the next
+ * caller starts a fresh one.
+ * </p>
+ *
+ * @param <K> key identifying identical calls
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Runs {@code supplier} unless an identical call is already in flight, in
+     * which case its outcome is awaited instead.
+     *
+     * @param key      identifies identical calls
+     * @param supplier the call; may only throw unchecked exceptions
+     * @return the (possibly shared) result
+     * @throws CancellationException if a waiting caller is interrupted
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            V value = supplier.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a shared call");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    /**
+     * Publishes the counters as {@code singleflight.calls}, tagged with the
+     * resource and with {@code outcome=executed|shared}.
+     *
+     * @param registry meter registry
+     * @param resource name of the coalesced resource
+     * @return this instance
+     */
+    public SingleFlight<K, V> register(MeterRegistry registry, String resource) {
+        FunctionCounter.builder("singleflight.calls", this, SingleFlight::getExecutedCount)
+                .description("Calls that reached the underlying resource")
+                .tags("resource", resource, "outcome", "executed")
+                .register(registry);
+        FunctionCounter.builder("singleflight.calls", this, SingleFlight::getSharedCount)
+                .description("Calls answered by an identical in-flight call")
+                .tags("resource", resource, "outcome", "shared")
+                .register(registry);
+        return this;
+    }
+
+    /**
+     * Calls that actually ran the supplier.
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Calls answered by joining an in-flight call, i.e. downstream calls saved.
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+}
@@ -0,0 +1,49 @@
+package com.bankpro.customer.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of lists that are each already sorted, as returned by one keyset page per shard.
+ */
+public final class SortedMerge {
+
+    private SortedMerge() {
+        // prevent instantiation
+    }
+
+    /**
+     * @param lists      sorted lists
+     * @param comparator order the lists are sorted by
+     * @param limit      maximum number of elements to return
+     * @return the first {@code limit} elements of all lists in order
+     */
+    public static <T> List<T> merge(List<List<T>> lists, Comparator<? super T> comparator, int limit) {
+        if (lists.size() == 1) {
+            List<T> only = lists.get(0);
+            return only.size() <= limit ? only : List.copyOf(only.subList(0, limit));
+        }
+        record Head<T>(T value, Iterator<T> rest) {
+        }
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, lists.size()),
+                (a, b) -> comparator.compare(a.value(), b.value()));
+        for (List<T> list : lists) {
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+        List<T> merged = new ArrayList<>();
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+            if (head.rest().hasNext()) {
+                heads.add(new Head<>(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+}
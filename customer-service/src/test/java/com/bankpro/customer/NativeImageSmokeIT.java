@@ -0,0 +1,127 @@
+package com.bankpro.customer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the native executable built by {@code -Pnative} on the in-memory h2 profile and walks
+ * register, login and the JWT-protected profile, then the OpenAPI document. Only runs when
+ * failsafe passes the image path in {@code native.image}.
+ */
+@EnabledIfSystemProperty(named = "native.image", matches = ".+")
+class NativeImageSmokeIT {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private static Process process;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void boot() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://localhost:" + port;
+        long start = System.nanoTime();
+        ProcessBuilder builder = new ProcessBuilder(System.getProperty("native.image"),
+                "--spring.profiles.active=dev,h2", "--server.port=" + port)
+                .redirectErrorStream(true)
+                .redirectOutput(Path.of(System.getProperty("native.image") + ".log").toFile());
+        // Throwaway secrets; the service refuses to start without them
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        builder.environment().put("JWT_SECRET", Base64.getEncoder().encodeToString(secret));
+        builder.environment().put("INTERNAL_TOKEN", UUID.randomUUID().toString());
+        process = builder.start();
+        while (true) {
+            assertTrue(process.isAlive(), "native image exited with " + (process.isAlive() ? 0 : process.exitValue()));
+            assertTrue(System.nanoTime() - start < TimeUnit.MINUTES.toNanos(1), "native image did not start within a minute");
+            try {
+                if (HTTP.send(HttpRequest.newBuilder(URI.create(baseUrl + "/v3/api-docs")).build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    break;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        System.out.printf("native customer-service: ready in %d ms, RSS %d MiB%n",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), residentKb(process.pid()) / 1024);
+    }
+
+    @AfterAll
+    static void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void registersLogsInAndReadsProfile() throws Exception {
+        String email = "native-" + System.nanoTime() + "@example.com";
+        var register = MAPPER.createObjectNode()
+                .put("name", "Native Smoke")
+                .put("email", email)
+                .put("password", "SecurePass123")
+                .put("phone", "9876543210");
+        assertEquals(201, post("/api/v1/customers/register", register).statusCode());
+
+        var login = MAPPER.createObjectNode().put("email", email).put("password", "SecurePass123");
+        HttpResponse<String> loggedIn = post("/api/v1/customers/login", login);
+        assertEquals(200, loggedIn.statusCode());
+        String token = MAPPER.readTree(loggedIn.body()).path("data").path("token").asText();
+        assertFalse(token.isEmpty());
+
+        HttpResponse<String> profile = HTTP.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/customers/profile"))
+                .header("Authorization", "Bearer " + token).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, profile.statusCode());
+        assertEquals(email, MAPPER.readTree(profile.body()).path("data").path("email").asText());
+    }
+
+    @Test
+    void servesOpenApiDocument() throws Exception {
+        HttpResponse<String> docs = HTTP.send(HttpRequest.newBuilder(URI.create(baseUrl + "/v3/api-docs")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, docs.statusCode());
+        JsonNode paths = MAPPER.readTree(docs.body()).path("paths");
+        assertTrue(paths.has("/api/v1/customers/register"));
+    }
+
+    private static HttpResponse<String> post(String path, JsonNode body) throws IOException, InterruptedException {
+        return HTTP.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long residentKb(long pid) throws IOException {
+        return Files.readAllLines(Path.of("/proc", Long.toString(pid), "status")).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .mapToLong(line -> Long.parseLong(line.substring(6).replace("kB", "").trim()))
+                .findFirst().orElse(-1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bankpro.customer.benchmark;
+
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.dto.RequestResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of a {@code RequestResponse<List<CustomerResponseDTO>>} as JSON and as Smile.
+ * <p>
+ * Run with:
+ * <pre>
+ * ./mvnw -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     "-Dexec.args=-cp %classpath com.bankpro.customer.benchmark.CustomerCodecBenchmark"
+ * </pre>
+ * Payload sizes are printed before the timed runs. Smile comes out at about two thirds of
+ * the JSON size, mostly from back-referenced property names in the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerCodecBenchmark {
+
+    private static final TypeReference<RequestResponse<List<CustomerResponseDTO>>> TYPE = new TypeReference<>() {
+    };
+
+    @Param({"10", "100", "1000"})
+    private int customers;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    private RequestResponse<List<CustomerResponseDTO>> envelope;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        envelope = envelope(customers);
+        jsonBytes = json.writeValueAsBytes(envelope);
+        smileBytes = smile.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return json.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return smile.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public RequestResponse<List<CustomerResponseDTO>> decodeJson() throws IOException {
+        return json.readValue(jsonBytes, TYPE);
+    }
+
+    @Benchmark
+    public RequestResponse<List<CustomerResponseDTO>> decodeSmile() throws IOException {
+        return smile.readValue(smileBytes, TYPE);
+    }
+
+    static RequestResponse<List<CustomerResponseDTO>> envelope(int size) {
+        List<CustomerResponseDTO> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(CustomerResponseDTO.builder()
+                    .id(100_000L + i)
+                    .name("Customer Number " + i)
+                    .email("customer." + i + "@example.com")
+                    .phone(String.valueOf(9_000_000_000L + i))
+                    .build());
+        }
+        return RequestResponse.<List<CustomerResponseDTO>>builder()
+                .success(true)
+                .message("Customers fetched successfully")
+                .data(list)
+                .build();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        ObjectMapper json = new ObjectMapper();
+        ObjectMapper smile = new ObjectMapper(new SmileFactory());
+        System.out.printf("%10s %12s %12s %8s%n", "customers", "json bytes", "smile bytes", "ratio");
+        for (int size : new int[]{10, 100, 1000}) {
+            RequestResponse<List<CustomerResponseDTO>> envelope = envelope(size);
+            int jsonSize = json.writeValueAsBytes(envelope).length;
+            int smileSize = smile.writeValueAsBytes(envelope).length;
+            System.out.printf("%10d %12d %12d %8.2f%n", size, jsonSize, smileSize, (double) smileSize / jsonSize);
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(CustomerCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.bankpro.customer.benchmark;
+
+import com.bankpro.customer.util.NGramIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of admin typeahead queries against the {@link NGramIndex} holding
+ * {@code customers} synthetic customers, for short, word-start and infix queries.
+ * Run with:
+ * <pre>
+ * ./mvnw -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     "-Dexec.args=-cp %classpath com.bankpro.customer.benchmark.CustomerSearchBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class CustomerSearchBenchmark {
+
+    private static final String[] FIRST = {"aarav", "vivaan", "aditya", "vihaan", "arjun", "sai", "reyansh",
+            "ayaan", "krishna", "ishaan", "ananya", "diya", "priya", "meera", "saanvi", "aadhya", "kavya",
+            "anika", "riya", "neha"};
+    private static final String[] LAST = {"sharma", "verma", "gupta", "kumar", "singh", "iyer", "nair",
+            "reddy", "patel", "shah", "mehta", "joshi", "kapoor", "malhotra", "banerjee", "das"};
+
+    @Param({"100000"})
+    private int customers;
+
+    @Param({"a", "sh", "kumar", "priya sha", "543210"})
+    private String query;
+
+    private NGramIndex<Long> index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new NGramIndex<>();
+        for (long id = 1; id <= customers; id++) {
+            String first = FIRST[random.nextInt(FIRST.length)];
+            String last = LAST[random.nextInt(LAST.length)];
+            index.put(id, id, first + " " + last, first + "." + last + id + "@example.com",
+                    String.valueOf(9_000_000_000L + random.nextInt(1_000_000_000)));
+        }
+        // as CustomerSearchIndex does after every rebuild
+        index.compact();
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CustomerSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.bankpro.customer.benchmark;
+
+import com.bankpro.customer.dto.ApiError;
+import com.bankpro.customer.exception.BaseException;
+import com.bankpro.customer.exception.InvalidCredentialsException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the failed-login path from throw to error response: a stack-capturing exception
+ * with an {@code ApiError} built per request (the previous behaviour) against the shared
+ * stackless {@link InvalidCredentialsException#INCORRECT_CREDENTIALS} and its error template.
+ * <p>
+ * The exception is thrown {@code depth} frames below the catch, standing in for the filter
+ * chain, proxies and dispatcher between the service and the exception handler.
+ * Run with:
+ * <pre>
+ * ./mvnw -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     "-Dexec.args=-cp %classpath com.bankpro.customer.benchmark.FailedLoginBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailedLoginBenchmark {
+
+    private static final String PATH = "/api/v1/customers/login";
+
+    @Param({"20", "150"})
+    private int depth;
+
+    @Benchmark
+    public ResponseEntity<ApiError> stackTraceAndNewError() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (StackfulInvalidCredentials ex) {
+            ApiError error = ApiError.builder()
+                    .timestamp(LocalDateTime.now())
+                    .status(HttpStatus.UNAUTHORIZED.value())
+                    .error("INVALID_CREDENTIALS")
+                    .message(ex.getMessage())
+                    .path(PATH)
+                    .build();
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> stacklessSharedTemplate() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (BaseException ex) {
+            return ex.getTemplate().toResponse(PATH);
+        }
+    }
+
+    private static void throwAt(int depth, boolean stackless) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackless);
+            return;
+        }
+        if (stackless) {
+            throw InvalidCredentialsException.INCORRECT_CREDENTIALS;
+        }
+        throw new StackfulInvalidCredentials("Incorrect email or password.");
+    }
+
+    /**
+     * The exception as it was before: a plain {@code RuntimeException} that fills in its stack trace.
+     */
+    private static final class StackfulInvalidCredentials extends RuntimeException {
+
+        StackfulInvalidCredentials(String message) {
+            super(message);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FailedLoginBenchmark.class.getSimpleName()).build()).run();
+    }
+}
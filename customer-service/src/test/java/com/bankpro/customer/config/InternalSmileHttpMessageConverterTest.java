@@ -0,0 +1,67 @@
+package com.bankpro.customer.config;
+
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.dto.RequestResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternalSmileHttpMessageConverterTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType(InternalSmileHttpMessageConverter.SMILE_VALUE);
+
+    private final InternalSmileHttpMessageConverter converter =
+            new InternalSmileHttpMessageConverter(new ObjectMapper(new SmileFactory()));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void negotiatesSmileOnlyForInternalEndpoints() {
+        onRequest("/api/v1/internal/customers/batch");
+        assertTrue(converter.canWrite(RequestResponse.class, SMILE));
+        assertTrue(converter.canRead(RequestResponse.class, SMILE));
+
+        onRequest("/api/v1/customers/profile");
+        assertFalse(converter.canWrite(RequestResponse.class, SMILE));
+        assertFalse(converter.canWrite(RequestResponse.class, null));
+        assertFalse(converter.canRead(RequestResponse.class, SMILE));
+    }
+
+    @Test
+    void roundTripsEnvelopeSmallerThanJson() throws IOException {
+        onRequest("/api/v1/internal/customers/batch");
+        RequestResponse<CustomerResponseDTO> envelope = RequestResponse.<CustomerResponseDTO>builder()
+                .success(true)
+                .message("ok")
+                .data(CustomerResponseDTO.builder().id(7L).name("Ravi Sharma").email("ravi@example.com").build())
+                .build();
+
+        MockHttpOutputMessage out = new MockHttpOutputMessage();
+        converter.write(envelope, SMILE, out);
+        byte[] body = out.getBodyAsBytes();
+
+        assertEquals(SMILE, out.getHeaders().getContentType());
+        assertTrue(body.length < new ObjectMapper().writeValueAsBytes(envelope).length);
+        RequestResponse<?> read = (RequestResponse<?>) converter.read(RequestResponse.class, new MockHttpInputMessage(body));
+        assertTrue(read.isSuccess());
+    }
+
+    private static void onRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
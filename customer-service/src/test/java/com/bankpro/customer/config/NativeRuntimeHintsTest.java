@@ -0,0 +1,41 @@
+package com.bankpro.customer.config;
+
+import com.bankpro.customer.controller.CustomerControllerApi;
+import com.bankpro.customer.dto.CustomerRoleChangeDTO;
+import com.bankpro.customer.entity.Customer;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTest() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersJjwtImplementationsAndServiceFiles() throws ClassNotFoundException {
+        for (String type : NativeRuntimeHints.JJWT_REFLECTIVE_TYPES) {
+            Class.forName(type); // the names must stay in step with the JJWT version on the class path
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints), type);
+        }
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+    }
+
+    @Test
+    void registersEntitiesDtosAndApiAnnotations() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Customer.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CustomerRoleChangeDTO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CustomerControllerApi.class)
+                .withMemberCategory(MemberCategory.INTROSPECT_PUBLIC_METHODS).test(hints));
+    }
+}
@@ -0,0 +1,109 @@
+package com.bankpro.customer.config;
+
+import com.bankpro.customer.dto.AuthRequestDTO;
+import com.bankpro.customer.dto.CustomerRequestDTO;
+import com.bankpro.customer.exception.ResourceNotFoundException;
+import com.bankpro.customer.service.CustomerService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases stand in for the MySQL primary and a replica. Nothing
+ * replicates between them, so where a read lands shows in whether it finds the row.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.datasource.read-replicas.enabled=true",
+        "app.datasource.read-replicas.replicas[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "app.datasource.read-replicas.replicas[0].username=sa",
+        "app.datasource.read-replicas.read-your-writes-window=2s",
+        "app.datasource.read-replicas.health-check-interval-ms=3600000"
+})
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:rr_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:rr_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @BeforeEach
+    void copySchemaToReplica() throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Connection primary = primaryDataSource.getConnection();
+             Statement statement = primary.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+            while (script.next()) {
+                ddl.add(script.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : ddl) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    @Test
+    void loginRightAfterRegisterReadsThePrimaryThenReadsMoveToTheReplica() throws Exception {
+        String email = "replica-" + System.nanoTime() + "@example.com";
+        customerService.registerCustomer(CustomerRequestDTO.builder()
+                .name("Replica Test")
+                .email(email)
+                .password("SecurePass123")
+                .phone(String.valueOf(9_000_000_000L + System.nanoTime() % 1_000_000_000L))
+                .build());
+
+        // the replica has no copy yet; only the read-your-writes pin lets this succeed
+        assertNotNull(customerService.login(new AuthRequestDTO(email, "SecurePass123")));
+        assertEquals(email, customerService.getProfile(email).getEmail());
+
+        Thread.sleep(2_100);
+        assertThrows(ResourceNotFoundException.class, () -> customerService.getProfile(email));
+
+        replicateCustomers();
+        assertEquals(email, customerService.getProfile(email).getEmail());
+        assertNotNull(customerService.login(new AuthRequestDTO(email, "SecurePass123")));
+    }
+
+    private void replicateCustomers() throws SQLException {
+        try (Connection primary = primaryDataSource.getConnection();
+             Statement select = primary.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM customers");
+             Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "")) {
+            int columns = rows.getMetaData().getColumnCount();
+            String insert = "INSERT INTO customers VALUES (" + "?,".repeat(columns - 1) + "?)";
+            try (PreparedStatement statement = replica.prepareStatement(insert)) {
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        statement.setObject(i, rows.getObject(i));
+                    }
+                    statement.executeUpdate();
+                }
+            }
+        }
+    }
+}
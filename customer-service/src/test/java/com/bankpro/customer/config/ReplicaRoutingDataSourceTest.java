@@ -0,0 +1,99 @@
+package com.bankpro.customer.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica0Connection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource router;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", dataSource(replica0Connection));
+        replicas.put("replica-1", dataSource(replica1Connection));
+        router = new ReplicaRoutingDataSource(dataSource(primaryConnection), replicas, Duration.ofSeconds(1));
+        router.afterPropertiesSet();
+        when(replica0Connection.isValid(anyInt())).thenReturn(true);
+        when(replica1Connection.isValid(anyInt())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writesAndNonTransactionalWorkUseThePrimary() throws SQLException {
+        assertSame(primaryConnection, router.getConnection());
+    }
+
+    @Test
+    void readOnlyTransactionsRotateOverReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(replica0Connection, router.getConnection());
+        assertSame(replica1Connection, router.getConnection());
+        assertSame(replica0Connection, router.getConnection());
+    }
+
+    @Test
+    void pinnedReadsUseThePrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection connection = ReadRouting.onPrimary(() -> {
+            try {
+                return router.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertSame(primaryConnection, connection);
+        assertFalse(ReadRouting.isPrimaryRequired());
+    }
+
+    @Test
+    void unhealthyReplicasLeaveTheRotationUntilTheyRecover() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        when(replica0Connection.isValid(anyInt())).thenReturn(false);
+        router.checkReplicas();
+        assertEquals(List.of("replica-1"), router.getHealthyReplicas());
+        assertSame(replica1Connection, router.getConnection());
+        assertSame(replica1Connection, router.getConnection());
+
+        when(replica1Connection.isValid(anyInt())).thenReturn(false);
+        router.checkReplicas();
+        assertSame(primaryConnection, router.getConnection());
+
+        when(replica0Connection.isValid(anyInt())).thenReturn(true);
+        router.checkReplicas();
+        assertEquals(List.of("replica-0"), router.getHealthyReplicas());
+        assertSame(replica0Connection, router.getConnection());
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
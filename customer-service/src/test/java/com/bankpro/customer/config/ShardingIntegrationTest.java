@@ -0,0 +1,190 @@
+package com.bankpro.customer.config;
+
+import com.bankpro.customer.dto.AuthRequestDTO;
+import com.bankpro.customer.dto.CustomerBatchDTO;
+import com.bankpro.customer.dto.CustomerBatchRequestDTO;
+import com.bankpro.customer.dto.CustomerRequestDTO;
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.exception.PhoneAlreadyExistsException;
+import com.bankpro.customer.exception.UserAlreadyExistsException;
+import com.bankpro.customer.service.CustomerService;
+import com.bankpro.customer.service.CustomerShards;
+import com.bankpro.customer.util.ConsistentHashRing;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Three in-memory H2 databases stand in for the shard schemas, a fourth for the
+ * global database. Each test registers its own customers and asserts on them only.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard_global" + ShardingIntegrationTest.H2_OPTIONS,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.sharding.enabled=true",
+        "app.sharding.shards[0].url=" + ShardingIntegrationTest.SHARD_URL + "0" + ShardingIntegrationTest.H2_OPTIONS,
+        "app.sharding.shards[0].username=sa",
+        "app.sharding.shards[1].url=" + ShardingIntegrationTest.SHARD_URL + "1" + ShardingIntegrationTest.H2_OPTIONS,
+        "app.sharding.shards[1].username=sa",
+        "app.sharding.shards[2].url=" + ShardingIntegrationTest.SHARD_URL + "2" + ShardingIntegrationTest.H2_OPTIONS,
+        "app.sharding.shards[2].username=sa"
+})
+class ShardingIntegrationTest {
+
+    static final String SHARD_URL = "jdbc:h2:mem:shard_";
+    static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final String PASSWORD = "SecurePass123";
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerShards shards;
+
+    @Autowired
+    private ShardRoutingDataSource router;
+
+    @Test
+    void customersLandOnTheirHashShardWithinItsIdRange() {
+        for (CustomerResponseDTO customer : registerMany("placed", 30)) {
+            int shard = shards.shardOf(customer.getEmail());
+            assertEquals(shard, shards.shardOfId(customer.getId()));
+            assertEquals(1, countOn(shard, customer.getEmail()));
+            for (int other = 0; other < router.getShardCount(); other++) {
+                if (other != shard) {
+                    assertEquals(0, countOn(other, customer.getEmail()));
+                }
+            }
+            assertEquals(customer.getId(), customerService.getProfile(customer.getEmail()).getId());
+            assertNotNull(customerService.login(new AuthRequestDTO(customer.getEmail(), PASSWORD)));
+        }
+    }
+
+    @Test
+    void phonesAndEmailsStayUniqueAcrossShards() {
+        CustomerResponseDTO first = register(unique("phone-a"), "7000000001");
+        String email = emailOnAnotherShard(first.getEmail());
+
+        assertThrows(PhoneAlreadyExistsException.class, () -> register(email, "7000000001"));
+        assertThrows(UserAlreadyExistsException.class, () -> register(first.getEmail(), "7000000002"));
+
+        // the rejected registration left no row on its shard and no phone claim behind
+        assertEquals(0, countOn(shards.shardOf(email), email));
+        assertNotNull(register(email, "7000000003"));
+    }
+
+    @Test
+    void caseVariantsOfAnEmailAreOneCustomer() {
+        String email = emailWhoseUpperCaseHashesElsewhere();
+        String upper = email.toUpperCase(Locale.ROOT);
+
+        CustomerResponseDTO saved = register("  " + upper + " ", "7000000010");
+        assertEquals(email, saved.getEmail());
+        assertThrows(UserAlreadyExistsException.class, () -> register(email, "7000000011"));
+        assertThrows(UserAlreadyExistsException.class, () -> register(upper.substring(0, 1) + email.substring(1), "7000000012"));
+
+        assertEquals(saved.getId(), customerService.getProfile(upper).getId());
+        assertNotNull(customerService.login(new AuthRequestDTO(upper, PASSWORD)));
+        CustomerBatchDTO batch = customerService.getCustomers(CustomerBatchRequestDTO.builder().emails(List.of(upper)).build());
+        assertEquals(List.of(saved.getId()), batch.getCustomers().stream().map(CustomerResponseDTO::getId).toList());
+        assertEquals(1, countOn(shards.shardOf(email), email));
+    }
+
+    @Test
+    void listingMergesShardsInIdOrderAndPagesByKeyset() {
+        Set<Long> registered = new HashSet<>();
+        registerMany("listed", 25).forEach(customer -> registered.add(customer.getId()));
+
+        List<Long> all = customerService.getAllCustomers().stream().map(CustomerResponseDTO::getId).toList();
+        assertTrue(all.containsAll(registered));
+        assertEquals(all.stream().sorted().toList(), all);
+
+        List<Long> paged = new ArrayList<>();
+        long afterId = 0;
+        while (true) {
+            List<CustomerResponseDTO> page = customerService.getCustomersPage(afterId, 7);
+            page.forEach(customer -> paged.add(customer.getId()));
+            if (page.size() < 7) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        assertEquals(all, paged);
+    }
+
+    @Test
+    void batchLookupsRouteEachKeyToItsShard() {
+        List<CustomerResponseDTO> customers = registerMany("batch", 6);
+        List<Long> ids = new ArrayList<>(customers.stream().map(CustomerResponseDTO::getId).toList());
+        ids.add(-5L);
+        ids.add(3 * (1L << 40) + 1);
+
+        CustomerBatchDTO byId = customerService.getCustomers(CustomerBatchRequestDTO.builder().ids(ids).build());
+        assertEquals(customers.stream().map(CustomerResponseDTO::getId).toList(),
+                byId.getCustomers().stream().map(CustomerResponseDTO::getId).toList());
+        assertEquals(2, byId.getMissing().size());
+
+        List<String> emails = customers.stream().map(CustomerResponseDTO::getEmail).toList();
+        CustomerBatchDTO byEmail = customerService.getCustomers(CustomerBatchRequestDTO.builder().emails(emails).build());
+        assertEquals(emails, byEmail.getCustomers().stream().map(CustomerResponseDTO::getEmail).toList());
+    }
+
+    private List<CustomerResponseDTO> registerMany(String prefix, int count) {
+        List<CustomerResponseDTO> customers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            customers.add(register(unique(prefix + i), null));
+        }
+        return customers;
+    }
+
+    private CustomerResponseDTO register(String email, String phone) {
+        return customerService.registerCustomer(CustomerRequestDTO.builder()
+                .name("Shard Test")
+                .email(email)
+                .password(PASSWORD)
+                .phone(phone != null ? phone : String.valueOf(8_000_000_000L + System.nanoTime() % 1_000_000_000L))
+                .build());
+    }
+
+    private String emailOnAnotherShard(String email) {
+        int shard = shards.shardOf(email);
+        for (int i = 0; ; i++) {
+            String candidate = unique("other" + i);
+            if (shards.shardOf(candidate) != shard) {
+                return candidate;
+            }
+        }
+    }
+
+    private String emailWhoseUpperCaseHashesElsewhere() {
+        ConsistentHashRing ring = new ConsistentHashRing(router.getShardCount(), new ShardingProperties().getVirtualNodes());
+        for (int i = 0; ; i++) {
+            String candidate = unique("case" + i);
+            if (ring.shardOf(candidate) != ring.shardOf(candidate.toUpperCase(Locale.ROOT))) {
+                return candidate;
+            }
+        }
+    }
+
+    private static String unique(String prefix) {
+        return prefix + "-" + System.nanoTime() + "@example.com";
+    }
+
+    private int countOn(int shard, String email) {
+        return new JdbcTemplate(router.getShard(shard))
+                .queryForObject("SELECT COUNT(*) FROM customers WHERE email = ?", Integer.class, email);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bankpro.customer.exception;
+
+import com.bankpro.customer.dto.ApiError;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void businessExceptionsCaptureNoStackTrace() {
+        assertEquals(0, new UserAlreadyExistsException("a@example.com").getStackTrace().length);
+        assertEquals(0, InvalidCredentialsException.INCORRECT_CREDENTIALS.getStackTrace().length);
+
+        InvalidCredentialsException shared = InvalidCredentialsException.INCORRECT_CREDENTIALS;
+        shared.addSuppressed(new IllegalStateException("ignored"));
+        assertEquals(0, shared.getSuppressed().length);
+    }
+
+    @Test
+    void mapsBusinessExceptionsThroughTheirTemplate() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/customers/login");
+
+        ResponseEntity<ApiError> response = handler.handleBaseException(InvalidCredentialsException.INCORRECT_CREDENTIALS, request);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        ApiError body = response.getBody();
+        assertNotNull(body);
+        assertEquals(401, body.getStatus());
+        assertEquals("INVALID_CREDENTIALS", body.getError());
+        assertEquals("Incorrect email or password.", body.getMessage());
+        assertEquals("/api/v1/customers/login", body.getPath());
+        assertNotNull(body.getTimestamp());
+
+        ApiError conflict = handler.handleBaseException(new UserAlreadyExistsException("a@example.com"), request).getBody();
+        assertNotNull(conflict);
+        assertEquals(409, conflict.getStatus());
+        assertEquals("USER_ALREADY_EXISTS", conflict.getError());
+    }
+}
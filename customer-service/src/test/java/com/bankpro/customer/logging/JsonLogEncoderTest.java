@@ -0,0 +1,45 @@
+package com.bankpro.customer.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLogEncoderTest {
+
+    @Test
+    void writesOneJsonLineWithEmailsMasked() throws Exception {
+        LoggerContext context = new LoggerContext();
+        LoggingEvent event = new LoggingEvent(getClass().getName(), context.getLogger("com.bankpro.customer.Test"),
+                Level.WARN, "Invalid credentials for email: {}", new IllegalStateException("no user amit.kumar@example.com"),
+                new Object[]{"amit.kumar@example.com"});
+        event.setMDCPropertyMap(Map.of("user", "jane_doe+test@mail.example.co.uk"));
+
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setService("customer-service");
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        assertTrue(line.endsWith("}\n"));
+        assertEquals(1, line.lines().count());
+        JsonNode json = new ObjectMapper().readTree(line);
+        assertEquals("WARN", json.get("level").asText());
+        assertEquals("customer-service", json.get("service").asText());
+        assertEquals("Invalid credentials for email: a***@example.com", json.get("message").asText());
+        assertEquals("j***@mail.example.co.uk", json.get("mdc").get("user").asText());
+        assertTrue(json.get("stack_trace").asText().contains("no user a***@example.com"));
+        assertFalse(line.contains("amit.kumar"));
+    }
+
+    @Test
+    void leavesTextWithoutAddressesUntouched() {
+        String text = "Customer registered successfully: ID = 42 @ node-1";
+        assertSame(text, EmailMasker.mask(text));
+    }
+}
@@ -0,0 +1,90 @@
+package com.bankpro.customer.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.joran.spi.JoranException;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingTurboFilterTest {
+
+    private static final String CONFIG = """
+            <configuration>
+                <turboFilter class="com.bankpro.customer.logging.SamplingTurboFilter">
+                    <rule>
+                        <logger>com.example.hot</logger>
+                        <sampleRate>10</sampleRate>
+                    </rule>
+                    <rule>
+                        <logger>com.example.hot.Limited</logger>
+                        <maxPerSecond>5</maxPerSecond>
+                    </rule>
+                </turboFilter>
+                <appender name="LIST" class="ch.qos.logback.core.read.ListAppender"/>
+                <root level="INFO">
+                    <appender-ref ref="LIST"/>
+                </root>
+            </configuration>
+            """;
+
+    private final LoggerContext context = new LoggerContext();
+    private ListAppender<ILoggingEvent> events;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void configure() throws JoranException {
+        JoranConfigurator configurator = new JoranConfigurator();
+        configurator.setContext(context);
+        configurator.doConfigure(new ByteArrayInputStream(CONFIG.getBytes(StandardCharsets.UTF_8)));
+        events = (ListAppender<ILoggingEvent>) context.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("LIST");
+    }
+
+    @Test
+    void samplesSuccessEventsButKeepsWarnings() {
+        Logger logger = context.getLogger("com.example.hot.Service");
+        for (int i = 0; i < 100; i++) {
+            logger.info("served {}", i);
+        }
+        logger.warn("failed");
+
+        assertEquals(11, events.list.size());
+        assertEquals("served 0", events.list.get(0).getFormattedMessage());
+        assertEquals("served 10", events.list.get(1).getFormattedMessage());
+        assertEquals("failed", events.list.get(10).getFormattedMessage());
+    }
+
+    @Test
+    void longestPrefixRuleRateLimitsPerSecond() {
+        Logger limited = context.getLogger("com.example.hot.Limited");
+        for (int i = 0; i < 100; i++) {
+            limited.info("served {}", i);
+        }
+        // unless the loop straddles a second boundary, only the first five get through
+        assertTrue(events.list.size() >= 5 && events.list.size() <= 10, "admitted " + events.list.size());
+    }
+
+    @Test
+    void leavesOtherLoggersAndEnabledChecksAlone() {
+        Logger hot = context.getLogger("com.example.hot.Service");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(hot.isInfoEnabled());
+        }
+        hot.info("first");
+
+        Logger other = context.getLogger("com.example.cold.Service");
+        for (int i = 0; i < 20; i++) {
+            other.info("served {}", i);
+        }
+
+        assertEquals(21, events.list.size());
+        assertEquals("first", events.list.get(0).getFormattedMessage());
+    }
+}
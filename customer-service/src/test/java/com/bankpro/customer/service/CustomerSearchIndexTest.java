@@ -0,0 +1,70 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.dto.CustomerRequestDTO;
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Registrations reach the index through the outbox; polling by hand stands in for
+ * the scheduler.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:customer_search;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.customer.search.poll-interval-ms=3600000"
+})
+class CustomerSearchIndexTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerSearchIndex searchIndex;
+
+    @Test
+    void registrationsBecomeSearchableAndSurviveARebuild() throws InterruptedException {
+        awaitFirstBuild();
+        String tag = Long.toString(System.nanoTime(), 36);
+        CustomerResponseDTO saved = customerService.registerCustomer(CustomerRequestDTO.builder()
+                .name("Meera Iyer" + tag)
+                .email("meera." + tag + "@example.com")
+                .password("SecurePass123")
+                .phone(String.valueOf(7_000_000_000L + System.nanoTime() % 1_000_000_000L))
+                .build());
+
+        searchIndex.poll();
+        assertEquals(List.of(saved.getId()), ids(customerService.searchCustomers("iyer" + tag, 10)));
+        assertEquals(List.of(saved.getId()), ids(customerService.searchCustomers("MEERA." + tag, 10)));
+
+        searchIndex.rebuild();
+        assertEquals(List.of(saved.getId()), ids(customerService.searchCustomers(saved.getPhone(), 10)));
+    }
+
+    @Test
+    void rejectsBlankTextAndOversizedLimits() {
+        assertThrows(InvalidRequestException.class, () -> customerService.searchCustomers(" ", 10));
+        assertThrows(InvalidRequestException.class, () -> customerService.searchCustomers("meera", 51));
+    }
+
+    private void awaitFirstBuild() throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!searchIndex.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(searchIndex.isReady());
+    }
+
+    private static List<Long> ids(List<CustomerResponseDTO> customers) {
+        return customers.stream().map(CustomerResponseDTO::getId).toList();
+    }
+}
@@ -0,0 +1,134 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.dto.OutboxEventDTO;
+import com.bankpro.customer.entity.OutboxEvent;
+import com.bankpro.customer.entity.OutboxOffset;
+import com.bankpro.customer.enums.ChangeEventType;
+import com.bankpro.customer.repository.OutboxEventRepository;
+import com.bankpro.customer.repository.OutboxOffsetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private final List<OutboxEvent> outbox = new ArrayList<>();
+    private final AtomicReference<OutboxOffset> position = new AtomicReference<>();
+    private final List<OutboxEventDTO> received = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private OutboxEventRepository outboxRepo;
+    private OutboxOffsetRepository offsetRepo;
+    private boolean sinkDown;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepo = mock(OutboxEventRepository.class);
+        when(outboxRepo.findMaxId()).thenAnswer(inv -> outbox.stream().mapToLong(OutboxEvent::getId).max().orElse(0));
+        when(outboxRepo.findByIdGreaterThanOrderById(anyLong(), any(Pageable.class))).thenAnswer(inv -> {
+            long after = inv.getArgument(0);
+            Pageable page = inv.getArgument(1);
+            return outbox.stream().filter(e -> e.getId() > after).limit(page.getPageSize()).toList();
+        });
+
+        offsetRepo = mock(OutboxOffsetRepository.class);
+        when(offsetRepo.findForUpdate(OutboxRelay.NAME)).thenAnswer(inv -> Optional.ofNullable(copy(position.get())));
+        when(offsetRepo.saveAndFlush(any())).thenAnswer(inv -> store(inv.getArgument(0)));
+        when(offsetRepo.save(any())).thenAnswer(inv -> store(inv.getArgument(0)));
+    }
+
+    @Test
+    void deliversInFeedOrderAcrossBatches() {
+        OutboxRelay relay = relay(2, Duration.ofMinutes(1));
+        addEvents(1, 2, 3, 4, 5);
+
+        relay.poll();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), receivedIds());
+        assertEquals(5, position.get().getLastId());
+        assertEquals(5, registry.get("outbox.relay.events").counter().count());
+        assertEquals(0, registry.get("outbox.relay.lag.events").gauge().value());
+    }
+
+    @Test
+    void redeliversBatchWhenSinkFails() {
+        OutboxRelay relay = relay(10, Duration.ofMinutes(1));
+        addEvents(1, 2);
+
+        sinkDown = true;
+        relay.poll();
+        assertEquals(0, position.get().getLastId());
+        assertEquals(1, registry.get("outbox.relay.failures").counter().count());
+        assertEquals(2, registry.get("outbox.relay.lag.events").gauge().value());
+
+        sinkDown = false;
+        relay.poll();
+        assertEquals(List.of(1L, 2L), receivedIds());
+        assertEquals(2, position.get().getLastId());
+    }
+
+    @Test
+    void waitsAtGapBeforeSkippingIt() {
+        OutboxRelay relay = relay(10, Duration.ZERO);
+        addEvents(1, 2, 4);
+
+        relay.poll();
+        assertEquals(List.of(1L, 2L), receivedIds());
+        assertTrue(registry.get("outbox.relay.lag.seconds").gauge().value() >= 0);
+
+        // Id 3 never committed; once the gap times out the relay moves past it
+        relay.poll();
+        assertEquals(List.of(1L, 2L, 4L), receivedIds());
+    }
+
+    private OutboxRelay relay(int batchSize, Duration gapTimeout) {
+        OutboxSink sink = events -> {
+            if (sinkDown) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            received.addAll(events);
+        };
+        return new OutboxRelay(outboxRepo, offsetRepo, sink,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), registry, batchSize, gapTimeout);
+    }
+
+    private void addEvents(long... ids) {
+        for (long id : ids) {
+            outbox.add(OutboxEvent.builder()
+                    .id(id)
+                    .eventType(ChangeEventType.CUSTOMER_SNAPSHOT)
+                    .customerId(id % 2)
+                    .payload("{}")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    private List<Long> receivedIds() {
+        return received.stream().map(OutboxEventDTO::getId).toList();
+    }
+
+    private OutboxOffset store(OutboxOffset offset) {
+        position.set(copy(offset));
+        return offset;
+    }
+
+    private static OutboxOffset copy(OutboxOffset offset) {
+        return offset == null ? null : new OutboxOffset(offset.getName(), offset.getLastId(), offset.getUpdatedAt());
+    }
+}
@@ -0,0 +1,92 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.dto.AuthRequestDTO;
+import com.bankpro.customer.dto.CustomerRequestDTO;
+import com.bankpro.customer.dto.TokenResponse;
+import com.bankpro.customer.exception.InvalidCredentialsException;
+import com.bankpro.customer.repository.RefreshTokenRepository;
+import com.bankpro.customer.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:refresh_tokens;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.jwt.access-token-lifetime=5m"
+})
+class RefreshTokenRotationTest {
+
+    private static final String PASSWORD = "SecurePass123";
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private RefreshTokenRepository refreshRepo;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void refreshRotatesTheTokenAndKeepsTheSession() {
+        String email = register();
+        TokenResponse login = customerService.login(new AuthRequestDTO(email, PASSWORD));
+        assertEquals(300, login.getExpiresIn());
+
+        TokenResponse refreshed = customerService.refresh(login.getRefreshToken());
+
+        assertNotEquals(login.getRefreshToken(), refreshed.getRefreshToken());
+        assertEquals(email, jwtUtil.extractUsername(refreshed.getToken()));
+        assertEquals(session(login), session(refreshed));
+        // only digests are stored
+        assertFalse(refreshRepo.existsById(refreshed.getRefreshToken()));
+        assertTrue(refreshRepo.existsById(RefreshTokenService.digest(refreshed.getRefreshToken())));
+    }
+
+    @Test
+    void reusingARotatedTokenRevokesTheWholeSession() {
+        String email = register();
+        TokenResponse login = customerService.login(new AuthRequestDTO(email, PASSWORD));
+        TokenResponse refreshed = customerService.refresh(login.getRefreshToken());
+
+        assertThrows(InvalidCredentialsException.class, () -> customerService.refresh(login.getRefreshToken()));
+        assertThrows(InvalidCredentialsException.class, () -> customerService.refresh(refreshed.getRefreshToken()));
+
+        // a fresh login starts a new, unaffected session
+        TokenResponse again = customerService.login(new AuthRequestDTO(email, PASSWORD));
+        assertNotNull(customerService.refresh(again.getRefreshToken()).getToken());
+    }
+
+    @Test
+    void logoutEndsTheSession() {
+        String email = register();
+        TokenResponse login = customerService.login(new AuthRequestDTO(email, PASSWORD));
+
+        var claims = jwtUtil.parseToken(login.getToken());
+        customerService.logout(claims.getId(), claims.getExpiration().toInstant(), session(login));
+
+        assertThrows(InvalidCredentialsException.class, () -> customerService.refresh(login.getRefreshToken()));
+        assertThrows(InvalidCredentialsException.class, () -> customerService.refresh("never-issued"));
+    }
+
+    private String session(TokenResponse tokens) {
+        return jwtUtil.parseToken(tokens.getToken()).get(JwtUtil.SESSION_CLAIM, String.class);
+    }
+
+    private String register() {
+        String email = "refresh-" + System.nanoTime() + "@example.com";
+        customerService.registerCustomer(CustomerRequestDTO.builder()
+                .name("Refresh Test")
+                .email(email)
+                .password(PASSWORD)
+                .phone(String.valueOf(6_000_000_000L + System.nanoTime() % 1_000_000_000L))
+                .build());
+        return email;
+    }
+}
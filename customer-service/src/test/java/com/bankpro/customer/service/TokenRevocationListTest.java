@@ -0,0 +1,143 @@
+package com.bankpro.customer.service;
+
+import com.bankpro.customer.entity.RevokedToken;
+import com.bankpro.customer.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    /** Stands in for the revoked_tokens table shared by all instances. */
+    private final List<RevokedToken> table = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private RevokedTokenRepository revokedRepo;
+
+    @BeforeEach
+    void setUp() {
+        revokedRepo = mock(RevokedTokenRepository.class);
+        when(revokedRepo.save(any())).thenAnswer(inv -> {
+            table.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        when(revokedRepo.findRevokedSince(any(), any())).thenAnswer(inv -> {
+            Instant since = inv.getArgument(0);
+            Instant now = inv.getArgument(1);
+            return table.stream()
+                    .filter(row -> !row.getRevokedAt().isBefore(since) && row.getExpiresAt().isAfter(now))
+                    .toList();
+        });
+    }
+
+    @Test
+    void revocationAppliesLocallyAtOnceAndElsewhereAfterSync() {
+        TokenRevocationList local = list();
+        TokenRevocationList remote = list();
+
+        local.revoke("jti-1", Instant.now().plus(Duration.ofHours(1)));
+
+        assertTrue(local.isRevoked("jti-1"));
+        assertFalse(remote.isRevoked("jti-1"));
+        remote.sync();
+        assertTrue(remote.isRevoked("jti-1"));
+        assertFalse(remote.isRevoked("jti-2"));
+        assertFalse(remote.isRevoked(null));
+    }
+
+    @Test
+    void startupLoadsRevocationsMadeBeforeIt() {
+        table.add(row("before-start", Instant.now().minusSeconds(60)));
+
+        TokenRevocationList started = list();
+
+        assertTrue(started.isLoaded());
+        assertTrue(started.isRevoked("before-start"));
+        assertFalse(started.isRevoked("other"));
+    }
+
+    @Test
+    void failsClosedUntilTheFirstSyncSucceeds() {
+        table.add(row("before-start", Instant.now().minusSeconds(60)));
+        doThrow(new DataAccessResourceFailureException("database down"))
+                .doAnswer(inv -> List.copyOf(table))
+                .when(revokedRepo).findRevokedSince(any(), any());
+
+        TokenRevocationList started = list();
+        assertFalse(started.isLoaded());
+        assertTrue(started.isRevoked("other"));
+        assertTrue(started.isRevoked(null));
+        assertEquals(2.0, registry.get("jwt.revocation.checks").tag("result", "not-loaded").counter().count());
+
+        started.sync();
+        assertTrue(started.isLoaded());
+        assertTrue(started.isRevoked("before-start"));
+        assertFalse(started.isRevoked("other"));
+    }
+
+    @Test
+    void syncRereadsTheOverlapForLateCommits() {
+        TokenRevocationList remote = list();
+        table.add(row("early", Instant.now()));
+        remote.sync();
+
+        // committed after the previous poll but stamped before its watermark
+        table.add(row("late", Instant.now().minusSeconds(5)));
+        remote.sync();
+
+        assertTrue(remote.isRevoked("early"));
+        assertTrue(remote.isRevoked("late"));
+    }
+
+    @Test
+    void expiredEntriesAreIgnoredAndPurged() throws InterruptedException {
+        TokenRevocationList local = list();
+        local.revoke("past", Instant.now().minusSeconds(1));
+        local.revoke("short", Instant.now().plusMillis(50));
+        assertFalse(local.isRevoked("past"));
+        assertTrue(local.isRevoked("short"));
+
+        Thread.sleep(100);
+        assertFalse(local.isRevoked("short"));
+        local.purge();
+        verify(revokedRepo).deleteExpired(any());
+        assertEquals(0.0, registry.get("jwt.revocation.entries").gauge().value());
+    }
+
+    @Test
+    void growsPastItsExpectedSizeWithoutLosingEntries() {
+        TokenRevocationList local = list();
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        for (int i = 0; i < 1_000; i++) {
+            local.revoke("jti-" + i, expiresAt);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(local.isRevoked("jti-" + i));
+        }
+    }
+
+    /** A list as it stands once the application context has started. */
+    private TokenRevocationList list() {
+        TokenRevocationList list = new TokenRevocationList(revokedRepo, registry, 100, 0.01, Duration.ofSeconds(10));
+        list.afterSingletonsInstantiated();
+        return list;
+    }
+
+    private static RevokedToken row(String jti, Instant revokedAt) {
+        return RevokedToken.builder()
+                .jti(jti)
+                .revokedAt(revokedAt)
+                .expiresAt(Instant.now().plus(Duration.ofHours(1)))
+                .build();
+    }
+}
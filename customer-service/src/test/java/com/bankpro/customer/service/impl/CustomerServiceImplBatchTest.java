@@ -0,0 +1,93 @@
+package com.bankpro.customer.service.impl;
+
+import com.bankpro.customer.config.ReadReplicaProperties;
+import com.bankpro.customer.config.ShardingProperties;
+import com.bankpro.customer.dto.CustomerBatchDTO;
+import com.bankpro.customer.dto.CustomerBatchRequestDTO;
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.entity.Customer;
+import com.bankpro.customer.exception.InvalidRequestException;
+import com.bankpro.customer.repository.CustomerRepository;
+import com.bankpro.customer.service.CustomerSearchIndex;
+import com.bankpro.customer.service.CustomerShards;
+import com.bankpro.customer.service.OutboxPublisher;
+import com.bankpro.customer.service.PhoneDirectory;
+import com.bankpro.customer.service.ReadYourWritesTracker;
+import com.bankpro.customer.service.RefreshTokenService;
+import com.bankpro.customer.service.TokenRevocationList;
+import com.bankpro.customer.util.JwtUtil;
+import com.bankpro.customer.util.SingleFlight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class CustomerServiceImplBatchTest {
+
+    private final CustomerRepository customerRepo = mock(CustomerRepository.class);
+    private CustomerServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CustomerServiceImpl(customerRepo, mock(PasswordEncoder.class), mock(JwtUtil.class),
+                new SingleFlight<>(), mock(OutboxPublisher.class),
+                new ReadYourWritesTracker(new ReadReplicaProperties()),
+                new CustomerShards(new ShardingProperties(), mock(PlatformTransactionManager.class)),
+                mock(PhoneDirectory.class), mock(TokenRevocationList.class), mock(RefreshTokenService.class),
+                mock(CustomerSearchIndex.class), mock(Environment.class));
+        ReflectionTestUtils.setField(service, "maxBatchSize", 3);
+    }
+
+    @Test
+    void keepsRequestOrderAndReportsMissingIds() {
+        // The database returns rows in its own order
+        when(customerRepo.findByIdIn(anyCollection())).thenReturn(List.of(customer(3L), customer(1L)));
+
+        CustomerBatchDTO batch = service.getCustomers(CustomerBatchRequestDTO.builder()
+                .ids(List.of(3L, 2L, 1L, 3L))
+                .build());
+
+        assertEquals(List.of(3L, 1L), batch.getCustomers().stream().map(CustomerResponseDTO::getId).toList());
+        assertEquals(List.of("2"), batch.getMissing());
+        verify(customerRepo, times(1)).findByIdIn(anyCollection());
+    }
+
+    @Test
+    void looksUpByEmail() {
+        when(customerRepo.findByEmailIn(anyCollection())).thenReturn(List.of(customer(7L)));
+
+        CustomerBatchDTO batch = service.getCustomers(CustomerBatchRequestDTO.builder()
+                .emails(List.of("nobody@example.com", "c7@example.com"))
+                .build());
+
+        assertEquals("c7@example.com", batch.getCustomers().get(0).getEmail());
+        assertEquals(List.of("nobody@example.com"), batch.getMissing());
+    }
+
+    @Test
+    void rejectsAmbiguousOrOversizedRequests() {
+        assertThrows(InvalidRequestException.class, () -> service.getCustomers(new CustomerBatchRequestDTO()));
+        assertThrows(InvalidRequestException.class, () -> service.getCustomers(CustomerBatchRequestDTO.builder()
+                .ids(List.of(1L)).emails(List.of("a@example.com")).build()));
+        assertThrows(InvalidRequestException.class, () -> service.getCustomers(CustomerBatchRequestDTO.builder()
+                .ids(List.of(1L, 2L, 3L, 4L)).build()));
+        verifyNoInteractions(customerRepo);
+    }
+
+    private static Customer customer(long id) {
+        return Customer.builder()
+                .id(id)
+                .name("Customer " + id)
+                .email("c" + id + "@example.com")
+                .phone("9876543210")
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.bankpro.customer.service.impl;
+
+import com.bankpro.customer.config.ReadReplicaProperties;
+import com.bankpro.customer.config.ShardingProperties;
+import com.bankpro.customer.dto.CustomerResponseDTO;
+import com.bankpro.customer.entity.Customer;
+import com.bankpro.customer.repository.CustomerRepository;
+import com.bankpro.customer.service.CustomerSearchIndex;
+import com.bankpro.customer.service.CustomerShards;
+import com.bankpro.customer.service.OutboxPublisher;
+import com.bankpro.customer.service.PhoneDirectory;
+import com.bankpro.customer.service.ReadYourWritesTracker;
+import com.bankpro.customer.service.RefreshTokenService;
+import com.bankpro.customer.service.TokenRevocationList;
+import com.bankpro.customer.util.JwtUtil;
+import com.bankpro.customer.util.SingleFlight;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CustomerServiceImplProfileTest {
+
+    private final CustomerRepository customerRepo = mock(CustomerRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SingleFlight<String, CustomerResponseDTO> flights = new SingleFlight<>();
+
+    private final CustomerServiceImpl service = new CustomerServiceImpl(customerRepo, mock(PasswordEncoder.class),
+            mock(JwtUtil.class), flights, mock(OutboxPublisher.class),
+            new ReadYourWritesTracker(new ReadReplicaProperties()),
+            new CustomerShards(new ShardingProperties(), transactionManager),
+            mock(PhoneDirectory.class), mock(TokenRevocationList.class), mock(RefreshTokenService.class),
+            mock(CustomerSearchIndex.class), mock(Environment.class));
+
+    @Test
+    void onlyTheLeaderOfACoalescedLookupOpensATransaction() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderInQuery = new CountDownLatch(1);
+        when(customerRepo.findByEmail("c7@example.com")).thenAnswer(call -> {
+            leaderInQuery.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(Customer.builder().id(7L).name("C7").email("c7@example.com").build());
+        });
+
+        List<Future<CustomerResponseDTO>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(callers.submit(() -> service.getProfile("c7@example.com")));
+            assertTrue(leaderInQuery.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(callers.submit(() -> service.getProfile("c7@example.com")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+        }
+
+        for (Future<CustomerResponseDTO> result : results) {
+            assertEquals(7L, result.get().getId());
+        }
+        verify(customerRepo, times(1)).findByEmail("c7@example.com");
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+}
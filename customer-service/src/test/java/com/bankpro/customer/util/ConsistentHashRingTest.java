@@ -0,0 +1,44 @@
+package com.bankpro.customer.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    @Test
+    void placementIsStableAndEven() {
+        ConsistentHashRing ring = new ConsistentHashRing(4, 128);
+        ConsistentHashRing rebuilt = new ConsistentHashRing(4, 128);
+        int[] counts = new int[4];
+        for (int i = 0; i < KEYS; i++) {
+            String email = "user" + i + "@example.com";
+            int shard = ring.shardOf(email);
+            assertEquals(shard, rebuilt.shardOf(email));
+            counts[shard]++;
+        }
+        for (int count : counts) {
+            assertTrue(Math.abs(count - KEYS / 4) < KEYS / 4 * 0.2, "uneven shard: " + count);
+        }
+    }
+
+    @Test
+    void addingAShardMovesOnlyItsShareOfKeys() {
+        ConsistentHashRing four = new ConsistentHashRing(4, 128);
+        ConsistentHashRing five = new ConsistentHashRing(5, 128);
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String email = "user" + i + "@example.com";
+            int before = four.shardOf(email);
+            int after = five.shardOf(email);
+            if (before != after) {
+                // keys only ever move to the new shard
+                assertEquals(4, after);
+                moved++;
+            }
+        }
+        assertTrue(Math.abs(moved - KEYS / 5) < KEYS / 5 * 0.2, "moved " + moved);
+    }
+}
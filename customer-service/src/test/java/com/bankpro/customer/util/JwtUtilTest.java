@@ -0,0 +1,49 @@
+package com.bankpro.customer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final Duration LIFETIME = Duration.ofMinutes(15);
+
+    @Test
+    void refusesMissingShortOrMalformedSecrets() {
+        assertThrows(IllegalStateException.class, () -> new JwtUtil("", LIFETIME));
+        assertThrows(IllegalStateException.class, () -> new JwtUtil(base64(31), LIFETIME));
+        assertThrows(IllegalStateException.class, () -> new JwtUtil("not base64!", LIFETIME));
+    }
+
+    @Test
+    void refusesTheRevokedKey() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new JwtUtil("Z2T26C7oJI1EjY91ukCVU7KuBQnhd7UfYaClrwI1HvU=", LIFETIME));
+        assertTrue(e.getMessage().contains("revoked"));
+    }
+
+    @Test
+    void signsWithA256BitSecret() {
+        JwtUtil jwtUtil = new JwtUtil(base64(32), LIFETIME);
+        String token = jwtUtil.generateToken("user@example.com", "ROLE_USER", 7L, "session");
+
+        assertTrue(jwtUtil.validateToken(token));
+        assertEquals(7L, jwtUtil.parseToken(token).get(JwtUtil.CUSTOMER_CLAIM, Long.class));
+        assertFalse(new JwtUtil(base64(32, (byte) 1), LIFETIME).validateToken(token));
+    }
+
+    private static String base64(int bytes) {
+        return base64(bytes, (byte) 0);
+    }
+
+    private static String base64(int bytes, byte seed) {
+        byte[] key = new byte[bytes];
+        for (int i = 0; i < bytes; i++) {
+            key[i] = (byte) (i * 31 + seed);
+        }
+        return Base64.getEncoder().encodeToString(key);
+    }
+}
@@ -0,0 +1,81 @@
+package com.bankpro.customer.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NGramIndexTest {
+
+    private NGramIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex<>();
+        index.put(1, "ankit", "Ankit Kumar", "ankit@example.com", "9876543210");
+        index.put(2, "aniket", "Aniket Kamlesh", "aniket.k@bankpro.io", "9123456780");
+        index.put(3, "priya", "Priya Sharma", "p.sharma@example.com", "9988776655");
+        index.put(4, "kumari", "Kumari Devi", "devi@example.com", null);
+    }
+
+    @Test
+    void matchesInsideWordsFromThreeCharactersAndWordStartsBelow() {
+        assertEquals(List.of("priya"), index.search("harm", 10));
+        assertEquals(List.of("ankit"), index.search("6543", 10));
+        assertEquals(List.of("priya"), index.search("p", 10));
+        assertEquals(List.of(), index.search("ri", 10));
+        assertEquals(List.of(), index.search("zzz", 10));
+    }
+
+    @Test
+    void everyQueryWordMustMatchCaseInsensitively() {
+        assertEquals(List.of("ankit"), index.search("KUMAR ank", 10));
+        assertEquals(List.of("aniket"), index.search("aniket.k@bank", 10));
+        assertEquals(List.of(), index.search("ankit sharma", 10));
+    }
+
+    @Test
+    void ranksExactThenFieldPrefixThenWordPrefixAndHonoursTheLimit() {
+        index.put(5, "kum", "Kum", "kum@example.com", null);
+        // exact name, then names starting with "kum", then "kum" inside a later word
+        assertEquals(List.of("kum", "kumari", "ankit"), index.search("kum", 10));
+        assertEquals(List.of("kum", "kumari"), index.search("kum", 2));
+    }
+
+    @Test
+    void replacingADocumentDropsItsOldText() {
+        index.put(3, "priya-married", "Priya Verma", "p.verma@example.com", "9988776655");
+        assertEquals(List.of(), index.search("sharma", 10));
+        assertEquals(List.of("priya-married"), index.search("verma", 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void compactedIndexRanksTheSameAndKeepsLaterAdditionsInTheRunning() {
+        for (int i = 10; i < 40; i++) {
+            index.put(i, "filler-" + i, "Anand Kumar " + i, "anand" + i + "@example.com", null);
+        }
+        List<String> before = index.search("kumar", 5);
+        index.compact();
+        assertEquals(before, index.search("kumar", 5));
+        assertEquals(List.of("kumari", "ankit"), index.search("kumar", 2));
+
+        // lands in the unordered tail, yet outranks everything ordered
+        index.put(50, "kumar", "Kumar", "k@example.com", null);
+        assertEquals(List.of("kumar", "kumari", "ankit"), index.search("kumar", 3));
+        assertEquals(List.of("kumar"), index.search("k", 1));
+    }
+
+    @Test
+    void replacedDocumentsDoNotPileUp() {
+        for (int i = 0; i < 10_000; i++) {
+            index.put(2, "aniket-" + i, "Aniket Kamlesh", "aniket.k@bankpro.io", String.valueOf(i));
+        }
+        assertEquals(4, index.size());
+        assertTrue(index.slots() < 2_000, "slots in use: " + index.slots());
+        assertEquals(List.of("aniket-9999"), index.search("aniket", 10));
+        assertEquals(List.of(), index.search("aniket 9998", 10));
+    }
+}
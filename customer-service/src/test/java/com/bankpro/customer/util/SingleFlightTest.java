@@ -0,0 +1,133 @@
+package com.bankpro.customer.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 20;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> flights.execute("customer-7", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            while (flights.getExecutedCount() + flights.getSharedCount() < callers) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(1, flights.getExecutedCount());
+        assertEquals(callers - 1, flights.getSharedCount());
+    }
+
+    @Test
+    void failureIsSharedAndKeyIsReleased() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> leader = executor.submit(() -> flights.execute("k", () -> {
+                await(release);
+                throw new IllegalStateException("down");
+            }));
+            while (flights.getExecutedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<Integer> follower = executor.submit(() -> flights.execute("k", () -> 1));
+            while (flights.getSharedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertInstanceOf(IllegalStateException.class,
+                    assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+            assertInstanceOf(IllegalStateException.class,
+                    assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+        }
+
+        assertEquals(7, flights.execute("k", () -> 7));
+        assertEquals(2, flights.getExecutedCount());
+    }
+
+    @Test
+    void differentKeysDoNotShare() {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        flights.register(registry, "profile");
+
+        flights.execute("a", () -> "a");
+        flights.execute("b", () -> "b");
+
+        assertEquals(2.0, registry.get("singleflight.calls").tag("outcome", "executed").functionCounter().count());
+        assertEquals(0.0, registry.get("singleflight.calls").tag("outcome", "shared").functionCounter().count());
+    }
+
+    @Test
+    void interruptedWaiterGivesUpWithoutCancellingTheLeader() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interruptKept = new AtomicBoolean();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> leader = executor.submit(() -> flights.execute("c7@example.com", () -> {
+                await(release);
+                return 7;
+            }));
+            while (flights.getExecutedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            Thread waiter = Thread.ofVirtual().start(() -> {
+                assertThrows(CancellationException.class, () -> flights.execute("c7@example.com", () -> 0));
+                interruptKept.set(Thread.currentThread().isInterrupted());
+            });
+            while (flights.getSharedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            waiter.interrupt();
+            waiter.join(5000);
+            release.countDown();
+
+            assertEquals(7, leader.get(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(interruptKept.get());
+        assertEquals(1, flights.getExecutedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
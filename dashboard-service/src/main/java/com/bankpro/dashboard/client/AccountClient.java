@@ -0,0 +1,71 @@
+package com.bankpro.dashboard.client;
+
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.constant.ApiPaths;
+import com.bankpro.dashboard.dto.AccountDTO;
+import com.bankpro.dashboard.dto.RequestResponse;
+import com.bankpro.dashboard.dto.TransactionDTO;
+import com.bankpro.dashboard.util.SingleFlight;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client for account-service.
+ * <p>
+ * Concurrent identical reads for the same customer share one downstream call.
+ * </p>
+ */
+@Component
+public class AccountClient {
+
+    private static final TypeReference<RequestResponse<List<AccountDTO>>> ACCOUNTS = new TypeReference<>() {
+    };
+    private static final TypeReference<RequestResponse<List<TransactionDTO>>> TRANSACTIONS = new TypeReference<>() {
+    };
+
+    private record RecentKey(Long customerId, int limit) {
+    }
+
+    public static final String TARGET = "account-service";
+
+    private final DownstreamClient downstreamClient;
+    private final DownstreamTarget target;
+    private final SingleFlight<Long, List<AccountDTO>> accountFlights;
+    private final SingleFlight<RecentKey, List<TransactionDTO>> transactionFlights;
+
+    public AccountClient(DownstreamClient downstreamClient, DashboardProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.downstreamClient = downstreamClient;
+        this.target = downstreamClient.target(TARGET, properties.getAccount());
+        this.accountFlights = new SingleFlight<Long, List<AccountDTO>>().register(meterRegistry, "accounts");
+        this.transactionFlights = new SingleFlight<RecentKey, List<TransactionDTO>>()
+                .register(meterRegistry, "recent-transactions");
+    }
+
+    /**
+     * Lists the accounts of a customer.
+     *
+     * @param customerId the owning customer id
+     * @return the customer's accounts
+     */
+    public List<AccountDTO> getAccounts(Long customerId) {
+        return accountFlights.execute(customerId, () -> downstreamClient.get(target,
+                ApiPaths.ACCOUNTS_BY_CUSTOMER.formatted(customerId), Map.of(), ACCOUNTS));
+    }
+
+    /**
+     * Fetches the newest transactions across all accounts of a customer.
+     *
+     * @param customerId the owning customer id
+     * @param limit      maximum number of entries
+     * @return transactions, newest first
+     */
+    public List<TransactionDTO> getRecentTransactions(Long customerId, int limit) {
+        return transactionFlights.execute(new RecentKey(customerId, limit), () -> downstreamClient.get(target,
+                ApiPaths.RECENT_TRANSACTIONS.formatted(customerId, limit), Map.of(), TRANSACTIONS));
+    }
+}
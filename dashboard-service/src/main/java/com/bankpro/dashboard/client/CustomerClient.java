@@ -0,0 +1,49 @@
+package com.bankpro.dashboard.client;
+
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.constant.ApiPaths;
+import com.bankpro.dashboard.dto.CustomerDTO;
+import com.bankpro.dashboard.dto.RequestResponse;
+import com.bankpro.dashboard.util.SingleFlight;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client for customer-service.
+ * <p>
+ * Concurrent profile fetches with the same token (a client retrying, or
+ * several dashboard requests at once) share one downstream call.
+ * </p>
+ */
+@Component
+public class CustomerClient {
+
+    private static final TypeReference<RequestResponse<CustomerDTO>> PROFILE = new TypeReference<>() {
+    };
+
+    public static final String TARGET = "customer-service";
+
+    private final DownstreamClient downstreamClient;
+    private final DownstreamTarget target;
+    private final SingleFlight<String, CustomerDTO> profileFlights;
+
+    public CustomerClient(DownstreamClient downstreamClient, DashboardProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.downstreamClient = downstreamClient;
+        this.target = downstreamClient.target(TARGET, properties.getCustomer());
+        this.profileFlights = new SingleFlight<String, CustomerDTO>().register(meterRegistry, "customer-profile");
+    }
+
+    /**
+     * Fetches the profile of the caller identified by the forwarded token.
+     * The token is the coalescing key, since it is what the profile is resolved from.
+     *
+     * @param authorization the caller's Authorization header
+     * @return the caller's profile
+     */
+    public CustomerDTO getProfile(String authorization) {
+        return profileFlights.execute(authorization,
+                () -> downstreamClient.get(target, ApiPaths.CUSTOMER_PROFILE, authorization, PROFILE));
+    }
+}
@@ -0,0 +1,168 @@
+package com.bankpro.dashboard.client;
+
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.dto.RequestResponse;
+import com.bankpro.dashboard.exception.DownstreamException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared client for calls to other BankPro services.
+ * <p>
+ * All calls go through one {@link HttpClient}, which keeps connections alive and
+ * multiplexes requests over HTTP/2 where the server supports it. Every target has a
+ * bulkhead that caps concurrent calls and a circuit breaker that rejects calls
+ * outright while the target is failing, so a dead dependency costs callers nothing
+ * but a counter increment. Calls are meant to run on virtual threads: blocking here
+ * only parks the caller's virtual thread, and interrupting it aborts the exchange.
+ * </p>
+ * <p>
+ * Requests ask for JSON unless the caller sends its own {@code Accept} header; internal
+ * endpoints can be asked for {@link #SMILE_VALUE}, and the body is decoded according
+ * to the response's {@code Content-Type}.
+ * </p>
+ */
+@Component
+public class DownstreamClient {
+
+    /** Binary JSON encoding offered by the internal endpoints of other services. */
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final HttpClient downstreamHttpClient;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, DownstreamTarget> targets = new ConcurrentHashMap<>();
+
+    public DownstreamClient(HttpClient downstreamHttpClient, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.downstreamHttpClient = downstreamHttpClient;
+        this.objectMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the target registered under {@code name}, creating it on first use.
+     * Callers of the same service must use the same name so they share its bulkhead
+     * and circuit breaker.
+     *
+     * @param name     target name, used in metric tags
+     * @param settings location, timeout and isolation settings
+     * @return the shared target
+     */
+    public DownstreamTarget target(String name, DashboardProperties.Downstream settings) {
+        return targets.computeIfAbsent(name, n -> new DownstreamTarget(n, settings, meterRegistry));
+    }
+
+    /**
+     * Fetches {@code path} from the target and unwraps the {@link RequestResponse} envelope.
+     *
+     * @param target        the downstream service
+     * @param path          path and query, appended to the target's base URL
+     * @param authorization Authorization header to forward, or {@code null}
+     * @param type          envelope type of the response body
+     * @return the envelope's {@code data}
+     * @throws DownstreamException on rejection, transport errors, non-2xx responses or unreadable bodies
+     */
+    public <T> T get(DownstreamTarget target, String path, String authorization,
+                     TypeReference<RequestResponse<T>> type) {
+        return get(target, path,
+                authorization == null ? Map.of() : Map.of(HttpHeaders.AUTHORIZATION, authorization), type);
+    }
+
+    /**
+     * Fetches {@code path} from the target with extra request headers and unwraps the
+     * {@link RequestResponse} envelope.
+     *
+     * @param target  the downstream service
+     * @param path    path and query, appended to the target's base URL
+     * @param headers headers to send
+     * @param type    envelope type of the response body
+     * @return the envelope's {@code data}
+     * @throws DownstreamException on rejection, transport errors, non-2xx responses or unreadable bodies
+     */
+    public <T> T get(DownstreamTarget target, String path, Map<String, String> headers,
+                     TypeReference<RequestResponse<T>> type) {
+        String url = target.getSettings().getBaseUrl() + path;
+
+        if (!target.getBulkhead().tryAcquire()) {
+            target.getBulkheadRejections().increment();
+            throw new DownstreamException(target.getName() + " bulkhead is full", 0);
+        }
+        try {
+            if (!target.getCircuitBreaker().tryAcquire()) {
+                target.getCircuitRejections().increment();
+                throw new DownstreamException(target.getName() + " circuit is open", 0);
+            }
+
+            Timer.Sample sample = Timer.start();
+            boolean failed = true;
+            try {
+                HttpResponse<byte[]> response = send(url, target, headers);
+                // 4xx answers are the caller's problem, not a sign of an unhealthy target
+                failed = response.statusCode() >= 500;
+                if (response.statusCode() / 100 != 2) {
+                    throw new DownstreamException(url + " answered " + response.statusCode(), response.statusCode());
+                }
+                return read(url, response, type);
+            } finally {
+                if (failed) {
+                    target.getCircuitBreaker().onFailure();
+                    sample.stop(target.getFailureTimer());
+                } else {
+                    target.getCircuitBreaker().onSuccess();
+                    sample.stop(target.getSuccessTimer());
+                }
+            }
+        } finally {
+            target.getBulkhead().release();
+        }
+    }
+
+    private HttpResponse<byte[]> send(String url, DownstreamTarget target, Map<String, String> headers) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(target.getSettings().getTimeout())
+                .header(HttpHeaders.ACCEPT, headers.getOrDefault(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE))
+                .GET();
+        headers.forEach((name, value) -> {
+            if (!HttpHeaders.ACCEPT.equalsIgnoreCase(name)) {
+                request.header(name, value);
+            }
+        });
+
+        try {
+            return downstreamHttpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new DownstreamException("Call to " + url + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DownstreamException("Call to " + url + " was cancelled", e);
+        }
+    }
+
+    private <T> T read(String url, HttpResponse<byte[]> response, TypeReference<RequestResponse<T>> type) {
+        try {
+            boolean smile = response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+                    .filter(contentType -> contentType.startsWith(SMILE_VALUE))
+                    .isPresent();
+            return (smile ? smileMapper : objectMapper).readValue(response.body(), type).getData();
+        } catch (IOException e) {
+            throw new DownstreamException("Unreadable response from " + url, e);
+        }
+    }
+}
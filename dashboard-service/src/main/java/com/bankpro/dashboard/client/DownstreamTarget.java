@@ -0,0 +1,76 @@
+package com.bankpro.dashboard.client;
+
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * One downstream service as seen by {@link DownstreamClient}: where it is, and the
+ * bulkhead, circuit breaker and meters shared by every call to it.
+ * <p>
+ * Meters, all tagged with {@code target}:
+ * <ul>
+ *     <li>{@code downstream.requests} - latency histogram, tagged {@code outcome=success|failure}</li>
+ *     <li>{@code downstream.rejected} - calls refused locally, tagged {@code reason=bulkhead|circuit_open}</li>
+ *     <li>{@code downstream.circuit.state} - 0 closed, 1 half-open, 2 open</li>
+ *     <li>{@code downstream.inflight} - calls holding a bulkhead permit</li>
+ * </ul>
+ */
+@Getter
+public class DownstreamTarget {
+
+    private final String name;
+    private final DashboardProperties.Downstream settings;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+
+    DownstreamTarget(String name, DashboardProperties.Downstream settings, MeterRegistry registry) {
+        this.name = name;
+        this.settings = settings;
+        this.bulkhead = new Semaphore(settings.getMaxConcurrentCalls());
+
+        DashboardProperties.Breaker breaker = settings.getCircuitBreaker();
+        this.circuitBreaker = new CircuitBreaker(breaker.getFailureRateThreshold(), breaker.getWindowSize(),
+                breaker.getMinimumCalls(), breaker.getOpenDuration(), breaker.getHalfOpenCalls(), System::nanoTime);
+
+        this.successTimer = timer(registry, "success");
+        this.failureTimer = timer(registry, "failure");
+        this.bulkheadRejections = rejections(registry, "bulkhead");
+        this.circuitRejections = rejections(registry, "circuit_open");
+        Gauge.builder("downstream.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 half-open, 2 open")
+                .tag("target", name)
+                .register(registry);
+        Gauge.builder("downstream.inflight", bulkhead,
+                        b -> settings.getMaxConcurrentCalls() - b.availablePermits())
+                .description("Calls currently holding a bulkhead permit")
+                .tag("target", name)
+                .register(registry);
+    }
+
+    private Timer timer(MeterRegistry registry, String outcome) {
+        return Timer.builder("downstream.requests")
+                .description("Latency of calls to other services")
+                .tags("target", name, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter rejections(MeterRegistry registry, String reason) {
+        return Counter.builder("downstream.rejected")
+                .description("Calls refused without contacting the downstream service")
+                .tags("target", name, "reason", reason)
+                .register(registry);
+    }
+}
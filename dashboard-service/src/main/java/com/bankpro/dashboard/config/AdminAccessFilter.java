@@ -0,0 +1,76 @@
+package com.bankpro.dashboard.config;
+
+import com.bankpro.dashboard.constant.ApiPaths;
+import com.bankpro.dashboard.readmodel.HttpEventSource;
+import com.bankpro.dashboard.util.JwtVerifier;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+/**
+ * Guards the dashboard's admin endpoints. A call is let through when it carries the
+ * shared service token in {@value HttpEventSource#INTERNAL_TOKEN_HEADER} or a bearer
+ * token with the {@value #ADMIN_ROLE} role; other bearer tokens get 403, none at all 401.
+ */
+@Slf4j
+@Component
+public class AdminAccessFilter extends OncePerRequestFilter {
+
+    public static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private static final String ADMIN_PATH = ApiPaths.BASE_DASHBOARD + "/admin/";
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] internalToken;
+    private final JwtVerifier jwtVerifier;
+
+    public AdminAccessFilter(@Value("${app.internal.token}") String internalToken, JwtVerifier jwtVerifier) {
+        this.internalToken = internalToken.getBytes(StandardCharsets.UTF_8);
+        this.jwtVerifier = jwtVerifier;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().substring(request.getContextPath().length()).startsWith(ADMIN_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(HttpEventSource.INTERNAL_TOKEN_HEADER);
+        if (presented != null && MessageDigest.isEqual(internalToken, presented.getBytes(StandardCharsets.UTF_8))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        Optional<JwtVerifier.Caller> caller = authorization != null && authorization.startsWith(BEARER)
+                ? jwtVerifier.verify(authorization.substring(BEARER.length()))
+                : Optional.empty();
+        if (caller.isEmpty()) {
+            log.warn("Rejected unauthenticated admin call on URI [{}]", request.getRequestURI());
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        if (!ADMIN_ROLE.equals(caller.get().role())) {
+            log.warn("Rejected admin call by {} on URI [{}]", caller.get().subject(), request.getRequestURI());
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
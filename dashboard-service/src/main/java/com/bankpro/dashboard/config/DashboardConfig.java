@@ -0,0 +1,75 @@
+package com.bankpro.dashboard.config;
+
+import com.bankpro.dashboard.client.AccountClient;
+import com.bankpro.dashboard.client.CustomerClient;
+import com.bankpro.dashboard.client.DownstreamClient;
+import com.bankpro.dashboard.readmodel.EventSource;
+import com.bankpro.dashboard.readmodel.HttpEventSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Beans shared by the dashboard fan-out.
+ */
+@Configuration
+public class DashboardConfig implements WebMvcConfigurer {
+
+    /**
+     * Executor running one virtual thread per downstream call, so a slow
+     * service only parks its own thread.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService dashboardExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * HTTP client used for all downstream calls. It pools connections per host and
+     * prefers HTTP/2, falling back to HTTP/1.1 keep-alive when the server declines.
+     */
+    @Bean
+    public HttpClient downstreamHttpClient(DashboardProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+    }
+
+    /**
+     * Event feed of customer-service, consumed by the read model.
+     */
+    @Bean
+    public EventSource customerEventSource(DashboardProperties properties, DownstreamClient downstreamClient,
+                                           @Value("${app.internal.token}") String internalToken) {
+        return new HttpEventSource(downstreamClient.target(CustomerClient.TARGET, properties.getCustomer()),
+                downstreamClient, internalToken);
+    }
+
+    /**
+     * Event feed of account-service, consumed by the read model.
+     */
+    @Bean
+    public EventSource accountEventSource(DashboardProperties properties, DownstreamClient downstreamClient,
+                                          @Value("${app.internal.token}") String internalToken) {
+        return new HttpEventSource(downstreamClient.target(AccountClient.TARGET, properties.getAccount()),
+                downstreamClient, internalToken);
+    }
+
+    /**
+     * Smile is on the classpath only to read other services' internal feeds; the
+     * dashboard's own API stays JSON-only.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter);
+    }
+}
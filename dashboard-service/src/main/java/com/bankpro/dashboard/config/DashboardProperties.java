@@ -0,0 +1,135 @@
+package com.bankpro.dashboard.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Fan-out settings bound from {@code app.dashboard.*}.
+ * <p>
+ * Every section gets the timeout of the service it calls, and the whole
+ * request is additionally capped by {@link #deadline}.
+ * </p>
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.dashboard")
+public class DashboardProperties {
+
+    /**
+     * Global budget for one dashboard request.
+     */
+    private Duration deadline = Duration.ofMillis(800);
+
+    /**
+     * Number of recent transactions shown.
+     */
+    private int recentTransactions = 10;
+
+    /**
+     * TCP connect timeout shared by all downstream calls.
+     */
+    private Duration connectTimeout = Duration.ofMillis(200);
+
+    /**
+     * customer-service settings.
+     */
+    private Downstream customer = new Downstream("http://localhost:8080", Duration.ofMillis(300));
+
+    /**
+     * account-service settings.
+     */
+    private Downstream account = new Downstream("http://localhost:8081", Duration.ofMillis(500));
+
+    /**
+     * Event-fed read model settings.
+     */
+    private ReadModel readModel = new ReadModel();
+
+    /**
+     * Settings of the read model kept up to date from the services' event feeds.
+     */
+    @Data
+    public static class ReadModel {
+
+        /**
+         * Whether the feeds are polled at all.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of events fetched per request.
+         */
+        private int batchSize = 500;
+
+        /**
+         * How long a missing feed position is waited for before it is skipped.
+         * Positions are assigned at insert but become visible at commit, so a
+         * short gap usually means a transaction that has not committed yet.
+         */
+        private Duration gapTimeout = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Circuit breaker settings; see {@link com.bankpro.dashboard.util.CircuitBreaker}.
+     */
+    @Data
+    public static class Breaker {
+
+        /**
+         * Failure percentage in the window that opens the breaker.
+         */
+        private double failureRateThreshold = 50;
+
+        /**
+         * Number of recent calls the failure rate is computed over.
+         */
+        private int windowSize = 20;
+
+        /**
+         * Calls needed in the window before the breaker may open.
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * How long calls are rejected once the breaker is open.
+         */
+        private Duration openDuration = Duration.ofSeconds(5);
+
+        /**
+         * Trial calls let through after the open period.
+         */
+        private int halfOpenCalls = 3;
+    }
+
+    /**
+     * Location, per-call timeout and isolation settings of one downstream service.
+     */
+    @Data
+    public static class Downstream {
+
+        private String baseUrl;
+
+        private Duration timeout;
+
+        /**
+         * Bulkhead size: calls beyond this many in flight are rejected immediately.
+         */
+        private int maxConcurrentCalls = 64;
+
+        /**
+         * Circuit breaker protecting this downstream.
+         */
+        private Breaker circuitBreaker = new Breaker();
+
+        public Downstream() {
+        }
+
+        public Downstream(String baseUrl, Duration timeout) {
+            this.baseUrl = baseUrl;
+            this.timeout = timeout;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.bankpro.dashboard.constant;
+
+/**
+ * Centralized class for API base paths to avoid hardcoding.
+ * Also holds the downstream paths the dashboard fans out to.
+ */
+public final class ApiPaths {
+
+    public static final String BASE_DASHBOARD = "/api/v1/dashboard";
+
+    public static final String CUSTOMER_PROFILE = "/api/v1/customers/profile";
+    public static final String ACCOUNTS_BY_CUSTOMER = "/api/v1/accounts?customerId=%d";
+    public static final String RECENT_TRANSACTIONS = "/api/v1/accounts/customer/%d/transactions?limit=%d";
+    public static final String EVENT_FEED = "/api/v1/internal/events?after=%d&limit=%d";
+
+    private ApiPaths() {
+        // prevent instantiation
+    }
+}
@@ -0,0 +1,77 @@
+package com.bankpro.dashboard.controller;
+
+import com.bankpro.dashboard.dto.DashboardDTO;
+import com.bankpro.dashboard.dto.RequestResponse;
+import com.bankpro.dashboard.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the customer dashboard.
+ * Implements the {@link DashboardControllerApi} interface.
+ */
+@RestController
+@RequiredArgsConstructor
+public class DashboardController implements DashboardControllerApi {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Assembles the dashboard of a customer.
+     *
+     * @param customerId    the customer id
+     * @param authorization the caller's Authorization header
+     * @return a {@link ResponseEntity} containing the dashboard
+     */
+    @Override
+    public ResponseEntity<RequestResponse<DashboardDTO>> getDashboard(Long customerId, String authorization) {
+        DashboardDTO dashboard = dashboardService.getDashboard(customerId, authorization);
+
+        RequestResponse<DashboardDTO> response = RequestResponse.<DashboardDTO>builder()
+                .success(true)
+                .message(dashboard.isComplete() ? "Dashboard fetched successfully" : "Dashboard partially fetched")
+                .data(dashboard)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Serves the dashboard of a customer from the read model.
+     *
+     * @param customerId    the customer id
+     * @param authorization the caller's Authorization header
+     * @return a {@link ResponseEntity} containing the dashboard
+     */
+    @Override
+    public ResponseEntity<RequestResponse<DashboardDTO>> getDashboardView(Long customerId, String authorization) {
+        DashboardDTO dashboard = dashboardService.getDashboardView(customerId, authorization);
+
+        RequestResponse<DashboardDTO> response = RequestResponse.<DashboardDTO>builder()
+                .success(true)
+                .message(dashboard.isComplete() ? "Dashboard fetched successfully" : "Dashboard partially fetched")
+                .data(dashboard)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Starts a read model rebuild.
+     *
+     * @return a {@link ResponseEntity} acknowledging the rebuild
+     */
+    @Override
+    public ResponseEntity<RequestResponse<Void>> rebuildReadModel() {
+        dashboardService.rebuildReadModel();
+
+        RequestResponse<Void> response = RequestResponse.<Void>builder()
+                .success(true)
+                .message("Read model rebuild started")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
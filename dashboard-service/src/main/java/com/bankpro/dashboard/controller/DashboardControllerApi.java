@@ -0,0 +1,88 @@
+package com.bankpro.dashboard.controller;
+
+import com.bankpro.dashboard.constant.ApiPaths;
+import com.bankpro.dashboard.dto.DashboardDTO;
+import com.bankpro.dashboard.dto.RequestResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Public API interface for the customer dashboard.
+ */
+@Tag(name = "Dashboard Controller", description = "Aggregated customer dashboard")
+@RequestMapping(ApiPaths.BASE_DASHBOARD)
+public interface DashboardControllerApi {
+
+    /**
+     * Get the dashboard of a customer.
+     *
+     * @param customerId    the customer id; must match the caller's token
+     * @param authorization bearer token issued by customer-service
+     * @return the dashboard, possibly partial
+     */
+    @Operation(
+            summary = "Get customer dashboard",
+            description = "Fetches profile, accounts and recent transactions in parallel. Sections that miss "
+                    + "their deadline are left empty and flagged, and the response is still returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Dashboard returned, check 'complete' and 'sections'"),
+            @ApiResponse(responseCode = "401", description = "Missing or rejected token"),
+            @ApiResponse(responseCode = "403", description = "Token belongs to another customer")
+    })
+    @GetMapping("/{customerId}")
+    ResponseEntity<RequestResponse<DashboardDTO>> getDashboard(
+            @PathVariable Long customerId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    );
+
+    /**
+     * Get the dashboard of a customer from the read model.
+     *
+     * @param customerId    the customer id; must match the caller's token
+     * @param authorization bearer token issued by customer-service
+     * @return the dashboard
+     */
+    @Operation(
+            summary = "Get customer dashboard from the read model",
+            description = "Serves the dashboard from the event-fed read model with a single lookup, without "
+                    + "calling other services. Falls back to the live dashboard for customers not in the model yet."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Dashboard returned; 'asOf' is set for read-model views"),
+            @ApiResponse(responseCode = "401", description = "Missing or rejected token"),
+            @ApiResponse(responseCode = "403", description = "Token belongs to another customer")
+    })
+    @GetMapping("/{customerId}/view")
+    ResponseEntity<RequestResponse<DashboardDTO>> getDashboardView(
+            @PathVariable Long customerId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    );
+
+    /**
+     * Rebuild the read model from the event feeds.
+     *
+     * @return acknowledgement; the replay runs in the background
+     */
+    @Operation(
+            summary = "Rebuild the dashboard read model",
+            description = "Clears the read model and replays every event feed from the start. "
+                    + "Requires the internal service token in X-Internal-Token or an admin bearer token."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Rebuild started"),
+            @ApiResponse(responseCode = "401", description = "No valid internal or bearer token"),
+            @ApiResponse(responseCode = "403", description = "Bearer token without the admin role")
+    })
+    @PostMapping("/admin/read-model/rebuild")
+    ResponseEntity<RequestResponse<Void>> rebuildReadModel();
+}
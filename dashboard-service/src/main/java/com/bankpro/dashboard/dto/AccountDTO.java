@@ -0,0 +1,32 @@
+package com.bankpro.dashboard.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Account details as returned by account-service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = "Account details")
+public class AccountDTO {
+
+    @Schema(description = "Account number", example = "1000000001")
+    private String accountNumber;
+
+    @Schema(description = "Owning customer id", example = "101")
+    private Long customerId;
+
+    @Schema(description = "Account product type", example = "SAVINGS")
+    private String type;
+
+    @Schema(description = "Lifecycle state", example = "ACTIVE")
+    private String status;
+
+    @Schema(description = "Total balance", example = "14820.50")
+    private BigDecimal balance;
+}
@@ -0,0 +1,40 @@
+package com.bankpro.dashboard.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change event read from another service's event feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEventDTO {
+
+    /**
+     * Position in the producing service's feed.
+     */
+    private Long id;
+
+    /**
+     * Kind of change, e.g. {@code CUSTOMER_SNAPSHOT}, {@code ACCOUNT_SNAPSHOT}, {@code TRANSACTION_POSTED}.
+     */
+    private String type;
+
+    /**
+     * Customer the change belongs to.
+     */
+    private Long customerId;
+
+    /**
+     * JSON body; its shape depends on {@link #type}.
+     */
+    private String payload;
+
+    /**
+     * Time the producer wrote the event.
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,39 @@
+package com.bankpro.dashboard.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Customer profile as returned by customer-service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "CustomerDTO", description = "Customer profile section of the dashboard")
+public class CustomerDTO {
+
+    /**
+     * Unique identifier for the customer.
+     */
+    @Schema(description = "Unique ID assigned to the customer", example = "101")
+    private Long id;
+
+    /**
+     * Full name of the customer.
+     */
+    @Schema(description = "Full name of the customer", example = "Ravi Sharma")
+    private String name;
+
+    /**
+     * Registered email address of the customer.
+     */
+    @Schema(description = "Customer's email address", example = "ravi.sharma@example.com")
+    private String email;
+
+    /**
+     * Phone number associated with the customer account.
+     */
+    @Schema(description = "10-digit phone number", example = "9876543210")
+    private String phone;
+}
\ No newline at end of file
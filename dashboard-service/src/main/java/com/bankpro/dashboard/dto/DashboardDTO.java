@@ -0,0 +1,47 @@
+package com.bankpro.dashboard.dto;
+
+import com.bankpro.dashboard.enums.DashboardSection;
+import com.bankpro.dashboard.enums.SectionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated dashboard for one customer.
+ * <p>
+ * Sections that did not arrive in time are {@code null} and flagged in
+ * {@link #sections}; {@link #complete} is true only when every section is OK.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Customer dashboard, possibly partial")
+public class DashboardDTO {
+
+    @Schema(description = "Customer profile")
+    private CustomerDTO customer;
+
+    @Schema(description = "Accounts owned by the customer")
+    private List<AccountDTO> accounts;
+
+    @Schema(description = "Most recent transactions across all accounts")
+    private List<TransactionDTO> recentTransactions;
+
+    @Schema(description = "Outcome of each section", example = "{\"PROFILE\":\"OK\",\"ACCOUNTS\":\"OK\",\"TRANSACTIONS\":\"TIMEOUT\"}")
+    private Map<DashboardSection, SectionStatus> sections;
+
+    @Schema(description = "Whether every section was fetched", example = "false")
+    private boolean complete;
+
+    @Schema(description = "Time spent assembling the dashboard in milliseconds", example = "312")
+    private long elapsedMs;
+
+    @Schema(description = "For read-model views, time of the newest change applied; null for live dashboards",
+            example = "2025-07-06T21:12:34")
+    private LocalDateTime asOf;
+}
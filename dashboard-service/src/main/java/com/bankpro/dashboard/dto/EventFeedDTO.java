@@ -0,0 +1,25 @@
+package com.bankpro.dashboard.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A page of another service's event feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventFeedDTO {
+
+    /**
+     * Events after the requested position, in id order.
+     */
+    private List<ChangeEventDTO> events;
+
+    /**
+     * Newest position in the feed.
+     */
+    private long headId;
+}
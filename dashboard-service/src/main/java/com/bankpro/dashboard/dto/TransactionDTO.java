@@ -0,0 +1,42 @@
+package com.bankpro.dashboard.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A posted transaction as returned by account-service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A posted transaction")
+public class TransactionDTO {
+
+    @Schema(description = "Transaction id", example = "90817")
+    private Long id;
+
+    @Schema(description = "Account the entry belongs to", example = "1000000001")
+    private String accountNumber;
+
+    @Schema(description = "Direction of the movement", example = "DEBIT")
+    private String type;
+
+    @Schema(description = "Amount moved", example = "2500.00")
+    private BigDecimal amount;
+
+    @Schema(description = "Balance after the movement", example = "14820.50")
+    private BigDecimal balanceAfter;
+
+    @Schema(description = "Other account involved", example = "1000000002")
+    private String counterparty;
+
+    @Schema(description = "Batch id, if posted in a batch")
+    private String batchId;
+
+    @Schema(description = "Posting time", example = "2025-07-06T21:12:34")
+    private LocalDateTime createdAt;
+}
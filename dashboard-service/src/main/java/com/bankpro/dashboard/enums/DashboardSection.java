@@ -0,0 +1,10 @@
+package com.bankpro.dashboard.enums;
+
+/**
+ * Independently fetched parts of the dashboard.
+ */
+public enum DashboardSection {
+    PROFILE,
+    ACCOUNTS,
+    TRANSACTIONS
+}
@@ -0,0 +1,15 @@
+package com.bankpro.dashboard.enums;
+
+/**
+ * Outcome of fetching one dashboard section.
+ */
+public enum SectionStatus {
+    /** Data was fetched in time. */
+    OK,
+    /** The section or global deadline expired first; the call was cancelled. */
+    TIMEOUT,
+    /** The downstream call failed. */
+    FAILED,
+    /** The read model has not received this section yet. */
+    PENDING
+}
@@ -0,0 +1,27 @@
+package com.bankpro.dashboard.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown by the downstream clients when a service answers with a non-2xx status
+ * or an unreadable body. It never reaches the API; the dashboard turns it into
+ * a FAILED section.
+ */
+@Getter
+public class DownstreamException extends RuntimeException {
+
+    /**
+     * HTTP status returned by the downstream service, or 0 if none was received.
+     */
+    private final int status;
+
+    public DownstreamException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+
+    public DownstreamException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.bankpro.dashboard.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a caller asks for another customer's dashboard.
+ */
+public class ForbiddenException extends BaseException {
+
+    private static final String DEFAULT_CODE = "FORBIDDEN";
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.FORBIDDEN;
+
+    /**
+     * Constructs a new {@code ForbiddenException} with a custom message.
+     *
+     * @param message why access was denied
+     */
+    public ForbiddenException(String message) {
+        super(message, DEFAULT_CODE, DEFAULT_STATUS);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bankpro.dashboard.exception;
+
+import com.bankpro.dashboard.dto.ApiError;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.time.LocalDateTime;
+
+/**
+ * Global exception handler for all controllers.
+ * Centralized handling of exceptions with structured error responses.
+ */
+@Slf4j
+@ControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Handles custom exceptions extending from {@link BaseException}.
+     */
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<ApiError> handleBaseException(BaseException ex, HttpServletRequest request) {
+        return buildResponse(ex.getStatus(), ex.getCode(), ex.getMessage(), request);
+    }
+
+    /**
+     * Catch-all handler for unexpected or uncaught exceptions.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiError> handleUnhandled(Exception ex, HttpServletRequest request) {
+        log.error("Unhandled exception in [{} {}]", request.getMethod(), request.getRequestURI(), ex);
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "An unexpected error occurred", request);
+    }
+
+    /**
+     * Builds a standard {@link ApiError} response structure.
+     *
+     * @param status  HTTP status code
+     * @param code    Application-specific error code
+     * @param message Human-readable message
+     * @param request Current request object
+     * @return Structured error response entity
+     */
+    private ResponseEntity<ApiError> buildResponse(HttpStatus status, String code, String message, HttpServletRequest request) {
+        ApiError error = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(code)
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(status).body(error);
+    }
+}
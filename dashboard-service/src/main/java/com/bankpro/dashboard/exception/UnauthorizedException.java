@@ -0,0 +1,21 @@
+package com.bankpro.dashboard.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when the caller's token is missing or was rejected by customer-service.
+ */
+public class UnauthorizedException extends BaseException {
+
+    private static final String DEFAULT_CODE = "UNAUTHORIZED";
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.UNAUTHORIZED;
+
+    /**
+     * Constructs a new {@code UnauthorizedException} with a custom message.
+     *
+     * @param message why the caller could not be authenticated
+     */
+    public UnauthorizedException(String message) {
+        super(message, DEFAULT_CODE, DEFAULT_STATUS);
+    }
+}
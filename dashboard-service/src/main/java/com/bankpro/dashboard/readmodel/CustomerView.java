@@ -0,0 +1,99 @@
+package com.bankpro.dashboard.readmodel;
+
+import com.bankpro.dashboard.dto.AccountDTO;
+import com.bankpro.dashboard.dto.CustomerDTO;
+import com.bankpro.dashboard.dto.DashboardDTO;
+import com.bankpro.dashboard.dto.TransactionDTO;
+import com.bankpro.dashboard.enums.DashboardSection;
+import com.bankpro.dashboard.enums.SectionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Denormalized dashboard document of one customer.
+ * <p>
+ * Updated by the projector and read by request threads; all access is synchronized
+ * on the view and reads return copies.
+ * </p>
+ */
+class CustomerView {
+
+    private final int recentLimit;
+
+    private CustomerDTO customer;
+    private final Map<String, AccountDTO> accounts = new LinkedHashMap<>();
+    private final Deque<TransactionDTO> recent = new ArrayDeque<>();
+    private boolean transactionsSeen;
+    private LocalDateTime asOf;
+
+    CustomerView(int recentLimit) {
+        this.recentLimit = recentLimit;
+    }
+
+    synchronized void setCustomer(CustomerDTO customer, LocalDateTime at) {
+        this.customer = customer;
+        touch(at);
+    }
+
+    /**
+     * Replaces an account's state, including its absolute balance.
+     */
+    synchronized void putAccount(AccountDTO account, LocalDateTime at) {
+        accounts.put(account.getAccountNumber(), account);
+        touch(at);
+    }
+
+    /**
+     * Applies a posted entry to the last known balance of its account and adds it to
+     * the recent list. Entries of accounts without a snapshot yet only go to the list.
+     */
+    synchronized void applyTransaction(TransactionDTO transaction, LocalDateTime at) {
+        AccountDTO account = accounts.get(transaction.getAccountNumber());
+        if (account != null && account.getBalance() != null) {
+            BigDecimal amount = transaction.getAmount();
+            account.setBalance("CREDIT".equals(transaction.getType())
+                    ? account.getBalance().add(amount)
+                    : account.getBalance().subtract(amount));
+        }
+        recent.addFirst(transaction);
+        while (recent.size() > recentLimit) {
+            recent.removeLast();
+        }
+        transactionsSeen = true;
+        touch(at);
+    }
+
+    synchronized DashboardDTO toDashboard() {
+        Map<DashboardSection, SectionStatus> sections = new EnumMap<>(DashboardSection.class);
+        sections.put(DashboardSection.PROFILE, customer != null ? SectionStatus.OK : SectionStatus.PENDING);
+        sections.put(DashboardSection.ACCOUNTS, !accounts.isEmpty() ? SectionStatus.OK : SectionStatus.PENDING);
+        sections.put(DashboardSection.TRANSACTIONS, transactionsSeen || !accounts.isEmpty()
+                ? SectionStatus.OK : SectionStatus.PENDING);
+
+        List<AccountDTO> accountCopies = new ArrayList<>(accounts.size());
+        accounts.values().forEach(a -> accountCopies.add(a.toBuilder().build()));
+
+        return DashboardDTO.builder()
+                .customer(customer)
+                .accounts(accountCopies)
+                .recentTransactions(List.copyOf(recent))
+                .sections(sections)
+                .complete(sections.values().stream().allMatch(SectionStatus.OK::equals))
+                .asOf(asOf)
+                .build();
+    }
+
+    private void touch(LocalDateTime at) {
+        if (asOf == null || at.isAfter(asOf)) {
+            asOf = at;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bankpro.dashboard.readmodel;
+
+import com.bankpro.dashboard.dto.AccountDTO;
+import com.bankpro.dashboard.dto.ChangeEventDTO;
+import com.bankpro.dashboard.dto.CustomerDTO;
+import com.bankpro.dashboard.dto.TransactionDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Applies change events to the dashboard read model.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardProjector {
+
+    private final DashboardViewStore store;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Applies one event to the view of its customer. Unknown event types are ignored,
+     * so producers can add new ones before this service understands them.
+     *
+     * @param event the event
+     */
+    public void apply(ChangeEventDTO event) {
+        try {
+            switch (event.getType()) {
+                case "CUSTOMER_SNAPSHOT" -> store.view(event.getCustomerId())
+                        .setCustomer(read(event, CustomerDTO.class), event.getCreatedAt());
+                case "ACCOUNT_SNAPSHOT" -> store.view(event.getCustomerId())
+                        .putAccount(read(event, AccountDTO.class), event.getCreatedAt());
+                case "TRANSACTION_POSTED" -> store.view(event.getCustomerId())
+                        .applyTransaction(read(event, TransactionDTO.class), event.getCreatedAt());
+                default -> log.debug("Ignoring event {} of unknown type {}", event.getId(), event.getType());
+            }
+        } catch (IOException e) {
+            log.error("Skipping unreadable event {} of type {}", event.getId(), event.getType(), e);
+        }
+    }
+
+    private <T> T read(ChangeEventDTO event, Class<T> type) throws IOException {
+        return objectMapper.readValue(event.getPayload(), type);
+    }
+}
@@ -0,0 +1,47 @@
+package com.bankpro.dashboard.readmodel;
+
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.dto.DashboardDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory dashboard read model, one {@link CustomerView} per customer id.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardViewStore {
+
+    private final DashboardProperties properties;
+
+    private final ConcurrentHashMap<Long, CustomerView> views = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the dashboard of a customer with a single map lookup.
+     *
+     * @param customerId the customer id
+     * @return the view, or empty if no event for the customer was applied yet
+     */
+    public Optional<DashboardDTO> find(Long customerId) {
+        CustomerView view = views.get(customerId);
+        return view == null ? Optional.empty() : Optional.of(view.toDashboard());
+    }
+
+    /**
+     * Number of customers in the read model.
+     */
+    public int size() {
+        return views.size();
+    }
+
+    CustomerView view(Long customerId) {
+        return views.computeIfAbsent(customerId, id -> new CustomerView(properties.getRecentTransactions()));
+    }
+
+    void clear() {
+        views.clear();
+    }
+}
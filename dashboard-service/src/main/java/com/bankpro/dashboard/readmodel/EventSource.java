@@ -0,0 +1,25 @@
+package com.bankpro.dashboard.readmodel;
+
+import com.bankpro.dashboard.dto.EventFeedDTO;
+
+/**
+ * An ordered feed of change events published by another service.
+ */
+public interface EventSource {
+
+    /**
+     * Name used in logs and metric tags.
+     *
+     * @return the source name
+     */
+    String name();
+
+    /**
+     * Reads events after a feed position.
+     *
+     * @param afterId last position already applied
+     * @param limit   maximum number of events
+     * @return the next events in id order and the current head position
+     */
+    EventFeedDTO fetch(long afterId, int limit);
+}
@@ -0,0 +1,56 @@
+package com.bankpro.dashboard.readmodel;
+
+import com.bankpro.dashboard.client.DownstreamClient;
+import com.bankpro.dashboard.client.DownstreamTarget;
+import com.bankpro.dashboard.constant.ApiPaths;
+import com.bankpro.dashboard.dto.EventFeedDTO;
+import com.bankpro.dashboard.dto.RequestResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+
+/**
+ * Reads a service's internal event feed over HTTP, preferring the compact Smile encoding.
+ */
+public class HttpEventSource implements EventSource {
+
+    public static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private static final TypeReference<RequestResponse<EventFeedDTO>> FEED = new TypeReference<>() {
+    };
+
+    /**
+     * Placeholder value that used to ship in application.properties; it is public and never sent.
+     */
+    private static final String PUBLISHED_DEFAULT = "change-me-internal-token";
+
+    private final DownstreamTarget target;
+    private final DownstreamClient downstreamClient;
+    private final Map<String, String> headers;
+
+    /**
+     * @throws IllegalStateException if the internal token is blank or the old published default
+     */
+    public HttpEventSource(DownstreamTarget target, DownstreamClient downstreamClient, String internalToken) {
+        if (internalToken.isBlank() || PUBLISHED_DEFAULT.equals(internalToken)) {
+            throw new IllegalStateException("app.internal.token must be set through INTERNAL_TOKEN");
+        }
+        this.target = target;
+        this.downstreamClient = downstreamClient;
+        this.headers = Map.of(
+                INTERNAL_TOKEN_HEADER, internalToken,
+                HttpHeaders.ACCEPT, DownstreamClient.SMILE_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9");
+    }
+
+    @Override
+    public String name() {
+        return target.getName();
+    }
+
+    @Override
+    public EventFeedDTO fetch(long afterId, int limit) {
+        return downstreamClient.get(target, ApiPaths.EVENT_FEED.formatted(afterId, limit), headers, FEED);
+    }
+}
@@ -0,0 +1,196 @@
+package com.bankpro.dashboard.readmodel;
+
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.dto.ChangeEventDTO;
+import com.bankpro.dashboard.dto.EventFeedDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Polls every {@link EventSource} and feeds new events to the {@link DashboardProjector}.
+ * <p>
+ * Each source is consumed strictly in feed order from an in-memory offset. Producers
+ * assign positions at insert time but they become visible at commit, so a missing
+ * position is waited for up to the configured gap timeout before it is skipped as a
+ * rolled-back insert. Lag is published per source as
+ * {@code dashboard.readmodel.lag.events} (positions behind the head) and
+ * {@code dashboard.readmodel.lag.seconds} (age of the oldest pending event), and the
+ * producer-to-view delay of applied events as {@code dashboard.readmodel.propagation}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ReadModelUpdater {
+
+    private final List<SourceState> sources;
+    private final DashboardProjector projector;
+    private final DashboardViewStore store;
+    private final DashboardProperties.ReadModel settings;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ReadModelUpdater(List<EventSource> eventSources, DashboardProjector projector, DashboardViewStore store,
+                            DashboardProperties properties, MeterRegistry meterRegistry) {
+        this.projector = projector;
+        this.store = store;
+        this.settings = properties.getReadModel();
+        this.sources = eventSources.stream().map(source -> new SourceState(source, meterRegistry)).toList();
+    }
+
+    /**
+     * Catches every source up with its feed.
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.read-model.poll-interval-ms:500}")
+    public void poll() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (SourceState state : sources) {
+                try {
+                    catchUp(state);
+                    state.onSuccess();
+                } catch (RuntimeException e) {
+                    state.onFailure(e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the read model and replays every feed from the start on the next polls.
+     */
+    public void rebuild() {
+        lock.lock();
+        try {
+            store.clear();
+            sources.forEach(SourceState::reset);
+            log.info("Dashboard read model cleared, replaying {} event sources", sources.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void catchUp(SourceState state) {
+        while (true) {
+            EventFeedDTO feed = state.source.fetch(state.offset, settings.getBatchSize());
+            state.head = feed.getHeadId();
+            state.oldestPending = null;
+
+            for (ChangeEventDTO event : feed.getEvents()) {
+                if (!state.accepts(event.getId(), settings.getGapTimeout())) {
+                    state.oldestPending = event.getCreatedAt();
+                    return;
+                }
+                projector.apply(event);
+                state.offset = event.getId();
+                state.propagation.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            }
+
+            if (feed.getEvents().size() < settings.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Consumption state of one source.
+     */
+    private static final class SourceState {
+
+        private final EventSource source;
+        private final Timer propagation;
+
+        private volatile long offset;
+        private volatile long head;
+        private volatile LocalDateTime oldestPending;
+        private long gapSince;
+        private int consecutiveFailures;
+
+        SourceState(EventSource source, MeterRegistry registry) {
+            this.source = source;
+            this.propagation = Timer.builder("dashboard.readmodel.propagation")
+                    .description("Delay between an event being written and applied to the read model")
+                    .tag("source", source.name())
+                    .register(registry);
+            Gauge.builder("dashboard.readmodel.lag.events", this, s -> Math.max(0, s.head - s.offset))
+                    .description("Feed positions not yet applied")
+                    .tag("source", source.name())
+                    .register(registry);
+            Gauge.builder("dashboard.readmodel.lag.seconds", this, SourceState::lagSeconds)
+                    .description("Age of the oldest event not yet applied")
+                    .tag("source", source.name())
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+
+        /**
+         * Whether {@code id} may be applied now: it directly follows the offset, or the
+         * positions in between have been missing for longer than {@code gapTimeout}.
+         */
+        boolean accepts(long id, Duration gapTimeout) {
+            if (offset == 0 || id == offset + 1) {
+                gapSince = 0;
+                return true;
+            }
+            long now = System.nanoTime();
+            if (gapSince == 0) {
+                gapSince = now;
+                return false;
+            }
+            if (now - gapSince < gapTimeout.toNanos()) {
+                return false;
+            }
+            log.warn("Skipping missing positions {}-{} of event source {}", offset + 1, id - 1, source.name());
+            gapSince = 0;
+            return true;
+        }
+
+        /**
+         * Only the first failure of an outage is logged at WARN; the polls that keep
+         * failing every interval after it go to DEBUG until the source recovers.
+         */
+        void onFailure(RuntimeException e) {
+            if (consecutiveFailures++ == 0) {
+                log.warn("Polling event source {} failed: {}", source.name(), e.getMessage());
+            } else {
+                log.debug("Polling event source {} failed again ({} in a row): {}",
+                        source.name(), consecutiveFailures, e.getMessage());
+            }
+        }
+
+        void onSuccess() {
+            if (consecutiveFailures > 0) {
+                log.warn("Event source {} recovered after {} failed polls", source.name(), consecutiveFailures);
+                consecutiveFailures = 0;
+            }
+        }
+
+        double lagSeconds() {
+            LocalDateTime pending = oldestPending;
+            if (pending == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(pending, LocalDateTime.now()).toNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        void reset() {
+            offset = 0;
+            head = 0;
+            oldestPending = null;
+            gapSince = 0;
+        }
+    }
+}
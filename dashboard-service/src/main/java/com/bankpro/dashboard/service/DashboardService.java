@@ -0,0 +1,36 @@
+package com.bankpro.dashboard.service;
+
+import com.bankpro.dashboard.dto.DashboardDTO;
+
+/**
+ * Service interface for assembling customer dashboards.
+ */
+public interface DashboardService {
+
+    /**
+     * Fetches profile, accounts and recent transactions concurrently and
+     * returns whatever arrived before the deadlines.
+     *
+     * @param customerId    the customer whose dashboard is requested
+     * @param authorization the caller's Authorization header, forwarded to customer-service
+     * @return the dashboard with per-section status flags
+     */
+    DashboardDTO getDashboard(Long customerId, String authorization);
+
+    /**
+     * Returns the dashboard from the event-fed read model with a single lookup,
+     * falling back to {@link #getDashboard} when the customer is not in it yet.
+     * The caller's token must belong to the customer either way.
+     *
+     * @param customerId    the customer whose dashboard is requested
+     * @param authorization the caller's Authorization header
+     * @return the dashboard; {@code asOf} is set when it came from the read model
+     */
+    DashboardDTO getDashboardView(Long customerId, String authorization);
+
+    /**
+     * Clears the read model and replays all event feeds from the start.
+     * Callers are authorized by {@code AdminAccessFilter} before reaching it.
+     */
+    void rebuildReadModel();
+}
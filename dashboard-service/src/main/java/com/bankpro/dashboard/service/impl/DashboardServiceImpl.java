@@ -0,0 +1,180 @@
+package com.bankpro.dashboard.service.impl;
+
+import com.bankpro.dashboard.client.AccountClient;
+import com.bankpro.dashboard.client.CustomerClient;
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.dto.AccountDTO;
+import com.bankpro.dashboard.dto.CustomerDTO;
+import com.bankpro.dashboard.dto.DashboardDTO;
+import com.bankpro.dashboard.dto.TransactionDTO;
+import com.bankpro.dashboard.enums.DashboardSection;
+import com.bankpro.dashboard.enums.SectionStatus;
+import com.bankpro.dashboard.exception.DownstreamException;
+import com.bankpro.dashboard.exception.ForbiddenException;
+import com.bankpro.dashboard.exception.UnauthorizedException;
+import com.bankpro.dashboard.readmodel.DashboardViewStore;
+import com.bankpro.dashboard.readmodel.ReadModelUpdater;
+import com.bankpro.dashboard.service.DashboardService;
+import com.bankpro.dashboard.util.JwtVerifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Implementation of {@link DashboardService}.
+ * <p>
+ * All sections are submitted at once to a virtual-thread executor. Each one is
+ * then awaited until the earlier of its own downstream timeout and the global
+ * deadline, both measured from the start of the request, so the total wait is
+ * bounded by the deadline no matter how slow a downstream is. Sections that
+ * miss it are cancelled and reported instead of failing the whole dashboard.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final String BEARER = "Bearer ";
+
+    private final CustomerClient customerClient;
+    private final AccountClient accountClient;
+    private final DashboardProperties properties;
+    private final ExecutorService dashboardExecutor;
+    private final DashboardViewStore viewStore;
+    private final ReadModelUpdater readModelUpdater;
+    private final JwtVerifier jwtVerifier;
+
+    @Override
+    public DashboardDTO getDashboard(Long customerId, String authorization) {
+        checkCaller(authenticate(authorization), customerId);
+        return assemble(customerId, authorization);
+    }
+
+    @Override
+    public DashboardDTO getDashboardView(Long customerId, String authorization) {
+        checkCaller(authenticate(authorization), customerId);
+        return viewStore.find(customerId)
+                .orElseGet(() -> assemble(customerId, authorization));
+    }
+
+    @Override
+    public void rebuildReadModel() {
+        readModelUpdater.rebuild();
+    }
+
+    /**
+     * Fans out to the downstream services for a caller already bound to {@code customerId}.
+     */
+    private DashboardDTO assemble(Long customerId, String authorization) {
+        long start = System.nanoTime();
+        long deadline = start + properties.getDeadline().toNanos();
+        long customerDeadline = Math.min(deadline, start + properties.getCustomer().getTimeout().toNanos());
+        long accountDeadline = Math.min(deadline, start + properties.getAccount().getTimeout().toNanos());
+
+        Future<CustomerDTO> profile = dashboardExecutor.submit(() -> customerClient.getProfile(authorization));
+        Future<List<AccountDTO>> accounts = dashboardExecutor.submit(() -> accountClient.getAccounts(customerId));
+        Future<List<TransactionDTO>> transactions = dashboardExecutor.submit(
+                () -> accountClient.getRecentTransactions(customerId, properties.getRecentTransactions()));
+
+        Map<DashboardSection, SectionStatus> sections = new EnumMap<>(DashboardSection.class);
+        CustomerDTO customer;
+        try {
+            customer = await(DashboardSection.PROFILE, profile, customerDeadline, sections);
+            checkOwnership(customer, customerId);
+        } catch (RuntimeException e) {
+            accounts.cancel(true);
+            transactions.cancel(true);
+            throw e;
+        }
+
+        List<AccountDTO> accountList = await(DashboardSection.ACCOUNTS, accounts, accountDeadline, sections);
+        List<TransactionDTO> recent = await(DashboardSection.TRANSACTIONS, transactions, accountDeadline, sections);
+
+        return DashboardDTO.builder()
+                .customer(customer)
+                .accounts(accountList)
+                .recentTransactions(recent)
+                .sections(sections)
+                .complete(sections.values().stream().allMatch(SectionStatus.OK::equals))
+                .elapsedMs(Duration.ofNanos(System.nanoTime() - start).toMillis())
+                .build();
+    }
+
+    /**
+     * Waits for one section until {@code deadlineNanos}, recording its status.
+     *
+     * @return the section's data, or {@code null} if it timed out or failed
+     * @throws UnauthorizedException if customer-service rejected the forwarded token
+     */
+    private <T> T await(DashboardSection section, Future<T> future, long deadlineNanos,
+                        Map<DashboardSection, SectionStatus> sections) {
+        try {
+            T value = future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            sections.put(section, SectionStatus.OK);
+            return value;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Dashboard section {} missed its deadline", section);
+            sections.put(section, SectionStatus.TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DownstreamException downstream && isAuthRejection(downstream)) {
+                throw new UnauthorizedException("Token rejected by customer-service");
+            }
+            log.warn("Dashboard section {} failed: {}", section, e.getCause().getMessage());
+            sections.put(section, SectionStatus.FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            sections.put(section, SectionStatus.FAILED);
+        }
+        return null;
+    }
+
+    private static boolean isAuthRejection(DownstreamException e) {
+        return e.getStatus() == HttpStatus.UNAUTHORIZED.value() || e.getStatus() == HttpStatus.FORBIDDEN.value();
+    }
+
+    /**
+     * Verifies the bearer token locally, so ownership is known before any
+     * downstream call and does not depend on customer-service answering.
+     *
+     * @throws UnauthorizedException if the token is missing, invalid or names no customer
+     */
+    private JwtVerifier.Caller authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            throw new UnauthorizedException("Missing Authorization header");
+        }
+        return jwtVerifier.verify(authorization.substring(BEARER.length()))
+                .orElseThrow(() -> new UnauthorizedException("Invalid or expired token"));
+    }
+
+    private static void checkCaller(JwtVerifier.Caller caller, Long customerId) {
+        if (!customerId.equals(caller.customerId())) {
+            throw new ForbiddenException("Dashboard of customer " + customerId + " is not accessible");
+        }
+    }
+
+    /**
+     * The profile is resolved from the caller's token by customer-service, which
+     * also knows about revoked tokens; a different id there is refused as well.
+     * A missing profile changes nothing, the token was already bound to the
+     * customer by {@link #checkCaller}.
+     */
+    private static void checkOwnership(CustomerDTO customer, Long customerId) {
+        if (customer != null && !customerId.equals(customer.getId())) {
+            throw new ForbiddenException("Dashboard of customer " + customerId + " is not accessible");
+        }
+    }
+}
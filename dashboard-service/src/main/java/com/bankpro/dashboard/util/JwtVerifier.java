@@ -0,0 +1,106 @@
+package com.bankpro.dashboard.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.DecodingException;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Verifies JWTs issued by customer-service, which signs them with the same
+ * HMAC-SHA-256 secret ({@code app.jwt.secret}). The service refuses to start when
+ * the secret is missing, shorter than 256 bits or a revoked key.
+ * <p>
+ * Revocation of individual tokens is only known to customer-service; access tokens
+ * are short-lived, so a verified signature is trusted until the token expires.
+ * </p>
+ */
+@Component
+public class JwtVerifier {
+
+    /**
+     * Claim carrying the customer id of the token's subject.
+     */
+    public static final String CUSTOMER_CLAIM = "cid";
+
+    private static final int MIN_KEY_BITS = 256;
+
+    /**
+     * SHA-256 fingerprints of keys that were published and must never be trusted again.
+     */
+    private static final Set<String> REVOKED_KEYS = Set.of(
+            "77b5b73cca1bd5f52bb26472126f496c71b6702c0eed5c7e8cb0fde44b674b0f");
+
+    private final JwtParser parser;
+
+    public JwtVerifier(@Value("${app.jwt.secret}") String secret) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(verificationKey(secret))
+                .build();
+    }
+
+    /**
+     * Checks signature and expiry.
+     *
+     * @param token compact JWT without the {@code Bearer } prefix
+     * @return the caller, or empty if the token is invalid, expired or names no customer
+     */
+    public Optional<Caller> verify(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Long customerId = claims.get(CUSTOMER_CLAIM, Long.class);
+            if (customerId == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new Caller(claims.getSubject(), customerId, claims.get("role", String.class)));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the secret is not base64, shorter than 256 bits or revoked
+     */
+    static Key verificationKey(String secret) {
+        byte[] key;
+        try {
+            key = Decoders.BASE64.decode(secret.strip());
+        } catch (DecodingException e) {
+            throw new IllegalStateException("app.jwt.secret is not valid base64", e);
+        }
+        if (key.length * 8 < MIN_KEY_BITS) {
+            throw new IllegalStateException("app.jwt.secret must be at least " + MIN_KEY_BITS
+                    + " bits, got " + key.length * 8);
+        }
+        try {
+            String fingerprint = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(key));
+            if (REVOKED_KEYS.contains(fingerprint)) {
+                throw new IllegalStateException("app.jwt.secret is a revoked key; generate a new one");
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        return Keys.hmacShaKeyFor(key);
+    }
+
+    /**
+     * Verified identity of a request.
+     *
+     * @param subject    email of the customer
+     * @param customerId id of the customer in customer-service
+     * @param role       role claim
+     */
+    public record Caller(String subject, Long customerId, String role) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.bankpro.dashboard;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class DashboardServiceApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,189 @@
+package com.bankpro.dashboard.client;
+
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.dto.RequestResponse;
+import com.bankpro.dashboard.exception.DownstreamException;
+import com.bankpro.dashboard.util.CircuitBreaker;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises pooling, bulkheads, circuit breaking and metrics against an in-process stub server.
+ */
+class DownstreamClientTest {
+
+    private static final TypeReference<RequestResponse<String>> STRING = new TypeReference<>() {
+    };
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile int status = 200;
+    private volatile CountDownLatch hold = new CountDownLatch(0);
+
+    private HttpServer server;
+    private SimpleMeterRegistry registry;
+    private DownstreamClient client;
+    private DownstreamTarget target;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try {
+                hold.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"success\":true,\"data\":\"pong\"}".getBytes(StandardCharsets.UTF_8);
+            try (OutputStream out = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(status, body.length);
+                out.write(body);
+            }
+        });
+        server.createContext("/smile", exchange -> {
+            boolean wantsSmile = String.valueOf(exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT))
+                    .startsWith(DownstreamClient.SMILE_VALUE);
+            byte[] body = wantsSmile
+                    ? new ObjectMapper(new SmileFactory()).writeValueAsBytes(Map.of("success", true, "data", "binary"))
+                    : "{\"success\":true,\"data\":\"text\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE,
+                    wantsSmile ? DownstreamClient.SMILE_VALUE : "application/json");
+            try (OutputStream out = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(200, body.length);
+                out.write(body);
+            }
+        });
+        server.start();
+
+        DashboardProperties.Downstream settings = new DashboardProperties.Downstream(
+                "http://127.0.0.1:" + server.getAddress().getPort(), Duration.ofSeconds(5));
+        settings.setMaxConcurrentCalls(2);
+        settings.getCircuitBreaker().setWindowSize(4);
+        settings.getCircuitBreaker().setMinimumCalls(4);
+        settings.getCircuitBreaker().setOpenDuration(Duration.ofMillis(200));
+        settings.getCircuitBreaker().setHalfOpenCalls(1);
+
+        registry = new SimpleMeterRegistry();
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        client = new DownstreamClient(httpClient, new ObjectMapper(), registry);
+        target = client.target("stub", settings);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hold.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void reusesConnectionsAcrossCalls() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("pong", client.get(target, "/ping", Map.of(), STRING));
+        }
+
+        assertEquals(10, hits.get());
+        assertEquals(1, clientPorts.size(), "all calls should share one pooled connection");
+        assertEquals(10, registry.get("downstream.requests")
+                .tags("target", "stub", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimit() throws Exception {
+        hold = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> inFlight = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                inFlight.add(executor.submit(() -> client.get(target, "/slow", Map.of(), STRING)));
+            }
+            while (target.getBulkhead().availablePermits() > 0) {
+                Thread.onSpinWait();
+            }
+
+            DownstreamException rejected = assertThrows(DownstreamException.class,
+                    () -> client.get(target, "/slow", Map.of(), STRING));
+            assertTrue(rejected.getMessage().contains("bulkhead"));
+
+            hold.countDown();
+            for (Future<String> call : inFlight) {
+                assertEquals("pong", call.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1.0, registry.get("downstream.rejected").tags("target", "stub", "reason", "bulkhead")
+                .counter().count());
+    }
+
+    @Test
+    void circuitOpensOnFailuresAndRecovers() throws InterruptedException {
+        status = 503;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(DownstreamException.class, () -> client.get(target, "/ping", Map.of(), STRING));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, target.getCircuitBreaker().getState());
+
+        int before = hits.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            assertThrows(DownstreamException.class, () -> client.get(target, "/ping", Map.of(), STRING));
+        }
+        assertEquals(before, hits.get(), "open circuit must not reach the server");
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 100, "rejections should be immediate");
+
+        status = 200;
+        Thread.sleep(250);
+        assertEquals("pong", client.get(target, "/ping", Map.of(), STRING));
+        assertEquals(CircuitBreaker.State.CLOSED, target.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void clientErrorsDoNotTripTheBreaker() {
+        status = 404;
+        for (int i = 0; i < 8; i++) {
+            DownstreamException e = assertThrows(DownstreamException.class,
+                    () -> client.get(target, "/missing", Map.of(), STRING));
+            assertEquals(404, e.getStatus());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, target.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void decodesBodyByResponseContentType() {
+        assertEquals("binary", client.get(target, "/smile",
+                Map.of(HttpHeaders.ACCEPT, DownstreamClient.SMILE_VALUE), STRING));
+        assertEquals("text", client.get(target, "/smile", Map.of(), STRING));
+    }
+
+    @Test
+    void targetsAreSharedByName() {
+        assertSame(target, client.target("stub", new DashboardProperties.Downstream("http://ignored", Duration.ZERO)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.bankpro.dashboard.config;
+
+import com.bankpro.dashboard.readmodel.HttpEventSource;
+import com.bankpro.dashboard.util.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAccessFilterTest {
+
+    private static final String SECRET = "qCkQ9Yh26bAX5VDWVAnuTVmWMl2D8omi4fnuyFRCQVQ=";
+    private static final String REBUILD = "/api/v1/dashboard/admin/read-model/rebuild";
+
+    private final AdminAccessFilter filter = new AdminAccessFilter("internal-secret", new JwtVerifier(SECRET));
+
+    @Test
+    void internalTokenOrAdminRoleIsRequired() throws Exception {
+        assertEquals(401, call(REBUILD, null, null).getStatus());
+        assertEquals(401, call(REBUILD, HttpEventSource.INTERNAL_TOKEN_HEADER, "wrong").getStatus());
+        assertEquals(403, call(REBUILD, HttpHeaders.AUTHORIZATION, bearer("ROLE_USER")).getStatus());
+
+        assertEquals(200, call(REBUILD, HttpEventSource.INTERNAL_TOKEN_HEADER, "internal-secret").getStatus());
+        assertEquals(200, call(REBUILD, HttpHeaders.AUTHORIZATION, bearer(AdminAccessFilter.ADMIN_ROLE)).getStatus());
+    }
+
+    @Test
+    void customerEndpointsAreLeftToTheService() throws Exception {
+        assertEquals(200, call("/api/v1/dashboard/7/view", null, null).getStatus());
+    }
+
+    private MockHttpServletResponse call(String uri, String header, String value) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (header != null) {
+            request.addHeader(header, value);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static String bearer(String role) {
+        return "Bearer " + Jwts.builder()
+                .setSubject("someone@example.com")
+                .claim(JwtVerifier.CUSTOMER_CLAIM, 1L)
+                .claim("role", role)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,65 @@
+package com.bankpro.dashboard.readmodel;
+
+import com.bankpro.dashboard.dto.ChangeEventDTO;
+import com.bankpro.dashboard.dto.EventFeedDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded stand-in for a service's event feed. Positions can be reserved and
+ * published later to simulate transactions committing out of order, and the
+ * source can be taken down to simulate an outage.
+ */
+class InMemoryEventSource implements EventSource {
+
+    private final String name;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<ChangeEventDTO> visible = new ArrayList<>();
+    private volatile boolean down;
+
+    InMemoryEventSource(String name) {
+        this.name = name;
+    }
+
+    long reserve() {
+        return sequence.incrementAndGet();
+    }
+
+    synchronized void publish(long id, String type, long customerId, String payload) {
+        visible.add(ChangeEventDTO.builder()
+                .id(id)
+                .type(type)
+                .customerId(customerId)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+        visible.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+    }
+
+    void append(String type, long customerId, String payload) {
+        publish(reserve(), type, customerId, payload);
+    }
+
+    void setDown(boolean down) {
+        this.down = down;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public synchronized EventFeedDTO fetch(long afterId, int limit) {
+        if (down) {
+            throw new IllegalStateException(name + " unavailable");
+        }
+        return EventFeedDTO.builder()
+                .events(visible.stream().filter(e -> e.getId() > afterId).limit(limit).toList())
+                .headId(visible.stream().mapToLong(ChangeEventDTO::getId).max().orElse(0))
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.bankpro.dashboard.readmodel;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.dto.DashboardDTO;
+import com.bankpro.dashboard.enums.DashboardSection;
+import com.bankpro.dashboard.enums.SectionStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadModelUpdaterTest {
+
+    private final InMemoryEventSource customers = new InMemoryEventSource("customer-service");
+    private final InMemoryEventSource accounts = new InMemoryEventSource("account-service");
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private DashboardProperties properties;
+    private DashboardViewStore store;
+    private ReadModelUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DashboardProperties();
+        properties.setRecentTransactions(2);
+        properties.getReadModel().setBatchSize(2);
+        properties.getReadModel().setGapTimeout(Duration.ofMillis(50));
+
+        store = new DashboardViewStore(properties);
+        DashboardProjector projector = new DashboardProjector(store, new ObjectMapper().findAndRegisterModules());
+        updater = new ReadModelUpdater(List.of(customers, accounts), projector, store, properties, registry);
+    }
+
+    @Test
+    void projectsEventsIntoSingleLookup() {
+        customers.append("CUSTOMER_SNAPSHOT", 7, """
+                {"id":7,"name":"Ravi","email":"ravi@example.com","phone":"9876543210"}""");
+        accounts.append("ACCOUNT_SNAPSHOT", 7, """
+                {"accountNumber":"A1","customerId":7,"type":"SAVINGS","status":"ACTIVE","balance":100.00}""");
+        accounts.append("TRANSACTION_POSTED", 7, transaction(1, "CREDIT", "25.00"));
+        accounts.append("TRANSACTION_POSTED", 7, transaction(2, "DEBIT", "5.00"));
+        accounts.append("TRANSACTION_POSTED", 7, transaction(3, "DEBIT", "20.00"));
+
+        updater.poll();
+
+        DashboardDTO view = store.find(7L).orElseThrow();
+        assertTrue(view.isComplete());
+        assertNotNull(view.getAsOf());
+        assertEquals("Ravi", view.getCustomer().getName());
+        assertEquals(0, new BigDecimal("100.00").compareTo(view.getAccounts().get(0).getBalance()));
+        assertEquals(List.of(3L, 2L), view.getRecentTransactions().stream().map(t -> t.getId()).toList());
+        assertEquals(0.0, gauge("dashboard.readmodel.lag.events", "account-service"));
+    }
+
+    @Test
+    void missingCustomerIsPendingUntilItsSnapshotArrives() {
+        accounts.append("ACCOUNT_SNAPSHOT", 9, """
+                {"accountNumber":"B1","customerId":9,"type":"CURRENT","status":"ACTIVE","balance":0}""");
+
+        updater.poll();
+
+        DashboardDTO view = store.find(9L).orElseThrow();
+        assertFalse(view.isComplete());
+        assertEquals(SectionStatus.PENDING, view.getSections().get(DashboardSection.PROFILE));
+        assertTrue(store.find(10L).isEmpty());
+    }
+
+    @Test
+    void waitsAtGapUntilFilledOrTimedOut() throws InterruptedException {
+        accounts.append("ACCOUNT_SNAPSHOT", 7, """
+                {"accountNumber":"A1","customerId":7,"type":"SAVINGS","status":"ACTIVE","balance":100}""");
+        long uncommitted = accounts.reserve();
+        accounts.append("TRANSACTION_POSTED", 7, transaction(2, "DEBIT", "10"));
+
+        updater.poll();
+        assertEquals(2.0, gauge("dashboard.readmodel.lag.events", "account-service"));
+        assertEquals(0, balance(7L).compareTo(new BigDecimal("100")));
+
+        accounts.publish(uncommitted, "TRANSACTION_POSTED", 7, transaction(1, "CREDIT", "50"));
+        updater.poll();
+        assertEquals(0, balance(7L).compareTo(new BigDecimal("140")));
+
+        accounts.reserve();
+        accounts.append("TRANSACTION_POSTED", 7, transaction(4, "DEBIT", "40"));
+        updater.poll();
+        assertEquals(0, balance(7L).compareTo(new BigDecimal("140")));
+        Thread.sleep(100);
+        updater.poll();
+        assertEquals(0, balance(7L).compareTo(new BigDecimal("100")));
+    }
+
+    @Test
+    void rebuildReplaysToSameState() {
+        customers.append("CUSTOMER_SNAPSHOT", 7, """
+                {"id":7,"name":"Ravi","email":"ravi@example.com","phone":"9876543210"}""");
+        accounts.append("ACCOUNT_SNAPSHOT", 7, """
+                {"accountNumber":"A1","customerId":7,"type":"SAVINGS","status":"ACTIVE","balance":10}""");
+        accounts.append("TRANSACTION_POSTED", 7, transaction(1, "CREDIT", "5"));
+        updater.poll();
+        DashboardDTO before = store.find(7L).orElseThrow();
+
+        updater.rebuild();
+        assertTrue(store.find(7L).isEmpty());
+        updater.poll();
+
+        assertEquals(before, store.find(7L).orElseThrow());
+    }
+
+    @Test
+    void outageIsLoggedOnceAtWarnAndOnRecovery() {
+        Logger logger = (Logger) LoggerFactory.getLogger(ReadModelUpdater.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            accounts.setDown(true);
+            for (int i = 0; i < 5; i++) {
+                updater.poll();
+            }
+            accounts.setDown(false);
+            updater.poll();
+            updater.poll();
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        List<String> warnings = appender.list.stream()
+                .filter(event -> event.getLevel() == Level.WARN)
+                .map(ILoggingEvent::getFormattedMessage)
+                .toList();
+        assertEquals(List.of(
+                "Polling event source account-service failed: account-service unavailable",
+                "Event source account-service recovered after 5 failed polls"), warnings);
+    }
+
+    private BigDecimal balance(long customerId) {
+        return store.find(customerId).orElseThrow().getAccounts().get(0).getBalance();
+    }
+
+    private double gauge(String name, String source) {
+        return registry.get(name).tag("source", source).gauge().value();
+    }
+
+    private static String transaction(long id, String type, String amount) {
+        return """
+                {"id":%d,"accountNumber":"A1","type":"%s","amount":%s,"createdAt":"2025-07-06T21:12:34"}"""
+                .formatted(id, type, amount);
+    }
+}
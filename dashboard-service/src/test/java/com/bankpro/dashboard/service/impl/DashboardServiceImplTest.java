@@ -0,0 +1,259 @@
+package com.bankpro.dashboard.service.impl;
+
+import com.bankpro.dashboard.client.AccountClient;
+import com.bankpro.dashboard.client.CustomerClient;
+import com.bankpro.dashboard.client.DownstreamClient;
+import com.bankpro.dashboard.config.DashboardProperties;
+import com.bankpro.dashboard.dto.DashboardDTO;
+import com.bankpro.dashboard.enums.DashboardSection;
+import com.bankpro.dashboard.enums.SectionStatus;
+import com.bankpro.dashboard.exception.ForbiddenException;
+import com.bankpro.dashboard.exception.UnauthorizedException;
+import com.bankpro.dashboard.readmodel.DashboardViewStore;
+import com.bankpro.dashboard.readmodel.ReadModelUpdater;
+import com.bankpro.dashboard.util.JwtVerifier;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the fan-out against local stub servers that answer after a configurable delay.
+ */
+class DashboardServiceImplTest {
+
+    private static final String SECRET = "qCkQ9Yh26bAX5VDWVAnuTVmWMl2D8omi4fnuyFRCQVQ=";
+    private static final String TOKEN = bearer(SECRET, 7L);
+
+    private static final String PROFILE_JSON = """
+            {"success":true,"message":"ok","data":{"id":7,"name":"Ravi","email":"ravi@example.com","phone":"9876543210"}}""";
+    private static final String ACCOUNTS_JSON = """
+            {"success":true,"message":"ok","data":[{"accountNumber":"1000000001","customerId":7,"type":"SAVINGS","status":"ACTIVE","balance":120.50}]}""";
+    private static final String TRANSACTIONS_JSON = """
+            {"success":true,"message":"ok","data":[{"id":1,"accountNumber":"1000000001","type":"CREDIT","amount":20.00,"createdAt":"2025-07-06T21:12:34"}]}""";
+
+    private final Map<String, Stub> stubs = new ConcurrentHashMap<>();
+
+    private HttpServer customerServer;
+    private HttpServer accountServer;
+    private ExecutorService executor;
+    private DashboardProperties properties;
+    private DashboardViewStore viewStore;
+    private DashboardServiceImpl service;
+
+    private record Stub(long delayMs, int status, String body) {
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub("/api/v1/customers/profile", 0, 200, PROFILE_JSON);
+        stub("/api/v1/accounts", 0, 200, ACCOUNTS_JSON);
+        stub("/api/v1/accounts/customer/7/transactions", 0, 200, TRANSACTIONS_JSON);
+
+        customerServer = startServer();
+        accountServer = startServer();
+
+        properties = new DashboardProperties();
+        properties.setDeadline(Duration.ofSeconds(2));
+        properties.setCustomer(new DashboardProperties.Downstream(baseUrl(customerServer), Duration.ofMillis(1_500)));
+        properties.setAccount(new DashboardProperties.Downstream(baseUrl(accountServer), Duration.ofMillis(1_500)));
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DownstreamClient downstreamClient = new DownstreamClient(HttpClient.newHttpClient(), objectMapper,
+                meterRegistry);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        viewStore = mock(DashboardViewStore.class);
+        service = new DashboardServiceImpl(new CustomerClient(downstreamClient, properties, meterRegistry),
+                new AccountClient(downstreamClient, properties, meterRegistry), properties, executor,
+                viewStore, mock(ReadModelUpdater.class), new JwtVerifier(SECRET));
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerServer.stop(0);
+        accountServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void allSectionsArriveInTime() {
+        DashboardDTO dashboard = service.getDashboard(7L, TOKEN);
+
+        assertTrue(dashboard.isComplete());
+        assertEquals("Ravi", dashboard.getCustomer().getName());
+        assertEquals(1, dashboard.getAccounts().size());
+        assertEquals(1, dashboard.getRecentTransactions().size());
+        assertTrue(dashboard.getSections().values().stream().allMatch(SectionStatus.OK::equals));
+    }
+
+    @Test
+    void slowDownstreamYieldsPartialResultWithinItsTimeout() {
+        stub("/api/v1/accounts/customer/7/transactions", 10_000, 200, TRANSACTIONS_JSON);
+
+        long start = System.nanoTime();
+        DashboardDTO dashboard = service.getDashboard(7L, TOKEN);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertFalse(dashboard.isComplete());
+        assertEquals(SectionStatus.TIMEOUT, dashboard.getSections().get(DashboardSection.TRANSACTIONS));
+        assertEquals(SectionStatus.OK, dashboard.getSections().get(DashboardSection.ACCOUNTS));
+        assertNull(dashboard.getRecentTransactions());
+        assertNotNull(dashboard.getCustomer());
+        assertTrue(elapsedMs < 1_900, "took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void globalDeadlineCapsGenerousSectionTimeouts() {
+        properties.setDeadline(Duration.ofMillis(1_000));
+        properties.getAccount().setTimeout(Duration.ofSeconds(5));
+        stub("/api/v1/accounts", 10_000, 200, ACCOUNTS_JSON);
+
+        long start = System.nanoTime();
+        DashboardDTO dashboard = service.getDashboard(7L, TOKEN);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals(SectionStatus.TIMEOUT, dashboard.getSections().get(DashboardSection.ACCOUNTS));
+        assertEquals(SectionStatus.OK, dashboard.getSections().get(DashboardSection.TRANSACTIONS));
+        assertTrue(elapsedMs < 1_400, "took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void sectionsRunConcurrently() {
+        service.getDashboard(7L, TOKEN);
+        stub("/api/v1/customers/profile", 300, 200, PROFILE_JSON);
+        stub("/api/v1/accounts", 300, 200, ACCOUNTS_JSON);
+        stub("/api/v1/accounts/customer/7/transactions", 300, 200, TRANSACTIONS_JSON);
+
+        long start = System.nanoTime();
+        DashboardDTO dashboard = service.getDashboard(7L, TOKEN);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(dashboard.isComplete());
+        assertTrue(elapsedMs < 800, "took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void failingDownstreamIsReportedAsFailed() {
+        stub("/api/v1/accounts", 0, 500, "{}");
+
+        DashboardDTO dashboard = service.getDashboard(7L, TOKEN);
+
+        assertEquals(SectionStatus.FAILED, dashboard.getSections().get(DashboardSection.ACCOUNTS));
+        assertEquals(SectionStatus.OK, dashboard.getSections().get(DashboardSection.PROFILE));
+    }
+
+    @Test
+    void rejectsOtherCustomersDashboard() {
+        assertThrows(ForbiddenException.class, () -> service.getDashboard(8L, TOKEN));
+    }
+
+    @Test
+    void rejectedTokenFailsTheRequest() {
+        stub("/api/v1/customers/profile", 0, 401, "{}");
+
+        assertThrows(UnauthorizedException.class, () -> service.getDashboard(7L, TOKEN));
+        assertThrows(UnauthorizedException.class, () -> service.getDashboard(7L, null));
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String forged = bearer("c2hhcmVkLWJ5LW5vYm9keS1ub3QtdGhlLXJlYWwta2V5LTMyYnl0ZXM=", 7L);
+
+        assertThrows(UnauthorizedException.class, () -> service.getDashboard(7L, forged));
+    }
+
+    @Test
+    void ownershipHoldsWhenTheProfileTimesOut() {
+        properties.getCustomer().setTimeout(Duration.ofMillis(100));
+        stub("/api/v1/customers/profile", 10_000, 200, PROFILE_JSON);
+        stub("/api/v1/accounts/customer/8/transactions", 0, 200, TRANSACTIONS_JSON);
+
+        assertThrows(ForbiddenException.class, () -> service.getDashboard(8L, TOKEN));
+
+        DashboardDTO own = service.getDashboard(7L, TOKEN);
+        assertEquals(SectionStatus.TIMEOUT, own.getSections().get(DashboardSection.PROFILE));
+        assertEquals(SectionStatus.OK, own.getSections().get(DashboardSection.ACCOUNTS));
+    }
+
+    @Test
+    void readModelViewRequiresTheOwnersToken() {
+        DashboardDTO view = DashboardDTO.builder().complete(true).build();
+        when(viewStore.find(8L)).thenReturn(Optional.of(view));
+        when(viewStore.find(7L)).thenReturn(Optional.of(view));
+
+        assertThrows(UnauthorizedException.class, () -> service.getDashboardView(8L, null));
+        assertThrows(ForbiddenException.class, () -> service.getDashboardView(8L, TOKEN));
+        verify(viewStore, never()).find(8L);
+        assertSame(view, service.getDashboardView(7L, TOKEN));
+    }
+
+    private static String bearer(String secret, Long customerId) {
+        return "Bearer " + Jwts.builder()
+                .setSubject("customer" + customerId + "@example.com")
+                .claim(JwtVerifier.CUSTOMER_CLAIM, customerId)
+                .claim("role", "ROLE_USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private void stub(String path, long delayMs, int status, String body) {
+        stubs.put(path, new Stub(delayMs, status, body));
+    }
+
+    private HttpServer startServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            Stub stub = stubs.get(exchange.getRequestURI().getPath());
+            try {
+                Thread.sleep(stub.delayMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = stub.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            try (OutputStream out = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(stub.status(), bytes.length);
+                out.write(bytes);
+            } catch (IOException ignored) {
+                // client gave up after its deadline
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static String baseUrl(HttpServer server) {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+}
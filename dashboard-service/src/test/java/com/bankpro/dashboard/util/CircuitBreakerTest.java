@@ -0,0 +1,84 @@
+package com.bankpro.dashboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(50, 10, 4, Duration.ofSeconds(5), 2, clock::get);
+
+    @Test
+    void opensOnceFailureRateIsReachedWithEnoughCalls() {
+        fail(2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "below minimum calls");
+
+        succeed(1);
+        fail(1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        fail(4);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        CircuitBreaker other = new CircuitBreaker(50, 4, 4, Duration.ofSeconds(5), 2, clock::get);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(other.tryAcquire());
+            other.onFailure();
+            for (int j = 0; j < 3; j++) {
+                assertTrue(other.tryAcquire());
+                other.onSuccess();
+            }
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, other.getState(), "never more than 1 failure in the last 4");
+    }
+
+    @Test
+    void halfOpensAfterOpenDurationAndClosesOnTrialSuccess() {
+        fail(4);
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "only two trial calls");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void trialFailureReopens() {
+        fail(4);
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+    }
+
+    private void succeed(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bankpro.loadtest;
+
+import com.bankpro.loadtest.config.LoadTestOptions;
+import com.bankpro.loadtest.engine.OpenLoopDriver;
+import com.bankpro.loadtest.engine.StatsRegistry;
+import com.bankpro.loadtest.http.BankProClient;
+import com.bankpro.loadtest.http.TokenMinter;
+import com.bankpro.loadtest.report.LatencyReport;
+import com.bankpro.loadtest.scenario.AccountReadsScenario;
+import com.bankpro.loadtest.scenario.AdminCustomersScenario;
+import com.bankpro.loadtest.scenario.LoginStormScenario;
+import com.bankpro.loadtest.scenario.RegisterLoginProfileScenario;
+import com.bankpro.loadtest.scenario.Scenario;
+import com.bankpro.loadtest.scenario.TransferScenario;
+import com.bankpro.loadtest.scenario.UserPool;
+import com.bankpro.loadtest.startup.StartupProbe;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Entry point of the load generator.
+ * <p>
+ * Example, against services started with the {@code dev,h2} profiles:
+ * <pre>
+ * java -jar target/load-test-0.0.1-SNAPSHOT.jar --scenario=login-storm --rate=200 --duration=60
+ * </pre>
+ * Options are described on {@link LoadTestOptions}. With {@code startup} as the first
+ * argument it runs the {@link StartupProbe} instead.
+ * </p>
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("startup")) {
+            StartupProbe.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        BankProClient client = new BankProClient(options);
+        UserPool users = new UserPool(client);
+
+        List<Scenario> scenarios = List.of(
+                new RegisterLoginProfileScenario(client, users),
+                new LoginStormScenario(client, users, options.users()),
+                new AdminCustomersScenario(client, users, options.users()),
+                new TransferScenario(client, new TokenMinter(options.jwtSecret()), options.accounts()),
+                new AccountReadsScenario(client, options.accounts()));
+        Scenario scenario = scenarios.stream()
+                .filter(s -> s.name().equals(options.scenario()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario " + options.scenario() + ", expected one of "
+                        + scenarios.stream().map(Scenario::name).toList()));
+
+        System.out.printf(Locale.ROOT, "Scenario %s at %.1f/s: %ds warm-up, %ds measured%n",
+                scenario.name(), options.rate(), options.warmup().toSeconds(), options.duration().toSeconds());
+        scenario.setUp();
+
+        StatsRegistry stats = new StatsRegistry();
+        new OpenLoopDriver(stats, options.rate(), options.warmup(), options.duration(), options.maxInFlight())
+                .run(scenario);
+
+        LatencyReport.print(System.out, stats, options.duration());
+        if (options.hdrDir() != null) {
+            LatencyReport.writeDistributions(options.hdrDir(), stats);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.bankpro.loadtest.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options of a load-test run, given as {@code --name=value}.
+ *
+ * @param scenario      scenario to run
+ * @param rate          scenario iterations started per second
+ * @param duration      measured run time
+ * @param warmup        run time before measuring starts
+ * @param customerUrl   base URL of customer-service
+ * @param accountUrl    base URL of account-service
+ * @param users         customers registered up front by scenarios that need a pool
+ * @param accounts      seeded accounts (LT00000001 onwards) transfer scenarios pick from
+ * @param jwtSecret     key the services share, used to sign tokens for seeded customers
+ *                      (defaults to the {@code JWT_SECRET} environment variable)
+ * @param maxInFlight   iterations allowed to run at once; later arrivals are dropped
+ * @param timeout       per-request timeout
+ * @param hdrDir        directory to write per-endpoint percentile distributions to, or null
+ */
+public record LoadTestOptions(String scenario, double rate, Duration duration, Duration warmup,
+                              String customerUrl, String accountUrl, int users, int accounts,
+                              String jwtSecret, int maxInFlight, Duration timeout, Path hdrDir) {
+
+    /**
+     * Parses {@code --name=value} arguments; unknown names are rejected.
+     *
+     * @param args command-line arguments
+     * @return the options, with defaults for anything not given
+     */
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                take(values, "scenario", "register-login-profile"),
+                Double.parseDouble(take(values, "rate", "50")),
+                Duration.ofSeconds(Long.parseLong(take(values, "duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(take(values, "warmup", "10"))),
+                take(values, "customer-url", "http://localhost:8080"),
+                take(values, "account-url", "http://localhost:8081"),
+                Integer.parseInt(take(values, "users", "100")),
+                Integer.parseInt(take(values, "accounts", "2000")),
+                take(values, "jwt-secret", System.getenv("JWT_SECRET")),
+                Integer.parseInt(take(values, "max-in-flight", "2000")),
+                Duration.ofSeconds(Long.parseLong(take(values, "timeout", "10"))),
+                values.containsKey("hdr-dir") ? Path.of(values.remove("hdr-dir")) : null);
+
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet());
+        }
+        if (options.rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,84 @@
+package com.bankpro.loadtest.engine;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counts of one endpoint.
+ * <p>
+ * Latencies are recorded in nanoseconds into a lock-free HDR {@link Recorder} with three
+ * significant digits, for successful and failed calls alike.
+ */
+public final class EndpointStats {
+
+    private final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram total = new Histogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Map<String, LongAdder> errorsByCause = new ConcurrentHashMap<>();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one call.
+     *
+     * @param latencyNanos time from the call's intended start to its completion
+     * @param errorCause   HTTP status or exception of a failed call, or null on success
+     */
+    public void record(long latencyNanos, String errorCause) {
+        recorder.recordValue(Math.max(0, latencyNanos));
+        if (errorCause != null) {
+            errors.increment();
+            errorsByCause.computeIfAbsent(errorCause, cause -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Records an arrival that was never started because too many were in flight. It
+     * counts as an error but has no latency.
+     */
+    public void recordRejected() {
+        rejected.increment();
+        errors.increment();
+        errorsByCause.computeIfAbsent("rejected (max in flight)", cause -> new LongAdder()).increment();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns every latency recorded so far. Not safe to call concurrently with itself.
+     *
+     * @return the accumulated histogram
+     */
+    public Histogram histogram() {
+        total.add(recorder.getIntervalHistogram());
+        return total;
+    }
+
+    /**
+     * @return recorded calls plus rejected arrivals
+     */
+    public long count() {
+        return histogram().getTotalCount() + rejected.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public Map<String, Long> errorsByCause() {
+        Map<String, Long> copy = new TreeMap<>();
+        errorsByCause.forEach((cause, count) -> copy.put(cause, count.sum()));
+        return copy;
+    }
+}
@@ -0,0 +1,97 @@
+package com.bankpro.loadtest.engine;
+
+import com.bankpro.loadtest.scenario.Scenario;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts scenario iterations on a fixed schedule, independent of how fast earlier
+ * iterations complete (an open-loop arrival model).
+ * <p>
+ * A closed-loop generator waits for a response before sending the next request, so a
+ * stalled server also stalls the load and the stall shows up as one slow sample
+ * instead of many (coordinated omission). Here iteration {@code i} is due at
+ * {@code start + i / rate}, runs on its own virtual thread, and its first call is timed
+ * from that due time. If more than {@code maxInFlight} iterations are running, new
+ * arrivals are counted as rejected rather than delayed.
+ * </p>
+ */
+public class OpenLoopDriver {
+
+    private final StatsRegistry stats;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxInFlight;
+
+    /**
+     * @param stats       where calls are recorded
+     * @param rate        iterations started per second
+     * @param warmup      time before recording starts
+     * @param duration    recorded time
+     * @param maxInFlight iterations allowed to run at once
+     */
+    public OpenLoopDriver(StatsRegistry stats, double rate, Duration warmup, Duration duration, int maxInFlight) {
+        this.stats = stats;
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Runs the scenario for warm-up plus duration and waits for the last iterations.
+     * Whole iterations are recorded as {@code <scenario> (iteration)}.
+     *
+     * @param scenario the scenario, already set up
+     */
+    public void run(Scenario scenario) {
+        EndpointStats iterations = stats.endpoint(scenario.name() + " (iteration)");
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long due = start + (long) (i * intervalNanos);
+                if (due - end >= 0) {
+                    break;
+                }
+                parkUntil(due);
+
+                boolean recording = due - measureFrom >= 0;
+                if (!inFlight.tryAcquire()) {
+                    if (recording) {
+                        iterations.recordRejected();
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    Session session = new Session(stats, due, recording);
+                    try {
+                        scenario.iterate(session);
+                        session.record(iterations.name(), due, session.failed() ? "failed call" : null);
+                    } catch (RuntimeException e) {
+                        session.record(iterations.name(), due, e.getClass().getSimpleName());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.bankpro.loadtest.engine;
+
+/**
+ * State of one scenario iteration.
+ * <p>
+ * The first call of an iteration is timed from the iteration's scheduled start rather
+ * than from when it was actually sent, so time spent waiting behind a slow system is
+ * counted (no coordinated omission). Later calls depend on earlier responses and are
+ * timed from their own start.
+ */
+public final class Session {
+
+    private final StatsRegistry stats;
+    private final long intendedStart;
+    private final boolean recording;
+    private boolean started;
+    private boolean failed;
+
+    /**
+     * @param stats          where calls are recorded
+     * @param intendedStart  scheduled start of the iteration, from {@link System#nanoTime()}
+     * @param recording      false during warm-up and setup, when nothing is recorded
+     */
+    public Session(StatsRegistry stats, long intendedStart, boolean recording) {
+        this.stats = stats;
+        this.intendedStart = intendedStart;
+        this.recording = recording;
+    }
+
+    /**
+     * Session for setup calls, which are never recorded.
+     */
+    public static Session unrecorded() {
+        return new Session(new StatsRegistry(), System.nanoTime(), false);
+    }
+
+    /**
+     * @return the time the next call counts as started at
+     */
+    public long startCall() {
+        if (started) {
+            return System.nanoTime();
+        }
+        started = true;
+        return intendedStart;
+    }
+
+    /**
+     * Records a completed call.
+     *
+     * @param endpoint   display name of the endpoint
+     * @param start      value returned by {@link #startCall()}
+     * @param errorCause HTTP status or exception of a failed call, or null on success
+     */
+    public void record(String endpoint, long start, String errorCause) {
+        failed |= errorCause != null;
+        if (recording) {
+            stats.endpoint(endpoint).record(System.nanoTime() - start, errorCause);
+        }
+    }
+
+    /**
+     * @return whether any call of this iteration failed
+     */
+    public boolean failed() {
+        return failed;
+    }
+}
@@ -0,0 +1,31 @@
+package com.bankpro.loadtest.engine;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-endpoint statistics of a run, created on first use.
+ */
+public final class StatsRegistry {
+
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint display name, e.g. {@code POST /api/v1/customers/login}
+     * @return the statistics of the endpoint
+     */
+    public EndpointStats endpoint(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, EndpointStats::new);
+    }
+
+    /**
+     * @return all endpoints, sorted by name
+     */
+    public List<EndpointStats> all() {
+        Collection<EndpointStats> values = endpoints.values();
+        return values.stream().sorted(Comparator.comparing(EndpointStats::name)).toList();
+    }
+}
@@ -0,0 +1,152 @@
+package com.bankpro.loadtest.http;
+
+import com.bankpro.loadtest.config.LoadTestOptions;
+import com.bankpro.loadtest.engine.Session;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Calls the BankPro REST APIs and records every call in the caller's {@link Session}.
+ * <p>
+ * Endpoints are recorded under their route template (e.g. {@code GET /api/v1/accounts/{n}/balance})
+ * so calls with different path variables share one histogram.
+ */
+public class BankProClient {
+
+    private static final String CUSTOMERS = "/api/v1/customers";
+    private static final String ACCOUNTS = "/api/v1/accounts";
+    private static final String TRANSFERS = "/api/v1/transfers";
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String customerUrl;
+    private final String accountUrl;
+    private final Duration timeout;
+
+    public BankProClient(LoadTestOptions options) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.customerUrl = options.customerUrl();
+        this.accountUrl = options.accountUrl();
+        this.timeout = options.timeout();
+    }
+
+    public Response register(Session session, String name, String email, String password, String phone, String role) {
+        var body = objectMapper.createObjectNode()
+                .put("name", name)
+                .put("email", email)
+                .put("password", password)
+                .put("phone", phone);
+        if (role != null) {
+            body.put("role", role);
+        }
+        return send(session, "POST " + CUSTOMERS + "/register", post(customerUrl + CUSTOMERS + "/register", body, null));
+    }
+
+    /**
+     * @return the JWT, or null if login failed
+     */
+    public String login(Session session, String email, String password) {
+        var body = objectMapper.createObjectNode()
+                .put("email", email)
+                .put("password", password);
+        Response response = send(session, "POST " + CUSTOMERS + "/login", post(customerUrl + CUSTOMERS + "/login", body, null));
+        JsonNode data = response.data();
+        return response.ok() && data != null ? data.path("token").asText(null) : null;
+    }
+
+    public Response profile(Session session, String token) {
+        return send(session, "GET " + CUSTOMERS + "/profile", get(customerUrl + CUSTOMERS + "/profile", token));
+    }
+
+    public Response allCustomers(Session session, String token) {
+        return send(session, "GET " + CUSTOMERS + "/admin/customers", get(customerUrl + CUSTOMERS + "/admin/customers", token));
+    }
+
+    public Response accountsOf(Session session, long customerId) {
+        return send(session, "GET " + ACCOUNTS + "?customerId={id}", get(accountUrl + ACCOUNTS + "?customerId=" + customerId, null));
+    }
+
+    public Response recentTransactions(Session session, long customerId) {
+        return send(session, "GET " + ACCOUNTS + "/customer/{id}/transactions",
+                get(accountUrl + ACCOUNTS + "/customer/" + customerId + "/transactions?limit=20", null));
+    }
+
+    public Response balance(Session session, String accountNumber) {
+        return send(session, "GET " + ACCOUNTS + "/{n}/balance", get(accountUrl + ACCOUNTS + "/" + accountNumber + "/balance", null));
+    }
+
+    public Response transfer(Session session, String token, String source, String target, String amount) {
+        var body = objectMapper.createObjectNode();
+        body.putArray("legs").addObject()
+                .put("sourceAccount", source)
+                .put("targetAccount", target)
+                .put("amount", amount);
+        return send(session, "POST " + TRANSFERS + "/batch", post(accountUrl + TRANSFERS + "/batch", body, token));
+    }
+
+    private Response send(Session session, String endpoint, HttpRequest request) {
+        long start = session.startCall();
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            Response result = new Response(response.statusCode(), parse(response.body()));
+            session.record(endpoint, start, result.ok() ? null : "HTTP " + response.statusCode());
+            return result;
+        } catch (IOException e) {
+            session.record(endpoint, start, e.getClass().getSimpleName());
+            return new Response(0, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            session.record(endpoint, start, "interrupted");
+            return new Response(0, null);
+        }
+    }
+
+    private JsonNode parse(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private HttpRequest get(String url, String token) {
+        return builder(url, token).GET().build();
+    }
+
+    private HttpRequest post(String url, JsonNode body, String token) {
+        try {
+            return builder(url, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize request body", e);
+        }
+    }
+
+    private HttpRequest.Builder builder(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bankpro.loadtest.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Outcome of one call.
+ *
+ * @param status HTTP status, or 0 if no response arrived
+ * @param body   parsed JSON body, or null
+ */
+public record Response(int status, JsonNode body) {
+
+    /**
+     * @return whether the call succeeded (2xx or 304)
+     */
+    public boolean ok() {
+        return status / 100 == 2 || status == 304;
+    }
+
+    /**
+     * @return the {@code data} member of the RequestResponse envelope, or null
+     */
+    public JsonNode data() {
+        return body == null ? null : body.get("data");
+    }
+}
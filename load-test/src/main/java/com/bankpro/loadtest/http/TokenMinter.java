@@ -0,0 +1,79 @@
+package com.bankpro.loadtest.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signs HS256 access tokens for the customers the account-service h2 profile seeds
+ * accounts for, so scenarios can act as the owner of a seeded account without
+ * registering a matching customer. Needs the services' shared {@code JWT_SECRET}.
+ */
+public class TokenMinter {
+
+    private static final Duration LIFETIME = Duration.ofHours(12);
+    private static final String HEADER = encode("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecretKeySpec key;
+    private final Map<Long, String> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * @param secret base64 signing key, or null when no scenario needs minted tokens
+     */
+    public TokenMinter(String secret) {
+        this.key = secret == null || secret.isBlank()
+                ? null
+                : new SecretKeySpec(Base64.getDecoder().decode(secret.strip()), "HmacSHA256");
+    }
+
+    /**
+     * @return whether a signing key was given
+     */
+    public boolean isConfigured() {
+        return key != null;
+    }
+
+    /**
+     * @param customerId seeded customer to act as
+     * @return a bearer token for that customer, signed once and then reused
+     */
+    public String tokenFor(long customerId) {
+        return tokens.computeIfAbsent(customerId, this::sign);
+    }
+
+    private String sign(long customerId) {
+        if (key == null) {
+            throw new IllegalStateException("No signing key; pass --jwt-secret or set JWT_SECRET");
+        }
+        long now = Instant.now().getEpochSecond();
+        ObjectNode claims = objectMapper.createObjectNode()
+                .put("sub", "loadtest-" + customerId + "@example.com")
+                .put("role", "ROLE_USER")
+                .put("cid", customerId)
+                .put("iat", now)
+                .put("exp", now + LIFETIME.toSeconds());
+        try {
+            String signingInput = HEADER + "." + encode(objectMapper.writeValueAsBytes(claims));
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return signingInput + "." + encode(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign token", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
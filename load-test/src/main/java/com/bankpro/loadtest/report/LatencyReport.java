@@ -0,0 +1,78 @@
+package com.bankpro.loadtest.report;
+
+import com.bankpro.loadtest.engine.EndpointStats;
+import com.bankpro.loadtest.engine.StatsRegistry;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prints per-endpoint latency percentiles and error rates of a run.
+ */
+public final class LatencyReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LatencyReport() {
+        // prevent instantiation
+    }
+
+    /**
+     * Prints one row per endpoint, then the error causes.
+     *
+     * @param out      destination
+     * @param stats    recorded statistics
+     * @param measured recorded run time, for throughput
+     */
+    public static void print(PrintStream out, StatsRegistry stats, Duration measured) {
+        List<EndpointStats> endpoints = stats.all();
+        double seconds = measured.toMillis() / 1000.0;
+
+        out.printf(Locale.ROOT, "%-48s %9s %8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Rate/s", "Errors", "Err%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointStats endpoint : endpoints) {
+            Histogram histogram = endpoint.histogram();
+            long count = endpoint.count();
+            out.printf(Locale.ROOT, "%-48s %9d %8.1f %8d %6.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.name(), count, count / seconds, endpoint.errors(),
+                    count == 0 ? 0.0 : 100.0 * endpoint.errors() / count,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / NANOS_PER_MILLI);
+        }
+
+        for (EndpointStats endpoint : endpoints) {
+            for (Map.Entry<String, Long> cause : endpoint.errorsByCause().entrySet()) {
+                out.printf(Locale.ROOT, "  %s: %s x%d%n", endpoint.name(), cause.getKey(), cause.getValue());
+            }
+        }
+    }
+
+    /**
+     * Writes each endpoint's full percentile distribution (in milliseconds) as an
+     * {@code .hgrm} file, the format HdrHistogram's plotter reads.
+     *
+     * @param dir   target directory, created if missing
+     * @param stats recorded statistics
+     * @throws IOException if a file cannot be written
+     */
+    public static void writeDistributions(Path dir, StatsRegistry stats) throws IOException {
+        Files.createDirectories(dir);
+        for (EndpointStats endpoint : stats.all()) {
+            String file = endpoint.name().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(file)))) {
+                endpoint.histogram().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,34 @@
+package com.bankpro.loadtest.scenario;
+
+import com.bankpro.loadtest.engine.Session;
+import com.bankpro.loadtest.http.BankProClient;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A customer opens the accounts page: their accounts, then their recent transactions.
+ * Uses the customers the account-service h2 profile seeds accounts for (two each).
+ */
+public class AccountReadsScenario implements Scenario {
+
+    private final BankProClient client;
+    private final int customers;
+
+    public AccountReadsScenario(BankProClient client, int accounts) {
+        this.client = client;
+        this.customers = Math.max(1, accounts / 2);
+    }
+
+    @Override
+    public String name() {
+        return "account-reads";
+    }
+
+    @Override
+    public void iterate(Session session) {
+        long customerId = ThreadLocalRandom.current().nextLong(1, customers + 1);
+        if (client.accountsOf(session, customerId).ok()) {
+            client.recentTransactions(session, customerId);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.bankpro.loadtest.scenario;
+
+import com.bankpro.loadtest.engine.Session;
+import com.bankpro.loadtest.http.BankProClient;
+
+/**
+ * An admin lists all customers. Needs customer-service in the dev profile, which lets
+ * registration assign ROLE_ADMIN.
+ */
+public class AdminCustomersScenario implements Scenario {
+
+    private final BankProClient client;
+    private final UserPool users;
+    private final int poolSize;
+    private String adminToken;
+
+    public AdminCustomersScenario(BankProClient client, UserPool users, int poolSize) {
+        this.client = client;
+        this.users = users;
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public String name() {
+        return "admin-customers";
+    }
+
+    @Override
+    public void setUp() {
+        users.register(poolSize);
+        String email = users.nextEmail();
+        Session setup = Session.unrecorded();
+        client.register(setup, "Load Test Admin", email, UserPool.PASSWORD, UserPool.phone(), "ROLE_ADMIN");
+        adminToken = client.login(setup, email, UserPool.PASSWORD);
+        if (adminToken == null) {
+            throw new IllegalStateException("Admin login failed; run customer-service with the dev profile");
+        }
+    }
+
+    @Override
+    public void iterate(Session session) {
+        client.allCustomers(session, adminToken);
+    }
+}
@@ -0,0 +1,36 @@
+package com.bankpro.loadtest.scenario;
+
+import com.bankpro.loadtest.engine.Session;
+import com.bankpro.loadtest.http.BankProClient;
+
+/**
+ * Existing customers log in, e.g. at the start of a business day. Each login pays
+ * for one BCrypt verification.
+ */
+public class LoginStormScenario implements Scenario {
+
+    private final BankProClient client;
+    private final UserPool users;
+    private final int poolSize;
+
+    public LoginStormScenario(BankProClient client, UserPool users, int poolSize) {
+        this.client = client;
+        this.users = users;
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public String name() {
+        return "login-storm";
+    }
+
+    @Override
+    public void setUp() {
+        users.register(poolSize);
+    }
+
+    @Override
+    public void iterate(Session session) {
+        client.login(session, users.randomUser(), UserPool.PASSWORD);
+    }
+}
@@ -0,0 +1,35 @@
+package com.bankpro.loadtest.scenario;
+
+import com.bankpro.loadtest.engine.Session;
+import com.bankpro.loadtest.http.BankProClient;
+
+/**
+ * A new customer signs up, logs in and opens their profile.
+ */
+public class RegisterLoginProfileScenario implements Scenario {
+
+    private final BankProClient client;
+    private final UserPool users;
+
+    public RegisterLoginProfileScenario(BankProClient client, UserPool users) {
+        this.client = client;
+        this.users = users;
+    }
+
+    @Override
+    public String name() {
+        return "register-login-profile";
+    }
+
+    @Override
+    public void iterate(Session session) {
+        String email = users.nextEmail();
+        if (!client.register(session, "Load Test", email, UserPool.PASSWORD, UserPool.phone(), null).ok()) {
+            return;
+        }
+        String token = client.login(session, email, UserPool.PASSWORD);
+        if (token != null) {
+            client.profile(session, token);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.bankpro.loadtest.scenario;
+
+import com.bankpro.loadtest.engine.Session;
+
+/**
+ * A scripted user journey, started by the driver at the configured arrival rate.
+ */
+public interface Scenario {
+
+    /**
+     * @return the name used to select the scenario on the command line
+     */
+    String name();
+
+    /**
+     * Prepares data the iterations need (users, tokens). Calls made here are not recorded.
+     */
+    default void setUp() {
+    }
+
+    /**
+     * Runs one journey. Implementations stop at the first failed call; the failure has
+     * already been recorded against its endpoint.
+     *
+     * @param session the iteration's timing and recording state
+     */
+    void iterate(Session session);
+}
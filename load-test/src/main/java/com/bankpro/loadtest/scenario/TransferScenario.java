@@ -0,0 +1,62 @@
+package com.bankpro.loadtest.scenario;
+
+import com.bankpro.loadtest.engine.Session;
+import com.bankpro.loadtest.http.BankProClient;
+import com.bankpro.loadtest.http.TokenMinter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A customer moves money from one of their seeded accounts to a random other one and
+ * checks the source balance. Uses the accounts the account-service h2 profile seeds
+ * (two per customer) and tokens signed for their owners.
+ */
+public class TransferScenario implements Scenario {
+
+    private final BankProClient client;
+    private final TokenMinter tokens;
+    private final int accounts;
+
+    public TransferScenario(BankProClient client, TokenMinter tokens, int accounts) {
+        this.client = client;
+        this.tokens = tokens;
+        this.accounts = accounts;
+    }
+
+    @Override
+    public String name() {
+        return "transfer";
+    }
+
+    @Override
+    public void setUp() {
+        if (!tokens.isConfigured()) {
+            throw new IllegalStateException("The transfer scenario needs --jwt-secret or JWT_SECRET");
+        }
+    }
+
+    @Override
+    public void iterate(Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(1, accounts + 1);
+        int target = random.nextInt(1, accounts);
+        if (target >= source) {
+            target++;
+        }
+        String token = tokens.tokenFor(ownerOf(source));
+        if (client.transfer(session, token, accountNumber(source), accountNumber(target), "1.00").ok()) {
+            client.balance(session, accountNumber(source));
+        }
+    }
+
+    static String accountNumber(int n) {
+        return String.format("LT%08d", n);
+    }
+
+    /**
+     * The seed script gives customer {@code c} accounts {@code 2c - 1} and {@code 2c}.
+     */
+    static long ownerOf(int n) {
+        return (n + 1) / 2;
+    }
+}
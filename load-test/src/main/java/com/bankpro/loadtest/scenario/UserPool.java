@@ -0,0 +1,76 @@
+package com.bankpro.loadtest.scenario;
+
+import com.bankpro.loadtest.engine.Session;
+import com.bankpro.loadtest.http.BankProClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates unique customers for a run and registers them up front when a scenario
+ * needs existing users.
+ */
+public class UserPool {
+
+    /** Password of every generated customer. */
+    public static final String PASSWORD = "LoadTest#2025";
+
+    private final BankProClient client;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<String> registered = new ArrayList<>();
+
+    public UserPool(BankProClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @return an email no other customer of this or an earlier run has
+     */
+    public String nextEmail() {
+        return "lt-" + runId + "-" + sequence.incrementAndGet() + "@loadtest.bankpro.dev";
+    }
+
+    /**
+     * @return a random 10-digit phone number
+     */
+    public static String phone() {
+        return Long.toString(ThreadLocalRandom.current().nextLong(6_000_000_000L, 9_999_999_999L));
+    }
+
+    /**
+     * Registers {@code count} customers in parallel without recording the calls.
+     *
+     * @param count number of customers
+     * @throws IllegalStateException if any registration fails
+     */
+    public void register(int count) {
+        List<Future<String>> pending = new ArrayList<>(count);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                String email = nextEmail();
+                pending.add(executor.submit(() -> client.register(Session.unrecorded(), "Load Test", email,
+                        PASSWORD, phone(), null).ok() ? email : null));
+            }
+        }
+        for (Future<String> future : pending) {
+            String email = future.resultNow();
+            if (email == null) {
+                throw new IllegalStateException("Registering load-test users failed; is customer-service up?");
+            }
+            registered.add(email);
+        }
+    }
+
+    /**
+     * @return a random customer registered by {@link #register(int)}
+     */
+    public String randomUser() {
+        return registered.get(ThreadLocalRandom.current().nextInt(registered.size()));
+    }
+}
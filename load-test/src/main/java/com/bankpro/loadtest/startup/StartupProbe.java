@@ -0,0 +1,150 @@
+package com.bankpro.loadtest.startup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-request: from launching a service process until a real request
+ * to it gets a response below 500.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -jar load-test.jar startup --url=http://localhost:8081/api/v1/accounts?customerId=1 [--body=JSON]
+ *      [--runs=5] [--dir=working-dir] -- java -jar account-service.jar ...
+ * </pre>
+ * With {@code --body} the probe is a JSON POST. Each run starts the command, polls every
+ * 10 ms, then stops the process before the next run. On Linux the resident set size of the
+ * started process at its first response is reported too, so JVM and native builds can be
+ * compared on memory as well as time.
+ * </p>
+ */
+public final class StartupProbe {
+
+    private static final Duration GIVE_UP = Duration.ofMinutes(5);
+
+    private StartupProbe() {
+        // prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 0 || separator == args.length - 1) {
+            throw new IllegalArgumentException("Expected probe options, then -- and the command to start");
+        }
+        String url = null;
+        String body = null;
+        int runs = 5;
+        File dir = null;
+        for (String arg : Arrays.copyOfRange(args, 0, separator)) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--url=")) {
+                url = value;
+            } else if (arg.startsWith("--body=")) {
+                body = value;
+            } else if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(value);
+            } else if (arg.startsWith("--dir=")) {
+                dir = Path.of(value).toFile();
+            } else {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (url == null) {
+            throw new IllegalArgumentException("--url is required");
+        }
+        List<String> command = List.of(Arrays.copyOfRange(args, separator + 1, args.length));
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30));
+        if (body != null) {
+            request.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+
+        List<Long> millis = new ArrayList<>();
+        List<Long> rssKb = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            Sample sample = measure(command, dir, http, request.build());
+            millis.add(sample.millis());
+            System.out.printf(Locale.ROOT, "run %d: %d ms", run, sample.millis());
+            if (sample.rssKb() >= 0) {
+                rssKb.add(sample.rssKb());
+                System.out.printf(Locale.ROOT, ", RSS %d MiB", sample.rssKb() / 1024);
+            }
+            System.out.println();
+        }
+        millis.sort(null);
+        System.out.printf(Locale.ROOT, "time to first request: min %d ms, median %d ms, max %d ms%n",
+                millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1));
+        if (!rssKb.isEmpty()) {
+            rssKb.sort(null);
+            System.out.printf(Locale.ROOT, "RSS at first request: median %d MiB%n", rssKb.get(rssKb.size() / 2) / 1024);
+        }
+    }
+
+    /**
+     * One run: milliseconds to the first response and the process RSS then, or -1 if unknown.
+     */
+    private record Sample(long millis, long rssKb) {
+    }
+
+    private static Sample measure(List<String> command, File dir, HttpClient http, HttpRequest request)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(dir)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < GIVE_UP.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Process exited with " + process.exitValue() + " before answering");
+                }
+                try {
+                    HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() < 500) {
+                        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        return new Sample(elapsed, residentKb(process.pid()));
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No response within " + GIVE_UP);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * Reads {@code VmRSS} from {@code /proc/<pid>/status}; -1 where that is not available.
+     */
+    static long residentKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // not Linux, or the process is gone
+        }
+        return -1;
+    }
+}
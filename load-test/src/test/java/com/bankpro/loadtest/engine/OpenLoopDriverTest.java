@@ -0,0 +1,89 @@
+package com.bankpro.loadtest.engine;
+
+import com.bankpro.loadtest.scenario.Scenario;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenLoopDriverTest {
+
+    /**
+     * A single-threaded "server" that stalls for 300 ms once. Arrivals keep coming during
+     * the stall, and each of them is charged the time it waited, not just the one call
+     * that was in progress when the stall began.
+     */
+    @Test
+    void chargesQueueingDelayToEveryArrivalDuringStall() {
+        ReentrantLock server = new ReentrantLock(true);
+        long stallAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+        boolean[] stalled = {false};
+
+        Scenario scenario = new Scenario() {
+            @Override
+            public String name() {
+                return "stall";
+            }
+
+            @Override
+            public void iterate(Session session) {
+                long start = session.startCall();
+                server.lock();
+                try {
+                    if (!stalled[0] && System.nanoTime() > stallAt) {
+                        stalled[0] = true;
+                        sleep(300);
+                    }
+                    sleep(1);
+                } finally {
+                    server.unlock();
+                }
+                session.record("call", start, null);
+            }
+        };
+
+        StatsRegistry stats = new StatsRegistry();
+        new OpenLoopDriver(stats, 100, Duration.ZERO, Duration.ofSeconds(1), 1000).run(scenario);
+
+        Histogram calls = stats.endpoint("call").histogram();
+        assertTrue(calls.getTotalCount() >= 95, "arrivals continued during the stall: " + calls.getTotalCount());
+        long slow = calls.getCountBetweenValues(TimeUnit.MILLISECONDS.toNanos(100), Long.MAX_VALUE);
+        assertTrue(slow >= 15, "calls queued behind the stall were charged for it: " + slow);
+        assertEquals(0, stats.endpoint("stall (iteration)").errors());
+    }
+
+    @Test
+    void rejectsArrivalsBeyondMaxInFlight() {
+        Scenario blocking = new Scenario() {
+            @Override
+            public String name() {
+                return "blocking";
+            }
+
+            @Override
+            public void iterate(Session session) {
+                sleep(500);
+            }
+        };
+
+        StatsRegistry stats = new StatsRegistry();
+        new OpenLoopDriver(stats, 50, Duration.ZERO, Duration.ofMillis(200), 2).run(blocking);
+
+        EndpointStats iterations = stats.endpoint("blocking (iteration)");
+        assertEquals(2, iterations.histogram().getTotalCount());
+        assertEquals(iterations.count() - 2, iterations.errors());
+        assertTrue(iterations.errorsByCause().containsKey("rejected (max in flight)"));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}